@@ -0,0 +1,126 @@
+package com.zurich.testsuite.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zurich.testsuite.client.PolicyResponseParser;
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.model.PolicySummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the previous Map-then-copy parsing of policy lists with the streaming typed
+ * binding in PolicyResponseParser, for 10/1k/100k-policy MuleSoft responses.
+ * The gc profiler reports bytes allocated per parse (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@State(Scope.Benchmark)
+public class PolicyResponseParsingBenchmark {
+
+    @Param({"10", "1000", "100000"})
+    private int policyCount;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<Map<String, Object>> policies = new ArrayList<>(policyCount);
+        for (int i = 0; i < policyCount; i++) {
+            Map<String, Object> policy = new LinkedHashMap<>();
+            policy.put("policyNumber", String.format("POL-%06d", i));
+            policy.put("customerId", "CUST_" + (i % 500));
+            policy.put("customerName", "Policy Holder " + i);
+            policy.put("email", "holder" + i + "@example.com");
+            policy.put("policyType", i % 2 == 0 ? "HOME" : "AUTO");
+            policy.put("status", "ACTIVE");
+            policy.put("premiumAmount", 1000.0 + i);
+            policy.put("startDate", "2024-01-01");
+            policy.put("endDate", "2025-01-01");
+            policy.put("coverages", List.of(
+                    Map.of("coverageType", "BUILDINGS", "coverageAmount", 200000.0),
+                    Map.of("coverageType", "CONTENTS", "coverageAmount", 50000.0)));
+            policies.add(policy);
+        }
+
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("totalNumberofPolicies", policyCount);
+        response.put("policies", policies);
+        payload = objectMapper.writeValueAsBytes(response);
+
+        System.out.printf("%n%d policies: %d bytes%n", policyCount, payload.length);
+    }
+
+    @Benchmark
+    public PolicyApiResponse mapThenCopy() throws Exception {
+        Map<String, Object> responseMap = objectMapper.readValue(payload, Map.class);
+        List<PolicySummary> policies = copyPolicies(responseMap.get("policies"));
+        return new PolicyApiResponse(policies, (Integer) responseMap.get("totalNumberofPolicies"));
+    }
+
+    @Benchmark
+    public PolicyApiResponse streamingTypedBinding() throws Exception {
+        return PolicyResponseParser.parse(new ByteArrayInputStream(payload));
+    }
+
+    /**
+     * The field copy PolicyApiClient used before typed binding, kept here as the baseline
+     */
+    @SuppressWarnings("unchecked")
+    private static List<PolicySummary> copyPolicies(Object policiesObject) {
+        List<PolicySummary> policies = new ArrayList<>();
+
+        for (Map<String, Object> policyMap : (List<Map<String, Object>>) policiesObject) {
+            PolicySummary policy = new PolicySummary();
+            if (policyMap.containsKey("policyNumber")) {
+                policy.setPolicyNumber((String) policyMap.get("policyNumber"));
+            }
+            if (policyMap.containsKey("customerId")) {
+                policy.setCustomerId((String) policyMap.get("customerId"));
+            }
+            if (policyMap.containsKey("customerName")) {
+                policy.setCustomerName((String) policyMap.get("customerName"));
+            }
+            if (policyMap.containsKey("email")) {
+                policy.setEmail((String) policyMap.get("email"));
+            }
+            if (policyMap.containsKey("productType") || policyMap.containsKey("policyType")) {
+                policy.setProductType((String) policyMap.getOrDefault("productType", policyMap.get("policyType")));
+            }
+            if (policyMap.containsKey("status")) {
+                policy.setStatus((String) policyMap.get("status"));
+            }
+            if (policyMap.get("premiumAmount") instanceof Number) {
+                policy.setPremiumAmount(((Number) policyMap.get("premiumAmount")).doubleValue());
+            }
+            if (policyMap.containsKey("effectiveDate") || policyMap.containsKey("startDate")) {
+                policy.setEffectiveDate((String) policyMap.getOrDefault("effectiveDate", policyMap.get("startDate")));
+            }
+            if (policyMap.containsKey("expirationDate") || policyMap.containsKey("endDate")) {
+                policy.setExpirationDate((String) policyMap.getOrDefault("expirationDate", policyMap.get("endDate")));
+            }
+            policies.add(policy);
+        }
+        return policies;
+    }
+}
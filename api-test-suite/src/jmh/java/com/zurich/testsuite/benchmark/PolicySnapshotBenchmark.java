@@ -0,0 +1,131 @@
+package com.zurich.testsuite.benchmark;
+
+import com.zurich.testsuite.model.PolicySummary;
+import com.zurich.testsuite.service.impl.PolicySnapshot;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Range queries over 1M active policies: the linear filters PolicyServiceImpl runs on the
+ * fetched list (parsing each date string per query) against PolicySnapshot binary searches.
+ * Each query selects roughly 1% of the policies; buildSnapshot is the refresh cost.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class PolicySnapshotBenchmark {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final LocalDate BASE_DATE = LocalDate.of(2023, 1, 1);
+
+    @Param({"1000000"})
+    private int policyCount;
+
+    private List<PolicySummary> policies;
+    private PolicySnapshot snapshot;
+
+    private LocalDate rangeStart;
+    private LocalDate rangeEnd;
+    private LocalDate expiryCutoff;
+    private double minPremium;
+    private double maxPremium;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        policies = new ArrayList<>(policyCount);
+        for (int i = 0; i < policyCount; i++) {
+            LocalDate created = BASE_DATE.plusDays(random.nextInt(730));
+            policies.add(new PolicySummary(String.format("POL-%07d", i), "CUST_" + (i % 10_000),
+                    "Policy Holder " + i, "holder" + i + "@example.com", i % 2 == 0 ? "HOME" : "AUTO", "ACTIVE",
+                    random.nextInt(1_000_000) / 100.0, created.toString(), created.plusDays(365).toString(),
+                    created.toString()));
+        }
+
+        // About 1% of the policies for each query
+        rangeStart = BASE_DATE.plusDays(365);
+        rangeEnd = rangeStart.plusDays(6);
+        expiryCutoff = BASE_DATE.plusDays(365 + 7);
+        minPremium = 5_000.0;
+        maxPremium = 5_100.0;
+
+        long start = System.nanoTime();
+        snapshot = PolicySnapshot.build(policies, Instant.now());
+        System.out.printf("%nSnapshot of %d policies built in %d ms%n", policyCount,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    @Benchmark
+    public List<PolicySummary> linearDateRange() {
+        return policies.stream()
+                .filter(policy -> isDateInRange(policy.getCreatedDate(), rangeStart, rangeEnd))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PolicySummary> snapshotDateRange() {
+        return snapshot.createdBetween(rangeStart, rangeEnd);
+    }
+
+    @Benchmark
+    public List<PolicySummary> linearPremiumRange() {
+        return policies.stream()
+                .filter(policy -> policy.getPremiumAmount() >= minPremium && policy.getPremiumAmount() <= maxPremium)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PolicySummary> snapshotPremiumRange() {
+        return snapshot.premiumBetween(minPremium, maxPremium);
+    }
+
+    @Benchmark
+    public List<PolicySummary> linearExpiringSoon() {
+        return policies.stream()
+                .filter(policy -> !LocalDate.parse(policy.getExpirationDate(), DATE_FORMATTER).isAfter(expiryCutoff))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<PolicySummary> snapshotExpiringSoon() {
+        return snapshot.expiringOnOrBefore(expiryCutoff);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public PolicySnapshot buildSnapshot() {
+        return PolicySnapshot.build(policies, Instant.now());
+    }
+
+    /**
+     * Same check as PolicyServiceImpl.isDateInRange
+     */
+    private static boolean isDateInRange(String dateStr, LocalDate start, LocalDate end) {
+        LocalDate date = LocalDate.parse(dateStr, DATE_FORMATTER);
+        return !date.isBefore(start) && !date.isAfter(end);
+    }
+}
@@ -0,0 +1,118 @@
+package com.zurich.testsuite.loadtest;
+
+import java.time.Duration;
+
+/**
+ * Target arrival rate over the measured phase
+ *
+ * The generator asks for the rate at each scheduled send and spaces the next request
+ * 1/rate seconds later, so the rate can change at any point of the run.
+ */
+public interface LoadProfile {
+
+    /**
+     * Requests per second wanted at the given time since the start of the phase
+     */
+    double rateAt(Duration elapsed);
+
+    Duration duration();
+
+    String describe();
+
+    /**
+     * Same rate for the whole duration
+     */
+    static LoadProfile constant(double rate, Duration duration) {
+        return new LoadProfile() {
+            @Override
+            public double rateAt(Duration elapsed) {
+                return rate;
+            }
+
+            @Override
+            public Duration duration() {
+                return duration;
+            }
+
+            @Override
+            public String describe() {
+                return String.format("constant %.1f req/s for %ds", rate, duration.toSeconds());
+            }
+        };
+    }
+
+    /**
+     * Linear increase from one rate to another over rampTime, then held until the end
+     */
+    static LoadProfile ramp(double fromRate, double toRate, Duration rampTime, Duration duration) {
+        return new LoadProfile() {
+            @Override
+            public double rateAt(Duration elapsed) {
+                if (elapsed.compareTo(rampTime) >= 0 || rampTime.isZero()) {
+                    return toRate;
+                }
+                double progress = (double) elapsed.toNanos() / rampTime.toNanos();
+                return fromRate + (toRate - fromRate) * progress;
+            }
+
+            @Override
+            public Duration duration() {
+                return duration;
+            }
+
+            @Override
+            public String describe() {
+                return String.format("ramp %.1f -> %.1f req/s over %ds, %ds total",
+                        fromRate, toRate, rampTime.toSeconds(), duration.toSeconds());
+            }
+        };
+    }
+
+    /**
+     * Starts at startRate and adds stepRate every stepTime, for stepCount steps
+     */
+    static LoadProfile steps(double startRate, double stepRate, Duration stepTime, int stepCount) {
+        return new LoadProfile() {
+            @Override
+            public double rateAt(Duration elapsed) {
+                long step = Math.min(elapsed.toNanos() / stepTime.toNanos(), stepCount - 1);
+                return startRate + stepRate * step;
+            }
+
+            @Override
+            public Duration duration() {
+                return stepTime.multipliedBy(stepCount);
+            }
+
+            @Override
+            public String describe() {
+                return String.format("%d steps of %ds from %.1f req/s, +%.1f per step",
+                        stepCount, stepTime.toSeconds(), startRate, stepRate);
+            }
+        };
+    }
+
+    /**
+     * Base rate with a burst at spikeRate between spikeAt and spikeAt + spikeTime
+     */
+    static LoadProfile spike(double baseRate, double spikeRate, Duration spikeAt, Duration spikeTime, Duration duration) {
+        return new LoadProfile() {
+            @Override
+            public double rateAt(Duration elapsed) {
+                boolean inSpike = elapsed.compareTo(spikeAt) >= 0 && elapsed.compareTo(spikeAt.plus(spikeTime)) < 0;
+                return inSpike ? spikeRate : baseRate;
+            }
+
+            @Override
+            public Duration duration() {
+                return duration;
+            }
+
+            @Override
+            public String describe() {
+                return String.format("%.1f req/s with a %.1f req/s spike at %ds for %ds, %ds total",
+                        baseRate, spikeRate, spikeAt.toSeconds(), spikeTime.toSeconds(), duration.toSeconds());
+            }
+        };
+    }
+}
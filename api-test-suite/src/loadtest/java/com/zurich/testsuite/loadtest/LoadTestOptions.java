@@ -0,0 +1,134 @@
+package com.zurich.testsuite.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code key=value} pairs. Unset keys keep their defaults:
+ * <pre>
+ *   profile=constant         constant, ramp, step or spike
+ *   rate=50                  requests per second (constant), base rate (spike), start rate (ramp, step)
+ *   duration=60s             measured phase (constant, ramp, spike)
+ *   warmup=10s               unmeasured phase at the profile's initial rate before it
+ *   ramp-to=200              ramp: rate reached after ramp-time
+ *   ramp-time=30s            ramp: time to go from rate to ramp-to
+ *   step-rate=25             step: rate added per step
+ *   step-time=20s            step: length of each step
+ *   step-count=5             step: number of steps
+ *   spike-rate=300           spike: rate during the spike
+ *   spike-at=20s             spike: start of the spike
+ *   spike-time=10s           spike: length of the spike
+ *   mix=by-email:40,by-number:30,by-customer:15,active-page:10,search:5   endpoint weights
+ *   keys=1000                distinct emails, customers and policy numbers requested
+ *   max-in-flight=500        requests outstanding before new ones are dropped and recorded at the ceiling
+ *   base-url=                API under test; empty starts a local PolicyApiStub
+ *   config=config.properties ApiConfiguration file used with base-url
+ *   stub-latency=20ms        PolicyApiStub response delay
+ *   cache=false              keep the PolicyApiClient response cache on
+ *   scenario=default         report directory name under target/loadtest
+ * </pre>
+ */
+public class LoadTestOptions {
+
+    String profile = "constant";
+    double rate = 50;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(10);
+    double rampTo = 200;
+    Duration rampTime = Duration.ofSeconds(30);
+    double stepRate = 25;
+    Duration stepTime = Duration.ofSeconds(20);
+    int stepCount = 5;
+    double spikeRate = 300;
+    Duration spikeAt = Duration.ofSeconds(20);
+    Duration spikeTime = Duration.ofSeconds(10);
+    Map<PolicyEndpoint, Integer> mix = new EnumMap<>(Map.of(
+            PolicyEndpoint.BY_EMAIL, 40, PolicyEndpoint.BY_NUMBER, 30, PolicyEndpoint.BY_CUSTOMER, 15,
+            PolicyEndpoint.ACTIVE_PAGE, 10, PolicyEndpoint.SEARCH, 5));
+    int keys = 1000;
+    int maxInFlight = 500;
+    String baseUrl = "";
+    String configFile = "config.properties";
+    Duration stubLatency = Duration.ofMillis(20);
+    boolean cache;
+    String scenario = "default";
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            String value = pair[1];
+            switch (pair[0]) {
+                case "profile" -> options.profile = value;
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.duration = duration(value);
+                case "warmup" -> options.warmup = duration(value);
+                case "ramp-to" -> options.rampTo = Double.parseDouble(value);
+                case "ramp-time" -> options.rampTime = duration(value);
+                case "step-rate" -> options.stepRate = Double.parseDouble(value);
+                case "step-time" -> options.stepTime = duration(value);
+                case "step-count" -> options.stepCount = Integer.parseInt(value);
+                case "spike-rate" -> options.spikeRate = Double.parseDouble(value);
+                case "spike-at" -> options.spikeAt = duration(value);
+                case "spike-time" -> options.spikeTime = duration(value);
+                case "mix" -> options.mix = mix(value);
+                case "keys" -> options.keys = Integer.parseInt(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "base-url" -> options.baseUrl = value;
+                case "config" -> options.configFile = value;
+                case "stub-latency" -> options.stubLatency = duration(value);
+                case "cache" -> options.cache = Boolean.parseBoolean(value);
+                case "scenario" -> options.scenario = value;
+                default -> throw new IllegalArgumentException("Unknown option: " + pair[0]);
+            }
+        }
+        if (options.rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        return options;
+    }
+
+    LoadProfile loadProfile() {
+        return switch (profile) {
+            case "constant" -> LoadProfile.constant(rate, duration);
+            case "ramp" -> LoadProfile.ramp(rate, rampTo, rampTime, duration);
+            case "step" -> LoadProfile.steps(rate, stepRate, stepTime, stepCount);
+            case "spike" -> LoadProfile.spike(rate, spikeRate, spikeAt, spikeTime, duration);
+            default -> throw new IllegalArgumentException("Unknown profile: " + profile);
+        };
+    }
+
+    Path reportDirectory() {
+        return Path.of("target", "loadtest", scenario);
+    }
+
+    /**
+     * Accepts {@code 500ms}, {@code 30s}, {@code 2m} or an ISO-8601 duration.
+     */
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    private static Map<PolicyEndpoint, Integer> mix(String value) {
+        Map<PolicyEndpoint, Integer> weights = new EnumMap<>(PolicyEndpoint.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":", 2);
+            weights.put(PolicyEndpoint.fromLabel(pair[0]), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
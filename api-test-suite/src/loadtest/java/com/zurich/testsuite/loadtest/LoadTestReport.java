@@ -0,0 +1,109 @@
+package com.zurich.testsuite.loadtest;
+
+import com.zurich.testsuite.loadtest.OpenModelLoadGenerator.EndpointResult;
+import com.zurich.testsuite.loadtest.OpenModelLoadGenerator.IntervalSample;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Writes the results of a run to the report directory:
+ * <ul>
+ *   <li>summary.txt - the percentile table also printed to stdout</li>
+ *   <li>&lt;endpoint&gt;.hgrm - full HdrHistogram percentile distribution in milliseconds</li>
+ *   <li>&lt;endpoint&gt;-latency.csv - target and achieved rate, errors and percentiles per second</li>
+ * </ul>
+ */
+public final class LoadTestReport {
+
+    private LoadTestReport() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    static void write(LoadTestOptions options, LoadProfile profile, Map<PolicyEndpoint, EndpointResult> results)
+            throws IOException {
+        Path directory = options.reportDirectory();
+        Files.createDirectories(directory);
+
+        String table = percentileTable(profile, results);
+        System.out.println(table);
+        Files.writeString(directory.resolve("summary.txt"), table);
+
+        for (Map.Entry<PolicyEndpoint, EndpointResult> entry : results.entrySet()) {
+            String label = entry.getKey().label();
+            EndpointResult result = entry.getValue();
+
+            try (PrintStream out = new PrintStream(Files.newOutputStream(directory.resolve(label + ".hgrm")))) {
+                result.histogram().outputPercentileDistribution(out, 1000.0);
+            }
+            try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(directory.resolve(label + "-latency.csv")))) {
+                out.println("second,target_rate,requests,errors,dropped,p50_ms,p90_ms,p99_ms,p999_ms,max_ms");
+                for (IntervalSample sample : result.intervals()) {
+                    out.println(String.format(Locale.ROOT, "%d,%.2f,%d,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f",
+                            sample.second, sample.targetRate, sample.requests, sample.errors, sample.dropped,
+                            sample.p50Millis, sample.p90Millis, sample.p99Millis, sample.p999Millis, sample.maxMillis));
+                }
+            }
+        }
+        System.out.println("Reports written to " + directory.toAbsolutePath());
+    }
+
+    static String percentileTable(LoadProfile profile, Map<PolicyEndpoint, EndpointResult> results) {
+        double seconds = Math.max(profile.duration().toMillis() / 1000.0, 0.001);
+        StringBuilder table = new StringBuilder();
+        table.append("Profile: ").append(profile.describe()).append(System.lineSeparator());
+        table.append(String.format(Locale.ROOT, "%-12s %9s %8s %8s %9s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms"));
+
+        Histogram all = new Histogram(OpenModelLoadGenerator.HIGHEST_TRACKABLE_MICROS, 3);
+        long errors = 0;
+        long dropped = 0;
+        for (Map.Entry<PolicyEndpoint, EndpointResult> entry : results.entrySet()) {
+            EndpointResult result = entry.getValue();
+            appendRow(table, entry.getKey().label(), result.histogram(), result.errors(), result.dropped(), seconds);
+            all.add(result.histogram());
+            errors += result.errors();
+            dropped += result.dropped();
+        }
+        appendRow(table, "all", all, errors, dropped, seconds);
+        if (dropped > 0) {
+            table.append(String.format(Locale.ROOT,
+                    "WARNING: %d requests dropped at max-in-flight and recorded at %.0f ms; "
+                            + "percentiles above %.2f%% are not measured latencies%n",
+                    dropped, OpenModelLoadGenerator.HIGHEST_TRACKABLE_MICROS / 1000.0,
+                    100.0 * (all.getTotalCount() - dropped) / all.getTotalCount()));
+        }
+        return table.toString();
+    }
+
+    /**
+     * Dropped requests are in the histogram at the ceiling but not in the requests column
+     */
+    private static void appendRow(StringBuilder table, String label, Histogram histogram,
+                                  long errors, long dropped, double seconds) {
+        long requests = histogram.getTotalCount() - dropped;
+        table.append(String.format(Locale.ROOT, "%-12s %9d %8d %8d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                label, requests, errors, dropped, requests / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / 1000.0));
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+
+    /**
+     * Duration formatted for the console, e.g. 1m30s
+     */
+    static String format(Duration duration) {
+        long seconds = duration.toSeconds();
+        return seconds >= 60 ? (seconds / 60) + "m" + (seconds % 60) + "s" : seconds + "s";
+    }
+}
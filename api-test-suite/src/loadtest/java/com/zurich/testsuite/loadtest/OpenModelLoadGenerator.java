@@ -0,0 +1,233 @@
+package com.zurich.testsuite.loadtest;
+
+import com.zurich.testsuite.client.PolicyApiClient;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load on a PolicyApiClient: requests start at the profile's arrival rate whether
+ * or not earlier ones have finished, as independent users would send them.
+ *
+ * PolicyApiClient calls block, so each request runs on its own worker thread. Latency is
+ * measured from the scheduled start, not the actual send, so time spent waiting for a
+ * worker or behind a slow server is counted. Requests beyond {@code maxInFlight} outstanding
+ * are not sent: they are reported as dropped and recorded at {@link #HIGHEST_TRACKABLE_MICROS},
+ * since they never got a response. The upper percentiles of a run with drops are therefore
+ * the ceiling, not a measured latency.
+ * Every second each endpoint's interval histogram is sampled for the latency-over-time output.
+ */
+public class OpenModelLoadGenerator {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final PolicyApiClient client;
+    private final int keys;
+    private final int maxInFlight;
+
+    public OpenModelLoadGenerator(PolicyApiClient client, int keys, int maxInFlight) {
+        this.client = client;
+        this.keys = keys;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Latency and outcome of one one-second interval for one endpoint
+     */
+    public static final class IntervalSample {
+
+        final long second;
+        final double targetRate;
+        final long requests;
+        final long errors;
+        final long dropped;
+        final double p50Millis;
+        final double p90Millis;
+        final double p99Millis;
+        final double p999Millis;
+        final double maxMillis;
+
+        IntervalSample(long second, double targetRate, Histogram interval, long errors, long dropped) {
+            this.second = second;
+            this.targetRate = targetRate;
+            this.requests = interval.getTotalCount() - dropped;
+            this.errors = errors;
+            this.dropped = dropped;
+            this.p50Millis = interval.getValueAtPercentile(50) / 1000.0;
+            this.p90Millis = interval.getValueAtPercentile(90) / 1000.0;
+            this.p99Millis = interval.getValueAtPercentile(99) / 1000.0;
+            this.p999Millis = interval.getValueAtPercentile(99.9) / 1000.0;
+            this.maxMillis = interval.getMaxValue() / 1000.0;
+        }
+    }
+
+    /**
+     * Per-endpoint outcome of one phase
+     */
+    public static final class EndpointResult {
+
+        private final double share;
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        private final List<IntervalSample> intervals = new ArrayList<>();
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder intervalErrors = new LongAdder();
+        private final LongAdder intervalDropped = new LongAdder();
+        private Histogram recycled;
+
+        EndpointResult(double share) {
+            this.share = share;
+        }
+
+        public Histogram histogram() {
+            return histogram;
+        }
+
+        public List<IntervalSample> intervals() {
+            return Collections.unmodifiableList(intervals);
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        public long dropped() {
+            return dropped.sum();
+        }
+
+        void record(long scheduledNanos, boolean success) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos);
+            recorder.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            if (!success) {
+                errors.increment();
+                intervalErrors.increment();
+            }
+        }
+
+        void drop() {
+            recorder.recordValue(HIGHEST_TRACKABLE_MICROS);
+            dropped.increment();
+            intervalDropped.increment();
+        }
+
+        void sample(long second, double totalTargetRate) {
+            recycled = recorder.getIntervalHistogram(recycled);
+            histogram.add(recycled);
+            intervals.add(new IntervalSample(second, totalTargetRate * share, recycled,
+                    intervalErrors.sumThenReset(), intervalDropped.sumThenReset()));
+        }
+    }
+
+    /**
+     * Runs the mix at the profile's rate and waits up to a minute for outstanding requests
+     */
+    public Map<PolicyEndpoint, EndpointResult> run(LoadProfile profile, Map<PolicyEndpoint, Integer> mix)
+            throws InterruptedException {
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        Map<PolicyEndpoint, EndpointResult> results = new EnumMap<>(PolicyEndpoint.class);
+        mix.forEach((endpoint, weight) -> results.put(endpoint, new EndpointResult((double) weight / totalWeight)));
+
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        ExecutorService workers = Executors.newCachedThreadPool(daemonThreads("loadtest-worker-"));
+        ScheduledExecutorService sampler = Executors.newSingleThreadScheduledExecutor(daemonThreads("loadtest-sampler-"));
+
+        long start = System.nanoTime();
+        AtomicInteger second = new AtomicInteger();
+        sampler.scheduleAtFixedRate(() -> sampleAll(results, profile, second.incrementAndGet()), 1, 1, TimeUnit.SECONDS);
+
+        long durationNanos = profile.duration().toNanos();
+        double offsetSeconds = 0;
+        try {
+            while (true) {
+                long offsetNanos = (long) (offsetSeconds * 1_000_000_000L);
+                if (offsetNanos >= durationNanos) {
+                    break;
+                }
+                long scheduled = start + offsetNanos;
+                long wait = scheduled - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+
+                double rate = profile.rateAt(Duration.ofNanos(offsetNanos));
+                if (rate <= 0) {
+                    offsetSeconds += 0.01;
+                    continue;
+                }
+                offsetSeconds += 1.0 / rate;
+
+                PolicyEndpoint endpoint = pick(mix, totalWeight);
+                EndpointResult result = results.get(endpoint);
+                if (!inFlight.tryAcquire()) {
+                    result.drop();
+                    continue;
+                }
+                int key = ThreadLocalRandom.current().nextInt(keys);
+                workers.execute(() -> {
+                    boolean success = false;
+                    try {
+                        success = endpoint.call(client, key).isSuccess();
+                    } catch (RuntimeException e) {
+                        // Counted as an error below
+                    } finally {
+                        result.record(scheduled, success);
+                        inFlight.release();
+                    }
+                });
+            }
+
+            if (!inFlight.tryAcquire(maxInFlight, 60, TimeUnit.SECONDS)) {
+                System.err.println("Requests still outstanding after 60s, they are not included in the results");
+            }
+        } finally {
+            sampler.shutdown();
+            sampler.awaitTermination(5, TimeUnit.SECONDS);
+            workers.shutdownNow();
+        }
+
+        sampleAll(results, profile, second.incrementAndGet());
+        return results;
+    }
+
+    private static void sampleAll(Map<PolicyEndpoint, EndpointResult> results, LoadProfile profile, long second) {
+        double targetRate = profile.rateAt(Duration.ofSeconds(second - 1));
+        results.values().forEach(result -> result.sample(second, targetRate));
+    }
+
+    private static PolicyEndpoint pick(Map<PolicyEndpoint, Integer> mix, int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<PolicyEndpoint, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Endpoint weights must be positive");
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,59 @@
+package com.zurich.testsuite.loadtest;
+
+import com.zurich.testsuite.client.PolicyApiClient;
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.loadtest.OpenModelLoadGenerator.EndpointResult;
+import com.zurich.testsuite.stub.PolicyApiStub;
+
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Open-model load test of the policy API through PolicyApiClient
+ *
+ * Without {@code base-url} the load goes to a local PolicyApiStub with a fixed latency,
+ * which checks the client side (pool, parsing, threads) rather than a real API.
+ * The response cache is off unless {@code cache=true}, so every request reaches the API.
+ *
+ * Run: mvn -Ploadtest test-compile exec:exec -Dloadtest.args="profile=ramp rate=10 ramp-to=200 duration=90s"
+ * See LoadTestOptions for all options.
+ */
+public class PolicyApiLoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        LoadProfile profile = options.loadProfile();
+
+        PolicyApiStub stub = options.baseUrl.isEmpty()
+                ? PolicyApiStub.start("AU", options.stubLatency.toMillis())
+                : null;
+        try {
+            ApiConfiguration config = new ApiConfiguration(options.configFile);
+            config.setBaseUrl(stub != null ? stub.getBaseUrl() : options.baseUrl);
+            config.setCacheEnabled(options.cache);
+            config.setEnableLogging(false);
+            config.setMaxConnections(options.maxInFlight);
+            config.setMaxConnectionsPerRoute(options.maxInFlight);
+
+            System.out.println("Target: " + config.getBaseUrl() + (stub != null ? " (local stub)" : ""));
+            System.out.println("Profile: " + profile.describe());
+
+            try (PolicyApiClient client = new PolicyApiClient(config)) {
+                OpenModelLoadGenerator generator = new OpenModelLoadGenerator(client, options.keys, options.maxInFlight);
+
+                if (!options.warmup.isZero()) {
+                    System.out.println("Warm-up: " + LoadTestReport.format(options.warmup));
+                    generator.run(LoadProfile.constant(profile.rateAt(Duration.ZERO), options.warmup), options.mix);
+                }
+
+                System.out.println("Measuring: " + LoadTestReport.format(profile.duration()));
+                Map<PolicyEndpoint, EndpointResult> results = generator.run(profile, options.mix);
+                LoadTestReport.write(options, profile, results);
+            }
+        } finally {
+            if (stub != null) {
+                stub.close();
+            }
+        }
+    }
+}
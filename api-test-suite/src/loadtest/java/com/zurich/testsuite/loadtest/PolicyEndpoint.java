@@ -0,0 +1,54 @@
+package com.zurich.testsuite.loadtest;
+
+import com.zurich.testsuite.client.PolicyApiClient;
+import com.zurich.testsuite.model.PolicyApiResponse;
+
+/**
+ * Policy API calls the load test can drive; each request uses one of {@code keys} synthetic lookup keys
+ */
+public enum PolicyEndpoint {
+
+    BY_EMAIL {
+        @Override
+        PolicyApiResponse call(PolicyApiClient client, int key) {
+            return client.getPoliciesByEmail("loadtest-user-" + key + "@example.com");
+        }
+    },
+    BY_CUSTOMER {
+        @Override
+        PolicyApiResponse call(PolicyApiClient client, int key) {
+            return client.getPoliciesByCustomerId("CUST_" + key);
+        }
+    },
+    BY_NUMBER {
+        @Override
+        PolicyApiResponse call(PolicyApiClient client, int key) {
+            return client.getPolicyByNumber(String.format("POL-%06d", key));
+        }
+    },
+    ACTIVE_PAGE {
+        @Override
+        PolicyApiResponse call(PolicyApiClient client, int key) {
+            return client.getActivePolicies(key % 10, 20);
+        }
+    },
+    SEARCH {
+        @Override
+        PolicyApiResponse call(PolicyApiClient client, int key) {
+            return client.searchPolicies("holder " + key);
+        }
+    };
+
+    abstract PolicyApiResponse call(PolicyApiClient client, int key);
+
+    /**
+     * Lower-case name used in options and report file names, e.g. by-email
+     */
+    String label() {
+        return name().toLowerCase().replace('_', '-');
+    }
+
+    static PolicyEndpoint fromLabel(String label) {
+        return valueOf(label.trim().toUpperCase().replace('-', '_'));
+    }
+}
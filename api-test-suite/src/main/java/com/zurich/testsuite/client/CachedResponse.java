@@ -0,0 +1,73 @@
+package com.zurich.testsuite.client;
+
+import java.time.Instant;
+
+/**
+ * Raw body and validators of a cached policy API response
+ *
+ * The body is kept as bytes and parsed again on every hit, so callers never share
+ * (and mutate) the same PolicyApiResponse instance.
+ */
+public final class CachedResponse {
+
+    private final byte[] body;
+    private final String etag;
+    private final String lastModified;
+    private final Instant storedAt;
+    private final Instant expiresAt;
+
+    public CachedResponse(byte[] body, String etag, String lastModified, Instant storedAt, Instant expiresAt) {
+        this.body = body;
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.storedAt = storedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    /**
+     * Same body and validators with a new lifetime, after the server answered 304 Not Modified
+     */
+    public CachedResponse renew(Instant storedAt, Instant expiresAt) {
+        return new CachedResponse(body, etag, lastModified, storedAt, expiresAt);
+    }
+
+    public boolean isFresh(Instant now) {
+        return now.isBefore(expiresAt);
+    }
+
+    /**
+     * Whether the response can be revalidated with If-None-Match or If-Modified-Since
+     */
+    public boolean hasValidators() {
+        return etag != null || lastModified != null;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public String getLastModified() {
+        return lastModified;
+    }
+
+    public Instant getStoredAt() {
+        return storedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    /**
+     * Bytes counted against the cache size limit
+     */
+    public int getSize() {
+        return body.length
+                + (etag != null ? etag.length() * 2 : 0)
+                + (lastModified != null ? lastModified.length() * 2 : 0);
+    }
+}
@@ -0,0 +1,181 @@
+package com.zurich.testsuite.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded executor for blocking API calls with a concurrency limit per host
+ *
+ * Calls beyond the per-host limit wait in a per-host queue instead of holding a
+ * worker thread, so one slow environment cannot starve the others. Cancelling a
+ * returned future drops the call if it has not started yet and interrupts it otherwise.
+ */
+public class HostLimitedExecutor implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(HostLimitedExecutor.class);
+
+    private final ExecutorService workers;
+    private final int maxConcurrentPerHost;
+    private final Map<String, HostQueue> hosts = new ConcurrentHashMap<>();
+
+    public HostLimitedExecutor(int threads, int maxConcurrentPerHost) {
+        if (threads <= 0 || maxConcurrentPerHost <= 0) {
+            throw new IllegalArgumentException("threads and maxConcurrentPerHost must be positive");
+        }
+        this.maxConcurrentPerHost = maxConcurrentPerHost;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, "policy-async-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        pool.allowCoreThreadTimeOut(true);
+        this.workers = pool;
+    }
+
+    /**
+     * Run a blocking call against the host of the given base URL
+     */
+    public <T> CompletableFuture<T> submit(String baseUrl, Callable<T> call) {
+        HostQueue host = hosts.computeIfAbsent(hostKey(baseUrl), HostQueue::new);
+        Task<T> task = new Task<>(host, call);
+        task.result.whenComplete((value, error) -> {
+            if (task.result.isCancelled()) {
+                task.interruptRunner();
+            }
+        });
+        host.offer(task);
+        return task.result;
+    }
+
+    public int getMaxConcurrentPerHost() {
+        return maxConcurrentPerHost;
+    }
+
+    @Override
+    public void close() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Scheme-less host:port key, so http and https calls to one server share a limit
+     */
+    static String hostKey(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        return uri.getAuthority() != null ? uri.getAuthority().toLowerCase() : baseUrl;
+    }
+
+    /**
+     * Pending calls and in-flight count for one host
+     */
+    private final class HostQueue {
+
+        private final String host;
+        private final Queue<Task<?>> pending = new ArrayDeque<>();
+        private int inFlight;
+
+        HostQueue(String host) {
+            this.host = host;
+        }
+
+        void offer(Task<?> task) {
+            synchronized (this) {
+                if (inFlight >= maxConcurrentPerHost) {
+                    pending.add(task);
+                    return;
+                }
+                inFlight++;
+            }
+            if (!dispatch(task)) {
+                release();
+            }
+        }
+
+        /**
+         * Hand the slot to the next pending call, or give it back
+         */
+        void release() {
+            while (true) {
+                Task<?> next;
+                synchronized (this) {
+                    next = pending.poll();
+                    if (next == null) {
+                        inFlight--;
+                        return;
+                    }
+                }
+                if (dispatch(next)) {
+                    return;
+                }
+            }
+        }
+
+        private boolean dispatch(Task<?> task) {
+            try {
+                workers.execute(task);
+                return true;
+            } catch (RejectedExecutionException e) {
+                logger.warn("Could not dispatch call to {}, executor is shut down", host);
+                task.result.completeExceptionally(e);
+                return false;
+            }
+        }
+    }
+
+    /**
+     * One queued call; always hands its host slot back when it finishes or is skipped
+     */
+    private static final class Task<T> implements Runnable {
+
+        private final HostQueue host;
+        private final Callable<T> call;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private Thread runner;
+
+        Task(HostQueue host, Callable<T> call) {
+            this.host = host;
+            this.call = call;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (!result.isDone()) {
+                    setRunner(Thread.currentThread());
+                    result.complete(call.call());
+                }
+            } catch (Throwable t) {
+                result.completeExceptionally(t);
+            } finally {
+                setRunner(null);
+                host.release();
+            }
+        }
+
+        private synchronized void setRunner(Thread thread) {
+            runner = thread;
+        }
+
+        synchronized void interruptRunner() {
+            if (runner != null) {
+                runner.interrupt();
+            }
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.zurich.testsuite.client;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Least-recently-used PolicyResponseCache bounded by entry count and total bytes
+ *
+ * Responses larger than the byte limit are not stored. All operations are synchronized;
+ * they only move references, the HTTP call and parsing happen outside the lock.
+ */
+public class InMemoryPolicyResponseCache implements PolicyResponseCache {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    private final Map<String, CachedResponse> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final ResponseCacheStats stats = new ResponseCacheStats();
+    private long currentBytes;
+
+    public InMemoryPolicyResponseCache(int maxEntries, long maxBytes) {
+        if (maxEntries <= 0 || maxBytes <= 0) {
+            throw new IllegalArgumentException("maxEntries and maxBytes must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized CachedResponse get(String key) {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void put(String key, CachedResponse response) {
+        remove(key);
+        if (sizeOf(key, response) > maxBytes) {
+            return;
+        }
+
+        entries.put(key, response);
+        currentBytes += sizeOf(key, response);
+
+        Iterator<Map.Entry<String, CachedResponse>> eldest = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || currentBytes > maxBytes) && eldest.hasNext()) {
+            Map.Entry<String, CachedResponse> entry = eldest.next();
+            currentBytes -= sizeOf(entry.getKey(), entry.getValue());
+            eldest.remove();
+            stats.recordEviction();
+        }
+    }
+
+    @Override
+    public synchronized void invalidate(String key) {
+        remove(key);
+    }
+
+    @Override
+    public synchronized void clear() {
+        entries.clear();
+        currentBytes = 0;
+    }
+
+    @Override
+    public ResponseCacheStats getStats() {
+        return stats;
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    private void remove(String key) {
+        CachedResponse previous = entries.remove(key);
+        if (previous != null) {
+            currentBytes -= sizeOf(key, previous);
+        }
+    }
+
+    private static long sizeOf(String key, CachedResponse response) {
+        return (long) key.length() * 2 + response.getSize();
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "InMemoryPolicyResponseCache{" +
+                "entries=" + entries.size() + "/" + maxEntries +
+                ", bytes=" + currentBytes + "/" + maxBytes +
+                ", " + stats +
+                '}';
+    }
+}
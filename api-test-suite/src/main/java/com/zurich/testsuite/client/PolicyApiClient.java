@@ -4,46 +4,116 @@ import com.zurich.testsuite.config.ApiConfiguration;
 import com.zurich.testsuite.model.PolicyApiResponse;
 import com.zurich.testsuite.model.PolicySummary;
 import io.restassured.RestAssured;
+import io.restassured.builder.RequestSpecBuilder;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.LogConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
+import org.apache.http.impl.client.DefaultHttpClient;
+import org.apache.http.impl.conn.PoolingClientConnectionManager;
+import org.apache.http.params.HttpConnectionParams;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.InputStream;
+import java.time.Instant;
 import java.util.*;
 
-import static io.restassured.RestAssured.given;
-
 /**
  * REST API Client for Policy Management operations
  * Handles all HTTP communications with the policy API endpoints
+ * 
+ * Each client owns its request specification and a pooled keep-alive connection
+ * manager, and never touches the static RestAssured defaults, so clients for
+ * different environments can be shared by parallel TestNG threads.
+ * Call {@link #close()} when the client is no longer needed.
+ * 
+ * Policy lookups by number and by email go through an optional PolicyResponseCache
+ * (api.cache.enabled): fresh entries are served without a request, expired ones are
+ * revalidated with If-None-Match / If-Modified-Since when the server sent validators.
+ * 
+ * With api.replay.mode=record every exchange with the API is appended to the recordings
+ * in api.replay.dir; with api.replay.mode=replay responses are served from them in-process
+ * and no request leaves the JVM (see RecordReplayFilter).
  */
-public class PolicyApiClient {
+public class PolicyApiClient implements AutoCloseable {
     
     private static final Logger logger = LoggerFactory.getLogger(PolicyApiClient.class);
     
     private final ApiConfiguration config;
     private final String baseUrl;
     private final Map<String, String> defaultHeaders;
+    private final PoolingClientConnectionManager connectionManager;
+    private final RequestSpecification requestSpec;
+    private final PolicyResponseCache responseCache;
+    private final RecordReplayFilter recordReplay;
     
     public PolicyApiClient(ApiConfiguration config) {
+        this(config, config.isCacheEnabled()
+                ? new InMemoryPolicyResponseCache(config.getCacheMaxEntries(), config.getCacheMaxBytes())
+                : null);
+    }
+    
+    /**
+     * Constructor with a custom response cache; null disables caching
+     */
+    public PolicyApiClient(ApiConfiguration config, PolicyResponseCache responseCache) {
         this.config = config;
+        this.responseCache = responseCache;
         this.baseUrl = config.getBaseUrl();
         this.defaultHeaders = new HashMap<>();
         setupDefaultHeaders();
-        configureRestAssured();
+        this.recordReplay = RecordReplayFilter.fromConfig(config);
+        this.connectionManager = createConnectionManager();
+        this.requestSpec = createRequestSpec();
     }
     
     /**
-     * Configure REST Assured global settings
+     * Create the connection pool shared by all requests of this client
      */
-    private void configureRestAssured() {
-        RestAssured.baseURI = baseUrl;
-        RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+    @SuppressWarnings("deprecation")
+    private PoolingClientConnectionManager createConnectionManager() {
+        PoolingClientConnectionManager manager = new PoolingClientConnectionManager();
+        manager.setMaxTotal(config.getMaxConnections());
+        manager.setDefaultMaxPerRoute(config.getMaxConnectionsPerRoute());
+        return manager;
+    }
+    
+    /**
+     * Build the per-instance request specification.
+     * REST Assured only accepts the legacy AbstractHttpClient API, hence DefaultHttpClient;
+     * reuseHttpClientInstance stops it from shutting the pool down after every response.
+     */
+    @SuppressWarnings("deprecation")
+    private RequestSpecification createRequestSpec() {
+        DefaultHttpClient httpClient = new DefaultHttpClient(connectionManager);
+        HttpConnectionParams.setConnectionTimeout(httpClient.getParams(), config.getConnectionTimeout());
+        HttpConnectionParams.setSoTimeout(httpClient.getParams(), config.getReadTimeout());
+        
+        RestAssuredConfig restAssuredConfig = RestAssuredConfig.newConfig()
+                .httpClient(HttpClientConfig.httpClientConfig()
+                        .httpClientFactory(() -> httpClient)
+                        .reuseHttpClientInstance())
+                .logConfig(LogConfig.logConfig()
+                        .enableLoggingOfRequestAndResponseIfValidationFails());
+        
+        RequestSpecBuilder builder = new RequestSpecBuilder()
+                .setBaseUri(baseUrl)
+                .setConfig(restAssuredConfig)
+                .addHeaders(defaultHeaders)
+                .setRelaxedHTTPSValidation();
+        
+        // Add basic auth if configured
+        if (config.getUsername() != null && config.getPassword() != null) {
+            builder.setAuth(RestAssured.basic(config.getUsername(), config.getPassword()));
+        }
         
-        // Configure timeouts
-        RestAssured.config = RestAssured.config()
-                .connectionConfig(RestAssured.config().getConnectionConfig()
-                        .closeIdleConnectionsAfterEachResponse());
+        if (recordReplay != null) {
+            builder.addFilter(recordReplay);
+        }
+        
+        return builder.build();
     }
     
     /**
@@ -69,18 +139,10 @@ public class PolicyApiClient {
      * Create base request specification with default settings
      */
     private RequestSpecification createBaseRequest() {
-        RequestSpecification request = given()
-                .headers(defaultHeaders)
-                .relaxedHTTPSValidation();
-        
-        // Add basic auth if configured
-        if (config.getUsername() != null && config.getPassword() != null) {
-            request = request.auth().basic(config.getUsername(), config.getPassword());
-        }
-        
         // Add request ID for tracing
         String requestId = UUID.randomUUID().toString();
-        request = request.header("X-Request-ID", requestId);
+        RequestSpecification request = RestAssured.given(requestSpec)
+                .header("X-Request-ID", requestId);
         
         logger.debug("Created request with ID: {}", requestId);
         return request;
@@ -110,14 +172,8 @@ public class PolicyApiClient {
                 request = request.queryParam("size", size);
             }
             
-            Response response = request
-                    .when()
-                    .get("/api/v1/policy/list")
-                    .then()
-                    .extract()
-                    .response();
-            
-            return handlePolicyResponse(response);
+            String cacheKey = "GET /api/v1/policy/list?emailId=" + email + "&page=" + page + "&size=" + size;
+            return getCacheable(request, "/api/v1/policy/list", cacheKey);
             
         } catch (Exception e) {
             logger.error("Error fetching policies for email: {}", email, e);
@@ -132,15 +188,11 @@ public class PolicyApiClient {
         try {
             logger.info("Fetching policy by number: {}", policyNumber);
             
-            Response response = createBaseRequest()
-                    .pathParam("policyNumber", policyNumber)
-                    .when()
-                    .get("/api/v1/policy/details/{policyNumber}")
-                    .then()
-                    .extract()
-                    .response();
+            RequestSpecification request = createBaseRequest()
+                    .pathParam("policyNumber", policyNumber);
             
-            return handlePolicyResponse(response);
+            return getCacheable(request, "/api/v1/policy/details/{policyNumber}",
+                    "GET /api/v1/policy/details/" + policyNumber);
             
         } catch (Exception e) {
             logger.error("Error fetching policy by number: {}", policyNumber, e);
@@ -304,48 +356,114 @@ public class PolicyApiClient {
         }
     }
     
+    /**
+     * Policies of a successful response, for callers that must not mistake a failed call for no results
+     * @throws PolicyApiException if the response is not a success
+     */
+    public static List<PolicySummary> requirePolicies(PolicyApiResponse response) {
+        if (!response.isSuccess()) {
+            throw new PolicyApiException(response.getMessage(), response.getErrorCode());
+        }
+        return response.getPolicies() != null ? response.getPolicies() : Collections.emptyList();
+    }
+    
+    /**
+     * GET a policy response through the response cache, if there is one
+     */
+    private PolicyApiResponse getCacheable(RequestSpecification request, String path, String cacheKey) {
+        if (responseCache == null) {
+            return handlePolicyResponse(request.when().get(path).then().extract().response());
+        }
+        
+        ResponseCacheStats stats = responseCache.getStats();
+        CachedResponse cached = responseCache.get(cacheKey);
+        if (cached != null && cached.isFresh(Instant.now())) {
+            stats.recordHit();
+            logger.debug("Response cache hit: {}", cacheKey);
+            return parseBody(cached.getBody(), null);
+        }
+        
+        boolean revalidating = cached != null && cached.hasValidators();
+        if (revalidating) {
+            if (cached.getEtag() != null) {
+                request = request.header("If-None-Match", cached.getEtag());
+            }
+            if (cached.getLastModified() != null) {
+                request = request.header("If-Modified-Since", cached.getLastModified());
+            }
+        }
+        
+        Response response = request.when().get(path).then().extract().response();
+        int statusCode = response.getStatusCode();
+        
+        if (revalidating && statusCode == 304) {
+            stats.recordRevalidatedHit();
+            logger.debug("Response cache revalidated: {}", cacheKey);
+            Instant now = Instant.now();
+            responseCache.put(cacheKey, cached.renew(now, expiresAt(response, now)));
+            return parseBody(cached.getBody(), response.getHeader("X-Request-ID"));
+        }
+        
+        stats.recordMiss();
+        if (statusCode < 200 || statusCode >= 300) {
+            responseCache.invalidate(cacheKey);
+            return handlePolicyResponse(response);
+        }
+        
+        byte[] body = response.asByteArray();
+        PolicyApiResponse apiResponse = parseBody(body, response.getHeader("X-Request-ID"));
+        String cacheControl = response.getHeader("Cache-Control");
+        if (apiResponse.isSuccess() && (cacheControl == null || !cacheControl.contains("no-store"))) {
+            Instant now = Instant.now();
+            responseCache.put(cacheKey, new CachedResponse(body, response.getHeader("ETag"),
+                    response.getHeader("Last-Modified"), now, expiresAt(response, now)));
+        } else {
+            responseCache.invalidate(cacheKey);
+        }
+        return apiResponse;
+    }
+    
+    /**
+     * Expiry of a cached response: the configured TTL, or immediately for Cache-Control: no-cache
+     */
+    private Instant expiresAt(Response response, Instant now) {
+        String cacheControl = response.getHeader("Cache-Control");
+        if (cacheControl != null && cacheControl.contains("no-cache")) {
+            return now;
+        }
+        return now.plusSeconds(config.getCacheTtlSeconds());
+    }
+    
+    /**
+     * Parse a buffered 2xx body
+     */
+    private PolicyApiResponse parseBody(byte[] body, String requestId) {
+        try {
+            PolicyApiResponse apiResponse = PolicyResponseParser.parse(body);
+            apiResponse.setRequestId(requestId);
+            return apiResponse;
+        } catch (Exception e) {
+            logger.error("Error parsing cached response", e);
+            return new PolicyApiResponse("Error parsing response: " + e.getMessage(), "PARSE_ERROR");
+        }
+    }
+    
     /**
      * Handle policy list response
      */
     private PolicyApiResponse handlePolicyResponse(Response response) {
         int statusCode = response.getStatusCode();
-        String responseBody = response.getBody().asString();
         
-        logger.debug("API Response - Status: {}, Body: {}", statusCode, responseBody);
+        if (logger.isDebugEnabled()) {
+            logger.debug("API Response - Status: {}, Body: {}", statusCode, response.getBody().asString());
+        }
         
         try {
             if (statusCode >= 200 && statusCode < 300) {
-                // Parse successful response
-                PolicyApiResponse apiResponse = response.as(PolicyApiResponse.class);
-                
-                // If response doesn't have the wrapper structure, try direct parsing
-                if (apiResponse.getPolicies() == null) {
-                    // Try parsing as direct policy list or MuleSoft format
-                    Map<String, Object> responseMap = response.as(Map.class);
-                    
-                    if (responseMap.containsKey("policies")) {
-                        // Standard format with policies array
-                        List<PolicySummary> policies = parsePoliciesToList(responseMap.get("policies"));
-                        int totalCount = responseMap.containsKey("totalNumberofPolicies") ? 
-                                (Integer) responseMap.get("totalNumberofPolicies") : policies.size();
-                        
-                        apiResponse = new PolicyApiResponse(policies, totalCount);
-                    } else if (responseMap.containsKey("totalNumberofPolicies")) {
-                        // MuleSoft format
-                        List<PolicySummary> policies = parsePoliciesToList(responseMap.get("policies"));
-                        int totalCount = (Integer) responseMap.get("totalNumberofPolicies");
-                        
-                        apiResponse = new PolicyApiResponse(policies, totalCount);
-                    } else {
-                        // Single policy or list format
-                        List<PolicySummary> policies = new ArrayList<>();
-                        if (responseMap.containsKey("policyNumber")) {
-                            // Single policy
-                            PolicySummary policy = response.as(PolicySummary.class);
-                            policies.add(policy);
-                        }
-                        apiResponse = new PolicyApiResponse(policies, policies.size());
-                    }
+                // Bind policies straight from the body, whichever response format it uses
+                PolicyApiResponse apiResponse;
+                try (InputStream body = response.asInputStream()) {
+                    apiResponse = PolicyResponseParser.parse(body);
                 }
                 
                 apiResponse.setRequestId(response.getHeader("X-Request-ID"));
@@ -365,14 +483,14 @@ public class PolicyApiClient {
                         errorCode = (String) errorResponse.get("errorCode");
                     }
                 } catch (Exception e) {
-                    logger.warn("Could not parse error response: {}", responseBody);
+                    logger.warn("Could not parse error response: {}", response.getBody().asString());
                 }
                 
                 return new PolicyApiResponse(errorMessage, errorCode);
             }
             
         } catch (Exception e) {
-            logger.error("Error parsing response: {}", responseBody, e);
+            logger.error("Error parsing response with status {}", statusCode, e);
             return new PolicyApiResponse("Error parsing response: " + e.getMessage(), "PARSE_ERROR");
         }
     }
@@ -397,61 +515,6 @@ public class PolicyApiClient {
         }
     }
     
-    /**
-     * Parse generic object to PolicySummary list
-     */
-    @SuppressWarnings("unchecked")
-    private List<PolicySummary> parsePoliciesToList(Object policiesObject) {
-        List<PolicySummary> policies = new ArrayList<>();
-        
-        if (policiesObject instanceof List) {
-            List<Map<String, Object>> policyMaps = (List<Map<String, Object>>) policiesObject;
-            
-            for (Map<String, Object> policyMap : policyMaps) {
-                PolicySummary policy = new PolicySummary();
-                
-                // Map fields from response to PolicySummary
-                if (policyMap.containsKey("policyNumber")) {
-                    policy.setPolicyNumber((String) policyMap.get("policyNumber"));
-                }
-                if (policyMap.containsKey("customerId")) {
-                    policy.setCustomerId((String) policyMap.get("customerId"));
-                }
-                if (policyMap.containsKey("customerName")) {
-                    policy.setCustomerName((String) policyMap.get("customerName"));
-                }
-                if (policyMap.containsKey("email")) {
-                    policy.setEmail((String) policyMap.get("email"));
-                }
-                if (policyMap.containsKey("productType") || policyMap.containsKey("policyType")) {
-                    String productType = (String) policyMap.getOrDefault("productType", policyMap.get("policyType"));
-                    policy.setProductType(productType);
-                }
-                if (policyMap.containsKey("status")) {
-                    policy.setStatus((String) policyMap.get("status"));
-                }
-                if (policyMap.containsKey("premiumAmount")) {
-                    Object premium = policyMap.get("premiumAmount");
-                    if (premium instanceof Number) {
-                        policy.setPremiumAmount(((Number) premium).doubleValue());
-                    }
-                }
-                if (policyMap.containsKey("effectiveDate") || policyMap.containsKey("startDate")) {
-                    String effectiveDate = (String) policyMap.getOrDefault("effectiveDate", policyMap.get("startDate"));
-                    policy.setEffectiveDate(effectiveDate);
-                }
-                if (policyMap.containsKey("expirationDate") || policyMap.containsKey("endDate")) {
-                    String expirationDate = (String) policyMap.getOrDefault("expirationDate", policyMap.get("endDate"));
-                    policy.setExpirationDate(expirationDate);
-                }
-                
-                policies.add(policy);
-            }
-        }
-        
-        return policies;
-    }
-    
     /**
      * Health check endpoint
      */
@@ -472,10 +535,36 @@ public class PolicyApiClient {
         }
     }
     
+    /**
+     * Get the response cache, or null if caching is disabled
+     */
+    public PolicyResponseCache getResponseCache() {
+        return responseCache;
+    }
+    
+    /**
+     * Get the record/replay filter, or null if api.replay.mode is off
+     */
+    public RecordReplayFilter getRecordReplay() {
+        return recordReplay;
+    }
+    
     /**
      * Get API configuration
      */
     public ApiConfiguration getConfig() {
         return config;
     }
+    
+    /**
+     * Release all pooled connections of this client
+     */
+    @Override
+    public void close() {
+        connectionManager.shutdown();
+        if (recordReplay != null) {
+            recordReplay.close();
+        }
+        logger.debug("Connection pool for {} shut down", baseUrl);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,18 @@
+package com.zurich.testsuite.client;
+
+/**
+ * A policy API call that did not succeed, carrying the error code of the response
+ */
+public class PolicyApiException extends RuntimeException {
+
+    private final String errorCode;
+
+    public PolicyApiException(String message, String errorCode) {
+        super(message);
+        this.errorCode = errorCode;
+    }
+
+    public String getErrorCode() {
+        return errorCode;
+    }
+}
@@ -0,0 +1,36 @@
+package com.zurich.testsuite.client;
+
+/**
+ * Cache of raw policy API responses used by PolicyApiClient, keyed by endpoint and parameters
+ *
+ * Implementations only store and bound entries; freshness and revalidation are decided by
+ * the client. Expired entries may still be returned so they can be revalidated.
+ */
+public interface PolicyResponseCache {
+
+    /**
+     * Get the cached response for a key, fresh or expired
+     * @return Cached response or null if there is none
+     */
+    CachedResponse get(String key);
+
+    /**
+     * Store or replace the response for a key
+     */
+    void put(String key, CachedResponse response);
+
+    /**
+     * Remove the response for a key
+     */
+    void invalidate(String key);
+
+    /**
+     * Remove all responses
+     */
+    void clear();
+
+    /**
+     * Lookup statistics, updated by the client
+     */
+    ResponseCacheStats getStats();
+}
@@ -0,0 +1,192 @@
+package com.zurich.testsuite.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.model.PolicySummary;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming parser for policy API responses
+ *
+ * Accepts the wrapper format ({@code success, message, policies, pagination, ...}),
+ * the MuleSoft format ({@code totalNumberofPolicies, policies}), either of them nested
+ * under {@code data}, a bare policy array, or a single policy object. Each policy is bound
+ * straight into {@link PolicySummary} as the array is read, so large lists never build an
+ * intermediate map or tree; MuleSoft field names are handled by the model's aliases.
+ */
+public final class PolicyResponseParser {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectReader POLICY_READER = OBJECT_MAPPER.readerFor(PolicySummary.class);
+    private static final ObjectReader PAGINATION_READER = OBJECT_MAPPER.readerFor(PolicyApiResponse.PaginationInfo.class);
+
+    private PolicyResponseParser() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    /**
+     * Parse a successful (2xx) response body; the stream is closed afterwards
+     * @return Response marked successful unless the body says otherwise
+     */
+    public static PolicyApiResponse parse(InputStream body) throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    /**
+     * Byte array variant, mainly for benchmarks and tests
+     */
+    public static PolicyApiResponse parse(byte[] body) throws IOException {
+        try (JsonParser parser = OBJECT_MAPPER.getFactory().createParser(body)) {
+            return parse(parser);
+        }
+    }
+
+    private static PolicyApiResponse parse(JsonParser parser) throws IOException {
+        JsonToken first = parser.nextToken();
+        if (first == JsonToken.START_ARRAY) {
+            List<PolicySummary> policies = readPolicies(parser);
+            return new PolicyApiResponse(policies, policies.size());
+        }
+        if (first != JsonToken.START_OBJECT) {
+            throw new IOException("Expected a JSON object or array but found " + first);
+        }
+
+        Envelope envelope = new Envelope();
+        readEnvelope(parser, envelope);
+        return envelope.toResponse();
+    }
+
+    /**
+     * Read the fields of the current object into the envelope; the parser ends on its END_OBJECT
+     */
+    private static void readEnvelope(JsonParser parser, Envelope envelope) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "policies":
+                    if (value == JsonToken.START_ARRAY) {
+                        envelope.policies = readPolicies(parser);
+                    } else {
+                        parser.skipChildren();
+                    }
+                    break;
+                case "data":
+                    if (value == JsonToken.START_OBJECT) {
+                        readEnvelope(parser, envelope);
+                    } else if (value == JsonToken.START_ARRAY) {
+                        envelope.policies = readPolicies(parser);
+                    }
+                    break;
+                case "totalNumberofPolicies":
+                    if (value.isNumeric()) {
+                        envelope.totalCount = parser.getIntValue();
+                    }
+                    break;
+                case "success":
+                    if (value.isBoolean()) {
+                        envelope.success = parser.getBooleanValue();
+                    }
+                    break;
+                case "message":
+                    envelope.message = parser.getValueAsString();
+                    break;
+                case "errorCode":
+                    envelope.errorCode = parser.getValueAsString();
+                    break;
+                case "requestId":
+                    envelope.requestId = parser.getValueAsString();
+                    break;
+                case "pagination":
+                    if (value == JsonToken.START_OBJECT) {
+                        envelope.pagination = PAGINATION_READER.readValue(parser);
+                    }
+                    break;
+                default:
+                    // Kept in case the body turns out to be a single policy rather than a list
+                    if (envelope.policies == null) {
+                        envelope.singlePolicy().set(field, OBJECT_MAPPER.readTree(parser));
+                    } else {
+                        parser.skipChildren();
+                    }
+            }
+        }
+    }
+
+    /**
+     * Bind each array element as it is read; the parser ends on the array's END_ARRAY
+     */
+    private static List<PolicySummary> readPolicies(JsonParser parser) throws IOException {
+        List<PolicySummary> policies = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new EOFException("Unexpected end of input inside policies array");
+            }
+            if (token == JsonToken.START_OBJECT) {
+                policies.add(POLICY_READER.readValue(parser));
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return policies;
+    }
+
+    /**
+     * Top-level fields collected while streaming
+     */
+    private static final class Envelope {
+
+        private Boolean success;
+        private String message;
+        private String errorCode;
+        private String requestId;
+        private Integer totalCount;
+        private List<PolicySummary> policies;
+        private PolicyApiResponse.PaginationInfo pagination;
+        private ObjectNode singlePolicy;
+
+        ObjectNode singlePolicy() {
+            if (singlePolicy == null) {
+                singlePolicy = OBJECT_MAPPER.createObjectNode();
+            }
+            return singlePolicy;
+        }
+
+        PolicyApiResponse toResponse() throws IOException {
+            List<PolicySummary> result = policies;
+            if (result == null) {
+                result = new ArrayList<>();
+                if (singlePolicy != null && singlePolicy.hasNonNull("policyNumber")) {
+                    result.add(OBJECT_MAPPER.treeToValue(singlePolicy, PolicySummary.class));
+                }
+            }
+
+            PolicyApiResponse response = new PolicyApiResponse(result, totalCount != null ? totalCount : result.size());
+            if (success != null) {
+                response.setSuccess(success);
+            }
+            if (message != null) {
+                response.setMessage(message);
+            }
+            response.setErrorCode(errorCode);
+            response.setRequestId(requestId);
+            response.setPagination(pagination);
+            return response;
+        }
+    }
+}
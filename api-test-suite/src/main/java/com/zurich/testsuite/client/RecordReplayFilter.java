@@ -0,0 +1,231 @@
+package com.zurich.testsuite.client;
+
+import com.zurich.testsuite.config.ApiConfiguration;
+import io.restassured.builder.ResponseBuilder;
+import io.restassured.filter.Filter;
+import io.restassured.filter.FilterContext;
+import io.restassured.http.Header;
+import io.restassured.http.Headers;
+import io.restassured.response.Response;
+import io.restassured.specification.FilterableRequestSpecification;
+import io.restassured.specification.FilterableResponseSpecification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * REST Assured filter that records policy API exchanges, or replays them instead of calling the API
+ *
+ * Requests are identified by a key of method, path, sorted query string, conditional
+ * headers and body; the host is left out, so recordings from one environment replay
+ * against any base URL. In replay mode a request that was never recorded fails with
+ * an IllegalStateException, which PolicyApiClient reports as an API_ERROR response.
+ * Replayed responses are served after {@code latencyFactor} times the recorded latency:
+ * 0 serves them immediately, 1 reproduces the latency of the recorded environment.
+ */
+public class RecordReplayFilter implements Filter, AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordReplayFilter.class);
+
+    public static final long DEFAULT_SEGMENT_BYTES = 256L * 1024 * 1024;
+
+    private static final String[] CONDITIONAL_HEADERS = {"If-None-Match", "If-Modified-Since"};
+    private static final Set<String> UNRECORDED_HEADERS = Set.of(
+            "connection", "content-length", "keep-alive", "transfer-encoding");
+
+    /**
+     * What the filter does with requests
+     */
+    public enum Mode {
+        OFF, RECORD, REPLAY;
+
+        public static Mode fromString(String mode) {
+            return mode == null || mode.isBlank() ? OFF : valueOf(mode.trim().toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Mode mode;
+    private final RecordingWriter writer;
+    private final RecordingStore store;
+    private final double latencyFactor;
+
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong replayed = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    private RecordReplayFilter(Mode mode, RecordingWriter writer, RecordingStore store, double latencyFactor) {
+        this.mode = mode;
+        this.writer = writer;
+        this.store = store;
+        this.latencyFactor = latencyFactor;
+    }
+
+    public static RecordReplayFilter recording(Path directory) {
+        return new RecordReplayFilter(Mode.RECORD, new RecordingWriter(directory, DEFAULT_SEGMENT_BYTES), null, 0);
+    }
+
+    public static RecordReplayFilter replaying(RecordingStore store, double latencyFactor) {
+        if (latencyFactor < 0) {
+            throw new IllegalArgumentException("Latency factor must not be negative: " + latencyFactor);
+        }
+        return new RecordReplayFilter(Mode.REPLAY, null, store, latencyFactor);
+    }
+
+    /**
+     * Filter for api.replay.mode, or null when it is off
+     */
+    public static RecordReplayFilter fromConfig(ApiConfiguration config) {
+        Path directory = Path.of(config.getReplayDir());
+        switch (Mode.fromString(config.getReplayMode())) {
+            case RECORD:
+                return recording(directory);
+            case REPLAY:
+                return replaying(RecordingStore.shared(directory), config.getReplayLatencyFactor());
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public Response filter(FilterableRequestSpecification requestSpec,
+                           FilterableResponseSpecification responseSpec,
+                           FilterContext ctx) {
+        String requestKey = requestKey(requestSpec);
+        return mode == Mode.REPLAY
+                ? replay(requestKey)
+                : record(requestKey, requestSpec, responseSpec, ctx);
+    }
+
+    private Response record(String requestKey, FilterableRequestSpecification requestSpec,
+                            FilterableResponseSpecification responseSpec, FilterContext ctx) {
+        long start = System.nanoTime();
+        Response response = ctx.next(requestSpec, responseSpec);
+        long latencyNanos = System.nanoTime() - start;
+
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (Header header : response.getHeaders()) {
+            if (!UNRECORDED_HEADERS.contains(header.getName().toLowerCase(Locale.ROOT))) {
+                headers.put(header.getName(), header.getValue());
+            }
+        }
+        try {
+            // asByteArray buffers the body, so the client can still read it
+            writer.append(new RecordedExchange(requestKey, response.getStatusCode(), latencyNanos,
+                    headers, response.asByteArray()));
+            recorded.incrementAndGet();
+        } catch (IOException e) {
+            logger.warn("Could not record response for {}", requestKey, e);
+        }
+        return response;
+    }
+
+    private Response replay(String requestKey) {
+        RecordedExchange exchange = store.next(requestKey);
+        if (exchange == null) {
+            misses.incrementAndGet();
+            throw new IllegalStateException("No recorded response for " + requestKey + " in " + store.getDirectory());
+        }
+        replayed.incrementAndGet();
+
+        long pauseNanos = (long) (exchange.getLatencyNanos() * latencyFactor);
+        long deadline = System.nanoTime() + pauseNanos;
+        while (pauseNanos > 0) {
+            LockSupport.parkNanos(pauseNanos);
+            pauseNanos = deadline - System.nanoTime();
+        }
+
+        List<Header> headers = new ArrayList<>();
+        exchange.getHeaders().forEach((name, value) -> headers.add(new Header(name, value)));
+        ResponseBuilder builder = new ResponseBuilder()
+                .setStatusCode(exchange.getStatus())
+                .setStatusLine("HTTP/1.1 " + exchange.getStatus())
+                .setHeaders(new Headers(headers))
+                .setBody(exchange.getBody());
+        String contentType = exchange.getHeader("Content-Type");
+        if (contentType != null) {
+            builder.setContentType(contentType);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Key a request is recorded and replayed under, e.g.
+     * {@code GET /api/v1/policy/list?emailId=a%40b.com&page=0&size=10}
+     */
+    static String requestKey(FilterableRequestSpecification requestSpec) {
+        String uri = requestSpec.getURI();
+        int scheme = uri.indexOf("://");
+        int pathStart = scheme < 0 ? 0 : uri.indexOf('/', scheme + 3);
+        String pathAndQuery = pathStart < 0 ? "/" : uri.substring(pathStart);
+
+        StringBuilder key = new StringBuilder(requestSpec.getMethod()).append(' ');
+        int queryStart = pathAndQuery.indexOf('?');
+        if (queryStart < 0) {
+            key.append(pathAndQuery);
+        } else {
+            String[] params = pathAndQuery.substring(queryStart + 1).split("&");
+            Arrays.sort(params);
+            key.append(pathAndQuery, 0, queryStart).append('?').append(String.join("&", params));
+        }
+
+        for (String name : CONDITIONAL_HEADERS) {
+            String value = requestSpec.getHeaders().getValue(name);
+            if (value != null) {
+                key.append('\n').append(name).append(": ").append(value);
+            }
+        }
+        Object body = requestSpec.getBody();
+        if (body != null) {
+            key.append("\n\n").append(body);
+        }
+        return key.toString();
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    /**
+     * Store replayed from, or null when recording
+     */
+    public RecordingStore getStore() {
+        return store;
+    }
+
+    public long getRecordedCount() {
+        return recorded.get();
+    }
+
+    public long getReplayedCount() {
+        return replayed.get();
+    }
+
+    /**
+     * Replayed requests that had no recording
+     */
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    @Override
+    public void close() {
+        if (writer != null) {
+            try {
+                writer.close();
+            } catch (IOException e) {
+                logger.warn("Could not close recording in {}", writer.getDirectory(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.zurich.testsuite.client;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One recorded request/response pair of the policy API
+ *
+ * Binary layout of a record in a recording segment (big-endian):
+ * <pre>
+ * int  magic           0x5A525031
+ * int  length          bytes after this field
+ * long fingerprint     FNV-1a hash of the request key
+ * int  status
+ * long latencyNanos
+ * int  keyLength,     key bytes (UTF-8)
+ * int  headersLength, header bytes ("Name: value" lines, UTF-8)
+ * int  bodyLength,    body bytes
+ * </pre>
+ */
+public final class RecordedExchange {
+
+    static final int MAGIC = 0x5A525031;
+    static final int PREFIX_BYTES = 8;
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final String requestKey;
+    private final int status;
+    private final long latencyNanos;
+    private final Map<String, String> headers;
+    private final byte[] body;
+
+    public RecordedExchange(String requestKey, int status, long latencyNanos, Map<String, String> headers, byte[] body) {
+        this.requestKey = requestKey;
+        this.status = status;
+        this.latencyNanos = latencyNanos;
+        this.headers = Collections.unmodifiableMap(new LinkedHashMap<>(headers));
+        this.body = body;
+    }
+
+    public String getRequestKey() {
+        return requestKey;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public long getLatencyNanos() {
+        return latencyNanos;
+    }
+
+    public Map<String, String> getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Header value by case-insensitive name, or null
+     */
+    public String getHeader(String name) {
+        for (Map.Entry<String, String> header : headers.entrySet()) {
+            if (header.getKey().equalsIgnoreCase(name)) {
+                return header.getValue();
+            }
+        }
+        return null;
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the request key, the index key of the recording store
+     */
+    public static long fingerprint(String requestKey) {
+        long hash = FNV_OFFSET_BASIS;
+        for (byte b : requestKey.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+
+    /**
+     * The complete record, ready to append to a segment
+     */
+    ByteBuffer encode() {
+        byte[] key = requestKey.getBytes(StandardCharsets.UTF_8);
+        StringBuilder headerLines = new StringBuilder();
+        headers.forEach((name, value) -> headerLines.append(name).append(": ").append(value).append('\n'));
+        byte[] headerBytes = headerLines.toString().getBytes(StandardCharsets.UTF_8);
+
+        int length = 8 + 4 + 8 + 4 + key.length + 4 + headerBytes.length + 4 + body.length;
+        ByteBuffer record = ByteBuffer.allocate(PREFIX_BYTES + length);
+        record.putInt(MAGIC).putInt(length)
+                .putLong(fingerprint(requestKey))
+                .putInt(status)
+                .putLong(latencyNanos)
+                .putInt(key.length).put(key)
+                .putInt(headerBytes.length).put(headerBytes)
+                .putInt(body.length).put(body);
+        return record.flip();
+    }
+
+    /**
+     * Request key of the record at the offset, without reading the body
+     */
+    static String readKey(ByteBuffer segment, int offset) {
+        int keyOffset = offset + PREFIX_BYTES + 8 + 4 + 8;
+        return readString(segment, keyOffset + 4, segment.getInt(keyOffset));
+    }
+
+    /**
+     * Record at the offset of a segment; absolute reads only, so segments can be shared between threads
+     */
+    static RecordedExchange read(ByteBuffer segment, int offset) {
+        int position = offset + PREFIX_BYTES + 8;
+        int status = segment.getInt(position);
+        long latencyNanos = segment.getLong(position + 4);
+        position += 12;
+
+        int keyLength = segment.getInt(position);
+        String key = readString(segment, position + 4, keyLength);
+        position += 4 + keyLength;
+
+        int headersLength = segment.getInt(position);
+        Map<String, String> headers = new LinkedHashMap<>();
+        for (String line : readString(segment, position + 4, headersLength).split("\n")) {
+            int colon = line.indexOf(": ");
+            if (colon > 0) {
+                headers.put(line.substring(0, colon), line.substring(colon + 2));
+            }
+        }
+        position += 4 + headersLength;
+
+        byte[] body = new byte[segment.getInt(position)];
+        segment.get(position + 4, body);
+        return new RecordedExchange(key, status, latencyNanos, headers, body);
+    }
+
+    private static String readString(ByteBuffer segment, int offset, int length) {
+        byte[] bytes = new byte[length];
+        segment.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,173 @@
+package com.zurich.testsuite.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Read-only view of a recording directory for replay
+ *
+ * Every segment is memory-mapped once and indexed by request fingerprint, so a lookup is a
+ * hash probe plus a read from the page cache; nothing is held on the heap but the index.
+ * A request recorded several times is replayed round-robin over its recordings, in
+ * recording order. A torn record at the end of a segment (a writer stopped mid-record)
+ * is ignored.
+ */
+public final class RecordingStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(RecordingStore.class);
+
+    private static final String SEGMENT_PREFIX = "recording-";
+    private static final String SEGMENT_SUFFIX = ".rec";
+    private static final Map<Path, RecordingStore> SHARED = new ConcurrentHashMap<>();
+
+    private final Path directory;
+    private final List<ByteBuffer> segments;
+    private final Map<Long, Slot> index;
+    private final int size;
+
+    private static final class Slot {
+
+        private final long[] positions;
+        private final AtomicInteger cursor = new AtomicInteger();
+
+        Slot(long[] positions) {
+            this.positions = positions;
+        }
+    }
+
+    private RecordingStore(Path directory, List<ByteBuffer> segments, Map<Long, Slot> index, int size) {
+        this.directory = directory;
+        this.segments = segments;
+        this.index = index;
+        this.size = size;
+    }
+
+    /**
+     * Maps and indexes all segments of the directory; an empty or missing directory gives an empty store
+     */
+    public static RecordingStore open(Path directory) throws IOException {
+        List<ByteBuffer> segments = new ArrayList<>();
+        Map<Long, List<Long>> positions = new HashMap<>();
+        int size = 0;
+
+        for (Path file : listSegments(directory)) {
+            ByteBuffer segment;
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                segment = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+            int segmentNumber = segments.size();
+            segments.add(segment);
+
+            int offset = 0;
+            int limit = segment.limit();
+            while (offset + RecordedExchange.PREFIX_BYTES + 8 <= limit) {
+                int length = segment.getInt(offset + 4);
+                if (segment.getInt(offset) != RecordedExchange.MAGIC || length < 8
+                        || (long) offset + RecordedExchange.PREFIX_BYTES + length > limit) {
+                    break;
+                }
+                long fingerprint = segment.getLong(offset + RecordedExchange.PREFIX_BYTES);
+                positions.computeIfAbsent(fingerprint, key -> new ArrayList<>())
+                        .add(((long) segmentNumber << 32) | offset);
+                size++;
+                offset += RecordedExchange.PREFIX_BYTES + length;
+            }
+            if (offset < limit) {
+                logger.warn("Ignoring {} bytes after the last complete record of {}", limit - offset, file);
+            }
+        }
+
+        Map<Long, Slot> index = new HashMap<>(positions.size() * 2);
+        positions.forEach((fingerprint, list) ->
+                index.put(fingerprint, new Slot(list.stream().mapToLong(Long::longValue).toArray())));
+        logger.info("Loaded {} recorded responses from {} segment(s) in {}", size, segments.size(), directory);
+        return new RecordingStore(directory, Collections.unmodifiableList(segments), index, size);
+    }
+
+    /**
+     * Store for the directory shared by all clients of this JVM, opened on first use;
+     * segments recorded after that are not seen
+     */
+    public static RecordingStore shared(Path directory) {
+        return SHARED.computeIfAbsent(directory.toAbsolutePath().normalize(), path -> {
+            try {
+                return open(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not open recordings in " + path, e);
+            }
+        });
+    }
+
+    /**
+     * Next recorded exchange for the request key, or null if it was never recorded
+     */
+    public RecordedExchange next(String requestKey) {
+        Slot slot = index.get(RecordedExchange.fingerprint(requestKey));
+        if (slot == null) {
+            return null;
+        }
+        int count = slot.positions.length;
+        int start = Math.floorMod(slot.cursor.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            long position = slot.positions[(start + i) % count];
+            ByteBuffer segment = segments.get((int) (position >>> 32));
+            int offset = (int) position;
+            // Different keys can share a fingerprint
+            if (requestKey.equals(RecordedExchange.readKey(segment, offset))) {
+                return RecordedExchange.read(segment, offset);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Number of recorded exchanges
+     */
+    public int size() {
+        return size;
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    static Path segmentPath(Path directory, int number) {
+        return directory.resolve(String.format("%s%05d%s", SEGMENT_PREFIX, number, SEGMENT_SUFFIX));
+    }
+
+    /**
+     * Segment files of the directory in recording order
+     */
+    static List<Path> listSegments(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return Collections.emptyList();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> {
+                String name = file.getFileName().toString();
+                return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+            }).sorted().collect(Collectors.toList());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.zurich.testsuite.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends recorded exchanges to new segment files of a recording directory
+ *
+ * Existing segments are never modified: each writer creates its own segments, numbered
+ * after the ones already there, and rolls to a new one once a segment reaches
+ * {@code segmentBytes}. Writers of other clients or processes recording into the same
+ * directory therefore never interleave records. The first segment is only created with
+ * the first record.
+ */
+public class RecordingWriter implements AutoCloseable {
+
+    private final Path directory;
+    private final long segmentBytes;
+
+    private FileChannel channel;
+    private long segmentSize;
+    private long recordCount;
+
+    public RecordingWriter(Path directory, long segmentBytes) {
+        if (segmentBytes <= 0 || segmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size must be between 1 byte and 2 GB: " + segmentBytes);
+        }
+        this.directory = directory;
+        this.segmentBytes = segmentBytes;
+    }
+
+    public synchronized void append(RecordedExchange exchange) throws IOException {
+        ByteBuffer record = exchange.encode();
+        if (channel == null || (segmentSize > 0 && segmentSize + record.remaining() > segmentBytes)) {
+            roll();
+        }
+        while (record.hasRemaining()) {
+            segmentSize += channel.write(record);
+        }
+        recordCount++;
+    }
+
+    public synchronized long getRecordCount() {
+        return recordCount;
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    private void roll() throws IOException {
+        close();
+        Files.createDirectories(directory);
+        int number = RecordingStore.listSegments(directory).size();
+        while (true) {
+            try {
+                channel = FileChannel.open(RecordingStore.segmentPath(directory, number),
+                        StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+                segmentSize = 0;
+                return;
+            } catch (FileAlreadyExistsException e) {
+                number++;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+}
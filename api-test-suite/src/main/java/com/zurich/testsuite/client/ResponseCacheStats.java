@@ -0,0 +1,79 @@
+package com.zurich.testsuite.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lookup outcome counters of a PolicyResponseCache
+ *
+ * Hits are served without a request, revalidated hits cost a request but no body
+ * (304 Not Modified), misses download the full response.
+ */
+public class ResponseCacheStats {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong revalidatedHits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    public void recordHit() {
+        hits.incrementAndGet();
+    }
+
+    public void recordRevalidatedHit() {
+        revalidatedHits.incrementAndGet();
+    }
+
+    public void recordMiss() {
+        misses.incrementAndGet();
+    }
+
+    public void recordEviction() {
+        evictions.incrementAndGet();
+    }
+
+    public long getHitCount() {
+        return hits.get();
+    }
+
+    public long getRevalidatedHitCount() {
+        return revalidatedHits.get();
+    }
+
+    public long getMissCount() {
+        return misses.get();
+    }
+
+    public long getEvictionCount() {
+        return evictions.get();
+    }
+
+    public long getRequestCount() {
+        return hits.get() + revalidatedHits.get() + misses.get();
+    }
+
+    /**
+     * Share of lookups answered from the cache, with or without revalidation
+     */
+    public double getHitRatio() {
+        long requests = getRequestCount();
+        return requests == 0 ? 0.0 : (double) (hits.get() + revalidatedHits.get()) / requests;
+    }
+
+    public void reset() {
+        hits.set(0);
+        revalidatedHits.set(0);
+        misses.set(0);
+        evictions.set(0);
+    }
+
+    @Override
+    public String toString() {
+        return "ResponseCacheStats{" +
+                "hits=" + hits.get() +
+                ", revalidatedHits=" + revalidatedHits.get() +
+                ", misses=" + misses.get() +
+                ", evictions=" + evictions.get() +
+                ", hitRatio=" + String.format("%.3f", getHitRatio()) +
+                '}';
+    }
+}
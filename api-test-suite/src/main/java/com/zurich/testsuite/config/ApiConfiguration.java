@@ -20,6 +20,19 @@ public class ApiConfiguration {
     private String environment;
     private int connectionTimeout;
     private int readTimeout;
+    private int maxConnections;
+    private int maxConnectionsPerRoute;
+    private int asyncThreads;
+    private int asyncMaxConcurrentPerHost;
+    private boolean snapshotEnabled;
+    private int snapshotMaxAgeSeconds;
+    private boolean cacheEnabled;
+    private int cacheTtlSeconds;
+    private int cacheMaxEntries;
+    private long cacheMaxBytes;
+    private String replayMode;
+    private String replayDir;
+    private double replayLatencyFactor;
     private boolean enableLogging;
     private String testDataPath;
     
@@ -68,6 +81,29 @@ public class ApiConfiguration {
             this.connectionTimeout = Integer.parseInt(getProperty(props, "api.connection.timeout", "10000"));
             this.readTimeout = Integer.parseInt(getProperty(props, "api.read.timeout", "30000"));
             
+            // Load connection pool settings
+            this.maxConnections = Integer.parseInt(getProperty(props, "api.pool.max.total", "64"));
+            this.maxConnectionsPerRoute = Integer.parseInt(getProperty(props, "api.pool.max.per.route", "64"));
+            
+            // Load async executor settings
+            this.asyncThreads = Integer.parseInt(getProperty(props, "api.async.threads", "32"));
+            this.asyncMaxConcurrentPerHost = Integer.parseInt(getProperty(props, "api.async.max.per.host", "16"));
+            
+            // Load local policy snapshot settings
+            this.snapshotEnabled = Boolean.parseBoolean(getProperty(props, "api.snapshot.enabled", "false"));
+            this.snapshotMaxAgeSeconds = Integer.parseInt(getProperty(props, "api.snapshot.max.age.seconds", "300"));
+            
+            // Load response cache settings
+            this.cacheEnabled = Boolean.parseBoolean(getProperty(props, "api.cache.enabled", "false"));
+            this.cacheTtlSeconds = Integer.parseInt(getProperty(props, "api.cache.ttl.seconds", "60"));
+            this.cacheMaxEntries = Integer.parseInt(getProperty(props, "api.cache.max.entries", "1000"));
+            this.cacheMaxBytes = Long.parseLong(getProperty(props, "api.cache.max.bytes", "16777216"));
+            
+            // Load record/replay settings
+            this.replayMode = getProperty(props, "api.replay.mode", "off");
+            this.replayDir = getProperty(props, "api.replay.dir", "recordings");
+            this.replayLatencyFactor = Double.parseDouble(getProperty(props, "api.replay.latency.factor", "0"));
+            
             // Load other settings
             this.enableLogging = Boolean.parseBoolean(getProperty(props, "api.logging.enabled", "true"));
             this.testDataPath = getProperty(props, "test.data.path", "src/test/resources/data");
@@ -114,6 +150,16 @@ public class ApiConfiguration {
         if (envEnvironment != null) {
             this.environment = envEnvironment;
         }
+        
+        String envCacheEnabled = System.getenv("API_CACHE_ENABLED");
+        if (envCacheEnabled != null) {
+            this.cacheEnabled = Boolean.parseBoolean(envCacheEnabled);
+        }
+        
+        String envReplayMode = System.getenv("API_REPLAY_MODE");
+        if (envReplayMode != null) {
+            this.replayMode = envReplayMode;
+        }
     }
     
     /**
@@ -124,6 +170,19 @@ public class ApiConfiguration {
         this.baseUrl = "http://localhost:8080";
         this.connectionTimeout = 10000;
         this.readTimeout = 30000;
+        this.maxConnections = 64;
+        this.maxConnectionsPerRoute = 64;
+        this.asyncThreads = 32;
+        this.asyncMaxConcurrentPerHost = 16;
+        this.snapshotEnabled = false;
+        this.snapshotMaxAgeSeconds = 300;
+        this.cacheEnabled = false;
+        this.cacheTtlSeconds = 60;
+        this.cacheMaxEntries = 1000;
+        this.cacheMaxBytes = 16L * 1024 * 1024;
+        this.replayMode = "off";
+        this.replayDir = "recordings";
+        this.replayLatencyFactor = 0;
         this.enableLogging = true;
         this.testDataPath = "src/test/resources/data";
     }
@@ -202,6 +261,110 @@ public class ApiConfiguration {
         this.readTimeout = readTimeout;
     }
     
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+    
+    public void setMaxConnections(int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+    
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+    
+    public void setMaxConnectionsPerRoute(int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    }
+    
+    public int getAsyncThreads() {
+        return asyncThreads;
+    }
+    
+    public void setAsyncThreads(int asyncThreads) {
+        this.asyncThreads = asyncThreads;
+    }
+    
+    public int getAsyncMaxConcurrentPerHost() {
+        return asyncMaxConcurrentPerHost;
+    }
+    
+    public void setAsyncMaxConcurrentPerHost(int asyncMaxConcurrentPerHost) {
+        this.asyncMaxConcurrentPerHost = asyncMaxConcurrentPerHost;
+    }
+    
+    public boolean isSnapshotEnabled() {
+        return snapshotEnabled;
+    }
+    
+    public void setSnapshotEnabled(boolean snapshotEnabled) {
+        this.snapshotEnabled = snapshotEnabled;
+    }
+    
+    public int getSnapshotMaxAgeSeconds() {
+        return snapshotMaxAgeSeconds;
+    }
+    
+    public void setSnapshotMaxAgeSeconds(int snapshotMaxAgeSeconds) {
+        this.snapshotMaxAgeSeconds = snapshotMaxAgeSeconds;
+    }
+    
+    public boolean isCacheEnabled() {
+        return cacheEnabled;
+    }
+    
+    public void setCacheEnabled(boolean cacheEnabled) {
+        this.cacheEnabled = cacheEnabled;
+    }
+    
+    public int getCacheTtlSeconds() {
+        return cacheTtlSeconds;
+    }
+    
+    public void setCacheTtlSeconds(int cacheTtlSeconds) {
+        this.cacheTtlSeconds = cacheTtlSeconds;
+    }
+    
+    public int getCacheMaxEntries() {
+        return cacheMaxEntries;
+    }
+    
+    public void setCacheMaxEntries(int cacheMaxEntries) {
+        this.cacheMaxEntries = cacheMaxEntries;
+    }
+    
+    public long getCacheMaxBytes() {
+        return cacheMaxBytes;
+    }
+    
+    public void setCacheMaxBytes(long cacheMaxBytes) {
+        this.cacheMaxBytes = cacheMaxBytes;
+    }
+    
+    public String getReplayMode() {
+        return replayMode;
+    }
+    
+    public void setReplayMode(String replayMode) {
+        this.replayMode = replayMode;
+    }
+    
+    public String getReplayDir() {
+        return replayDir;
+    }
+    
+    public void setReplayDir(String replayDir) {
+        this.replayDir = replayDir;
+    }
+    
+    public double getReplayLatencyFactor() {
+        return replayLatencyFactor;
+    }
+    
+    public void setReplayLatencyFactor(double replayLatencyFactor) {
+        this.replayLatencyFactor = replayLatencyFactor;
+    }
+    
     public boolean isEnableLogging() {
         return enableLogging;
     }
@@ -290,6 +453,19 @@ public class ApiConfiguration {
                 ", hasBearerToken=" + hasBearerToken() +
                 ", connectionTimeout=" + connectionTimeout +
                 ", readTimeout=" + readTimeout +
+                ", maxConnections=" + maxConnections +
+                ", maxConnectionsPerRoute=" + maxConnectionsPerRoute +
+                ", asyncThreads=" + asyncThreads +
+                ", asyncMaxConcurrentPerHost=" + asyncMaxConcurrentPerHost +
+                ", snapshotEnabled=" + snapshotEnabled +
+                ", snapshotMaxAgeSeconds=" + snapshotMaxAgeSeconds +
+                ", cacheEnabled=" + cacheEnabled +
+                ", cacheTtlSeconds=" + cacheTtlSeconds +
+                ", cacheMaxEntries=" + cacheMaxEntries +
+                ", cacheMaxBytes=" + cacheMaxBytes +
+                ", replayMode='" + replayMode + '\'' +
+                ", replayDir='" + replayDir + '\'' +
+                ", replayLatencyFactor=" + replayLatencyFactor +
                 ", enableLogging=" + enableLogging +
                 '}';
     }
@@ -1,11 +1,14 @@
 package com.zurich.testsuite.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 import java.util.List;
 
 /**
  * API Response wrapper for policy list operations
  * Standardizes API response format across all endpoints
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class PolicyApiResponse {
     
     private boolean success;
@@ -140,6 +143,7 @@ public class PolicyApiResponse {
     /**
      * Inner class for pagination information
      */
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public static class PaginationInfo {
         private int page;
         private int size;
@@ -1,9 +1,14 @@
 package com.zurich.testsuite.model;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+
 /**
  * Policy Summary model for Selenium test framework
  * Represents a simplified view of policy information for testing purposes
+ * Bound directly from API responses; MuleSoft field names are accepted as aliases.
  */
+@JsonIgnoreProperties(ignoreUnknown = true)
 public class PolicySummary {
     
     private String policyNumber;
@@ -83,6 +88,7 @@ public class PolicySummary {
         return productType;
     }
     
+    @JsonAlias("policyType")
     public void setProductType(String productType) {
         this.productType = productType;
     }
@@ -108,6 +114,7 @@ public class PolicySummary {
         return effectiveDate;
     }
     
+    @JsonAlias("startDate")
     public void setEffectiveDate(String effectiveDate) {
         this.effectiveDate = effectiveDate;
     }
@@ -116,6 +123,7 @@ public class PolicySummary {
         return expirationDate;
     }
     
+    @JsonAlias("endDate")
     public void setExpirationDate(String expirationDate) {
         this.expirationDate = expirationDate;
     }
@@ -140,6 +148,7 @@ public class PolicySummary {
         return isActive;
     }
     
+    @JsonAlias("isActive")
     public void setActive(boolean active) {
         isActive = active;
     }
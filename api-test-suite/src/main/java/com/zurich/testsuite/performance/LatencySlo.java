@@ -0,0 +1,113 @@
+package com.zurich.testsuite.performance;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Latency SLO of one endpoint: percentile limits and a maximum error rate, e.g.
+ * <pre>
+ * LatencySlo.forEndpoint("policy-by-email")
+ *         .percentileBelow(95, Duration.ofMillis(200))
+ *         .percentileBelow(99.9, Duration.ofSeconds(1))
+ *         .errorRateBelow(0.001)
+ *         .minSamples(1000);
+ * </pre>
+ * Limits are exclusive: p95 below 200ms fails when the 95th percentile is 200ms or more.
+ * A high percentile needs enough samples to mean anything (p99.9 needs at least 1000),
+ * so set {@link #minSamples(long)} accordingly; fewer samples fail the SLO.
+ */
+public final class LatencySlo {
+
+    private final String endpoint;
+    private final Map<Double, Duration> percentileLimits = new TreeMap<>();
+    private double maxErrorRate = -1;
+    private long minSamples = 1;
+
+    private LatencySlo(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public static LatencySlo forEndpoint(String endpoint) {
+        if (endpoint == null || endpoint.isBlank()) {
+            throw new IllegalArgumentException("Endpoint must not be empty");
+        }
+        return new LatencySlo(endpoint);
+    }
+
+    /**
+     * The given percentile (0-100, e.g. 99.9) of all sampled calls must be below the limit
+     */
+    public LatencySlo percentileBelow(double percentile, Duration limit) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in (0, 100]: " + percentile);
+        }
+        if (limit == null || limit.isNegative() || limit.isZero()) {
+            throw new IllegalArgumentException("Limit must be positive: " + limit);
+        }
+        percentileLimits.put(percentile, limit);
+        return this;
+    }
+
+    /**
+     * Share of failed calls (0-1, e.g. 0.001 for 0.1%) must be below the rate
+     */
+    public LatencySlo errorRateBelow(double rate) {
+        if (rate <= 0 || rate > 1) {
+            throw new IllegalArgumentException("Error rate must be in (0, 1]: " + rate);
+        }
+        this.maxErrorRate = rate;
+        return this;
+    }
+
+    /**
+     * Fewest sampled calls, after warm-up, the SLO is evaluated on
+     */
+    public LatencySlo minSamples(long minSamples) {
+        if (minSamples < 1) {
+            throw new IllegalArgumentException("Minimum samples must be at least 1: " + minSamples);
+        }
+        this.minSamples = minSamples;
+        return this;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public Map<Double, Duration> getPercentileLimits() {
+        return Collections.unmodifiableMap(percentileLimits);
+    }
+
+    public boolean hasErrorRateLimit() {
+        return maxErrorRate > 0;
+    }
+
+    public double getMaxErrorRate() {
+        return maxErrorRate;
+    }
+
+    public long getMinSamples() {
+        return minSamples;
+    }
+
+    /**
+     * Checks the SLO against the calls the sampler recorded for this endpoint
+     */
+    public SloResult evaluate(SloSampler sampler) {
+        return SloResult.evaluate(this, sampler.getHistogram(endpoint), sampler.getErrorCount(endpoint));
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder description = new StringBuilder(endpoint).append(':');
+        percentileLimits.forEach((percentile, limit) ->
+                description.append(' ').append(SloResult.percentileLabel(percentile))
+                        .append(" < ").append(limit.toMillis()).append("ms"));
+        if (hasErrorRateLimit()) {
+            description.append(" errors < ").append(SloResult.percent(maxErrorRate));
+        }
+        return description.toString();
+    }
+}
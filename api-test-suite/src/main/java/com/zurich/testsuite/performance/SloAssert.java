@@ -0,0 +1,93 @@
+package com.zurich.testsuite.performance;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import com.zurich.testsuite.reporting.ExtentReportManager;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TestNG assertions on latency SLOs
+ * <pre>
+ * SloSampler sampler = new SloSampler(100);
+ * sampler.sample("policy-by-email", 1000, i -&gt; client.getPoliciesByEmail("user" + i + "@example.com"));
+ * SloAssert.assertSlo(sampler, LatencySlo.forEndpoint("policy-by-email")
+ *         .percentileBelow(95, Duration.ofMillis(200))
+ *         .errorRateBelow(0.001));
+ * </pre>
+ * Every evaluation is written to the Extent report as a test named after the calling
+ * TestNG method, with a table of limits and measured values, and to the TestNG reporter log.
+ * A violated SLO fails with an AssertionError whose message, like the Extent entry,
+ * includes the latency histogram of the sampled window.
+ */
+public final class SloAssert {
+
+    private SloAssert() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    public static void assertSlo(SloSampler sampler, LatencySlo... slos) {
+        List<SloResult> results = new ArrayList<>();
+        for (LatencySlo slo : slos) {
+            results.add(slo.evaluate(sampler));
+        }
+        assertSlo(results);
+    }
+
+    /**
+     * Reports already evaluated SLOs, then fails if any was violated
+     */
+    public static void assertSlo(List<SloResult> results) {
+        report(results);
+
+        StringBuilder message = new StringBuilder();
+        for (SloResult result : results) {
+            if (!result.isPassed()) {
+                message.append("SLO violated for ").append(result.getEndpoint()).append(": ")
+                        .append(String.join("; ", result.getViolations()))
+                        .append(System.lineSeparator())
+                        .append(result.histogramText());
+            }
+        }
+        if (message.length() > 0) {
+            throw new AssertionError(message.toString());
+        }
+    }
+
+    private static void report(List<SloResult> results) {
+        ExtentTest test = ExtentReportManager.createTest(currentTestName() + " - latency SLO",
+                "Latency SLOs over the sampled window, warm-up calls excluded");
+        test.assignCategory("performance");
+
+        for (SloResult result : results) {
+            String[][] table = new String[result.getChecks().size() + 1][];
+            table[0] = new String[] {"Check", "Limit", "Actual", "Result"};
+            for (int i = 0; i < result.getChecks().size(); i++) {
+                SloResult.Check check = result.getChecks().get(i);
+                table[i + 1] = new String[] {check.getName(), check.getLimit(), check.getActual(),
+                        check.isPassed() ? "PASS" : "FAIL"};
+            }
+
+            ExtentTest node = test.createNode(result.getEndpoint());
+            if (result.isPassed()) {
+                node.pass(MarkupHelper.createTable(table));
+            } else {
+                node.fail(MarkupHelper.createTable(table));
+                node.fail(MarkupHelper.createCodeBlock(result.histogramText()));
+            }
+            Reporter.log(result + " over " + result.getSampleCount() + " calls");
+        }
+        ExtentReportManager.flush();
+    }
+
+    private static String currentTestName() {
+        ITestResult current = Reporter.getCurrentTestResult();
+        if (current == null) {
+            return "Latency SLO";
+        }
+        return current.getTestClass().getRealClass().getSimpleName() + "." + current.getMethod().getMethodName();
+    }
+}
@@ -0,0 +1,178 @@
+package com.zurich.testsuite.performance;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.HistogramIterationValue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Outcome of evaluating one LatencySlo: one check per limit, with the latency histogram of the window
+ */
+public final class SloResult {
+
+    private static final double[] SUMMARY_PERCENTILES = {50, 90, 95, 99, 99.9};
+    private static final int BAR_WIDTH = 40;
+
+    private final LatencySlo slo;
+    private final Histogram histogram;
+    private final long errors;
+    private final List<Check> checks;
+
+    private SloResult(LatencySlo slo, Histogram histogram, long errors, List<Check> checks) {
+        this.slo = slo;
+        this.histogram = histogram;
+        this.errors = errors;
+        this.checks = checks;
+    }
+
+    /**
+     * One limit of the SLO with the measured value
+     */
+    public static final class Check {
+
+        private final String name;
+        private final String limit;
+        private final String actual;
+        private final boolean passed;
+
+        Check(String name, String limit, String actual, boolean passed) {
+            this.name = name;
+            this.limit = limit;
+            this.actual = actual;
+            this.passed = passed;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getLimit() {
+            return limit;
+        }
+
+        public String getActual() {
+            return actual;
+        }
+
+        public boolean isPassed() {
+            return passed;
+        }
+    }
+
+    static SloResult evaluate(LatencySlo slo, Histogram histogram, long errors) {
+        long samples = histogram.getTotalCount();
+        List<Check> checks = new ArrayList<>();
+        checks.add(new Check("samples", ">= " + slo.getMinSamples(), String.valueOf(samples),
+                samples >= slo.getMinSamples()));
+
+        for (Map.Entry<Double, Duration> entry : slo.getPercentileLimits().entrySet()) {
+            long limitMicros = entry.getValue().toNanos() / 1000;
+            long actualMicros = histogram.getValueAtPercentile(entry.getKey());
+            checks.add(new Check(percentileLabel(entry.getKey()), "< " + millis(limitMicros), millis(actualMicros),
+                    samples > 0 && actualMicros < limitMicros));
+        }
+
+        if (slo.hasErrorRateLimit()) {
+            double errorRate = samples == 0 ? 0 : (double) errors / samples;
+            checks.add(new Check("error rate", "< " + percent(slo.getMaxErrorRate()),
+                    percent(errorRate) + " (" + errors + "/" + samples + ")",
+                    errorRate < slo.getMaxErrorRate()));
+        }
+        return new SloResult(slo, histogram, errors, Collections.unmodifiableList(checks));
+    }
+
+    public LatencySlo getSlo() {
+        return slo;
+    }
+
+    public String getEndpoint() {
+        return slo.getEndpoint();
+    }
+
+    public long getSampleCount() {
+        return histogram.getTotalCount();
+    }
+
+    public long getErrorCount() {
+        return errors;
+    }
+
+    public Histogram getHistogram() {
+        return histogram;
+    }
+
+    public List<Check> getChecks() {
+        return checks;
+    }
+
+    public boolean isPassed() {
+        return checks.stream().allMatch(Check::isPassed);
+    }
+
+    /**
+     * One line per failed check, e.g. "p95 380.00ms, limit < 200.00ms"
+     */
+    public List<String> getViolations() {
+        List<String> violations = new ArrayList<>();
+        for (Check check : checks) {
+            if (!check.isPassed()) {
+                violations.add(check.getName() + " " + check.getActual() + ", limit " + check.getLimit());
+            }
+        }
+        return violations;
+    }
+
+    /**
+     * Latency histogram as text: summary percentiles, then call counts in doubling
+     * buckets from 1ms up, with a bar per bucket
+     */
+    public String histogramText() {
+        StringBuilder text = new StringBuilder();
+        text.append(String.format(Locale.ROOT, "%s: %d calls, %d errors%n", getEndpoint(), getSampleCount(), errors));
+        if (histogram.getTotalCount() == 0) {
+            return text.toString();
+        }
+        for (double percentile : SUMMARY_PERCENTILES) {
+            text.append(String.format(Locale.ROOT, "  %-6s %12s%n",
+                    percentileLabel(percentile), millis(histogram.getValueAtPercentile(percentile))));
+        }
+        text.append(String.format(Locale.ROOT, "  %-6s %12s%n", "max", millis(histogram.getMaxValue())));
+        text.append(System.lineSeparator());
+
+        long maxBucket = 1;
+        for (HistogramIterationValue bucket : histogram.logarithmicBucketValues(1000, 2)) {
+            maxBucket = Math.max(maxBucket, bucket.getCountAddedInThisIterationStep());
+        }
+        for (HistogramIterationValue bucket : histogram.logarithmicBucketValues(1000, 2)) {
+            long count = bucket.getCountAddedInThisIterationStep();
+            int bar = (int) Math.ceil((double) count * BAR_WIDTH / maxBucket);
+            text.append(String.format(Locale.ROOT, "  <= %10s %8d |%s%n",
+                    millis(bucket.getValueIteratedTo()), count, "#".repeat(bar)));
+        }
+        return text.toString();
+    }
+
+    @Override
+    public String toString() {
+        return (isPassed() ? "PASSED " : "FAILED ") + slo;
+    }
+
+    static String percentileLabel(double percentile) {
+        return percentile == Math.rint(percentile)
+                ? "p" + (long) percentile
+                : "p" + String.valueOf(percentile);
+    }
+
+    static String percent(double rate) {
+        return String.format(Locale.ROOT, "%.3f%%", rate * 100);
+    }
+
+    private static String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2fms", micros / 1000.0);
+    }
+}
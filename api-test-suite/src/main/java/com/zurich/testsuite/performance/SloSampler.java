@@ -0,0 +1,122 @@
+package com.zurich.testsuite.performance;
+
+import com.zurich.testsuite.model.PolicyApiResponse;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+
+/**
+ * Records latency and outcome of PolicyApiClient calls per endpoint, for evaluation against LatencySlos
+ *
+ * The first {@code warmupCalls} calls of each endpoint are made but not recorded, so JIT
+ * compilation, connection setup and cold caches do not count against the SLO. Every later
+ * call is part of the sampled window, failed ones included: a response that is not
+ * {@link PolicyApiResponse#isSuccess()} or an exception counts as an error.
+ * Safe to use from several threads.
+ */
+public class SloSampler {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final int warmupCalls;
+    private final Map<String, EndpointSamples> endpoints = new ConcurrentHashMap<>();
+
+    public SloSampler(int warmupCalls) {
+        if (warmupCalls < 0) {
+            throw new IllegalArgumentException("Warm-up calls must not be negative: " + warmupCalls);
+        }
+        this.warmupCalls = warmupCalls;
+    }
+
+    private static final class EndpointSamples {
+
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final Histogram histogram = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+
+        void record(long micros, boolean success) {
+            synchronized (histogram) {
+                histogram.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+            }
+            if (!success) {
+                errors.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Makes one call and records it against the endpoint, unless it is a warm-up call
+     */
+    public PolicyApiResponse measure(String endpoint, Supplier<PolicyApiResponse> call) {
+        EndpointSamples samples = endpoints.computeIfAbsent(endpoint, name -> new EndpointSamples());
+        boolean warmup = samples.calls.incrementAndGet() <= warmupCalls;
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            PolicyApiResponse response = call.get();
+            success = response != null && response.isSuccess();
+            return response;
+        } finally {
+            if (!warmup) {
+                samples.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - start), success);
+            }
+        }
+    }
+
+    /**
+     * Makes {@code calls} sampled calls after the warm-up ones, passing each its sequence number,
+     * e.g. to pick a different lookup key per call
+     */
+    public void sample(String endpoint, int calls, IntFunction<PolicyApiResponse> call) {
+        int total = warmupCalls + calls;
+        for (int i = 0; i < total; i++) {
+            int sequence = i;
+            measure(endpoint, () -> call.apply(sequence));
+        }
+    }
+
+    /**
+     * Copy of the latency histogram of the sampled calls, in microseconds
+     */
+    public Histogram getHistogram(String endpoint) {
+        EndpointSamples samples = endpoints.get(endpoint);
+        if (samples == null) {
+            return new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        }
+        synchronized (samples.histogram) {
+            return samples.histogram.copy();
+        }
+    }
+
+    public long getSampleCount(String endpoint) {
+        return getHistogram(endpoint).getTotalCount();
+    }
+
+    public long getErrorCount(String endpoint) {
+        EndpointSamples samples = endpoints.get(endpoint);
+        return samples == null ? 0 : samples.errors.get();
+    }
+
+    public int getWarmupCalls() {
+        return warmupCalls;
+    }
+
+    public Set<String> getEndpoints() {
+        return new TreeSet<>(endpoints.keySet());
+    }
+
+    /**
+     * Drops all samples; the next calls of every endpoint are warm-up calls again
+     */
+    public void reset() {
+        endpoints.clear();
+    }
+}
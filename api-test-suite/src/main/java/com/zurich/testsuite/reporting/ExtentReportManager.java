@@ -0,0 +1,88 @@
+package com.zurich.testsuite.reporting;
+
+import com.aventstack.extentreports.ExtentReports;
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.reporter.ExtentSparkReporter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+
+/**
+ * Shared ExtentReports instance writing the Spark report configured in extent.properties
+ * (extent.reporter.spark.out, by default test-output/extent-reports/TestReport.html)
+ *
+ * Created on first use; {@link #flush()} writes everything logged so far to the report file.
+ */
+public final class ExtentReportManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExtentReportManager.class);
+
+    private static final String PROPERTIES_FILE = "extent.properties";
+    private static final String DEFAULT_REPORT_FILE = "test-output/extent-reports/TestReport.html";
+
+    private static ExtentReports extent;
+
+    private ExtentReportManager() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    public static synchronized ExtentReports getInstance() {
+        if (extent == null) {
+            extent = create(loadProperties());
+        }
+        return extent;
+    }
+
+    public static synchronized ExtentTest createTest(String name, String description) {
+        return getInstance().createTest(name, description);
+    }
+
+    public static synchronized void flush() {
+        if (extent != null) {
+            extent.flush();
+        }
+    }
+
+    private static ExtentReports create(Properties props) {
+        String reportFile = props.getProperty("extent.reporter.spark.out", DEFAULT_REPORT_FILE);
+        ExtentSparkReporter spark = new ExtentSparkReporter(reportFile);
+
+        String configFile = props.getProperty("extent.reporter.spark.config");
+        if (configFile != null && Files.exists(Path.of(configFile))) {
+            try {
+                spark.loadXMLConfig(configFile);
+            } catch (IOException e) {
+                logger.warn("Could not load Extent report config {}", configFile, e);
+            }
+        }
+        spark.config().setDocumentTitle(props.getProperty("extent.reporter.spark.title", "Test Automation Report"));
+        spark.config().setReportName(props.getProperty("extent.reporter.spark.reportname", "API Test Results"));
+
+        ExtentReports reports = new ExtentReports();
+        reports.attachReporter(spark);
+        for (String key : props.stringPropertyNames()) {
+            if (key.startsWith("systeminfo.")) {
+                reports.setSystemInfo(key.substring("systeminfo.".length()), props.getProperty(key));
+            }
+        }
+        logger.info("Extent report: {}", reportFile);
+        return reports;
+    }
+
+    private static Properties loadProperties() {
+        Properties props = new Properties();
+        try (InputStream input = ExtentReportManager.class.getClassLoader().getResourceAsStream(PROPERTIES_FILE)) {
+            if (input != null) {
+                props.load(input);
+            }
+        } catch (IOException e) {
+            logger.warn("Could not read {}, using the default report location", PROPERTIES_FILE, e);
+        }
+        return props;
+    }
+}
@@ -0,0 +1,142 @@
+package com.zurich.testsuite.service;
+
+import com.zurich.testsuite.model.PolicySummary;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Asynchronous variant of {@link GetPolicyList} for bulk lookups such as reconciliation jobs
+ * Calls run on a bounded executor with a concurrency limit per API host.
+ * Cancelling a returned future cancels the calls that have not completed yet.
+ */
+public interface AsyncGetPolicyList extends AutoCloseable {
+
+    /**
+     * Get all policies for a customer
+     * @param customerId The customer identifier
+     * @return Future list of policy summaries
+     */
+    CompletableFuture<List<PolicySummary>> getPoliciesByCustomerId(String customerId);
+
+    /**
+     * Get policies for a customer with pagination
+     * @param customerId The customer identifier
+     * @param page Page number (0-based)
+     * @param size Page size
+     * @return Future list of policy summaries for the specified page
+     */
+    CompletableFuture<List<PolicySummary>> getPoliciesByCustomerId(String customerId, int page, int size);
+
+    /**
+     * Get policy by policy number
+     * @param policyNumber The policy number
+     * @return Future optional policy summary
+     */
+    CompletableFuture<Optional<PolicySummary>> getPolicyByNumber(String policyNumber);
+
+    /**
+     * Get policies by email address
+     * @param email The customer email address
+     * @return Future list of policy summaries
+     */
+    CompletableFuture<List<PolicySummary>> getPoliciesByEmail(String email);
+
+    /**
+     * Get policies by email address with pagination
+     * @param email The customer email address
+     * @param page Page number (0-based)
+     * @param size Page size
+     * @return Future list of policy summaries for the specified page
+     */
+    CompletableFuture<List<PolicySummary>> getPoliciesByEmail(String email, int page, int size);
+
+    /**
+     * Get policies by status
+     * @param status The policy status (ACTIVE, EXPIRED, CANCELLED, etc.)
+     * @return Future list of policy summaries
+     */
+    CompletableFuture<List<PolicySummary>> getPoliciesByStatus(String status);
+
+    /**
+     * Get active policies with pagination
+     * @param page Page number (0-based)
+     * @param size Page size
+     * @return Future list of active policy summaries for the specified page
+     */
+    CompletableFuture<List<PolicySummary>> getActivePolicies(int page, int size);
+
+    /**
+     * Search policies by partial policy number or customer name
+     * @param searchTerm The search term
+     * @return Future list of matching policy summaries
+     */
+    CompletableFuture<List<PolicySummary>> searchPolicies(String searchTerm);
+
+    /**
+     * Search policies with pagination
+     * @param searchTerm The search term
+     * @param page Page number (0-based)
+     * @param size Page size
+     * @return Future list of matching policy summaries for the specified page
+     */
+    CompletableFuture<List<PolicySummary>> searchPolicies(String searchTerm, int page, int size);
+
+    /**
+     * Check if policy exists and is active
+     * @param policyNumber The policy number
+     * @return Future true if policy exists and is active
+     */
+    CompletableFuture<Boolean> isPolicyActive(String policyNumber);
+
+    /**
+     * Validate policy accessibility for a customer
+     * @param policyNumber The policy number
+     * @param customerId The customer identifier
+     * @return Future true if customer has access to the policy
+     */
+    CompletableFuture<Boolean> validatePolicyAccess(String policyNumber, String customerId);
+
+    /**
+     * Look up policies for many email addresses
+     * @param emails The customer email addresses
+     * @return Future map of email to policies, in the iteration order of the input
+     */
+    CompletableFuture<Map<String, List<PolicySummary>>> getPoliciesByEmails(Collection<String> emails);
+
+    /**
+     * Look up policies for many customers
+     * @param customerIds The customer identifiers
+     * @return Future map of customer ID to policies, in the iteration order of the input
+     */
+    CompletableFuture<Map<String, List<PolicySummary>>> getPoliciesByCustomerIds(Collection<String> customerIds);
+
+    /**
+     * Run one lookup per key and collect the results in input order
+     * @param keys The lookup keys
+     * @param lookup Async lookup for a single key, usually a method of this interface
+     * @return Future map of key to result, in the iteration order of the input
+     */
+    <K, R> CompletableFuture<Map<K, R>> lookupAll(Collection<K> keys, Function<K, CompletableFuture<R>> lookup);
+
+    /**
+     * Run one lookup per key and hand each result over as soon as it completes
+     * The callback is never invoked concurrently, so it does not need to be thread-safe.
+     * @param keys The lookup keys
+     * @param lookup Async lookup for a single key, usually a method of this interface
+     * @param onResult Callback receiving each key and its result, in completion order
+     * @return Future completing when every lookup has been handed over
+     */
+    <K, R> CompletableFuture<Void> lookupEach(Collection<K> keys, Function<K, CompletableFuture<R>> lookup,
+                                              BiConsumer<K, R> onResult);
+
+    /**
+     * Release the executor and HTTP connections owned by this service
+     */
+    @Override
+    void close();
+}
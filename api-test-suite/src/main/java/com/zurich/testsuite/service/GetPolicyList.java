@@ -3,6 +3,7 @@ package com.zurich.testsuite.service;
 import com.zurich.testsuite.model.PolicySummary;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Service interface for retrieving policy lists and policy-related data in Selenium test framework
@@ -10,6 +11,16 @@ import java.util.Optional;
  */
 public interface GetPolicyList {
     
+    /**
+     * Largest page size the paginated methods accept
+     */
+    int MAX_PAGE_SIZE = 100;
+    
+    /**
+     * Pages fetched ahead of the one being consumed by the stream methods
+     */
+    int DEFAULT_PREFETCH_PAGES = 2;
+    
     /**
      * Get all policies for a customer
      * @param customerId The customer identifier
@@ -143,4 +154,82 @@ public interface GetPolicyList {
      * @return List of policies expiring within the specified days
      */
     List<PolicySummary> getPoliciesExpiringSoon(int days);
+    
+    /**
+     * Stream all policies for an email address, fetching pages lazily with prefetch
+     * Close the stream (try-with-resources) to cancel outstanding prefetches.
+     * The default stream methods page through the paginated methods, so an implementation whose
+     * paginated methods return an empty list on errors should override them with a fetcher that
+     * throws (see {@link PolicyPageIterator.PageFetcher}).
+     * @param email The customer email address
+     * @param pageSize Page size (1 to MAX_PAGE_SIZE)
+     * @return Lazy stream of policy summaries
+     */
+    default Stream<PolicySummary> streamPoliciesByEmail(String email, int pageSize) {
+        return streamPoliciesByEmail(email, pageSize, DEFAULT_PREFETCH_PAGES);
+    }
+    
+    /**
+     * Stream all policies for an email address with a custom prefetch depth
+     * @param email The customer email address
+     * @param pageSize Page size (1 to MAX_PAGE_SIZE)
+     * @param maxInFlightPages Maximum pages requested ahead of the one being consumed
+     * @return Lazy stream of policy summaries
+     */
+    default Stream<PolicySummary> streamPoliciesByEmail(String email, int pageSize, int maxInFlightPages) {
+        return PolicyPageIterator.stream((page, size) -> getPoliciesByEmail(email, page, size),
+                checkedPageSize(pageSize), maxInFlightPages);
+    }
+    
+    /**
+     * Stream all policies for a customer, fetching pages lazily with prefetch
+     * @param customerId The customer identifier
+     * @param pageSize Page size (1 to MAX_PAGE_SIZE)
+     * @return Lazy stream of policy summaries
+     */
+    default Stream<PolicySummary> streamPoliciesByCustomerId(String customerId, int pageSize) {
+        return PolicyPageIterator.stream((page, size) -> getPoliciesByCustomerId(customerId, page, size),
+                checkedPageSize(pageSize), DEFAULT_PREFETCH_PAGES);
+    }
+    
+    /**
+     * Stream all active policies, fetching pages lazily with prefetch
+     * @param pageSize Page size (1 to MAX_PAGE_SIZE)
+     * @return Lazy stream of active policy summaries
+     */
+    default Stream<PolicySummary> streamActivePolicies(int pageSize) {
+        return streamActivePolicies(pageSize, DEFAULT_PREFETCH_PAGES);
+    }
+    
+    /**
+     * Stream all active policies with a custom prefetch depth
+     * @param pageSize Page size (1 to MAX_PAGE_SIZE)
+     * @param maxInFlightPages Maximum pages requested ahead of the one being consumed
+     * @return Lazy stream of active policy summaries
+     */
+    default Stream<PolicySummary> streamActivePolicies(int pageSize, int maxInFlightPages) {
+        return PolicyPageIterator.stream(this::getActivePolicies, checkedPageSize(pageSize), maxInFlightPages);
+    }
+    
+    /**
+     * Stream all policies matching a search term, fetching pages lazily with prefetch
+     * @param searchTerm The search term
+     * @param pageSize Page size (1 to MAX_PAGE_SIZE)
+     * @return Lazy stream of matching policy summaries
+     */
+    default Stream<PolicySummary> streamSearchResults(String searchTerm, int pageSize) {
+        return PolicyPageIterator.stream((page, size) -> searchPolicies(searchTerm, page, size),
+                checkedPageSize(pageSize), DEFAULT_PREFETCH_PAGES);
+    }
+    
+    /**
+     * The paginated methods silently fall back to a default size, which would end a stream early
+     * @throws IllegalArgumentException if the page size is not between 1 and MAX_PAGE_SIZE
+     */
+    static int checkedPageSize(int pageSize) {
+        if (pageSize <= 0 || pageSize > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE + ": " + pageSize);
+        }
+        return pageSize;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.zurich.testsuite.service;
+
+import com.zurich.testsuite.model.PolicySummary;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily iterates over paged policy results, prefetching the following pages in the background
+ *
+ * At most {@code maxInFlightPages} pages are requested ahead of the page being consumed,
+ * so memory stays bounded by (maxInFlightPages + 1) * pageSize policies whatever the total.
+ * A page shorter than the page size ends the iteration. Closing the iterator (or the stream
+ * returned by {@link #stream}) cancels the outstanding prefetches.
+ */
+public class PolicyPageIterator implements Iterator<PolicySummary>, AutoCloseable {
+
+    /**
+     * Fetches one page of policies, e.g. {@code (page, size) -> requirePolicies(client.getActivePolicies(page, size))}
+     *
+     * A short page ends the iteration, so a page that cannot be fetched must throw rather than
+     * come back empty; the exception is rethrown to the consumer.
+     */
+    @FunctionalInterface
+    public interface PageFetcher {
+        List<PolicySummary> fetch(int page, int size);
+    }
+
+    private static final ExecutorService PREFETCH_EXECUTOR = Executors.newCachedThreadPool(new DaemonThreadFactory());
+
+    private final PageFetcher fetcher;
+    private final int pageSize;
+    private final int maxInFlightPages;
+    private final Deque<CompletableFuture<List<PolicySummary>>> inFlight = new ArrayDeque<>();
+
+    private Iterator<PolicySummary> current = Collections.emptyIterator();
+    private int nextPage;
+    private boolean lastPageSeen;
+    private boolean closed;
+
+    public PolicyPageIterator(PageFetcher fetcher, int pageSize, int maxInFlightPages) {
+        if (pageSize <= 0 || maxInFlightPages <= 0) {
+            throw new IllegalArgumentException("pageSize and maxInFlightPages must be positive");
+        }
+        this.fetcher = fetcher;
+        this.pageSize = pageSize;
+        this.maxInFlightPages = maxInFlightPages;
+    }
+
+    /**
+     * Sequential, ordered stream over all pages; close it to cancel outstanding prefetches
+     */
+    public static Stream<PolicySummary> stream(PageFetcher fetcher, int pageSize, int maxInFlightPages) {
+        PolicyPageIterator iterator = new PolicyPageIterator(fetcher, pageSize, maxInFlightPages);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                        Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (closed) {
+                return false;
+            }
+            requestPages();
+            CompletableFuture<List<PolicySummary>> page = inFlight.poll();
+            if (page == null) {
+                return false;
+            }
+
+            List<PolicySummary> policies = await(page);
+            if (policies.size() < pageSize) {
+                // Short page: nothing after it, drop pages requested beyond the end
+                lastPageSeen = true;
+                cancelInFlight();
+            }
+            current = policies.iterator();
+            requestPages();
+        }
+        return true;
+    }
+
+    @Override
+    public PolicySummary next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * Number of pages requested so far, including prefetched ones
+     */
+    public int getPagesRequested() {
+        return nextPage;
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        current = Collections.emptyIterator();
+        cancelInFlight();
+    }
+
+    private void requestPages() {
+        while (!lastPageSeen && !closed && inFlight.size() < maxInFlightPages) {
+            int page = nextPage++;
+            inFlight.add(CompletableFuture.supplyAsync(() -> fetchPage(page), PREFETCH_EXECUTOR));
+        }
+    }
+
+    private List<PolicySummary> fetchPage(int page) {
+        List<PolicySummary> policies = fetcher.fetch(page, pageSize);
+        return policies != null ? policies : Collections.emptyList();
+    }
+
+    private void cancelInFlight() {
+        CompletableFuture<List<PolicySummary>> page;
+        while ((page = inFlight.poll()) != null) {
+            page.cancel(true);
+        }
+    }
+
+    private static List<PolicySummary> await(CompletableFuture<List<PolicySummary>> page) {
+        try {
+            return page.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        } catch (CancellationException e) {
+            return Collections.emptyList();
+        }
+    }
+
+    private static final class DaemonThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "policy-page-prefetch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
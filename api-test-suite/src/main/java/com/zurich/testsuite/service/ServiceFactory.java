@@ -1,6 +1,7 @@
 package com.zurich.testsuite.service;
 
 import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.service.impl.AsyncPolicyServiceImpl;
 import com.zurich.testsuite.service.impl.PolicyServiceImpl;
 
 /**
@@ -76,6 +77,22 @@ public class ServiceFactory {
         return new PolicyServiceImpl(config);
     }
     
+    /**
+     * Create asynchronous PolicyService with default configuration
+     * The caller owns the returned service and should close it
+     */
+    public AsyncGetPolicyList createAsyncPolicyService() {
+        return new AsyncPolicyServiceImpl(defaultConfig);
+    }
+    
+    /**
+     * Create asynchronous PolicyService with custom configuration
+     * The caller owns the returned service and should close it
+     */
+    public AsyncGetPolicyList createAsyncPolicyService(ApiConfiguration config) {
+        return new AsyncPolicyServiceImpl(config);
+    }
+    
     /**
      * Set default configuration for all services
      */
@@ -0,0 +1,203 @@
+package com.zurich.testsuite.service.impl;
+
+import com.zurich.testsuite.client.HostLimitedExecutor;
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.model.PolicySummary;
+import com.zurich.testsuite.service.AsyncGetPolicyList;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Asynchronous policy service running the blocking PolicyServiceImpl calls on a HostLimitedExecutor
+ * Validation, error handling and logging stay in PolicyServiceImpl, so both variants behave the same.
+ */
+public class AsyncPolicyServiceImpl implements AsyncGetPolicyList {
+
+    private static final Logger logger = LoggerFactory.getLogger(AsyncPolicyServiceImpl.class);
+
+    private final PolicyServiceImpl policyService;
+    private final HostLimitedExecutor executor;
+    private final String baseUrl;
+    private final boolean ownsResources;
+
+    /**
+     * Constructor with API configuration - owns its service and executor
+     */
+    public AsyncPolicyServiceImpl(ApiConfiguration config) {
+        this(new PolicyServiceImpl(config),
+                new HostLimitedExecutor(config.getAsyncThreads(), config.getAsyncMaxConcurrentPerHost()),
+                true);
+    }
+
+    /**
+     * Constructor sharing an existing service and executor, e.g. one executor for several environments
+     */
+    public AsyncPolicyServiceImpl(PolicyServiceImpl policyService, HostLimitedExecutor executor) {
+        this(policyService, executor, false);
+    }
+
+    /**
+     * Default constructor - uses default configuration
+     */
+    public AsyncPolicyServiceImpl() {
+        this(new ApiConfiguration());
+    }
+
+    private AsyncPolicyServiceImpl(PolicyServiceImpl policyService, HostLimitedExecutor executor, boolean ownsResources) {
+        this.policyService = policyService;
+        this.executor = executor;
+        this.baseUrl = policyService.getConfig().getBaseUrl();
+        this.ownsResources = ownsResources;
+        logger.info("AsyncPolicyServiceImpl initialized for {} with max {} concurrent calls per host",
+                baseUrl, executor.getMaxConcurrentPerHost());
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> getPoliciesByCustomerId(String customerId) {
+        return submit(() -> policyService.getPoliciesByCustomerId(customerId));
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> getPoliciesByCustomerId(String customerId, int page, int size) {
+        return submit(() -> policyService.getPoliciesByCustomerId(customerId, page, size));
+    }
+
+    @Override
+    public CompletableFuture<Optional<PolicySummary>> getPolicyByNumber(String policyNumber) {
+        return submit(() -> policyService.getPolicyByNumber(policyNumber));
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> getPoliciesByEmail(String email) {
+        return submit(() -> policyService.getPoliciesByEmail(email));
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> getPoliciesByEmail(String email, int page, int size) {
+        return submit(() -> policyService.getPoliciesByEmail(email, page, size));
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> getPoliciesByStatus(String status) {
+        return submit(() -> policyService.getPoliciesByStatus(status));
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> getActivePolicies(int page, int size) {
+        return submit(() -> policyService.getActivePolicies(page, size));
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> searchPolicies(String searchTerm) {
+        return submit(() -> policyService.searchPolicies(searchTerm));
+    }
+
+    @Override
+    public CompletableFuture<List<PolicySummary>> searchPolicies(String searchTerm, int page, int size) {
+        return submit(() -> policyService.searchPolicies(searchTerm, page, size));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> isPolicyActive(String policyNumber) {
+        return submit(() -> policyService.isPolicyActive(policyNumber));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> validatePolicyAccess(String policyNumber, String customerId) {
+        return submit(() -> policyService.validatePolicyAccess(policyNumber, customerId));
+    }
+
+    @Override
+    public CompletableFuture<Map<String, List<PolicySummary>>> getPoliciesByEmails(Collection<String> emails) {
+        logger.info("Fetching policies for {} email addresses", emails.size());
+        return lookupAll(emails, this::getPoliciesByEmail);
+    }
+
+    @Override
+    public CompletableFuture<Map<String, List<PolicySummary>>> getPoliciesByCustomerIds(Collection<String> customerIds) {
+        logger.info("Fetching policies for {} customers", customerIds.size());
+        return lookupAll(customerIds, this::getPoliciesByCustomerId);
+    }
+
+    @Override
+    public <K, R> CompletableFuture<Map<K, R>> lookupAll(Collection<K> keys, Function<K, CompletableFuture<R>> lookup) {
+        List<K> keyList = new ArrayList<>(keys);
+        List<CompletableFuture<R>> lookups = new ArrayList<>(keyList.size());
+        for (K key : keyList) {
+            lookups.add(lookup.apply(key));
+        }
+
+        CompletableFuture<Map<K, R>> result = CompletableFuture.allOf(lookups.toArray(new CompletableFuture<?>[0]))
+                .thenApply(ignored -> {
+                    Map<K, R> results = new LinkedHashMap<>();
+                    for (int i = 0; i < keyList.size(); i++) {
+                        results.put(keyList.get(i), lookups.get(i).join());
+                    }
+                    return results;
+                });
+        return cancelWith(result, lookups);
+    }
+
+    @Override
+    public <K, R> CompletableFuture<Void> lookupEach(Collection<K> keys, Function<K, CompletableFuture<R>> lookup,
+                                                     BiConsumer<K, R> onResult) {
+        Object callbackLock = new Object();
+        List<CompletableFuture<R>> lookups = new ArrayList<>(keys.size());
+        List<CompletableFuture<Void>> handovers = new ArrayList<>(keys.size());
+
+        for (K key : keys) {
+            CompletableFuture<R> single = lookup.apply(key);
+            lookups.add(single);
+            handovers.add(single.thenAccept(value -> {
+                synchronized (callbackLock) {
+                    onResult.accept(key, value);
+                }
+            }));
+        }
+
+        return cancelWith(CompletableFuture.allOf(handovers.toArray(new CompletableFuture<?>[0])), lookups);
+    }
+
+    /**
+     * Get the underlying blocking service
+     */
+    public PolicyServiceImpl getPolicyService() {
+        return policyService;
+    }
+
+    @Override
+    public void close() {
+        if (ownsResources) {
+            executor.close();
+            policyService.close();
+        }
+    }
+
+    private <T> CompletableFuture<T> submit(Callable<T> call) {
+        return executor.submit(baseUrl, call);
+    }
+
+    /**
+     * Cancel the individual lookups when the combined future is cancelled
+     */
+    private static <T> CompletableFuture<T> cancelWith(CompletableFuture<T> combined, List<? extends CompletableFuture<?>> lookups) {
+        combined.whenComplete((value, error) -> {
+            if (combined.isCancelled()) {
+                logger.info("Bulk lookup cancelled, cancelling outstanding calls");
+                lookups.forEach(lookup -> lookup.cancel(true));
+            }
+        });
+        return combined;
+    }
+}
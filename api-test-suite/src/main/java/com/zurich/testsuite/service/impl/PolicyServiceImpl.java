@@ -5,15 +5,18 @@ import com.zurich.testsuite.config.ApiConfiguration;
 import com.zurich.testsuite.model.PolicyApiResponse;
 import com.zurich.testsuite.model.PolicySummary;
 import com.zurich.testsuite.service.GetPolicyList;
+import com.zurich.testsuite.service.PolicyPageIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Implementation of PolicyService for handling policy-related operations
@@ -25,18 +28,28 @@ public class PolicyServiceImpl implements GetPolicyList {
     
     private final PolicyApiClient apiClient;
     private final ApiConfiguration config;
+    private final PolicySnapshotCache snapshotCache;
     
     // Constants for business logic
     private static final int DEFAULT_PAGE_SIZE = 20;
-    private static final int MAX_PAGE_SIZE = 100;
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     
     /**
      * Constructor with API configuration
      */
     public PolicyServiceImpl(ApiConfiguration config) {
+        this(config, new PolicyApiClient(config));
+    }
+    
+    /**
+     * Constructor with API configuration and the client to call the API with
+     */
+    public PolicyServiceImpl(ApiConfiguration config, PolicyApiClient apiClient) {
         this.config = config;
-        this.apiClient = new PolicyApiClient(config);
+        this.apiClient = apiClient;
+        this.snapshotCache = config.isSnapshotEnabled()
+                ? new PolicySnapshotCache(this::loadActivePolicies, Duration.ofSeconds(config.getSnapshotMaxAgeSeconds()))
+                : null;
         logger.info("PolicyServiceImpl initialized with environment: {}", config.getEnvironment());
     }
     
@@ -360,6 +373,37 @@ public class PolicyServiceImpl implements GetPolicyList {
         }
     }
     
+    // The stream methods read pages straight from the client: the paginated methods above return
+    // an empty list on errors, which would end a stream early as if it were the last page
+    
+    @Override
+    public Stream<PolicySummary> streamPoliciesByEmail(String email, int pageSize, int maxInFlightPages) {
+        return PolicyPageIterator.stream(
+                (page, size) -> PolicyApiClient.requirePolicies(apiClient.getPoliciesByEmail(email, page, size)),
+                GetPolicyList.checkedPageSize(pageSize), maxInFlightPages);
+    }
+    
+    @Override
+    public Stream<PolicySummary> streamPoliciesByCustomerId(String customerId, int pageSize) {
+        return PolicyPageIterator.stream(
+                (page, size) -> PolicyApiClient.requirePolicies(apiClient.getPoliciesByCustomerId(customerId, page, size)),
+                GetPolicyList.checkedPageSize(pageSize), DEFAULT_PREFETCH_PAGES);
+    }
+    
+    @Override
+    public Stream<PolicySummary> streamActivePolicies(int pageSize, int maxInFlightPages) {
+        return PolicyPageIterator.stream(
+                (page, size) -> PolicyApiClient.requirePolicies(apiClient.getActivePolicies(page, size)),
+                GetPolicyList.checkedPageSize(pageSize), maxInFlightPages);
+    }
+    
+    @Override
+    public Stream<PolicySummary> streamSearchResults(String searchTerm, int pageSize) {
+        return PolicyPageIterator.stream(
+                (page, size) -> PolicyApiClient.requirePolicies(apiClient.searchPolicies(searchTerm, page, size)),
+                GetPolicyList.checkedPageSize(pageSize), DEFAULT_PREFETCH_PAGES);
+    }
+    
     @Override
     public long getPolicyCountByCustomerId(String customerId) {
         logger.info("Getting policy count for customer: {}", customerId);
@@ -442,13 +486,21 @@ public class PolicyServiceImpl implements GetPolicyList {
         }
         
         try {
+            LocalDate start = LocalDate.parse(startDate, DATE_FORMATTER);
+            LocalDate end = LocalDate.parse(endDate, DATE_FORMATTER);
+            
+            PolicySnapshot snapshot = currentSnapshot();
+            if (snapshot != null) {
+                List<PolicySummary> indexedPolicies = snapshot.createdBetween(start, end);
+                logger.debug("Retrieved {} policies in date range {} to {} from snapshot", 
+                    indexedPolicies.size(), startDate, endDate);
+                return indexedPolicies;
+            }
+            
             // Since there's no direct API endpoint for date range, we'll fetch all policies
             // and filter by date range
             List<PolicySummary> allPolicies = getActivePolicies();
             
-            LocalDate start = LocalDate.parse(startDate, DATE_FORMATTER);
-            LocalDate end = LocalDate.parse(endDate, DATE_FORMATTER);
-            
             List<PolicySummary> filteredPolicies = allPolicies.stream()
                     .filter(policy -> isDateInRange(policy.getCreatedDate(), start, end))
                     .collect(Collectors.toList());
@@ -473,6 +525,14 @@ public class PolicyServiceImpl implements GetPolicyList {
         }
         
         try {
+            PolicySnapshot snapshot = currentSnapshot();
+            if (snapshot != null) {
+                List<PolicySummary> indexedPolicies = snapshot.premiumBetween(minAmount, maxAmount);
+                logger.debug("Retrieved {} policies in premium range {} to {} from snapshot", 
+                    indexedPolicies.size(), minAmount, maxAmount);
+                return indexedPolicies;
+            }
+            
             // Since there's no direct API endpoint for premium range, we'll fetch all policies
             // and filter by premium amount
             List<PolicySummary> allPolicies = getActivePolicies();
@@ -517,9 +577,17 @@ public class PolicyServiceImpl implements GetPolicyList {
         }
         
         try {
+            LocalDate cutoffDate = LocalDate.now().plusDays(days);
+            
+            PolicySnapshot snapshot = currentSnapshot();
+            if (snapshot != null) {
+                List<PolicySummary> indexedPolicies = snapshot.expiringOnOrBefore(cutoffDate);
+                logger.debug("Retrieved {} policies expiring within {} days from snapshot", indexedPolicies.size(), days);
+                return indexedPolicies;
+            }
+            
             // Fetch all active policies and filter by expiration date
             List<PolicySummary> activePolicies = getActivePolicies();
-            LocalDate cutoffDate = LocalDate.now().plusDays(days);
             
             List<PolicySummary> expiringSoon = activePolicies.stream()
                     .filter(policy -> isExpiringBefore(policy.getExpirationDate(), cutoffDate))
@@ -536,6 +604,23 @@ public class PolicyServiceImpl implements GetPolicyList {
     
     // Utility methods
     
+    /**
+     * Local snapshot of active policies, or null when disabled or never loaded
+     */
+    private PolicySnapshot currentSnapshot() {
+        return snapshotCache != null ? snapshotCache.get() : null;
+    }
+    
+    /**
+     * Every active policy, page by page, for the snapshot cache. Unlike getActivePolicies()
+     * a failed page throws, so an API outage fails the refresh instead of loading nothing.
+     */
+    private List<PolicySummary> loadActivePolicies() {
+        try (Stream<PolicySummary> policies = streamActivePolicies(MAX_PAGE_SIZE)) {
+            return policies.collect(Collectors.toList());
+        }
+    }
+    
     /**
      * Validate email format
      */
@@ -621,6 +706,13 @@ public class PolicyServiceImpl implements GetPolicyList {
         return config;
     }
     
+    /**
+     * Get the active policy snapshot cache (null unless api.snapshot.enabled is set)
+     */
+    public PolicySnapshotCache getSnapshotCache() {
+        return snapshotCache;
+    }
+    
     /**
      * Check if service is healthy
      */
@@ -632,4 +724,11 @@ public class PolicyServiceImpl implements GetPolicyList {
             return false;
         }
     }
+    
+    /**
+     * Release the HTTP connections held by the API client
+     */
+    public void close() {
+        apiClient.close();
+    }
 }
\ No newline at end of file
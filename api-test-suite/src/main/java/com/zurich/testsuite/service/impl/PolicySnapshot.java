@@ -0,0 +1,275 @@
+package com.zurich.testsuite.service.impl;
+
+import com.zurich.testsuite.model.PolicySummary;
+
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, indexed copy of a policy list for range queries
+ *
+ * Created and expiration dates are parsed once into sorted epoch-day arrays and premiums
+ * into a sorted double array, each with the policies in the same order, so a range query
+ * is two binary searches plus a copy of the matching slice. Policies whose date is missing
+ * or not yyyy-MM-dd are left out of that date's index, as the linear filters did.
+ * Results come back in index order (ascending key) rather than API order.
+ */
+public final class PolicySnapshot {
+
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final Instant builtAt;
+    private final int size;
+
+    private final int[] createdDays;
+    private final PolicySummary[] byCreated;
+    private final int[] expirationDays;
+    private final PolicySummary[] byExpiration;
+    private final double[] premiums;
+    private final PolicySummary[] byPremium;
+
+    private PolicySnapshot(Instant builtAt, int size, DateIndex created, DateIndex expiration,
+                           double[] premiums, PolicySummary[] byPremium) {
+        this.builtAt = builtAt;
+        this.size = size;
+        this.createdDays = created.days;
+        this.byCreated = created.policies;
+        this.expirationDays = expiration.days;
+        this.byExpiration = expiration.policies;
+        this.premiums = premiums;
+        this.byPremium = byPremium;
+    }
+
+    /**
+     * Index the given policies; the list is copied, later changes to it are not seen
+     */
+    public static PolicySnapshot build(List<PolicySummary> policies, Instant builtAt) {
+        PolicySummary[] all = policies.toArray(new PolicySummary[0]);
+
+        // Sort the premiums as primitives, then place each policy at the rank of its premium
+        // (duplicates fill consecutive slots) instead of sorting the policy objects themselves
+        double[] premiums = new double[all.length];
+        for (int i = 0; i < all.length; i++) {
+            premiums[i] = all[i].getPremiumAmount();
+        }
+        Arrays.sort(premiums);
+        int[] duplicatesPlaced = new int[all.length];
+        PolicySummary[] byPremium = new PolicySummary[all.length];
+        for (PolicySummary policy : all) {
+            int rank = rankOf(premiums, policy.getPremiumAmount());
+            byPremium[rank + duplicatesPlaced[rank]++] = policy;
+        }
+
+        return new PolicySnapshot(builtAt, all.length,
+                DateIndex.build(all, true), DateIndex.build(all, false), premiums, byPremium);
+    }
+
+    /**
+     * Policies created between start and end, both inclusive
+     */
+    public List<PolicySummary> createdBetween(LocalDate start, LocalDate end) {
+        int from = lowerBound(createdDays, Math.toIntExact(start.toEpochDay()));
+        int to = upperBound(createdDays, Math.toIntExact(end.toEpochDay()));
+        return slice(byCreated, from, to);
+    }
+
+    /**
+     * Policies expiring on or before the cutoff date
+     */
+    public List<PolicySummary> expiringOnOrBefore(LocalDate cutoffDate) {
+        int to = upperBound(expirationDays, Math.toIntExact(cutoffDate.toEpochDay()));
+        return slice(byExpiration, 0, to);
+    }
+
+    /**
+     * Policies with a premium between minAmount and maxAmount, both inclusive
+     */
+    public List<PolicySummary> premiumBetween(double minAmount, double maxAmount) {
+        int from = lowerBound(premiums, minAmount);
+        int to = upperBound(premiums, maxAmount);
+        return slice(byPremium, from, to);
+    }
+
+    /**
+     * Number of policies in the snapshot
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Policies left out of the created or expiration date index because the date was missing or invalid
+     */
+    public int getUnindexedDateCount() {
+        return (size - createdDays.length) + (size - expirationDays.length);
+    }
+
+    public Instant getBuiltAt() {
+        return builtAt;
+    }
+
+    private static List<PolicySummary> slice(PolicySummary[] policies, int from, int to) {
+        if (from >= to) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(Arrays.asList(policies).subList(from, to));
+    }
+
+    /**
+     * First index holding the given premium, using the same total order as Arrays.sort
+     */
+    private static int rankOf(double[] sortedPremiums, double premium) {
+        int low = 0;
+        int high = sortedPremiums.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (Double.compare(sortedPremiums[mid], premium) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First index whose key is >= the given key
+     */
+    private static int lowerBound(int[] keys, int key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * First index whose key is > the given key
+     */
+    private static int upperBound(int[] keys, int key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int lowerBound(double[] keys, double key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private static int upperBound(double[] keys, double key) {
+        int low = 0;
+        int high = keys.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (keys[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Epoch days in ascending order with the matching policies
+     */
+    private static final class DateIndex {
+
+        private final int[] days;
+        private final PolicySummary[] policies;
+
+        private DateIndex(int[] days, PolicySummary[] policies) {
+            this.days = days;
+            this.policies = policies;
+        }
+
+        /**
+         * Sorts (epochDay << 32 | position) keys so the order is computed on primitives only
+         */
+        static DateIndex build(PolicySummary[] all, boolean createdDate) {
+            long[] keys = new long[all.length];
+            int count = 0;
+            for (int i = 0; i < all.length; i++) {
+                String date = createdDate ? all[i].getCreatedDate() : all[i].getExpirationDate();
+                Integer epochDay = parseEpochDay(date);
+                if (epochDay != null) {
+                    keys[count++] = ((long) epochDay << 32) | i;
+                }
+            }
+            Arrays.sort(keys, 0, count);
+
+            int[] days = new int[count];
+            PolicySummary[] policies = new PolicySummary[count];
+            for (int i = 0; i < count; i++) {
+                days[i] = (int) (keys[i] >> 32);
+                policies[i] = all[(int) keys[i]];
+            }
+            return new DateIndex(days, policies);
+        }
+
+        private static Integer parseEpochDay(String date) {
+            if (date == null || date.trim().isEmpty()) {
+                return null;
+            }
+            try {
+                if (isPlainIsoDate(date)) {
+                    // Fast path for the usual 10-character form, skips the formatter's parse context
+                    LocalDate parsed = LocalDate.of(digits(date, 0, 4), digits(date, 5, 7), digits(date, 8, 10));
+                    return Math.toIntExact(parsed.toEpochDay());
+                }
+                return Math.toIntExact(LocalDate.parse(date, DATE_FORMATTER).toEpochDay());
+            } catch (DateTimeException e) {
+                return null;
+            }
+        }
+
+        private static boolean isPlainIsoDate(String date) {
+            if (date.length() != 10 || date.charAt(4) != '-' || date.charAt(7) != '-') {
+                return false;
+            }
+            for (int i = 0; i < 10; i++) {
+                if (i != 4 && i != 7 && (date.charAt(i) < '0' || date.charAt(i) > '9')) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private static int digits(String date, int from, int to) {
+            int value = 0;
+            for (int i = from; i < to; i++) {
+                value = value * 10 + (date.charAt(i) - '0');
+            }
+            return value;
+        }
+    }
+}
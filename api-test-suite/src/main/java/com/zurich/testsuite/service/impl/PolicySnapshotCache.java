@@ -0,0 +1,185 @@
+package com.zurich.testsuite.service.impl;
+
+import com.zurich.testsuite.model.PolicySummary;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Holds the current PolicySnapshot and rebuilds it once it is older than the maximum age
+ *
+ * Refresh happens on the first read after expiry; one thread reloads while the others wait
+ * for it. If the reload fails or returns nothing the previous snapshot keeps being served
+ * and counted as a stale read, so range queries degrade to old data instead of an empty list.
+ * An empty first load is a failure too: no snapshot is installed and get() returns null, so
+ * callers fall back to the API rather than answering every range query with nothing.
+ */
+public class PolicySnapshotCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(PolicySnapshotCache.class);
+
+    private final Supplier<List<PolicySummary>> loader;
+    private final Duration maxAge;
+    private final Clock clock;
+
+    private volatile PolicySnapshot snapshot;
+    private volatile Instant lastRefreshAttempt;
+    private volatile long lastRefreshMillis;
+
+    private final AtomicLong reads = new AtomicLong();
+    private final AtomicLong staleReads = new AtomicLong();
+    private final AtomicLong refreshes = new AtomicLong();
+    private final AtomicLong failedRefreshes = new AtomicLong();
+
+    public PolicySnapshotCache(Supplier<List<PolicySummary>> loader, Duration maxAge) {
+        this(loader, maxAge, Clock.systemUTC());
+    }
+
+    public PolicySnapshotCache(Supplier<List<PolicySummary>> loader, Duration maxAge, Clock clock) {
+        this.loader = loader;
+        this.maxAge = maxAge;
+        this.clock = clock;
+    }
+
+    /**
+     * Current snapshot, refreshed first if it is missing or older than the maximum age
+     * @return Snapshot, or null if none could ever be loaded
+     */
+    public PolicySnapshot get() {
+        reads.incrementAndGet();
+        PolicySnapshot current = snapshot;
+        if (current != null && !isExpired(current)) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot;
+            if (current == null || isExpired(current)) {
+                // Retry at most once per max age so a failing API is not called on every read
+                if (current == null || lastRefreshAttempt == null || isOlderThanMaxAge(lastRefreshAttempt)) {
+                    refresh();
+                }
+                current = snapshot;
+            }
+        }
+
+        if (current != null && isExpired(current)) {
+            staleReads.incrementAndGet();
+        }
+        return current;
+    }
+
+    /**
+     * Reload and index the policies now, whatever the age of the current snapshot
+     * @return true if a new snapshot was installed
+     */
+    public synchronized boolean refresh() {
+        Instant start = clock.instant();
+        lastRefreshAttempt = start;
+        long startNanos = System.nanoTime();
+
+        try {
+            List<PolicySummary> policies = loader.get();
+            if (policies == null || policies.isEmpty()) {
+                failedRefreshes.incrementAndGet();
+                logger.warn("Policy snapshot refresh returned no policies, keeping snapshot from {}",
+                    snapshot != null ? snapshot.getBuiltAt() : "never");
+                return false;
+            }
+
+            PolicySnapshot refreshed = PolicySnapshot.build(policies, start);
+            snapshot = refreshed;
+            refreshes.incrementAndGet();
+            lastRefreshMillis = (System.nanoTime() - startNanos) / 1_000_000;
+
+            logger.info("Policy snapshot refreshed: {} policies in {} ms ({} without a valid date)",
+                refreshed.size(), lastRefreshMillis, refreshed.getUnindexedDateCount());
+            return true;
+
+        } catch (Exception e) {
+            failedRefreshes.incrementAndGet();
+            logger.error("Policy snapshot refresh failed, keeping snapshot from {}",
+                snapshot != null ? snapshot.getBuiltAt() : "never", e);
+            return false;
+        }
+    }
+
+    /**
+     * Drop the current snapshot so the next read reloads it
+     */
+    public synchronized void invalidate() {
+        snapshot = null;
+        lastRefreshAttempt = null;
+    }
+
+    /**
+     * Age of the current snapshot, or null if there is none
+     */
+    public Duration getAge() {
+        PolicySnapshot current = snapshot;
+        return current != null ? Duration.between(current.getBuiltAt(), clock.instant()) : null;
+    }
+
+    public boolean isStale() {
+        PolicySnapshot current = snapshot;
+        return current == null || isExpired(current);
+    }
+
+    public Duration getMaxAge() {
+        return maxAge;
+    }
+
+    public long getReadCount() {
+        return reads.get();
+    }
+
+    /**
+     * Reads answered from a snapshot older than the maximum age because the refresh failed
+     */
+    public long getStaleReadCount() {
+        return staleReads.get();
+    }
+
+    public long getRefreshCount() {
+        return refreshes.get();
+    }
+
+    public long getFailedRefreshCount() {
+        return failedRefreshes.get();
+    }
+
+    /**
+     * Duration of the last successful load and index build in milliseconds
+     */
+    public long getLastRefreshMillis() {
+        return lastRefreshMillis;
+    }
+
+    private boolean isExpired(PolicySnapshot current) {
+        return isOlderThanMaxAge(current.getBuiltAt());
+    }
+
+    private boolean isOlderThanMaxAge(Instant instant) {
+        return Duration.between(instant, clock.instant()).compareTo(maxAge) >= 0;
+    }
+
+    @Override
+    public String toString() {
+        return "PolicySnapshotCache{" +
+                "size=" + (snapshot != null ? snapshot.size() : 0) +
+                ", age=" + getAge() +
+                ", maxAge=" + maxAge +
+                ", reads=" + reads.get() +
+                ", staleReads=" + staleReads.get() +
+                ", refreshes=" + refreshes.get() +
+                ", failedRefreshes=" + failedRefreshes.get() +
+                ", lastRefreshMillis=" + lastRefreshMillis +
+                '}';
+    }
+}
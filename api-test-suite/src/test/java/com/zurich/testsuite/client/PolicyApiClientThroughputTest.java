@@ -0,0 +1,153 @@
+package com.zurich.testsuite.client;
+
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.stub.PolicyApiStub;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Concurrency checks and calls/s benchmark for PolicyApiClient
+ *
+ * Runs against two local PolicyApiStub servers (one per "environment"), so no external
+ * API is needed. Throughput is measured at 2, 16 and 64 threads sharing one client;
+ * the stub records client ports to show that connections are kept alive and reused.
+ *
+ * Run with: mvn test -Dtestng.suite=src/test/resources/clientBenchmarkTestNG.xml
+ */
+public class PolicyApiClientThroughputTest {
+
+    private static final long WARMUP_MILLIS = 2_000;
+    private static final long MEASUREMENT_MILLIS = 5_000;
+
+    private PolicyApiStub auStub;
+    private PolicyApiStub idStub;
+
+    @BeforeClass
+    public void startStubs() throws IOException {
+        auStub = PolicyApiStub.start("AU", 0);
+        idStub = PolicyApiStub.start("ID", 0);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubs() {
+        auStub.close();
+        idStub.close();
+    }
+
+    /**
+     * Two clients for different environments used concurrently must each keep their own base URL
+     */
+    @Test(groups = {"api", "performance"},
+          description = "Verify parallel clients for different environments do not share RestAssured state")
+    public void testParallelClientsKeepTheirOwnBaseUrl() throws Exception {
+        try (PolicyApiClient auClient = new PolicyApiClient(configFor(auStub));
+             PolicyApiClient idClient = new PolicyApiClient(configFor(idStub))) {
+
+            ExecutorService workers = Executors.newFixedThreadPool(16);
+            try {
+                List<Future<Boolean>> results = new ArrayList<>();
+                for (int i = 0; i < 400; i++) {
+                    boolean au = i % 2 == 0;
+                    results.add(workers.submit(() -> au
+                            ? hasPolicyPrefix(auClient.getPoliciesByEmail("user@example.com"), "AU-")
+                            : hasPolicyPrefix(idClient.getPoliciesByEmail("user@example.com"), "ID-")));
+                }
+                for (Future<Boolean> result : results) {
+                    Assert.assertTrue(result.get(), "Response should come from the client's own environment");
+                }
+            } finally {
+                workers.shutdownNow();
+            }
+        }
+    }
+
+    @DataProvider(name = "threadCounts")
+    public Object[][] threadCounts() {
+        return new Object[][] {{2}, {16}, {64}};
+    }
+
+    @Test(dataProvider = "threadCounts", groups = {"performance"},
+          description = "Measure PolicyApiClient calls per second with a shared pooled client")
+    public void testCallsPerSecond(int threadCount) throws Exception {
+        ApiConfiguration config = configFor(auStub);
+        config.setMaxConnections(threadCount);
+        config.setMaxConnectionsPerRoute(threadCount);
+
+        try (PolicyApiClient client = new PolicyApiClient(config)) {
+            runFor(client, threadCount, WARMUP_MILLIS);
+
+            auStub.resetStats();
+            AtomicLong failures = new AtomicLong();
+            long calls = runFor(client, threadCount, MEASUREMENT_MILLIS, failures);
+            double callsPerSecond = calls * 1000.0 / MEASUREMENT_MILLIS;
+
+            System.out.printf("PolicyApiClient threads=%d calls=%d calls/s=%.0f connections=%d%n",
+                    threadCount, calls, callsPerSecond, auStub.getConnectionCount());
+
+            Assert.assertEquals(failures.get(), 0, "All calls should succeed");
+            Assert.assertTrue(auStub.getConnectionCount() <= threadCount,
+                    "Connections should be kept alive and reused, opened: " + auStub.getConnectionCount());
+        }
+    }
+
+    private long runFor(PolicyApiClient client, int threadCount, long millis) throws Exception {
+        return runFor(client, threadCount, millis, new AtomicLong());
+    }
+
+    /**
+     * Call getPoliciesByEmail in a closed loop on the given number of threads
+     * @return Number of calls completed within the duration
+     */
+    private long runFor(PolicyApiClient client, int threadCount, long millis, AtomicLong failures) throws Exception {
+        ExecutorService workers = Executors.newFixedThreadPool(threadCount);
+        AtomicLong calls = new AtomicLong();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis);
+
+        try {
+            List<Future<?>> loops = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                loops.add(workers.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        if (client.getPoliciesByEmail("user@example.com").isSuccess()) {
+                            calls.incrementAndGet();
+                        } else {
+                            failures.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> loop : loops) {
+                loop.get();
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+        return calls.get();
+    }
+
+    private ApiConfiguration configFor(PolicyApiStub stub) {
+        ApiConfiguration config = new ApiConfiguration();
+        config.setBaseUrl(stub.getBaseUrl());
+        config.setEnableLogging(false);
+        return config;
+    }
+
+    private boolean hasPolicyPrefix(PolicyApiResponse response, String prefix) {
+        return response.isSuccess()
+                && !response.isEmpty()
+                && response.getPolicies().get(0).getPolicyNumber().startsWith(prefix);
+    }
+}
@@ -0,0 +1,146 @@
+package com.zurich.testsuite.client;
+
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.stub.PolicyApiStub;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+/**
+ * Tests for the PolicyApiClient response cache: LRU bounds, TTL hits and 304 revalidation
+ * against a local PolicyApiStub
+ */
+public class PolicyResponseCacheTest {
+
+    private PolicyApiStub stub;
+
+    @BeforeClass
+    public void startStub() throws IOException {
+        stub = PolicyApiStub.start("AU", 0);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStub() {
+        stub.close();
+    }
+
+    @BeforeMethod
+    public void resetStub() {
+        stub.resetStats();
+    }
+
+    @Test(groups = {"api", "cache"}, description = "Verify the least recently used entry is evicted past maxEntries")
+    public void testEvictsLeastRecentlyUsedEntry() {
+        InMemoryPolicyResponseCache cache = new InMemoryPolicyResponseCache(2, 1_000_000);
+        cache.put("a", entry("A"));
+        cache.put("b", entry("B"));
+        cache.get("a");
+        cache.put("c", entry("C"));
+
+        Assert.assertNotNull(cache.get("a"));
+        Assert.assertNull(cache.get("b"), "b was least recently used");
+        Assert.assertNotNull(cache.get("c"));
+        Assert.assertEquals(cache.getStats().getEvictionCount(), 1);
+    }
+
+    @Test(groups = {"api", "cache"}, description = "Verify the byte limit evicts entries and skips oversized responses")
+    public void testByteLimit() {
+        CachedResponse response = entry("x".repeat(100));
+        long entryBytes = 2 + response.getSize();
+        InMemoryPolicyResponseCache cache = new InMemoryPolicyResponseCache(100, entryBytes * 3);
+
+        for (String key : new String[] {"a", "b", "c", "d"}) {
+            cache.put(key, response);
+        }
+        Assert.assertEquals(cache.size(), 3);
+        Assert.assertEquals(cache.getCurrentBytes(), entryBytes * 3);
+        Assert.assertNull(cache.get("a"));
+
+        cache.put("e", entry("x".repeat(1_000)));
+        Assert.assertNull(cache.get("e"), "Responses larger than the whole cache should not be stored");
+        Assert.assertEquals(cache.getCurrentBytes(), entryBytes * 3);
+    }
+
+    @Test(groups = {"api", "cache"}, description = "Verify fresh entries are served without calling the API")
+    public void testFreshEntriesAreServedFromCache() {
+        try (PolicyApiClient client = new PolicyApiClient(cacheConfig(60))) {
+            for (int i = 0; i < 10; i++) {
+                PolicyApiResponse response = client.getPoliciesByEmail("cached@example.com");
+                Assert.assertTrue(response.isSuccess());
+                Assert.assertEquals(response.getPolicies().get(0).getPolicyNumber(),
+                        stub.policyNumberFor("cached@example.com"));
+            }
+            client.getPoliciesByEmail("cached@example.com", 0, 10);
+            client.getPolicyByNumber("POL-1");
+            client.getPolicyByNumber("POL-1");
+
+            ResponseCacheStats stats = client.getResponseCache().getStats();
+            Assert.assertEquals(stub.getRequestCount(), 3, "One request per distinct endpoint and parameters");
+            Assert.assertEquals(stats.getHitCount(), 10);
+            Assert.assertEquals(stats.getMissCount(), 3);
+            Assert.assertEquals(stats.getHitRatio(), 10.0 / 13, 0.0001);
+        }
+    }
+
+    @Test(groups = {"api", "cache"}, description = "Verify callers get their own copy of a cached response")
+    public void testHitsAreIndependentCopies() {
+        try (PolicyApiClient client = new PolicyApiClient(cacheConfig(60))) {
+            client.getPoliciesByEmail("copy@example.com").getPolicies().clear();
+            Assert.assertEquals(client.getPoliciesByEmail("copy@example.com").getPolicyCount(), 1);
+        }
+    }
+
+    @Test(groups = {"api", "cache"}, description = "Verify expired entries are revalidated with If-None-Match")
+    public void testExpiredEntriesAreRevalidated() {
+        try (PolicyApiClient client = new PolicyApiClient(cacheConfig(0))) {
+            double original = client.getPolicyByNumber("POL-2").getPolicies().get(0).getPremiumAmount();
+            for (int i = 0; i < 4; i++) {
+                Assert.assertEquals(client.getPolicyByNumber("POL-2").getPolicies().get(0).getPremiumAmount(), original, 0.0);
+            }
+            Assert.assertEquals(stub.getRequestCount(), 5);
+            Assert.assertEquals(stub.getNotModifiedCount(), 4);
+            Assert.assertEquals(client.getResponseCache().getStats().getRevalidatedHitCount(), 4);
+
+            stub.updatePolicies();
+            double premium = client.getPolicyByNumber("POL-2").getPolicies().get(0).getPremiumAmount();
+            Assert.assertNotEquals(premium, original, "Changed data should replace the cached body");
+            Assert.assertEquals(client.getPolicyByNumber("POL-2").getPolicies().get(0).getPremiumAmount(), premium, 0.0);
+            Assert.assertEquals(stub.getNotModifiedCount(), 5);
+        }
+    }
+
+    @Test(groups = {"api", "cache"}, description = "Verify every call reaches the API when the cache is switched off")
+    public void testDisabledCache() {
+        ApiConfiguration config = cacheConfig(60);
+        config.setCacheEnabled(false);
+
+        try (PolicyApiClient client = new PolicyApiClient(config)) {
+            for (int i = 0; i < 5; i++) {
+                client.getPoliciesByEmail("fresh@example.com");
+            }
+            Assert.assertNull(client.getResponseCache());
+            Assert.assertEquals(stub.getRequestCount(), 5);
+        }
+    }
+
+    private ApiConfiguration cacheConfig(int ttlSeconds) {
+        ApiConfiguration config = new ApiConfiguration();
+        config.setBaseUrl(stub.getBaseUrl());
+        config.setEnableLogging(false);
+        config.setCacheEnabled(true);
+        config.setCacheTtlSeconds(ttlSeconds);
+        return config;
+    }
+
+    private static CachedResponse entry(String body) {
+        Instant now = Instant.now();
+        return new CachedResponse(body.getBytes(StandardCharsets.UTF_8), null, null, now, now.plusSeconds(60));
+    }
+}
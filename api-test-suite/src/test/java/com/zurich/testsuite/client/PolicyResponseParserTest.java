@@ -0,0 +1,91 @@
+package com.zurich.testsuite.client;
+
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.model.PolicySummary;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Unit tests for PolicyResponseParser covering every response format the policy API returns
+ */
+public class PolicyResponseParserTest {
+
+    @Test(groups = {"api"}, description = "Verify MuleSoft responses bind through the field aliases")
+    public void testMuleSoftFormatWithAliases() throws IOException {
+        PolicyApiResponse response = parse("{\"totalNumberofPolicies\":42,\"policies\":[{"
+                + "\"policyNumber\":\"POL-000001\",\"policyType\":\"HOME\",\"startDate\":\"2024-01-01\","
+                + "\"endDate\":\"2025-01-01\",\"premiumAmount\":1200.5,\"status\":\"ACTIVE\","
+                + "\"coverages\":[{\"coverageType\":\"BUILDINGS\"}],\"nominee\":{\"name\":\"N\"}}]}");
+
+        Assert.assertTrue(response.isSuccess(), "2xx body without a success flag should be successful");
+        Assert.assertEquals(response.getTotalNumberofPolicies(), 42);
+        Assert.assertEquals(response.getPolicyCount(), 1);
+
+        PolicySummary policy = response.getPolicies().get(0);
+        Assert.assertEquals(policy.getPolicyNumber(), "POL-000001");
+        Assert.assertEquals(policy.getProductType(), "HOME");
+        Assert.assertEquals(policy.getEffectiveDate(), "2024-01-01");
+        Assert.assertEquals(policy.getExpirationDate(), "2025-01-01");
+        Assert.assertEquals(policy.getPremiumAmount(), 1200.5);
+    }
+
+    @Test(groups = {"api"}, description = "Verify the wrapper success flag, message and pagination are kept")
+    public void testWrapperFormat() throws IOException {
+        PolicyApiResponse response = parse("{\"success\":false,\"message\":\"Customer locked\","
+                + "\"errorCode\":\"LOCKED\",\"policies\":[],"
+                + "\"pagination\":{\"page\":1,\"size\":20,\"totalPages\":3,\"totalElements\":55,\"hasNext\":true}}");
+
+        Assert.assertFalse(response.isSuccess());
+        Assert.assertEquals(response.getMessage(), "Customer locked");
+        Assert.assertEquals(response.getErrorCode(), "LOCKED");
+        Assert.assertTrue(response.isEmpty());
+        Assert.assertTrue(response.hasPagination());
+        Assert.assertEquals(response.getPagination().getTotalElements(), 55L);
+        Assert.assertTrue(response.getPagination().isHasNext());
+    }
+
+    @Test(groups = {"api"}, description = "Verify policies nested under data are found")
+    public void testDataWrappedResponseFile() throws IOException {
+        try (InputStream body = getClass().getClassLoader()
+                .getResourceAsStream("data/responses/getPoliciesResponse.json")) {
+            Assert.assertNotNull(body, "Sample response should be on the test classpath");
+            PolicyApiResponse response = PolicyResponseParser.parse(body);
+
+            Assert.assertTrue(response.isSuccess());
+            Assert.assertFalse(response.isEmpty());
+            Assert.assertEquals(response.getPolicies().get(0).getPolicyNumber(), "POL_001");
+            Assert.assertTrue(response.getPolicies().get(0).isActive(), "isActive alias should bind");
+        }
+    }
+
+    @Test(groups = {"api"}, description = "Verify a single policy object becomes a one-element list")
+    public void testSinglePolicyObject() throws IOException {
+        PolicyApiResponse response = parse("{\"policyNumber\":\"POL-7\",\"customerId\":\"CUST_7\",\"status\":\"EXPIRED\"}");
+
+        Assert.assertEquals(response.getPolicyCount(), 1);
+        Assert.assertEquals(response.getPolicies().get(0).getCustomerId(), "CUST_7");
+        Assert.assertTrue(response.getPolicies().get(0).isExpired());
+    }
+
+    @Test(groups = {"api"}, description = "Verify a bare policy array is accepted")
+    public void testBareArray() throws IOException {
+        PolicyApiResponse response = parse("[{\"policyNumber\":\"A\"},{\"policyNumber\":\"B\"}]");
+
+        Assert.assertEquals(response.getPolicyCount(), 2);
+        Assert.assertEquals(response.getTotalNumberofPolicies(), 2);
+    }
+
+    @Test(groups = {"api"}, expectedExceptions = IOException.class,
+          description = "Verify truncated bodies fail instead of returning a partial list")
+    public void testTruncatedBody() throws IOException {
+        parse("{\"policies\":[{\"policyNumber\":\"A\"},{\"policyNumber\":");
+    }
+
+    private PolicyApiResponse parse(String json) throws IOException {
+        return PolicyResponseParser.parse(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,137 @@
+package com.zurich.testsuite.client;
+
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.stub.PolicyApiStub;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+
+/**
+ * Record mode against a local PolicyApiStub, then replay with the stub stopped
+ */
+public class RecordReplayFilterTest {
+
+    @Test(groups = {"api"}, description = "Verify replayed responses match the recorded ones without calling the API")
+    public void testReplayServesRecordedResponses() throws Exception {
+        Path recordings = Files.createTempDirectory("recordings");
+        String baseUrl;
+        String byEmail;
+        String byNumber;
+
+        try (PolicyApiStub stub = PolicyApiStub.start("AU", 0);
+             PolicyApiClient client = new PolicyApiClient(config(stub.getBaseUrl(), "record", recordings, 0))) {
+            baseUrl = stub.getBaseUrl();
+            for (int i = 0; i < 20; i++) {
+                Assert.assertTrue(client.getPoliciesByEmail("user" + i + "@example.com", 0, 10).isSuccess());
+            }
+            byEmail = firstPolicyNumber(client.getPoliciesByEmail("user7@example.com", 0, 10));
+            byNumber = firstPolicyNumber(client.getPolicyByNumber("POL-42"));
+            Assert.assertEquals(client.getRecordReplay().getRecordedCount(), 22);
+            Assert.assertEquals(stub.getRequestCount(), 22);
+        }
+
+        // The stub is stopped: every response now has to come from the recordings
+        try (PolicyApiClient client = new PolicyApiClient(config(baseUrl, "replay", recordings, 0))) {
+            Assert.assertEquals(client.getRecordReplay().getStore().size(), 22);
+            Assert.assertEquals(firstPolicyNumber(client.getPoliciesByEmail("user7@example.com", 0, 10)), byEmail);
+            Assert.assertEquals(firstPolicyNumber(client.getPolicyByNumber("POL-42")), byNumber);
+            Assert.assertEquals(client.getRecordReplay().getReplayedCount(), 2);
+        }
+    }
+
+    @Test(groups = {"api"}, description = "Verify a request that was never recorded fails in replay mode")
+    public void testReplayMiss() throws Exception {
+        Path recordings = Files.createTempDirectory("recordings");
+        try (PolicyApiClient client = new PolicyApiClient(config("http://localhost:1", "replay", recordings, 0))) {
+            PolicyApiResponse response = client.getPoliciesByEmail("nobody@example.com");
+
+            Assert.assertFalse(response.isSuccess());
+            Assert.assertEquals(response.getErrorCode(), "API_ERROR");
+            Assert.assertTrue(response.getMessage().contains("No recorded response for GET /api/v1/policy/list?emailId="),
+                    response.getMessage());
+            Assert.assertEquals(client.getRecordReplay().getMissCount(), 1);
+        }
+    }
+
+    @Test(groups = {"api", "performance"}, description = "Verify replay can reproduce the recorded latency")
+    public void testReplayWithRecordedLatency() throws Exception {
+        Path recordings = Files.createTempDirectory("recordings");
+        String baseUrl;
+        try (PolicyApiStub stub = PolicyApiStub.start("AU", 50);
+             PolicyApiClient client = new PolicyApiClient(config(stub.getBaseUrl(), "record", recordings, 0))) {
+            baseUrl = stub.getBaseUrl();
+            client.getPolicyByNumber("POL-1");
+        }
+
+        try (PolicyApiClient client = new PolicyApiClient(config(baseUrl, "replay", recordings, 1.0))) {
+            long start = System.nanoTime();
+            Assert.assertTrue(client.getPolicyByNumber("POL-1").isSuccess());
+            long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+            Assert.assertTrue(elapsedMillis >= 50, "Replay took " + elapsedMillis + "ms, recorded at least 50ms");
+        }
+    }
+
+    @Test(groups = {"api"}, description = "Verify segments roll over and a torn last record is ignored")
+    public void testSegmentsAndTornRecord() throws IOException {
+        Path recordings = Files.createTempDirectory("recordings");
+        try (RecordingWriter writer = new RecordingWriter(recordings, 1024)) {
+            for (int i = 0; i < 50; i++) {
+                writer.append(exchange("GET /api/v1/policy/details/POL-" + i, "{\"policyNumber\":\"POL-" + i + "\"}"));
+            }
+        }
+        // A second writer never appends to existing segments
+        try (RecordingWriter writer = new RecordingWriter(recordings, 1024)) {
+            writer.append(exchange("GET /api/v1/policy/details/POL-0", "{\"policyNumber\":\"POL-0\",\"version\":2}"));
+        }
+        Path lastSegment = RecordingStore.listSegments(recordings).get(RecordingStore.listSegments(recordings).size() - 1);
+        try (FileChannel channel = FileChannel.open(lastSegment, StandardOpenOption.APPEND)) {
+            ByteBuffer torn = exchange("GET /torn", "{}").encode();
+            torn.limit(torn.limit() - 3);
+            channel.write(torn);
+        }
+
+        RecordingStore store = RecordingStore.open(recordings);
+        Assert.assertTrue(store.getSegmentCount() > 2, "Expected several 1 KB segments, got " + store.getSegmentCount());
+        Assert.assertEquals(store.size(), 51);
+        Assert.assertNull(store.next("GET /torn"));
+        Assert.assertEquals(body(store.next("GET /api/v1/policy/details/POL-49")), "{\"policyNumber\":\"POL-49\"}");
+
+        // Recorded twice: replayed round-robin in recording order
+        Assert.assertEquals(body(store.next("GET /api/v1/policy/details/POL-0")), "{\"policyNumber\":\"POL-0\"}");
+        Assert.assertEquals(body(store.next("GET /api/v1/policy/details/POL-0")), "{\"policyNumber\":\"POL-0\",\"version\":2}");
+        Assert.assertEquals(body(store.next("GET /api/v1/policy/details/POL-0")), "{\"policyNumber\":\"POL-0\"}");
+    }
+
+    private static RecordedExchange exchange(String requestKey, String body) {
+        return new RecordedExchange(requestKey, 200, 1_000_000, Map.of("Content-Type", "application/json"),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String body(RecordedExchange exchange) {
+        return new String(exchange.getBody(), StandardCharsets.UTF_8);
+    }
+
+    private static String firstPolicyNumber(PolicyApiResponse response) {
+        Assert.assertTrue(response.isSuccess(), response.getMessage());
+        return response.getPolicies().get(0).getPolicyNumber();
+    }
+
+    private static ApiConfiguration config(String baseUrl, String mode, Path recordings, double latencyFactor) {
+        ApiConfiguration config = new ApiConfiguration();
+        config.setBaseUrl(baseUrl);
+        config.setEnableLogging(false);
+        config.setReplayMode(mode);
+        config.setReplayDir(recordings.toString());
+        config.setReplayLatencyFactor(latencyFactor);
+        return config;
+    }
+}
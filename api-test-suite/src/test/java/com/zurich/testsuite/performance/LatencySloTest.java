@@ -0,0 +1,152 @@
+package com.zurich.testsuite.performance;
+
+import com.zurich.testsuite.client.PolicyApiClient;
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.stub.PolicyApiStub;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Collections;
+
+/**
+ * Latency SLO assertions on PolicyApiClient calls against a local PolicyApiStub
+ *
+ * SLO results are also written to the Extent report (test-output/extent-reports/TestReport.html).
+ */
+public class LatencySloTest {
+
+    /**
+     * A fast stub meets a typical SLO over a 1000-call window
+     */
+    @Test(groups = {"api", "performance"},
+          description = "Verify PolicyApiClient calls to a local stub meet p95, p99.9 and error rate SLOs")
+    public void testPolicyLookupsMeetSlo() throws Exception {
+        try (PolicyApiStub stub = PolicyApiStub.start("AU", 0);
+             PolicyApiClient client = new PolicyApiClient(configFor(stub))) {
+
+            SloSampler sampler = new SloSampler(100);
+            sampler.sample("policy-by-email", 1000, i -> client.getPoliciesByEmail("user" + i + "@example.com"));
+            sampler.sample("policy-by-number", 1000, i -> client.getPolicyByNumber("POL-" + i));
+
+            SloAssert.assertSlo(sampler,
+                    LatencySlo.forEndpoint("policy-by-email")
+                            .percentileBelow(95, Duration.ofMillis(200))
+                            .percentileBelow(99.9, Duration.ofSeconds(1))
+                            .errorRateBelow(0.001)
+                            .minSamples(1000),
+                    LatencySlo.forEndpoint("policy-by-number")
+                            .percentileBelow(95, Duration.ofMillis(200))
+                            .errorRateBelow(0.001)
+                            .minSamples(1000));
+            Assert.assertEquals(stub.getRequestCount(), 2200, "Warm-up calls should still reach the API");
+        }
+    }
+
+    @Test(groups = {"api", "performance"},
+          description = "Verify a violated SLO fails with the latency histogram in the message")
+    public void testViolationFailsWithHistogram() throws Exception {
+        try (PolicyApiStub stub = PolicyApiStub.start("AU", 20);
+             PolicyApiClient client = new PolicyApiClient(configFor(stub))) {
+
+            SloSampler sampler = new SloSampler(5);
+            sampler.sample("policy-by-email", 50, i -> client.getPoliciesByEmail("user@example.com"));
+
+            try {
+                SloAssert.assertSlo(sampler, LatencySlo.forEndpoint("policy-by-email")
+                        .percentileBelow(95, Duration.ofMillis(5)));
+                Assert.fail("A 20ms stub should not meet p95 < 5ms");
+            } catch (AssertionError e) {
+                Assert.assertTrue(e.getMessage().startsWith("SLO violated for policy-by-email: p95 "), e.getMessage());
+                Assert.assertTrue(e.getMessage().contains("50 calls"), e.getMessage());
+                Assert.assertTrue(e.getMessage().contains("|#"), "Message should contain the histogram bars");
+            }
+        }
+    }
+
+    @Test(groups = {"performance"}, description = "Verify warm-up calls are made but not sampled")
+    public void testWarmupCallsAreExcluded() {
+        SloSampler sampler = new SloSampler(5);
+        int[] made = new int[1];
+        for (int i = 0; i < 25; i++) {
+            boolean warmup = i < 5;
+            sampler.measure("slow-start", () -> {
+                made[0]++;
+                if (warmup) {
+                    sleep(50);
+                }
+                return success();
+            });
+        }
+
+        Assert.assertEquals(made[0], 25);
+        Assert.assertEquals(sampler.getSampleCount("slow-start"), 20);
+        Assert.assertTrue(sampler.getHistogram("slow-start").getMaxValue() < 50_000,
+                "Slow warm-up calls should not be in the histogram");
+        Assert.assertTrue(LatencySlo.forEndpoint("slow-start")
+                .percentileBelow(99, Duration.ofMillis(50)).evaluate(sampler).isPassed());
+    }
+
+    @Test(groups = {"performance"}, description = "Verify failed responses and exceptions count towards the error rate")
+    public void testErrorRate() {
+        SloSampler sampler = new SloSampler(0);
+        for (int i = 0; i < 100; i++) {
+            boolean failed = i % 10 == 0;
+            sampler.measure("flaky", () -> failed ? new PolicyApiResponse("Service unavailable", "API_ERROR") : success());
+        }
+        try {
+            sampler.measure("flaky", () -> {
+                throw new IllegalStateException("Connection reset");
+            });
+            Assert.fail("Exceptions should propagate");
+        } catch (IllegalStateException expected) {
+            // recorded as an error
+        }
+
+        Assert.assertEquals(sampler.getErrorCount("flaky"), 11);
+        SloResult strict = LatencySlo.forEndpoint("flaky").errorRateBelow(0.001).evaluate(sampler);
+        Assert.assertFalse(strict.isPassed());
+        Assert.assertTrue(strict.getViolations().get(0).startsWith("error rate 10.891% (11/101)"),
+                strict.getViolations().toString());
+        Assert.assertTrue(LatencySlo.forEndpoint("flaky").errorRateBelow(0.2).evaluate(sampler).isPassed());
+    }
+
+    @Test(groups = {"performance"}, description = "Verify an SLO fails when the window has too few samples")
+    public void testTooFewSamples() {
+        SloSampler sampler = new SloSampler(0);
+        for (int i = 0; i < 10; i++) {
+            sampler.measure("sparse", LatencySloTest::success);
+        }
+
+        SloResult result = LatencySlo.forEndpoint("sparse")
+                .percentileBelow(99.9, Duration.ofSeconds(1))
+                .minSamples(1000)
+                .evaluate(sampler);
+        Assert.assertFalse(result.isPassed());
+        Assert.assertEquals(result.getViolations().size(), 1);
+        Assert.assertTrue(result.getViolations().get(0).startsWith("samples 10"));
+
+        Assert.assertFalse(LatencySlo.forEndpoint("unsampled")
+                .percentileBelow(95, Duration.ofMillis(200)).evaluate(sampler).isPassed());
+    }
+
+    private static PolicyApiResponse success() {
+        return new PolicyApiResponse(Collections.emptyList(), 0);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ApiConfiguration configFor(PolicyApiStub stub) {
+        ApiConfiguration config = new ApiConfiguration();
+        config.setBaseUrl(stub.getBaseUrl());
+        config.setEnableLogging(false);
+        return config;
+    }
+}
@@ -0,0 +1,172 @@
+package com.zurich.testsuite.service;
+
+import com.zurich.testsuite.model.PolicySummary;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for PolicyPageIterator using an in-memory page source with simulated latency
+ */
+public class PolicyPageIteratorTest {
+
+    @Test(groups = {"api", "pagination"}, description = "Verify all pages are read in order and a short page ends the stream")
+    public void testReadsAllPagesInOrder() {
+        FakePages pages = new FakePages(95, 0);
+
+        List<String> numbers;
+        try (Stream<PolicySummary> stream = PolicyPageIterator.stream(pages, 20, 3)) {
+            numbers = stream.map(PolicySummary::getPolicyNumber).collect(Collectors.toList());
+        }
+
+        Assert.assertEquals(numbers.size(), 95);
+        for (int i = 0; i < numbers.size(); i++) {
+            Assert.assertEquals(numbers.get(i), FakePages.policyNumber(i), "Policies should keep page order");
+        }
+    }
+
+    @Test(groups = {"api", "pagination"}, description = "Verify an exact multiple of the page size ends on the empty page")
+    public void testEndsOnEmptyPage() {
+        FakePages pages = new FakePages(60, 0);
+
+        try (Stream<PolicySummary> stream = PolicyPageIterator.stream(pages, 20, 1)) {
+            Assert.assertEquals(stream.count(), 60L);
+        }
+        Assert.assertEquals(pages.calls.get(), 4, "Three full pages plus the empty one");
+    }
+
+    @Test(groups = {"api", "pagination"}, description = "Verify no more than maxInFlightPages are fetched at once")
+    public void testMaxInFlightPages() {
+        FakePages pages = new FakePages(1_000, 20);
+
+        try (Stream<PolicySummary> stream = PolicyPageIterator.stream(pages, 10, 3)) {
+            Assert.assertEquals(stream.count(), 1_000L);
+        }
+        Assert.assertTrue(pages.maxConcurrent.get() <= 3, "Concurrent fetches: " + pages.maxConcurrent.get());
+        Assert.assertTrue(pages.maxConcurrent.get() > 1, "Following pages should be prefetched");
+    }
+
+    @Test(groups = {"api", "pagination"}, description = "Verify prefetching overlaps fetching with consumption")
+    public void testPrefetchOverlapsConsumption() {
+        FakePages pages = new FakePages(200, 50);
+
+        long start = System.nanoTime();
+        try (Stream<PolicySummary> stream = PolicyPageIterator.stream(pages, 20, 2)) {
+            // 10 pages of 50ms each, consuming a page takes about 40ms
+            stream.forEach(policy -> sleep(2));
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Fetching then consuming page by page would take about 10 * (50 + 40)ms
+        Assert.assertTrue(elapsedMillis < 10 * (50 + 40) * 0.8,
+                "Fetch and consume should overlap, took " + elapsedMillis + "ms");
+    }
+
+    @Test(groups = {"api", "pagination"}, description = "Verify findFirst stops fetching pages")
+    public void testShortCircuitStopsFetching() {
+        FakePages pages = new FakePages(Integer.MAX_VALUE, 0);
+
+        Optional<PolicySummary> first;
+        try (Stream<PolicySummary> stream = PolicyPageIterator.stream(pages, 50, 2)) {
+            first = stream.filter(policy -> policy.getPolicyNumber().endsWith("00075")).findFirst();
+        }
+
+        Assert.assertTrue(first.isPresent());
+        Assert.assertTrue(pages.calls.get() <= 2 + 2, "Only the pages needed plus the prefetch window: " + pages.calls.get());
+    }
+
+    @Test(groups = {"api", "pagination"}, description = "Verify memory stays bounded for an unbounded source")
+    public void testBoundedPagesForLargeSource() {
+        FakePages pages = new FakePages(Integer.MAX_VALUE, 0);
+        PolicyPageIterator iterator = new PolicyPageIterator(pages, 100, 4);
+
+        try (iterator) {
+            for (int i = 0; i < 100_000; i++) {
+                Assert.assertTrue(iterator.hasNext());
+                iterator.next();
+                Assert.assertTrue(iterator.getPagesRequested() <= i / 100 + 1 + 4,
+                        "Pages requested should track consumption");
+            }
+        }
+        Assert.assertFalse(iterator.hasNext(), "A closed iterator should not fetch further pages");
+    }
+
+    @Test(groups = {"api", "pagination"}, expectedExceptions = IllegalStateException.class,
+          expectedExceptionsMessageRegExp = "Page 2 unavailable",
+          description = "Verify a failed middle page is rethrown instead of ending the stream")
+    public void testFailedMiddlePageThrows() {
+        FakePages pages = new FakePages(1_000, 0);
+        PolicyPageIterator.PageFetcher failing = (page, size) -> {
+            if (page == 2) {
+                throw new IllegalStateException("Page 2 unavailable");
+            }
+            return pages.fetch(page, size);
+        };
+
+        try (Stream<PolicySummary> stream = PolicyPageIterator.stream(failing, 20, 2)) {
+            stream.count();
+        }
+    }
+
+    @Test(groups = {"api", "pagination"}, expectedExceptions = IllegalArgumentException.class,
+          description = "Verify page sizes the service would clamp are rejected")
+    public void testRejectsOversizedPage() {
+        GetPolicyList service = Mockito.mock(GetPolicyList.class, Mockito.CALLS_REAL_METHODS);
+        service.streamActivePolicies(GetPolicyList.MAX_PAGE_SIZE + 1);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Page source of {@code total} numbered policies with an optional latency per fetch
+     */
+    private static final class FakePages implements PolicyPageIterator.PageFetcher {
+
+        private final long total;
+        private final long latencyMillis;
+        private final AtomicInteger calls = new AtomicInteger();
+        private final AtomicInteger concurrent = new AtomicInteger();
+        private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+        FakePages(long total, long latencyMillis) {
+            this.total = total;
+            this.latencyMillis = latencyMillis;
+        }
+
+        static String policyNumber(long index) {
+            return String.format("POL-%08d", index);
+        }
+
+        @Override
+        public List<PolicySummary> fetch(int page, int size) {
+            calls.incrementAndGet();
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                sleep(latencyMillis);
+                List<PolicySummary> policies = new ArrayList<>(size);
+                for (long i = (long) page * size; i < Math.min(total, (long) (page + 1) * size); i++) {
+                    PolicySummary policy = new PolicySummary();
+                    policy.setPolicyNumber(policyNumber(i));
+                    policies.add(policy);
+                }
+                return policies;
+            } finally {
+                concurrent.decrementAndGet();
+            }
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.zurich.testsuite.service.impl;
+
+import com.zurich.testsuite.client.HostLimitedExecutor;
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.model.PolicySummary;
+import com.zurich.testsuite.stub.PolicyApiStub;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for AsyncPolicyServiceImpl against local PolicyApiStub servers with 50ms latency
+ *
+ * Covers speed-up with concurrency, the per-host limit, ordered and unordered
+ * result collection and cancellation of bulk lookups.
+ */
+public class AsyncPolicyServiceImplTest {
+
+    private static final long LATENCY_MILLIS = 50;
+    private static final int LOOKUPS = 64;
+
+    private PolicyApiStub auStub;
+    private PolicyApiStub idStub;
+
+    @BeforeClass
+    public void startStubs() throws IOException {
+        auStub = PolicyApiStub.start("AU", LATENCY_MILLIS);
+        idStub = PolicyApiStub.start("ID", LATENCY_MILLIS);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopStubs() {
+        auStub.close();
+        idStub.close();
+    }
+
+    @Test(groups = {"api", "performance"},
+          description = "Verify bulk lookups speed up linearly with the per-host concurrency limit")
+    public void testLinearSpeedUp() {
+        List<String> emails = emails(LOOKUPS);
+        long sequentialMillis = timeBulkLookup(1, emails);
+
+        for (int concurrency : new int[] {4, 16}) {
+            long concurrentMillis = timeBulkLookup(concurrency, emails);
+            double speedUp = (double) sequentialMillis / concurrentMillis;
+
+            System.out.printf("AsyncPolicyService lookups=%d concurrency=%d time=%dms speed-up=%.1fx%n",
+                    LOOKUPS, concurrency, concurrentMillis, speedUp);
+            Assert.assertTrue(speedUp >= concurrency * 0.7,
+                    "Speed-up at concurrency " + concurrency + " should be close to linear, was " + speedUp);
+        }
+    }
+
+    @Test(groups = {"api"}, description = "Verify no more than the configured calls are in flight per host")
+    public void testPerHostConcurrencyLimit() {
+        try (HostLimitedExecutor executor = new HostLimitedExecutor(32, 4);
+             AsyncPolicyServiceImpl auService = new AsyncPolicyServiceImpl(new PolicyServiceImpl(configFor(auStub)), executor);
+             AsyncPolicyServiceImpl idService = new AsyncPolicyServiceImpl(new PolicyServiceImpl(configFor(idStub)), executor)) {
+
+            auStub.resetStats();
+            idStub.resetStats();
+
+            CompletableFuture<?> au = auService.getPoliciesByEmails(emails(32));
+            CompletableFuture<?> id = idService.getPoliciesByEmails(emails(32));
+            CompletableFuture.allOf(au, id).join();
+
+            Assert.assertTrue(auStub.getMaxInFlight() <= 4, "AU in flight: " + auStub.getMaxInFlight());
+            Assert.assertTrue(idStub.getMaxInFlight() <= 4, "ID in flight: " + idStub.getMaxInFlight());
+            Assert.assertEquals(auStub.getRequestCount(), 32);
+            Assert.assertEquals(idStub.getRequestCount(), 32);
+
+            auService.getPolicyService().close();
+            idService.getPolicyService().close();
+        }
+    }
+
+    @Test(groups = {"api"}, description = "Verify lookupAll returns results in input order")
+    public void testOrderedCollection() {
+        List<String> emails = emails(40);
+
+        try (AsyncPolicyServiceImpl service = new AsyncPolicyServiceImpl(configFor(auStub, 8))) {
+            Map<String, List<PolicySummary>> results = service.getPoliciesByEmails(emails).join();
+
+            Assert.assertEquals(new ArrayList<>(results.keySet()), emails, "Results should keep input order");
+            results.forEach((email, policies) ->
+                    Assert.assertEquals(policies.get(0).getPolicyNumber(), auStub.policyNumberFor(email)));
+        }
+    }
+
+    @Test(groups = {"api"}, description = "Verify lookupEach hands over every result as it completes")
+    public void testUnorderedCollection() {
+        List<String> emails = emails(40);
+        List<String> received = new ArrayList<>();
+
+        try (AsyncPolicyServiceImpl service = new AsyncPolicyServiceImpl(configFor(auStub, 8))) {
+            service.lookupEach(emails, service::getPoliciesByEmail, (email, policies) -> {
+                Assert.assertEquals(policies.get(0).getPolicyNumber(), auStub.policyNumberFor(email));
+                received.add(email);
+            }).join();
+        }
+
+        Assert.assertEquals(received.size(), emails.size(), "Every result should be handed over once");
+        Assert.assertEquals(new HashSet<>(received), new HashSet<>(emails));
+    }
+
+    @Test(groups = {"api"}, description = "Verify cancelling a bulk lookup stops the outstanding calls")
+    public void testCancellation() throws Exception {
+        try (AsyncPolicyServiceImpl service = new AsyncPolicyServiceImpl(configFor(auStub, 2))) {
+            auStub.resetStats();
+
+            CompletableFuture<Map<String, List<PolicySummary>>> bulk = service.getPoliciesByEmails(emails(100));
+            TimeUnit.MILLISECONDS.sleep(4 * LATENCY_MILLIS);
+            Assert.assertTrue(bulk.cancel(true), "Bulk lookup should still be running");
+
+            TimeUnit.MILLISECONDS.sleep(4 * LATENCY_MILLIS);
+            int served = auStub.getRequestCount();
+            TimeUnit.MILLISECONDS.sleep(4 * LATENCY_MILLIS);
+
+            Assert.assertTrue(bulk.isCancelled());
+            Assert.assertTrue(served < 20, "Only calls started before cancelling should reach the API: " + served);
+            Assert.assertEquals(auStub.getRequestCount(), served, "No calls should start after cancelling");
+        }
+    }
+
+    /**
+     * Time one bulk lookup with the given per-host concurrency, after a warm-up round
+     */
+    private long timeBulkLookup(int concurrency, List<String> emails) {
+        try (AsyncPolicyServiceImpl service = new AsyncPolicyServiceImpl(configFor(auStub, concurrency))) {
+            service.getPoliciesByEmails(emails.subList(0, concurrency)).join();
+
+            long start = System.nanoTime();
+            Map<String, List<PolicySummary>> results = service.getPoliciesByEmails(emails).join();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            Assert.assertEquals(results.size(), emails.size());
+            return elapsedMillis;
+        }
+    }
+
+    private ApiConfiguration configFor(PolicyApiStub stub) {
+        ApiConfiguration config = new ApiConfiguration();
+        config.setBaseUrl(stub.getBaseUrl());
+        config.setEnableLogging(false);
+        return config;
+    }
+
+    private ApiConfiguration configFor(PolicyApiStub stub, int concurrency) {
+        ApiConfiguration config = configFor(stub);
+        config.setAsyncThreads(concurrency);
+        config.setAsyncMaxConcurrentPerHost(concurrency);
+        return config;
+    }
+
+    private static List<String> emails(int count) {
+        List<String> emails = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            emails.add("customer" + i + "@example.com");
+        }
+        return emails;
+    }
+}
@@ -0,0 +1,135 @@
+package com.zurich.testsuite.service.impl;
+
+import com.zurich.testsuite.client.PolicyApiClient;
+import com.zurich.testsuite.client.PolicyApiException;
+import com.zurich.testsuite.config.ApiConfiguration;
+import com.zurich.testsuite.model.PolicyApiResponse;
+import com.zurich.testsuite.model.PolicySummary;
+import com.zurich.testsuite.service.GetPolicyList;
+import org.mockito.Mockito;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Unit tests for the PolicyServiceImpl stream methods and policy snapshot loading against a mocked API client
+ */
+public class PolicyServiceImplTest {
+
+    private static final int TOTAL = 25;
+    private static final int PAGE_SIZE = 10;
+
+    @Test(groups = {"api", "pagination"}, description = "Verify the active policy stream reads every page")
+    public void testStreamReadsAllPages() {
+        PolicyServiceImpl service = new PolicyServiceImpl(new ApiConfiguration(), clientFailingOnPage(-1));
+
+        List<String> numbers;
+        try (Stream<PolicySummary> stream = service.streamActivePolicies(PAGE_SIZE, 1)) {
+            numbers = stream.map(PolicySummary::getPolicyNumber).collect(Collectors.toList());
+        }
+
+        Assert.assertEquals(numbers.size(), TOTAL);
+        Assert.assertEquals(numbers.get(TOTAL - 1), policyNumber(TOTAL - 1));
+    }
+
+    @Test(groups = {"api", "pagination"}, description = "Verify a failed middle page makes the stream throw instead of ending it")
+    public void testStreamThrowsOnFailedMiddlePage() {
+        PolicyApiClient client = clientFailingOnPage(1);
+        PolicyServiceImpl service = new PolicyServiceImpl(new ApiConfiguration(), client);
+
+        List<PolicySummary> consumed = new ArrayList<>();
+        try (Stream<PolicySummary> stream = service.streamActivePolicies(PAGE_SIZE, 1)) {
+            stream.forEach(consumed::add);
+            Assert.fail("The stream should not end at the failed page");
+        } catch (PolicyApiException e) {
+            Assert.assertEquals(e.getErrorCode(), "HTTP_503");
+        }
+
+        Assert.assertEquals(consumed.size(), PAGE_SIZE, "Only the page before the failure");
+        Assert.assertTrue(service.getActivePolicies(1, PAGE_SIZE).isEmpty(),
+                "The paginated method still reports a failed page as empty");
+    }
+
+    @Test(groups = {"api", "pagination"}, expectedExceptions = PolicyApiException.class,
+          description = "Verify a failed middle page of search results makes the stream throw")
+    public void testSearchStreamThrowsOnFailedMiddlePage() {
+        PolicyApiClient client = Mockito.mock(PolicyApiClient.class);
+        Mockito.when(client.searchPolicies(Mockito.eq("motor"), Mockito.anyInt(), Mockito.anyInt()))
+                .thenAnswer(invocation -> page(invocation.getArgument(1), invocation.getArgument(2), 1));
+        PolicyServiceImpl service = new PolicyServiceImpl(new ApiConfiguration(), client);
+
+        try (Stream<PolicySummary> stream = service.streamSearchResults("motor", PAGE_SIZE)) {
+            stream.count();
+        }
+    }
+
+    @Test(groups = {"api", "snapshot"}, description = "Verify the snapshot is loaded from every page of active policies")
+    public void testSnapshotLoadsAllPages() {
+        PolicyApiClient client = clientFailingOnPage(-1, 250);
+        PolicyServiceImpl service = new PolicyServiceImpl(snapshotConfiguration(), client);
+
+        PolicySnapshot snapshot = service.getSnapshotCache().get();
+
+        Assert.assertNotNull(snapshot);
+        Assert.assertEquals(snapshot.size(), 250);
+        for (int page = 0; page < 3; page++) {
+            Mockito.verify(client).getActivePolicies(page, GetPolicyList.MAX_PAGE_SIZE);
+        }
+    }
+
+    @Test(groups = {"api", "snapshot"}, description = "Verify a failed page fails the first snapshot load instead of installing an empty snapshot")
+    public void testSnapshotNotInstalledWhenAPageFails() {
+        PolicyServiceImpl service = new PolicyServiceImpl(snapshotConfiguration(), clientFailingOnPage(1, 250));
+        PolicySnapshotCache cache = service.getSnapshotCache();
+
+        Assert.assertFalse(cache.refresh());
+        Assert.assertNull(cache.get());
+        Assert.assertEquals(cache.getFailedRefreshCount(), 2);
+        Assert.assertEquals(cache.getRefreshCount(), 0);
+    }
+
+    private static ApiConfiguration snapshotConfiguration() {
+        ApiConfiguration config = new ApiConfiguration();
+        config.setSnapshotEnabled(true);
+        return config;
+    }
+
+    /**
+     * Client whose active policy listing fails with a 503 on the given page
+     */
+    private static PolicyApiClient clientFailingOnPage(int failingPage) {
+        return clientFailingOnPage(failingPage, TOTAL);
+    }
+
+    private static PolicyApiClient clientFailingOnPage(int failingPage, int total) {
+        PolicyApiClient client = Mockito.mock(PolicyApiClient.class);
+        Mockito.when(client.getActivePolicies(Mockito.anyInt(), Mockito.anyInt()))
+                .thenAnswer(invocation -> page(invocation.getArgument(0), invocation.getArgument(1), failingPage, total));
+        return client;
+    }
+
+    private static PolicyApiResponse page(int page, int size, int failingPage) {
+        return page(page, size, failingPage, TOTAL);
+    }
+
+    private static PolicyApiResponse page(int page, int size, int failingPage, int total) {
+        if (page == failingPage) {
+            return new PolicyApiResponse("API Error - Status: 503", "HTTP_503");
+        }
+        List<PolicySummary> policies = new ArrayList<>();
+        for (int i = page * size; i < Math.min(total, (page + 1) * size); i++) {
+            PolicySummary policy = new PolicySummary();
+            policy.setPolicyNumber(policyNumber(i));
+            policies.add(policy);
+        }
+        return new PolicyApiResponse(policies, total);
+    }
+
+    private static String policyNumber(int index) {
+        return String.format("POL-%04d", index);
+    }
+}
@@ -0,0 +1,192 @@
+package com.zurich.testsuite.service.impl;
+
+import com.zurich.testsuite.model.PolicySummary;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Unit tests for PolicySnapshot range queries and PolicySnapshotCache refresh behaviour
+ */
+public class PolicySnapshotTest {
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2024, 1, 1);
+
+    @Test(groups = {"api", "snapshot"}, description = "Verify indexed range queries match the linear filters")
+    public void testRangeQueriesMatchLinearFilter() {
+        List<PolicySummary> policies = randomPolicies(2_000, new Random(42));
+        PolicySnapshot snapshot = PolicySnapshot.build(policies, Instant.now());
+
+        Random random = new Random(7);
+        for (int i = 0; i < 100; i++) {
+            LocalDate start = BASE_DATE.plusDays(random.nextInt(800) - 30);
+            LocalDate end = start.plusDays(random.nextInt(120));
+            List<PolicySummary> expected = policies.stream()
+                    .filter(p -> p.getCreatedDate() != null && !"not-a-date".equals(p.getCreatedDate()))
+                    .filter(p -> {
+                        LocalDate created = LocalDate.parse(p.getCreatedDate());
+                        return !created.isBefore(start) && !created.isAfter(end);
+                    })
+                    .collect(Collectors.toList());
+            assertSameNumbers(snapshot.createdBetween(start, end), expected);
+
+            double min = random.nextInt(5_000);
+            double max = min + random.nextInt(500);
+            assertSameNumbers(snapshot.premiumBetween(min, max), policies.stream()
+                    .filter(p -> p.getPremiumAmount() >= min && p.getPremiumAmount() <= max)
+                    .collect(Collectors.toList()));
+
+            LocalDate cutoff = BASE_DATE.plusDays(random.nextInt(1_200));
+            assertSameNumbers(snapshot.expiringOnOrBefore(cutoff), policies.stream()
+                    .filter(p -> p.getExpirationDate() != null)
+                    .filter(p -> !LocalDate.parse(p.getExpirationDate()).isAfter(cutoff))
+                    .collect(Collectors.toList()));
+        }
+    }
+
+    @Test(groups = {"api", "snapshot"}, description = "Verify range bounds are inclusive and invalid dates are skipped")
+    public void testBoundsAndInvalidDates() {
+        List<PolicySummary> policies = List.of(
+                policy("A", 100.0, "2024-03-01", "2025-03-01"),
+                policy("B", 200.0, "2024-03-02", "2025-03-02"),
+                policy("C", 200.0, "01/03/2024", null),
+                policy("D", 300.0, null, "2025-03-03"));
+        PolicySnapshot snapshot = PolicySnapshot.build(policies, Instant.now());
+
+        assertSameNumbers(snapshot.createdBetween(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 2)), policies.subList(0, 2));
+        assertSameNumbers(snapshot.premiumBetween(200.0, 300.0), policies.subList(1, 4));
+        assertSameNumbers(snapshot.expiringOnOrBefore(LocalDate.of(2025, 3, 2)), policies.subList(0, 2));
+        Assert.assertTrue(snapshot.createdBetween(LocalDate.of(2024, 3, 3), LocalDate.of(2024, 3, 2)).isEmpty());
+        Assert.assertEquals(snapshot.getUnindexedDateCount(), 3, "Two missing/invalid created dates and one expiration date");
+    }
+
+    @Test(groups = {"api", "snapshot"}, description = "Verify the cache reloads only once the snapshot is older than the max age")
+    public void testCacheRefreshesAfterMaxAge() {
+        MutableClock clock = new MutableClock();
+        AtomicInteger loads = new AtomicInteger();
+        PolicySnapshotCache cache = new PolicySnapshotCache(() -> {
+            loads.incrementAndGet();
+            return randomPolicies(10, new Random(loads.get()));
+        }, Duration.ofMinutes(5), clock);
+
+        Assert.assertTrue(cache.isStale());
+        PolicySnapshot first = cache.get();
+        Assert.assertSame(cache.get(), first);
+        clock.advance(Duration.ofMinutes(4));
+        Assert.assertSame(cache.get(), first);
+        Assert.assertEquals(cache.getAge(), Duration.ofMinutes(4));
+        Assert.assertEquals(loads.get(), 1);
+
+        clock.advance(Duration.ofMinutes(1));
+        Assert.assertNotSame(cache.get(), first);
+        Assert.assertEquals(loads.get(), 2);
+        Assert.assertEquals(cache.getRefreshCount(), 2);
+        Assert.assertEquals(cache.getStaleReadCount(), 0);
+    }
+
+    @Test(groups = {"api", "snapshot"}, description = "Verify a failed refresh keeps serving the previous snapshot as stale")
+    public void testFailedRefreshServesStaleSnapshot() {
+        MutableClock clock = new MutableClock();
+        AtomicInteger loads = new AtomicInteger();
+        PolicySnapshotCache cache = new PolicySnapshotCache(() -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IllegalStateException("API unavailable");
+            }
+            return randomPolicies(10, new Random(1));
+        }, Duration.ofMinutes(5), clock);
+
+        PolicySnapshot first = cache.get();
+        clock.advance(Duration.ofMinutes(6));
+        Assert.assertSame(cache.get(), first);
+        Assert.assertSame(cache.get(), first);
+
+        Assert.assertEquals(loads.get(), 2, "Failed refresh should not be retried before another max age");
+        Assert.assertEquals(cache.getFailedRefreshCount(), 1);
+        Assert.assertEquals(cache.getStaleReadCount(), 2);
+        Assert.assertTrue(cache.isStale());
+    }
+
+    @Test(groups = {"api", "snapshot"}, description = "Verify an empty first load is a failed refresh and installs no snapshot")
+    public void testEmptyFirstLoadIsFailedRefresh() {
+        AtomicInteger loads = new AtomicInteger();
+        PolicySnapshotCache cache = new PolicySnapshotCache(() -> loads.incrementAndGet() > 1
+                ? randomPolicies(10, new Random(1))
+                : new ArrayList<>(), Duration.ofMinutes(5), new MutableClock());
+
+        Assert.assertFalse(cache.refresh());
+        Assert.assertTrue(cache.isStale());
+        Assert.assertEquals(cache.getFailedRefreshCount(), 1);
+        Assert.assertEquals(cache.getRefreshCount(), 0);
+
+        PolicySnapshot snapshot = cache.get();
+        Assert.assertNotNull(snapshot, "The next read should retry the load");
+        Assert.assertEquals(snapshot.size(), 10);
+        Assert.assertEquals(loads.get(), 2);
+    }
+
+    private static void assertSameNumbers(List<PolicySummary> actual, List<PolicySummary> expected) {
+        Assert.assertEquals(numbers(actual), numbers(expected));
+    }
+
+    private static List<String> numbers(List<PolicySummary> policies) {
+        return policies.stream()
+                .map(PolicySummary::getPolicyNumber)
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList());
+    }
+
+    private static List<PolicySummary> randomPolicies(int count, Random random) {
+        List<PolicySummary> policies = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate created = BASE_DATE.plusDays(random.nextInt(730));
+            String createdDate = random.nextInt(50) == 0 ? "not-a-date" : created.toString();
+            String expirationDate = random.nextInt(50) == 0 ? null : created.plusDays(365).toString();
+            policies.add(policy(String.format("POL-%06d", i), random.nextInt(500_000) / 100.0, createdDate, expirationDate));
+        }
+        return policies;
+    }
+
+    private static PolicySummary policy(String number, double premium, String createdDate, String expirationDate) {
+        return new PolicySummary(number, "CUST_1", "Holder", "holder@example.com", "HOME", "ACTIVE",
+                premium, createdDate, expirationDate, createdDate);
+    }
+
+    /**
+     * Clock moved forward by the test
+     */
+    private static final class MutableClock extends Clock {
+
+        private Instant now = Instant.parse("2024-06-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
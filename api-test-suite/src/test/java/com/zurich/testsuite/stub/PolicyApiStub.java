@@ -0,0 +1,174 @@
+package com.zurich.testsuite.stub;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local policy API stub on the JDK HttpServer, for client tests and benchmarks without an external API
+ *
+ * Every /api/v1/policy/** request returns one policy whose number is derived from the
+ * country and the lookup key (emailId, customerId, search or the last path segment),
+ * after an optional fixed latency. The stub counts requests, peak concurrency and the
+ * client ports it has seen, i.e. the number of connections opened.
+ * Responses carry an ETag and Last-Modified; a matching If-None-Match gets 304 Not Modified
+ * until {@link #updatePolicies()} changes the data.
+ */
+public class PolicyApiStub implements AutoCloseable {
+
+    private final String country;
+    private final long latencyMillis;
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final Set<Integer> clientPorts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger notModifiedCount = new AtomicInteger();
+    private final AtomicInteger dataVersion = new AtomicInteger();
+
+    private PolicyApiStub(String country, long latencyMillis) throws IOException {
+        this.country = country;
+        this.latencyMillis = latencyMillis;
+        this.server = HttpServer.create(new InetSocketAddress("localhost", 0), 512);
+        server.createContext("/api/v1/policy", this::handle);
+        server.setExecutor(executor);
+        server.start();
+    }
+
+    public static PolicyApiStub start(String country, long latencyMillis) throws IOException {
+        return new PolicyApiStub(country, latencyMillis);
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort();
+    }
+
+    /**
+     * Policy number the stub returns for a lookup key
+     */
+    public String policyNumberFor(String key) {
+        return country + "-POL-" + Integer.toHexString(key.hashCode());
+    }
+
+    public int getRequestCount() {
+        return requestCount.get();
+    }
+
+    public int getMaxInFlight() {
+        return maxInFlight.get();
+    }
+
+    public int getConnectionCount() {
+        return clientPorts.size();
+    }
+
+    /**
+     * Requests answered with 304 Not Modified
+     */
+    public int getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * Change the premium of every policy, so cached responses no longer match
+     */
+    public void updatePolicies() {
+        dataVersion.incrementAndGet();
+    }
+
+    public void resetStats() {
+        requestCount.set(0);
+        notModifiedCount.set(0);
+        maxInFlight.set(inFlight.get());
+        clientPorts.clear();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requestCount.incrementAndGet();
+        clientPorts.add(exchange.getRemoteAddress().getPort());
+        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+        try {
+            exchange.getRequestBody().readAllBytes();
+            if (latencyMillis > 0) {
+                Thread.sleep(latencyMillis);
+            }
+
+            byte[] body = responseFor(exchange).getBytes(StandardCharsets.UTF_8);
+            String etag = "\"" + Integer.toHexString(Arrays.hashCode(body)) + "\"";
+            exchange.getResponseHeaders().add("ETag", etag);
+            exchange.getResponseHeaders().add("Last-Modified", "Mon, 01 Jan 2024 00:00:00 GMT");
+            if (etag.equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModifiedCount.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                return;
+            }
+
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            exchange.sendResponseHeaders(503, -1);
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private String responseFor(HttpExchange exchange) {
+        Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        String path = exchange.getRequestURI().getPath();
+
+        String key = query.getOrDefault("emailId",
+                query.getOrDefault("customerId",
+                        query.getOrDefault("search", path.substring(path.lastIndexOf('/') + 1))));
+
+        return "{\"success\":true,\"message\":\"Policies retrieved successfully\","
+                + "\"totalNumberofPolicies\":1,\"policies\":[{"
+                + "\"policyNumber\":\"" + policyNumberFor(key) + "\","
+                + "\"customerId\":\"" + query.getOrDefault("customerId", "CUST_001") + "\","
+                + "\"email\":\"" + query.getOrDefault("emailId", "user@example.com") + "\","
+                + "\"productType\":\"HOME\","
+                + "\"status\":\"ACTIVE\","
+                + "\"premiumAmount\":" + (1200.0 + dataVersion.get()) + "}]}";
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0) {
+                query.put(URLDecoder.decode(pair.substring(0, separator), StandardCharsets.UTF_8),
+                        URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8));
+            }
+        }
+        return query;
+    }
+}
@@ -0,0 +1,126 @@
+#!/bin/bash
+
+# Zurich Spring POC - Startup Benchmark
+# Measures time-to-first-successful GET /claims/{id} and resident memory
+# for the JIT, AOT+CDS and native-image startup modes.
+#
+# Build the artifacts first:
+#   jit      mvn -DskipTests package
+#   aot-cds  mvn -Paot-cds -DskipTests package
+#   native   mvn -Pnative -DskipTests native:compile
+
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)"
+PROJECT_ROOT="$(dirname "$SCRIPT_DIR")"
+TARGET_DIR="$PROJECT_ROOT/target"
+REPORT_PATH="$TARGET_DIR/startup-benchmark"
+MODES="jit,aot-cds,native"
+RUNS=5
+PORT=18092
+TIMEOUT_SECONDS=120
+
+show_help() {
+    cat << EOF
+Zurich Spring POC - Startup Benchmark
+
+Usage: $0 [OPTIONS]
+
+Options:
+    -m, --modes MODES       Comma separated modes: jit, aot-cds, native (default: $MODES)
+    -n, --runs N            Runs per mode (default: $RUNS)
+    -p, --port PORT         HTTP port for the benchmarked instance (default: $PORT)
+    -h, --help              Show this help message
+
+Results are written to $REPORT_PATH/results.csv
+EOF
+}
+
+while [[ $# -gt 0 ]]; do
+    case $1 in
+        -m|--modes) MODES="$2"; shift 2 ;;
+        -n|--runs) RUNS="$2"; shift 2 ;;
+        -p|--port) PORT="$2"; shift 2 ;;
+        -h|--help) show_help; exit 0 ;;
+        *) echo "Unknown option: $1" >&2; show_help; exit 1 ;;
+    esac
+done
+
+JAR_NAME="$(cd "$TARGET_DIR" && ls zurich-spring-poc-*.jar 2>/dev/null | grep -v original | head -n 1 || true)"
+BASE_URL="http://localhost:$PORT/api"
+
+command_for_mode() {
+    case $1 in
+        jit)
+            echo "java -jar $TARGET_DIR/$JAR_NAME --server.port=$PORT"
+            ;;
+        aot-cds)
+            echo "java -XX:SharedArchiveFile=$TARGET_DIR/cds/application.jsa -Dspring.aot.enabled=true -jar $TARGET_DIR/cds/$JAR_NAME --server.port=$PORT"
+            ;;
+        native)
+            echo "$TARGET_DIR/zurich-spring-poc --server.port=$PORT"
+            ;;
+        *)
+            echo "Unknown mode: $1" >&2
+            exit 1
+            ;;
+    esac
+}
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_kb() {
+    ps -o rss= -p "$1" 2>/dev/null | tr -d ' '
+}
+
+# Poll until a claim can be fetched by id; prints the elapsed milliseconds
+wait_for_first_claim() {
+    local start_ms=$1
+    local deadline=$(( start_ms + TIMEOUT_SECONDS * 1000 ))
+    local claim_id=""
+
+    while [[ $(now_ms) -lt $deadline ]]; do
+        if [[ -z "$claim_id" ]]; then
+            claim_id=$(curl -sf "$BASE_URL/claims" 2>/dev/null \
+                | grep -o '"id":"[0-9a-f-]\{36\}"' | head -n 1 | cut -d'"' -f4 || true)
+        fi
+        if [[ -n "$claim_id" ]] && curl -sf -o /dev/null "$BASE_URL/claims/$claim_id"; then
+            echo $(( $(now_ms) - start_ms ))
+            return 0
+        fi
+        sleep 0.02
+    done
+    return 1
+}
+
+mkdir -p "$REPORT_PATH"
+RESULTS="$REPORT_PATH/results.csv"
+echo "mode,run,time_to_first_claim_ms,rss_kb" > "$RESULTS"
+
+IFS=',' read -ra MODE_LIST <<< "$MODES"
+for mode in "${MODE_LIST[@]}"; do
+    cmd=$(command_for_mode "$mode")
+    for run in $(seq 1 "$RUNS"); do
+        start_ms=$(now_ms)
+        $cmd > "$REPORT_PATH/$mode-$run.log" 2>&1 &
+        pid=$!
+
+        if elapsed=$(wait_for_first_claim "$start_ms"); then
+            rss=$(rss_kb "$pid")
+            echo "$mode,$run,$elapsed,$rss" >> "$RESULTS"
+            echo "[$mode] run $run: first claim after ${elapsed} ms, RSS ${rss} KB"
+        else
+            echo "[$mode] run $run: no successful GET /claims/{id} within ${TIMEOUT_SECONDS}s (see $REPORT_PATH/$mode-$run.log)" >&2
+        fi
+
+        kill "$pid" 2>/dev/null || true
+        wait "$pid" 2>/dev/null || true
+    done
+done
+
+echo
+echo "Averages:"
+awk -F',' 'NR > 1 { t[$1] += $3; r[$1] += $4; n[$1]++ }
+    END { for (m in n) printf "  %-8s time-to-first-claim %6.0f ms   RSS %8.0f KB\n", m, t[m] / n[m], r[m] / n[m] }' "$RESULTS"
@@ -0,0 +1,108 @@
+package com.zurich.poc.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zurich.poc.ZurichSpringPocApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end GET /claims/{id} throughput under different logging set-ups:
+ * <ul>
+ *   <li>{@code sync} - JSON encoder on the request thread, no rate limit</li>
+ *   <li>{@code async} - AsyncAppender, no rate limit</li>
+ *   <li>{@code async-sampled} - AsyncAppender with the default per-logger rate limit</li>
+ *   <li>{@code off} - logging disabled</li>
+ * </ul>
+ * Each mode runs in its own fork, so each gets a fresh Logback configuration.
+ * Console output goes to a null stream, so the numbers measure the logging pipeline and not the terminal.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class ClaimApiLoggingBenchmark {
+
+    private static final String UNLIMITED = "--logging.rate-limit.max-events-per-second=" + Integer.MAX_VALUE;
+
+    @Param({"sync", "async", "async-sampled", "off"})
+    private String loggingMode;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient httpClient;
+    private HttpRequest getClaimRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+
+        String[] args = switch (loggingMode) {
+            case "sync" -> new String[]{"--spring.profiles.active=sync-logging", UNLIMITED};
+            case "async" -> new String[]{UNLIMITED};
+            case "async-sampled" -> new String[0];
+            default -> new String[]{"--logging.level.root=OFF", "--logging.level.com.zurich.poc=OFF"};
+        };
+        SpringApplication application = new SpringApplication(ZurichSpringPocApplication.class);
+        context = application.run(withRandomPort(args));
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        String baseUrl = "http://localhost:" + port + "/api/claims";
+        httpClient = HttpClient.newHttpClient();
+
+        // DataInitializer seeds sample claims outside the test profile; benchmark against the first one
+        HttpResponse<String> all = httpClient.send(
+                HttpRequest.newBuilder(URI.create(baseUrl)).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+        JsonNode claims = new ObjectMapper().readTree(all.body()).path("data");
+        if (!claims.isArray() || claims.isEmpty()) {
+            throw new IllegalStateException("No seeded claims found at " + baseUrl);
+        }
+        getClaimRequest = HttpRequest.newBuilder(URI.create(baseUrl + "/" + claims.get(0).path("id").asText()))
+                .GET()
+                .build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Benchmark
+    public int getClaimById() throws Exception {
+        return httpClient.send(getClaimRequest, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private static String[] withRandomPort(String[] args) {
+        String[] all = new String[args.length + 1];
+        System.arraycopy(args, 0, all, 0, args.length);
+        all[args.length] = "--server.port=0";
+        return all;
+    }
+}
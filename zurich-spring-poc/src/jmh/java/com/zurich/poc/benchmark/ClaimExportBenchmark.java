@@ -0,0 +1,137 @@
+package com.zurich.poc.benchmark;
+
+import com.zurich.poc.export.ExportFormat;
+import com.zurich.poc.model.ClaimExportFilter;
+import com.zurich.poc.service.ClaimExportService;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full export of 5 million claims to a discarding stream, per format.
+ * The fork runs with a 512 MB heap, well below what the rows would take if they were
+ * held in memory; rows/s and peak heap use are printed after each iteration.
+ *
+ * The database is a file-based H2 in target/ with lazy query execution, so the driver
+ * honours the fetch size instead of materialising the result. Columns are as nullable as
+ * in the entity, and some rows leave the amount or phone number empty.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx512m")
+@State(Scope.Benchmark)
+public class ClaimExportBenchmark {
+
+    private static final int ROWS = 5_000_000;
+
+    @Param({"csv", "parquet"})
+    private String format;
+
+    private ClaimExportService exportService;
+    private ExportFormat exportFormat;
+    private long iterationStart;
+
+    @Setup
+    public void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:file:./target/export-benchmark/claims;LAZY_QUERY_EXECUTION=1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        seed(jdbcTemplate);
+
+        exportService = new ClaimExportService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                new ClaimShardRouter(false, 1));
+        ReflectionTestUtils.setField(exportService, "fetchSize", 1000);
+        ReflectionTestUtils.setField(exportService, "parquetRowGroupBytes", 8L * 1024 * 1024);
+        exportFormat = ExportFormat.fromParameter(format);
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakUsage() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        iterationStart = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportIteration() {
+        long peakHeap = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum();
+        double seconds = (System.nanoTime() - iterationStart) / 1e9;
+        System.out.printf("%n%s: %.0f rows/s, peak heap %d MB%n",
+                format, ROWS / seconds, peakHeap / (1024 * 1024));
+    }
+
+    @Benchmark
+    public long export() throws Exception {
+        return exportService.export(new ClaimExportFilter(), exportFormat, OutputStream.nullOutputStream());
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("""
+                CREATE TABLE IF NOT EXISTS insurance_claims (
+                    id UUID PRIMARY KEY,
+                    claim_number VARCHAR(255) NOT NULL,
+                    policy_number VARCHAR(255) NOT NULL,
+                    incident_date DATE NOT NULL,
+                    description VARCHAR(1000) NOT NULL,
+                    estimated_amount NUMERIC(10, 2),
+                    type VARCHAR(255),
+                    status VARCHAR(255),
+                    claimant_name VARCHAR(255) NOT NULL,
+                    claimant_email VARCHAR(255),
+                    claimant_phone VARCHAR(255),
+                    additional_details VARCHAR(2000),
+                    assigned_adjuster VARCHAR(255),
+                    created_at TIMESTAMP,
+                    updated_at TIMESTAMP)""");
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM insurance_claims", Long.class);
+        if (existing != null && existing == ROWS) {
+            return;
+        }
+
+        jdbcTemplate.execute("TRUNCATE TABLE insurance_claims");
+        jdbcTemplate.execute("""
+                INSERT INTO insurance_claims
+                SELECT RANDOM_UUID(),
+                       'CLM-' || X,
+                       'POL-' || LPAD(CAST(MOD(X, 100000) AS VARCHAR), 6, '0'),
+                       DATEADD(DAY, -MOD(X, 1000), DATE '2025-01-01'),
+                       'Benchmark claim, "export" row ' || X,
+                       CASEWHEN(MOD(X, 50) = 0, NULL, MOD(X, 100000) + 0.50),
+                       CASEWHEN(MOD(X, 2) = 0, 'AUTO', 'HOME'),
+                       CASEWHEN(MOD(X, 3) = 0, 'APPROVED', 'SUBMITTED'),
+                       'Claimant ' || X,
+                       'claimant' || X || '@example.com',
+                       CASEWHEN(MOD(X, 10) = 0, NULL, '+1234567890'),
+                       NULL,
+                       'Adjuster',
+                       TIMESTAMP '2025-01-01 10:00:00',
+                       TIMESTAMP '2025-01-02 10:00:00'
+                FROM SYSTEM_RANGE(1, %d)""".formatted(ROWS));
+    }
+}
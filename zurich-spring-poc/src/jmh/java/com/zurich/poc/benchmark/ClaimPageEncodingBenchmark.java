@@ -0,0 +1,120 @@
+package com.zurich.poc.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.zurich.poc.config.SparseFieldsetFilters;
+import com.zurich.poc.exception.ApiResponse;
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.PolicySummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Encode/decode cost of a 1k-claim page as JSON, CBOR and Smile, using mappers
+ * configured like the application's converters. Bytes on the wire (raw and gzipped)
+ * are printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClaimPageEncodingBenchmark {
+
+    private static final TypeReference<ApiResponse<List<Claim>>> CLAIM_PAGE = new TypeReference<>() {
+    };
+
+    @Param({"json", "cbor", "smile"})
+    private String encoding;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<List<Claim>> claimPage;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = mapper(switch (encoding) {
+            case "cbor" -> new CBORFactory();
+            case "smile" -> new SmileFactory();
+            default -> new JsonFactory();
+        });
+
+        List<Claim> claims = new ArrayList<>(1000);
+        for (int i = 0; i < 1000; i++) {
+            Claim claim = new Claim();
+            claim.setId(UUID.randomUUID());
+            claim.setClaimNumber(String.format("CLM-%07d", i));
+            claim.setPolicyNumber(String.format("POL-%06d", i % 200));
+            claim.setIncidentDate(LocalDate.of(2024, 1, 1).plusDays(i % 365));
+            claim.setDescription("Water damage to kitchen ceiling, claim " + i);
+            claim.setEstimatedAmount(new BigDecimal("1500.00").add(BigDecimal.valueOf(i)));
+            claim.setType(Claim.ClaimType.values()[i % Claim.ClaimType.values().length]);
+            claim.setStatus(Claim.ClaimStatus.values()[i % Claim.ClaimStatus.values().length]);
+            claim.setClaimantName("Claimant " + i);
+            claim.setClaimantEmail("claimant" + i + "@example.com");
+            claim.setClaimantPhone("+4412345" + String.format("%05d", i));
+            claim.setAssignedAdjuster("Adjuster " + (i % 20));
+            claim.setCreatedAt(LocalDateTime.of(2024, 6, 1, 9, 0).plusMinutes(i));
+            claim.setUpdatedAt(LocalDateTime.of(2024, 6, 2, 9, 0).plusMinutes(i));
+            claims.add(claim);
+        }
+        claimPage = ApiResponse.success(claims, "Claims retrieved successfully");
+        encoded = objectMapper.writeValueAsBytes(claimPage);
+
+        System.out.printf("%n%s: %d bytes, %d bytes gzipped%n", encoding, encoded.length, gzippedSize(encoded));
+    }
+
+    @Benchmark
+    public byte[] encode() throws Exception {
+        return objectMapper.writeValueAsBytes(claimPage);
+    }
+
+    @Benchmark
+    public ApiResponse<List<Claim>> decode() throws Exception {
+        return objectMapper.readValue(encoded, CLAIM_PAGE);
+    }
+
+    /**
+     * Same settings Boot's Jackson2ObjectMapperBuilder applies to the application's converters.
+     */
+    private static ObjectMapper mapper(JsonFactory factory) {
+        return new ObjectMapper(factory)
+                .findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .addMixIn(Claim.class, SparseFieldsetFilters.Mixin.class)
+                .addMixIn(PolicySummary.class, SparseFieldsetFilters.Mixin.class)
+                .setFilterProvider(SparseFieldsetFilters.SERIALIZE_ALL);
+    }
+
+    private static int gzippedSize(byte[] bytes) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(bytes);
+        }
+        return out.size();
+    }
+}
@@ -0,0 +1,106 @@
+package com.zurich.poc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.zurich.poc.model.PolicySummary;
+import com.zurich.poc.service.impl.ClaimServiceImpl;
+import com.zurich.poc.util.PolicyListScanner;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares full PolicyListResponse binding with the streaming PolicyListScanner
+ * used by validatePolicy, for 10/100/1000-policy MuleSoft responses.
+ * The gc profiler reports bytes allocated per validation (gc.alloc.rate.norm).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PolicyListParsingBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int policyCount;
+
+    /** Where the searched policy sits: first entry, last entry, or not present at all. */
+    @Param({"first", "last", "absent"})
+    private String matchPosition;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private byte[] payload;
+    private String target;
+
+    @Setup
+    public void setUp() throws Exception {
+        List<PolicySummary> policies = new ArrayList<>(policyCount);
+        for (int i = 0; i < policyCount; i++) {
+            PolicySummary policy = new PolicySummary();
+            policy.setPolicyNumber(String.format("POL-%06d", i));
+            policy.setPolicyHolderName("Policy Holder " + i);
+            policy.setEmail("holder@example.com");
+            policy.setGender(i % 2 == 0 ? "Male" : "Female");
+            policy.setDateOfBirth(LocalDate.of(1980, 1, 1).plusDays(i));
+            policy.setPolicyType("HOME");
+            policy.setStartDate(LocalDate.of(2024, 1, 1));
+            policy.setEndDate(LocalDate.of(2025, 1, 1));
+            policy.setStatus("ACTIVE");
+            policy.setPremiumAmount(1000.0 + i);
+            policy.setCoverageAmount(250000.0);
+            policy.setNomineeName("Nominee " + i);
+            policy.setNomineeRelationship("Spouse");
+            policy.setNomineeContactInfo("nominee@example.com");
+            policy.setNomineeIdentification("NOM" + i);
+            policy.setStreetAddress(i + " Benchmark Street");
+            policy.setCity("London");
+            policy.setState("Greater London");
+            policy.setPostalCode("EC1A 1BB");
+            policy.setCountry("United Kingdom");
+            policy.setAddressType("Residential");
+            policy.setCoverages(List.of(
+                    new PolicySummary.Coverage("BUILDINGS", 200000.0, "Buildings cover"),
+                    new PolicySummary.Coverage("CONTENTS", 50000.0, "Contents cover")));
+            policies.add(policy);
+        }
+
+        ClaimServiceImpl.PolicyListResponse response = new ClaimServiceImpl.PolicyListResponse();
+        response.setTotalNumberofPolicies(policyCount);
+        response.setPolicies(policies);
+        payload = objectMapper.writeValueAsBytes(response);
+
+        switch (matchPosition) {
+            case "first" -> target = policies.get(0).getPolicyNumber();
+            case "last" -> target = policies.get(policyCount - 1).getPolicyNumber();
+            default -> target = "POL-UNKNOWN";
+        }
+    }
+
+    @Benchmark
+    public boolean fullBinding() throws Exception {
+        ClaimServiceImpl.PolicyListResponse response =
+                objectMapper.readValue(payload, ClaimServiceImpl.PolicyListResponse.class);
+        return response.getPolicies().stream()
+                .anyMatch(policy -> target.equals(policy.getPolicyNumber()));
+    }
+
+    @Benchmark
+    public boolean streamingScan() throws Exception {
+        return PolicyListScanner.containsPolicyNumber(payload, target);
+    }
+}
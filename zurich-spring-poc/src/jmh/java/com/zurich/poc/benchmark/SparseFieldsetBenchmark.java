@@ -0,0 +1,135 @@
+package com.zurich.poc.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.zurich.poc.config.SparseFieldsetFilters;
+import com.zurich.poc.exception.ApiResponse;
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.PolicySummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialisation cost of full responses versus sparse fieldsets, using the same
+ * mix-ins and filters the application registers. Payload sizes are printed at setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SparseFieldsetBenchmark {
+
+    private static final String POLICY_FIELDS = "policyNumber,status,endDate";
+    private static final String CLAIM_FIELDS = "claimNumber,status,estimatedAmount";
+
+    private final SparseFieldsetFilters sparseFieldsetFilters = new SparseFieldsetFilters();
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PolicySummary> policyResponse;
+    private ApiResponse<List<Claim>> claimPageResponse;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .addMixIn(Claim.class, SparseFieldsetFilters.Mixin.class)
+                .addMixIn(PolicySummary.class, SparseFieldsetFilters.Mixin.class)
+                .filterProvider(SparseFieldsetFilters.SERIALIZE_ALL)
+                .build();
+
+        PolicySummary policy = new PolicySummary();
+        policy.setPolicyNumber("POL-000001");
+        policy.setPolicyHolderName("Policy Holder");
+        policy.setEmail("holder@example.com");
+        policy.setGender("Female");
+        policy.setDateOfBirth(LocalDate.of(1985, 6, 1));
+        policy.setPolicyType("HOME");
+        policy.setStartDate(LocalDate.of(2024, 1, 1));
+        policy.setEndDate(LocalDate.of(2025, 1, 1));
+        policy.setStatus("ACTIVE");
+        policy.setPremiumAmount(1200.0);
+        policy.setCoverageAmount(250000.0);
+        policy.setNomineeName("Nominee");
+        policy.setNomineeRelationship("Spouse");
+        policy.setNomineeContactInfo("nominee@example.com");
+        policy.setNomineeIdentification("NOM-1");
+        policy.setStreetAddress("1 Benchmark Street");
+        policy.setCity("London");
+        policy.setState("Greater London");
+        policy.setPostalCode("EC1A 1BB");
+        policy.setCountry("United Kingdom");
+        policy.setAddressType("Residential");
+        policy.setCoverages(List.of(
+                new PolicySummary.Coverage("BUILDINGS", 200000.0, "Buildings cover"),
+                new PolicySummary.Coverage("CONTENTS", 50000.0, "Contents cover")));
+        policyResponse = ApiResponse.success(policy, "Policy details retrieved successfully");
+
+        List<Claim> claims = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Claim claim = new Claim();
+            claim.setId(UUID.randomUUID());
+            claim.setClaimNumber("CLM-" + i);
+            claim.setPolicyNumber("POL-" + (i % 10));
+            claim.setIncidentDate(LocalDate.of(2024, 3, 1).plusDays(i));
+            claim.setDescription("Benchmark claim description number " + i);
+            claim.setEstimatedAmount(new BigDecimal("1500.00"));
+            claim.setType(Claim.ClaimType.AUTO);
+            claim.setStatus(Claim.ClaimStatus.SUBMITTED);
+            claim.setClaimantName("Claimant " + i);
+            claim.setClaimantEmail("claimant" + i + "@example.com");
+            claim.setClaimantPhone("+1234567890");
+            claims.add(claim);
+        }
+        claimPageResponse = ApiResponse.success(claims, "Claims retrieved successfully");
+
+        System.out.printf("%nPolicy details: full %d bytes, sparse %d bytes%n",
+                fullPolicy().length, sparsePolicy().length);
+        System.out.printf("100 claims:     full %d bytes, sparse %d bytes%n",
+                fullClaims().length, sparseClaims().length);
+    }
+
+    @Benchmark
+    public byte[] fullPolicy() throws Exception {
+        return objectMapper.writeValueAsBytes(policyResponse);
+    }
+
+    @Benchmark
+    public byte[] sparsePolicy() throws Exception {
+        return sparseWriter(POLICY_FIELDS).writeValueAsBytes(policyResponse);
+    }
+
+    @Benchmark
+    public byte[] fullClaims() throws Exception {
+        return objectMapper.writeValueAsBytes(claimPageResponse);
+    }
+
+    @Benchmark
+    public byte[] sparseClaims() throws Exception {
+        return sparseWriter(CLAIM_FIELDS).writeValueAsBytes(claimPageResponse);
+    }
+
+    /**
+     * Mirrors what Spring's Jackson converter does for a MappingJacksonValue with filters.
+     */
+    private ObjectWriter sparseWriter(String fields) {
+        return objectMapper.writer(sparseFieldsetFilters.forFields(fields));
+    }
+}
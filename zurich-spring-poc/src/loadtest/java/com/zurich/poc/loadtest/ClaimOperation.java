@@ -0,0 +1,62 @@
+package com.zurich.poc.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * The claim API calls the load test issues. Reads, lists and updates pick a claim at
+ * random from those created so far.
+ */
+public enum ClaimOperation {
+
+    CREATE {
+        @Override
+        HttpRequest request(String baseUrl, ClaimPool claims) {
+            String policyNumber = PolicyServiceStub.randomPolicyNumber();
+            return json(URI.create(baseUrl), "POST", claimJson(policyNumber));
+        }
+    },
+    READ {
+        @Override
+        HttpRequest request(String baseUrl, ClaimPool claims) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/" + claims.randomId())).GET().build();
+        }
+    },
+    LIST {
+        @Override
+        HttpRequest request(String baseUrl, ClaimPool claims) {
+            return HttpRequest.newBuilder(URI.create(baseUrl + "/policy/" + PolicyServiceStub.randomPolicyNumber()))
+                    .GET()
+                    .build();
+        }
+    },
+    UPDATE {
+        @Override
+        HttpRequest request(String baseUrl, ClaimPool claims) {
+            ClaimPool.Entry claim = claims.random();
+            return json(URI.create(baseUrl + "/" + claim.id()), "PUT", claimJson(claim.policyNumber()));
+        }
+    };
+
+    abstract HttpRequest request(String baseUrl, ClaimPool claims);
+
+    private static HttpRequest json(URI uri, String method, String body) {
+        return HttpRequest.newBuilder(uri)
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    static String claimJson(String policyNumber) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return """
+                {"claimNumber":"CLM-LOAD-%s","policyNumber":"%s","incidentDate":"%s",\
+                "description":"Load test claim with a realistic description length","estimatedAmount":%d.00,\
+                "type":"AUTO","claimantName":"Load Tester","claimantEmail":"%s","claimantPhone":"+1234567890"}"""
+                .formatted(UUID.randomUUID(), policyNumber, LocalDate.now().minusDays(random.nextInt(1, 365)),
+                        random.nextInt(100, 50_000), PolicyServiceStub.EMAIL);
+    }
+}
@@ -0,0 +1,44 @@
+package com.zurich.poc.loadtest;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Fixed-capacity ring of created claims. Once full, new claims replace the oldest ones,
+ * so reads keep hitting a mix of old and fresh rows without the pool growing.
+ */
+public class ClaimPool {
+
+    record Entry(UUID id, String policyNumber) {
+    }
+
+    private final AtomicReferenceArray<Entry> entries;
+    private final AtomicInteger added = new AtomicInteger();
+
+    public ClaimPool(int capacity) {
+        this.entries = new AtomicReferenceArray<>(capacity);
+    }
+
+    void add(UUID id, String policyNumber) {
+        int slot = Math.floorMod(added.getAndIncrement(), entries.length());
+        entries.set(slot, new Entry(id, policyNumber));
+    }
+
+    int size() {
+        return Math.min(added.get(), entries.length());
+    }
+
+    Entry random() {
+        int size = size();
+        if (size == 0) {
+            throw new IllegalStateException("No claims created yet");
+        }
+        return entries.get(ThreadLocalRandom.current().nextInt(size));
+    }
+
+    UUID randomId() {
+        return random().id();
+    }
+}
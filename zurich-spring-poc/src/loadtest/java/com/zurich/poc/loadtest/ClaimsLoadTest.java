@@ -0,0 +1,147 @@
+package com.zurich.poc.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.zurich.poc.ZurichSpringPocApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+/**
+ * Boots the claims application against an in-process MuleSoft stub, drives it with an
+ * open-model workload and reports HdrHistogram percentiles per operation.
+ *
+ * Results go to target/loadtest/&lt;scenario&gt;/. If src/loadtest/baselines/&lt;scenario&gt;.json
+ * exists, the run is compared with it and the process exits with status 1 on a regression;
+ * {@code update-baseline=true} stores the run as the new baseline. A run that dropped requests
+ * always exits with status 1 and is never stored as a baseline. Baselines only compare
+ * meaningfully on the same hardware, so record them on the machine that runs the check.
+ * See {@link LoadTestOptions} for the options.
+ */
+public final class ClaimsLoadTest {
+
+    private static final int SEED_PARALLELISM = 50;
+
+    private ClaimsLoadTest() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+        int exitCode;
+
+        try (PolicyServiceStub policyService = new PolicyServiceStub(options.muleLatency, options.muleLatencySigma);
+             ConfigurableApplicationContext context = startApplication(options, policyService)) {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            String baseUrl = "http://localhost:" + port + "/api/claims";
+            HttpClient httpClient = HttpClient.newBuilder()
+                    .version(HttpClient.Version.HTTP_1_1)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .executor(Executors.newVirtualThreadPerTaskExecutor())
+                    .build();
+
+            ClaimPool claims = new ClaimPool(Math.max(10_000, options.seedClaims));
+            seed(httpClient, baseUrl, claims, options.seedClaims, objectMapper);
+
+            OpenModelLoadGenerator generator = new OpenModelLoadGenerator(
+                    httpClient, baseUrl, claims, objectMapper, options.maxInFlight);
+            if (!options.warmup.isZero()) {
+                System.out.printf("Warming up at %.0f req/s for %d s%n", options.rate, options.warmup.toSeconds());
+                generator.run(options.rate, options.warmup, options.mix);
+            }
+            System.out.printf("Measuring at %.0f req/s for %d s%n", options.rate, options.duration.toSeconds());
+            LoadTestReport report = new LoadTestReport(objectMapper, options,
+                    generator.run(options.rate, options.duration, options.mix));
+
+            report.print(System.out);
+            report.write(options.reportDirectory());
+            System.out.println("Report written to " + options.reportDirectory().toAbsolutePath());
+            exitCode = compareWithBaseline(report, options);
+        }
+        System.exit(exitCode);
+    }
+
+    private static ConfigurableApplicationContext startApplication(LoadTestOptions options,
+                                                                   PolicyServiceStub policyService) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("policy-service.url", policyService.baseUrl());
+        properties.put("claims.warmup.enabled", "false");
+        properties.put("logging.level.root", "WARN");
+        properties.put("logging.level.com.zurich.poc", "WARN");
+        properties.putAll(options.applicationArguments);
+
+        List<String> args = new ArrayList<>();
+        properties.forEach((name, value) -> args.add("--" + name + "=" + value));
+        return new SpringApplication(ZurichSpringPocApplication.class).run(args.toArray(String[]::new));
+    }
+
+    /**
+     * Creates the claims that reads, lists and updates start from.
+     */
+    private static void seed(HttpClient httpClient, String baseUrl, ClaimPool claims, int count,
+                             ObjectMapper objectMapper) {
+        List<CompletableFuture<HttpResponse<String>>> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(httpClient.sendAsync(ClaimOperation.CREATE.request(baseUrl, claims),
+                    HttpResponse.BodyHandlers.ofString()));
+            if (batch.size() == SEED_PARALLELISM || i == count - 1) {
+                for (CompletableFuture<HttpResponse<String>> response : batch) {
+                    HttpResponse<String> created = response.join();
+                    if (created.statusCode() != 201) {
+                        throw new IllegalStateException("Seeding failed with HTTP " + created.statusCode()
+                                + ": " + created.body());
+                    }
+                    try {
+                        JsonNode data = objectMapper.readTree(created.body()).path("data");
+                        claims.add(UUID.fromString(data.path("id").asText()),
+                                data.path("policyNumber").asText());
+                    } catch (Exception e) {
+                        throw new IllegalStateException("Unexpected create response: " + created.body(), e);
+                    }
+                }
+                batch.clear();
+            }
+        }
+        System.out.printf("Seeded %d claims%n", claims.size());
+    }
+
+    private static int compareWithBaseline(LoadTestReport report, LoadTestOptions options) throws Exception {
+        if (report.dropped() > 0) {
+            System.out.println("Run dropped " + report.dropped() + " requests at max-in-flight, so its percentiles "
+                    + "are not comparable; raise max-in-flight or lower the rate");
+            return 1;
+        }
+        if (options.updateBaseline) {
+            report.saveAsBaseline(options.baselineFile());
+            System.out.println("Baseline updated: " + options.baselineFile());
+            return 0;
+        }
+        if (!Files.exists(options.baselineFile())) {
+            System.out.println("No baseline at " + options.baselineFile() + ", run with update-baseline=true to store one");
+            return 0;
+        }
+        List<String> regressions = report.regressionsAgainst(options.baselineFile(), options.tolerance);
+        if (regressions.isEmpty()) {
+            System.out.printf("Within %.0f%% of baseline %s%n", options.tolerance * 100, options.baselineFile());
+            return 0;
+        }
+        System.out.println("Regressions against " + options.baselineFile() + ":");
+        regressions.forEach(regression -> System.out.println("  " + regression));
+        return 1;
+    }
+}
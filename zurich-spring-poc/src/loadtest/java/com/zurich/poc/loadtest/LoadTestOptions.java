@@ -0,0 +1,108 @@
+package com.zurich.poc.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Command line options, given as {@code key=value} pairs. Unset keys keep their defaults:
+ * <pre>
+ *   rate=200                 target requests per second across all operations
+ *   duration=60s             measured phase
+ *   warmup=15s               unmeasured phase at the same rate before it
+ *   mix=create:20,read:50,list:20,update:10   operation weights
+ *   mule-latency=50ms        median MuleSoft stub latency
+ *   mule-latency-sigma=0     log-normal spread of that latency, 0 for a fixed delay
+ *   seed-claims=500          claims created before the run for read, list and update
+ *   max-in-flight=5000       requests outstanding before new ones are dropped, which fails the run
+ *   scenario=default         baseline name, stored in src/loadtest/baselines/&lt;scenario&gt;.json
+ *   tolerance=0.2            allowed relative regression of p99 and p99.9 against the baseline
+ *   update-baseline=false    store this run as the new baseline
+ * </pre>
+ * Any other {@code --name=value} argument is passed to the Spring application.
+ */
+public class LoadTestOptions {
+
+    double rate = 200;
+    Duration duration = Duration.ofSeconds(60);
+    Duration warmup = Duration.ofSeconds(15);
+    Map<ClaimOperation, Integer> mix = new EnumMap<>(Map.of(
+            ClaimOperation.CREATE, 20, ClaimOperation.READ, 50, ClaimOperation.LIST, 20, ClaimOperation.UPDATE, 10));
+    Duration muleLatency = Duration.ofMillis(50);
+    double muleLatencySigma = 0;
+    int seedClaims = 500;
+    int maxInFlight = 5000;
+    String scenario = "default";
+    double tolerance = 0.2;
+    boolean updateBaseline;
+    final Map<String, String> applicationArguments = new HashMap<>();
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (String arg : args) {
+            if (arg.startsWith("--")) {
+                int equals = arg.indexOf('=');
+                options.applicationArguments.put(arg.substring(2, equals), arg.substring(equals + 1));
+                continue;
+            }
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            String value = pair[1];
+            switch (pair[0]) {
+                case "rate" -> options.rate = Double.parseDouble(value);
+                case "duration" -> options.duration = duration(value);
+                case "warmup" -> options.warmup = duration(value);
+                case "mix" -> options.mix = mix(value);
+                case "mule-latency" -> options.muleLatency = duration(value);
+                case "mule-latency-sigma" -> options.muleLatencySigma = Double.parseDouble(value);
+                case "seed-claims" -> options.seedClaims = Integer.parseInt(value);
+                case "max-in-flight" -> options.maxInFlight = Integer.parseInt(value);
+                case "scenario" -> options.scenario = value;
+                case "tolerance" -> options.tolerance = Double.parseDouble(value);
+                case "update-baseline" -> options.updateBaseline = Boolean.parseBoolean(value);
+                default -> throw new IllegalArgumentException("Unknown option: " + pair[0]);
+            }
+        }
+        if (options.rate <= 0) {
+            throw new IllegalArgumentException("rate must be positive");
+        }
+        return options;
+    }
+
+    Path baselineFile() {
+        return Path.of("src", "loadtest", "baselines", scenario + ".json");
+    }
+
+    Path reportDirectory() {
+        return Path.of("target", "loadtest", scenario);
+    }
+
+    /**
+     * Accepts {@code 500ms}, {@code 30s}, {@code 2m} or an ISO-8601 duration.
+     */
+    private static Duration duration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.parse(value);
+    }
+
+    private static Map<ClaimOperation, Integer> mix(String value) {
+        Map<ClaimOperation, Integer> weights = new EnumMap<>(ClaimOperation.class);
+        for (String entry : value.split(",")) {
+            String[] pair = entry.split(":", 2);
+            weights.put(ClaimOperation.valueOf(pair[0].trim().toUpperCase()), Integer.parseInt(pair[1].trim()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,154 @@
+package com.zurich.poc.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Percentile summary of a run, the full HdrHistogram distributions, and the comparison
+ * with a stored baseline.
+ */
+public class LoadTestReport {
+
+    /**
+     * Latencies in milliseconds, throughput in completed requests per second. Count excludes
+     * dropped requests, which are in the percentiles at the histogram ceiling.
+     */
+    public record OperationSummary(long count, long errors, long dropped, double throughput,
+                                   double p50Ms, double p90Ms, double p99Ms, double p999Ms, double maxMs) {
+    }
+
+    public record RunSummary(String scenario, LocalDateTime capturedAt, double targetRate, long durationSeconds,
+                             long muleLatencyMs, double muleLatencySigma,
+                             Map<ClaimOperation, OperationSummary> operations) {
+    }
+
+    private static final double MICROS_PER_MS = 1000.0;
+
+    private final ObjectMapper objectMapper;
+    private final RunSummary summary;
+    private final Map<ClaimOperation, Histogram> histograms = new EnumMap<>(ClaimOperation.class);
+
+    public LoadTestReport(ObjectMapper objectMapper, LoadTestOptions options,
+                          Map<ClaimOperation, OpenModelLoadGenerator.OperationResult> results) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+        double seconds = options.duration.toMillis() / 1000.0;
+        Map<ClaimOperation, OperationSummary> operations = new EnumMap<>(ClaimOperation.class);
+        results.forEach((operation, result) -> {
+            Histogram histogram = result.histogram();
+            histograms.put(operation, histogram);
+            long count = histogram.getTotalCount() - result.dropped();
+            operations.put(operation, new OperationSummary(
+                    count,
+                    result.errors(),
+                    result.dropped(),
+                    round((count - result.errors()) / seconds),
+                    percentile(histogram, 50),
+                    percentile(histogram, 90),
+                    percentile(histogram, 99),
+                    percentile(histogram, 99.9),
+                    round(histogram.getMaxValue() / MICROS_PER_MS)));
+        });
+        this.summary = new RunSummary(options.scenario, LocalDateTime.now(), options.rate,
+                options.duration.toSeconds(), options.muleLatency.toMillis(), options.muleLatencySigma, operations);
+    }
+
+    public void print(PrintStream out) {
+        out.printf("%nScenario %s: %.0f req/s target for %d s, MuleSoft stub %d ms (sigma %.2f)%n",
+                summary.scenario(), summary.targetRate(), summary.durationSeconds(),
+                summary.muleLatencyMs(), summary.muleLatencySigma());
+        out.printf("%-8s %9s %7s %7s %9s %9s %9s %9s %9s %9s%n",
+                "op", "count", "errors", "dropped", "req/s", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        summary.operations().forEach((operation, s) -> out.printf(
+                "%-8s %9d %7d %7d %9.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation, s.count(), s.errors(), s.dropped(), s.throughput(),
+                s.p50Ms(), s.p90Ms(), s.p99Ms(), s.p999Ms(), s.maxMs()));
+        if (dropped() > 0) {
+            out.printf("WARNING: %d requests dropped at max-in-flight and recorded at %.0f ms; "
+                            + "the percentiles they reach are not measured latencies%n",
+                    dropped(), OpenModelLoadGenerator.HIGHEST_TRACKABLE_MICROS / MICROS_PER_MS);
+        }
+    }
+
+    /**
+     * @return requests not sent because max-in-flight were outstanding, over all operations
+     */
+    public long dropped() {
+        return summary.operations().values().stream().mapToLong(OperationSummary::dropped).sum();
+    }
+
+    /**
+     * Writes summary.json and one HdrHistogram percentile distribution (.hgrm, in ms) per operation.
+     */
+    public void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        objectMapper.writeValue(directory.resolve("summary.json").toFile(), summary);
+        for (Map.Entry<ClaimOperation, Histogram> entry : histograms.entrySet()) {
+            Path file = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+                entry.getValue().outputPercentileDistribution(out, MICROS_PER_MS);
+            }
+        }
+    }
+
+    public void saveAsBaseline(Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        objectMapper.writeValue(file.toFile(), summary);
+    }
+
+    /**
+     * @return one line per metric that is worse than the baseline by more than the tolerance
+     */
+    public List<String> regressionsAgainst(Path baselineFile, double tolerance) throws IOException {
+        RunSummary baseline = objectMapper.readValue(baselineFile.toFile(), RunSummary.class);
+        List<String> regressions = new ArrayList<>();
+        baseline.operations().forEach((operation, expected) -> {
+            OperationSummary actual = summary.operations().get(operation);
+            if (actual == null) {
+                return;
+            }
+            checkLatency(regressions, operation, "p99", expected.p99Ms(), actual.p99Ms(), tolerance);
+            checkLatency(regressions, operation, "p99.9", expected.p999Ms(), actual.p999Ms(), tolerance);
+            if (actual.throughput() < expected.throughput() * (1 - tolerance)) {
+                regressions.add(String.format("%s throughput %.1f req/s, baseline %.1f req/s",
+                        operation, actual.throughput(), expected.throughput()));
+            }
+            if (errorRate(actual) > errorRate(expected) + 0.01) {
+                regressions.add(String.format("%s error rate %.2f%%, baseline %.2f%%",
+                        operation, errorRate(actual) * 100, errorRate(expected) * 100));
+            }
+        });
+        return regressions;
+    }
+
+    private static void checkLatency(List<String> regressions, ClaimOperation operation, String name,
+                                     double expected, double actual, double tolerance) {
+        if (actual > expected * (1 + tolerance)) {
+            regressions.add(String.format("%s %s %.2f ms, baseline %.2f ms (+%.0f%%)",
+                    operation, name, actual, expected, (actual / expected - 1) * 100));
+        }
+    }
+
+    private static double errorRate(OperationSummary summary) {
+        long attempted = summary.count() + summary.dropped();
+        return attempted == 0 ? 0 : (double) (summary.errors() + summary.dropped()) / attempted;
+    }
+
+    private static double percentile(Histogram histogram, double percentile) {
+        return round(histogram.getValueAtPercentile(percentile) / MICROS_PER_MS);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
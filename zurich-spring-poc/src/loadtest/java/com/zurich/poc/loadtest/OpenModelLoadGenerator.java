@@ -0,0 +1,144 @@
+package com.zurich.poc.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-model load: requests start on a fixed schedule at the target rate whether or not
+ * earlier ones have finished, as independent users would send them.
+ *
+ * Latency is measured from the scheduled start, not the actual send, so time spent
+ * queued behind a slow server is counted. Requests beyond {@code maxInFlight} outstanding
+ * are not sent: they are reported as dropped and recorded at {@link #HIGHEST_TRACKABLE_MICROS},
+ * since they never got a response. The upper percentiles of a run with drops are therefore
+ * the ceiling, not a measured latency.
+ */
+public class OpenModelLoadGenerator {
+
+    static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(10);
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final ClaimPool claims;
+    private final ObjectMapper objectMapper;
+    private final int maxInFlight;
+
+    public OpenModelLoadGenerator(HttpClient httpClient, String baseUrl, ClaimPool claims,
+                                  ObjectMapper objectMapper, int maxInFlight) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+        this.claims = claims;
+        this.objectMapper = objectMapper;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Per-operation outcome of one phase.
+     */
+    public static final class OperationResult {
+
+        private final Recorder recorder = new Recorder(HIGHEST_TRACKABLE_MICROS, 3);
+        private final LongAdder errors = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private Histogram histogram;
+
+        public Histogram histogram() {
+            return histogram;
+        }
+
+        public long errors() {
+            return errors.sum();
+        }
+
+        public long dropped() {
+            return dropped.sum();
+        }
+    }
+
+    /**
+     * Runs the given mix at {@code rate} requests per second for {@code duration} and
+     * waits for outstanding requests to finish.
+     */
+    public Map<ClaimOperation, OperationResult> run(double rate, Duration duration, Map<ClaimOperation, Integer> mix)
+            throws InterruptedException {
+        Map<ClaimOperation, OperationResult> results = new EnumMap<>(ClaimOperation.class);
+        mix.keySet().forEach(operation -> results.put(operation, new OperationResult()));
+        int totalWeight = mix.values().stream().mapToInt(Integer::intValue).sum();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / rate);
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        for (long i = 0; ; i++) {
+            long scheduled = start + i * intervalNanos;
+            if (scheduled >= end) {
+                break;
+            }
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            ClaimOperation operation = pick(mix, totalWeight);
+            OperationResult result = results.get(operation);
+            if (inFlight.get() >= maxInFlight) {
+                result.recorder.recordValue(HIGHEST_TRACKABLE_MICROS);
+                result.dropped.increment();
+                continue;
+            }
+            inFlight.incrementAndGet();
+            httpClient.sendAsync(operation.request(baseUrl, claims), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, failure) -> {
+                        long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduled);
+                        result.recorder.recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                        if (failure != null || response.statusCode() >= 400) {
+                            result.errors.increment();
+                        } else if (operation == ClaimOperation.CREATE) {
+                            remember(response.body());
+                        }
+                        inFlight.decrementAndGet();
+                    });
+        }
+
+        long drainDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(60);
+        while (inFlight.get() > 0 && System.nanoTime() < drainDeadline) {
+            Thread.sleep(10);
+        }
+        results.values().forEach(result -> result.histogram = result.recorder.getIntervalHistogram());
+        return results;
+    }
+
+    private static ClaimOperation pick(Map<ClaimOperation, Integer> mix, int totalWeight) {
+        int ticket = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (Map.Entry<ClaimOperation, Integer> entry : mix.entrySet()) {
+            ticket -= entry.getValue();
+            if (ticket < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalStateException("Operation weights must be positive");
+    }
+
+    private void remember(String body) {
+        try {
+            JsonNode data = objectMapper.readTree(body).path("data");
+            claims.add(UUID.fromString(data.path("id").asText()), data.path("policyNumber").asText());
+        } catch (Exception e) {
+            // The request still counts as successful; the claim just is not reused
+        }
+    }
+}
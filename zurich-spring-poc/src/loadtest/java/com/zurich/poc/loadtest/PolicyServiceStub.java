@@ -0,0 +1,77 @@
+package com.zurich.poc.loadtest;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+
+import java.time.Duration;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+
+/**
+ * In-process stand-in for the MuleSoft policy API. {@code GET /poc/policy/list} returns
+ * the same {@value #POLICY_COUNT} policies for any email, after a fixed or log-normally
+ * distributed delay.
+ */
+public class PolicyServiceStub implements AutoCloseable {
+
+    static final String EMAIL = "load.tester@example.com";
+    static final int POLICY_COUNT = 100;
+
+    private final WireMockServer server;
+
+    public PolicyServiceStub(Duration medianLatency, double sigma) {
+        server = new WireMockServer(options()
+                .dynamicPort()
+                .containerThreads(200)
+                .jettyAcceptors(2)
+                .disableRequestJournal());
+        server.start();
+
+        ResponseDefinitionBuilder response = aResponse()
+                .withStatus(200)
+                .withHeader("Content-Type", "application/json")
+                .withBody(policyList());
+        if (sigma > 0) {
+            response.withLogNormalRandomDelay(medianLatency.toMillis(), sigma);
+        } else {
+            response.withFixedDelay((int) medianLatency.toMillis());
+        }
+        server.stubFor(get(urlPathEqualTo("/poc/policy/list")).willReturn(response));
+    }
+
+    /**
+     * @return the value for {@code policy-service.url}
+     */
+    public String baseUrl() {
+        return "http://localhost:" + server.port() + "/poc";
+    }
+
+    static String randomPolicyNumber() {
+        return policyNumber(ThreadLocalRandom.current().nextInt(POLICY_COUNT));
+    }
+
+    private static String policyNumber(int index) {
+        return String.format("POL-LOAD-%04d", index);
+    }
+
+    private static String policyList() {
+        StringJoiner policies = new StringJoiner(",");
+        for (int i = 0; i < POLICY_COUNT; i++) {
+            policies.add("""
+                    {"policyNumber":"%s","policyHolderName":"Load Tester","email":"%s","policyType":"AUTO",\
+                    "status":"ACTIVE","startDate":"2024-01-01","endDate":"2026-01-01","premiumAmount":1200.0,\
+                    "coverageAmount":50000.0}""".formatted(policyNumber(i), EMAIL));
+        }
+        return "{\"totalNumberofPolicies\":" + POLICY_COUNT + ",\"policies\":[" + policies + "]}";
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+}
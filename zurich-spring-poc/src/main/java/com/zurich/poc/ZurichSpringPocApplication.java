@@ -1,11 +1,14 @@
 package com.zurich.poc;
 
+import com.zurich.poc.config.ClaimsRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@ImportRuntimeHints(ClaimsRuntimeHints.class)
 public class ZurichSpringPocApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,49 @@
+package com.zurich.poc.config;
+
+import com.zurich.poc.exception.ApiResponse;
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.ClaimDTO;
+import com.zurich.poc.model.PolicySummary;
+import com.zurich.poc.service.PolicyNumberFilter;
+import com.zurich.poc.service.impl.ClaimServiceImpl;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.data.domain.PageImpl;
+
+/**
+ * Runtime hints for AOT-processed and native-image builds.
+ *
+ * Spring's AOT engine discovers beans and repositories on its own, but it cannot
+ * see the types Jackson binds through the generic {@code ApiResponse<T>} payload or
+ * the reflective field access Hibernate performs on entities. Those are registered here.
+ */
+public class ClaimsRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        // JPA: Hibernate reads and writes entity fields and instantiates entities reflectively
+        hints.reflection().registerType(Claim.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        // Jackson: request/response bodies, including types only reachable through generics
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                ApiResponse.class,
+                ApiResponse.ValidationError.class,
+                Claim.class,
+                ClaimDTO.class,
+                PolicySummary.class,
+                PolicySummary.Coverage.class,
+                ClaimServiceImpl.PolicyListResponse.class,
+                PolicyNumberFilter.Stats.class,
+                PageImpl.class);
+
+        // Custom Bean Validation message bundles, if present, are loaded from the classpath
+        hints.resources().registerPattern("ValidationMessages*.properties");
+    }
+}
@@ -1,13 +1,15 @@
 package com.zurich.poc.config;
 
 import com.zurich.poc.model.Claim;
-import com.zurich.poc.repository.ClaimRepository;
+import com.zurich.poc.repository.ShardedClaimRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
@@ -18,16 +20,17 @@ import java.util.UUID;
 @Slf4j
 public class DataInitializer {
     
-    private final ClaimRepository claimRepository;
+    private final ShardedClaimRepository shardedClaimRepository;
     
     @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE) // Before the startup warm-up
     @Profile("!test") // Don't run this in test profile
     public CommandLineRunner initData() {
         return args -> {
             log.info("Initializing sample data");
             
             // Only initialize if the repository is empty
-            if (claimRepository.count() == 0) {
+            if (shardedClaimRepository.count() == 0) {
                 // Create sample claims
                 Claim claim1 = new Claim();
                 claim1.setId(UUID.randomUUID());
@@ -71,11 +74,11 @@ public class DataInitializer {
                 claim3.setAssignedAdjuster("Sarah Wilson");
                 
                 // Save to repository
-                claimRepository.save(claim1);
-                claimRepository.save(claim2);
-                claimRepository.save(claim3);
+                shardedClaimRepository.save(claim1);
+                shardedClaimRepository.save(claim2);
+                shardedClaimRepository.save(claim3);
                 
-                log.info("Created {} sample claims", claimRepository.count());
+                log.info("Created {} sample claims", shardedClaimRepository.count());
             }
         };
     }
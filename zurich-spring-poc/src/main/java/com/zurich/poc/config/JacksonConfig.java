@@ -0,0 +1,46 @@
+package com.zurich.poc.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.PolicySummary;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * Register the sparse fieldset filter on the response models; all properties
+     * are written unless a request asks for a field set.
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer sparseFieldsetCustomizer() {
+        return builder -> builder
+                .mixIn(Claim.class, SparseFieldsetFilters.Mixin.class)
+                .mixIn(PolicySummary.class, SparseFieldsetFilters.Mixin.class)
+                .filters(SparseFieldsetFilters.SERIALIZE_ALL);
+    }
+
+    /**
+     * {@code application/cbor} for internal callers. Built from Boot's builder so it shares
+     * the JSON mapper's modules, date handling and sparse fieldset filters.
+     */
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    /**
+     * {@code application/x-jackson-smile}; Smile back-references repeated property names,
+     * which suits large claim pages.
+     */
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(new SmileFactory()).build());
+    }
+}
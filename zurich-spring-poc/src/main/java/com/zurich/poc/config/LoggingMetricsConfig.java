@@ -0,0 +1,22 @@
+package com.zurich.poc.config;
+
+import ch.qos.logback.classic.LoggerContext;
+import com.zurich.poc.logging.DroppedLogEventsMetrics;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Metrics for the logging set-up in {@code logback-spring.xml}.
+ */
+@Configuration
+public class LoggingMetricsConfig {
+
+    /**
+     * Bound to every meter registry by Boot's metrics auto-configuration.
+     */
+    @Bean
+    public DroppedLogEventsMetrics droppedLogEventsMetrics() {
+        return new DroppedLogEventsMetrics((LoggerContext) LoggerFactory.getILoggerFactory());
+    }
+}
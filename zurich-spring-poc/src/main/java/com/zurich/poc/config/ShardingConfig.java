@@ -0,0 +1,49 @@
+package com.zurich.poc.config;
+
+import com.zurich.poc.sharding.ShardRoutingDataSource;
+import com.zurich.poc.sharding.ShardSchemaIntegrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hash-sharded claim storage: one DataSource per shard behind a routing DataSource.
+ * Shard URLs come from {@code claims.sharding.url-template}, with {@code {shard}}
+ * replaced by the shard index. Without {@code claims.sharding.enabled} Boot's
+ * single DataSource is used as before.
+ */
+@Configuration
+@ConditionalOnProperty(name = "claims.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean
+    public ShardRoutingDataSource dataSource(
+            @Value("${claims.sharding.shard-count}") int shardCount,
+            @Value("${claims.sharding.url-template}") String urlTemplate,
+            @Value("${claims.sharding.username:${spring.datasource.username}}") String username,
+            @Value("${claims.sharding.password:${spring.datasource.password}}") String password) {
+        List<DataSource> shards = new ArrayList<>(shardCount);
+        for (int shard = 0; shard < shardCount; shard++) {
+            shards.add(DataSourceBuilder.create()
+                    .url(urlTemplate.replace("{shard}", String.valueOf(shard)))
+                    .username(username)
+                    .password(password)
+                    .build());
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer shardSchemaCustomizer(@Value("${claims.sharding.shard-count}") int shardCount) {
+        return properties -> properties.put("hibernate.integrator_provider",
+                (IntegratorProvider) () -> List.of(new ShardSchemaIntegrator(shardCount)));
+    }
+}
@@ -0,0 +1,69 @@
+package com.zurich.poc.config;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Jackson filters for sparse fieldsets ({@code ?fields=policyNumber,status,endDate}).
+ *
+ * Claim and PolicySummary carry the {@link Mixin} filter id. Without a {@code fields}
+ * parameter the {@link #SERIALIZE_ALL} default applies; with one, a filter provider
+ * for that exact field set is built once and cached. Jackson keeps its property
+ * serializers cached per type, so filtering does not add reflection per request.
+ */
+@Component
+public class SparseFieldsetFilters {
+
+    public static final String FILTER_ID = "sparseFieldset";
+
+    public static final FilterProvider SERIALIZE_ALL = new SimpleFilterProvider()
+            .setDefaultFilter(SimpleBeanPropertyFilter.serializeAll());
+
+    // Field sets come from clients, so only a bounded number are kept
+    private static final int MAX_CACHED_FIELD_SETS = 256;
+
+    private final Map<String, FilterProvider> cache = new ConcurrentHashMap<>();
+
+    /**
+     * @param fields comma separated property names, as passed in the request
+     * @return filters restricting output to those properties, or null when no field set was requested
+     */
+    public FilterProvider forFields(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        FilterProvider cached = cache.get(fields);
+        if (cached != null) {
+            return cached;
+        }
+
+        Set<String> names = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(name -> !name.isEmpty())
+                .collect(Collectors.toSet());
+        FilterProvider provider = new SimpleFilterProvider()
+                .addFilter(FILTER_ID, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+
+        if (cache.size() < MAX_CACHED_FIELD_SETS) {
+            cache.putIfAbsent(fields, provider);
+        }
+        return provider;
+    }
+
+    /**
+     * Jackson mix-in attaching the sparse fieldset filter to a model class.
+     */
+    @JsonFilter(FILTER_ID)
+    public interface Mixin {
+    }
+}
@@ -0,0 +1,58 @@
+package com.zurich.poc.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zurich.poc.tracing.JsonLinesSpanExporter;
+import com.zurich.poc.tracing.ObservedJacksonHttpMessageConverter;
+import com.zurich.poc.warmup.WarmupRequests;
+import io.micrometer.observation.ObservationPredicate;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+import java.nio.file.Path;
+
+/**
+ * Tracing set-up on top of Boot's Micrometer/OpenTelemetry auto-configuration.
+ *
+ * Boot already creates the server span per request and instruments the RestTemplate
+ * (which adds the W3C {@code traceparent} header on calls to MuleSoft). This class adds
+ * a serialisation span and a local span exporter, and leaves the startup warm-up untraced;
+ * sampling is controlled by {@code management.tracing.sampling.probability}.
+ */
+@Configuration
+public class TracingConfig {
+
+    /**
+     * Replaces Boot's default Jackson converter; the sparse fieldset advice still applies to it.
+     */
+    @Bean
+    public ObservedJacksonHttpMessageConverter mappingJackson2HttpMessageConverter(
+            ObjectMapper objectMapper, ObservationRegistry observationRegistry) {
+        return new ObservedJacksonHttpMessageConverter(objectMapper, observationRegistry);
+    }
+
+    /**
+     * Picked up by Boot's OpenTelemetry auto-configuration alongside the OTLP exporter, if one is configured.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file-export.enabled", havingValue = "true")
+    public JsonLinesSpanExporter jsonLinesSpanExporter(
+            @Value("${tracing.file-export.path:target/traces/spans.jsonl}") String path,
+            ObjectMapper objectMapper) {
+        return new JsonLinesSpanExporter(Path.of(path), objectMapper);
+    }
+
+    /**
+     * Skips observations of warm-up work. The server observation starts before the request
+     * is bound to the thread, so it is matched on the request header directly.
+     */
+    @Bean
+    public ObservationPredicate skipWarmupObservations() {
+        return (name, context) -> context instanceof ServerRequestObservationContext server
+                ? !WarmupRequests.isWarmup(server.getCarrier())
+                : !WarmupRequests.isWarmup();
+    }
+}
@@ -1,23 +1,42 @@
 package com.zurich.poc.controller;
 
 import com.zurich.poc.exception.ApiResponse;
+import com.zurich.poc.export.ExportFormat;
 import com.zurich.poc.exception.ResourceNotFoundException;
 import com.zurich.poc.model.Claim;
 import com.zurich.poc.model.ClaimDTO;
+import com.zurich.poc.model.ClaimExportFilter;
+import com.zurich.poc.model.ClaimImportJob;
+import com.zurich.poc.model.ClaimTransitionRequest;
+import com.zurich.poc.model.ClaimTransitionResult;
+import com.zurich.poc.model.PolicyClaimSummary;
 import com.zurich.poc.model.PolicySummary;
+import com.zurich.poc.service.ClaimExportService;
+import com.zurich.poc.service.ClaimImportService;
 import com.zurich.poc.service.ClaimService;
+import com.zurich.poc.service.ClaimTransitionService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
 @RestController
 @RequestMapping("/claims")
@@ -26,6 +45,9 @@ import java.util.UUID;
 public class ClaimController {
     
     private final ClaimService claimService;
+    private final ClaimTransitionService claimTransitionService;
+    private final ClaimExportService claimExportService;
+    private final ClaimImportService claimImportService;
     
     @PostMapping
     public ResponseEntity<ApiResponse<Claim>> createClaim(@Valid @RequestBody ClaimDTO claimDTO) {
@@ -80,6 +102,23 @@ public class ClaimController {
         return ResponseEntity.ok(ApiResponse.success(claims, "Claims retrieved successfully"));
     }
     
+    @GetMapping("/policy/{policyNumber}/summary")
+    public ResponseEntity<ApiResponse<PolicyClaimSummary>> getPolicyClaimSummary(@PathVariable String policyNumber) {
+        log.info("Request received to get claim summary for policy number: {}", policyNumber);
+        
+        PolicyClaimSummary summary = claimService.getPolicyClaimSummary(policyNumber);
+        return ResponseEntity.ok(ApiResponse.success(summary, "Claim summary retrieved successfully"));
+    }
+    
+    @PostMapping("/policy/summaries")
+    public ResponseEntity<ApiResponse<List<PolicyClaimSummary>>> getPolicyClaimSummaries(
+            @RequestBody List<String> policyNumbers) {
+        log.info("Request received to get claim summaries for {} policy numbers", policyNumbers.size());
+        
+        List<PolicyClaimSummary> summaries = claimService.getPolicyClaimSummaries(policyNumbers);
+        return ResponseEntity.ok(ApiResponse.success(summaries, "Claim summaries retrieved successfully"));
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<ApiResponse<Claim>> updateClaim(
             @PathVariable UUID id, 
@@ -130,6 +169,75 @@ public class ClaimController {
         return ResponseEntity.ok(ApiResponse.success(claims, "Claims retrieved successfully"));
     }
     
+    @PostMapping("/transitions")
+    public ResponseEntity<ApiResponse<ClaimTransitionResult>> transitionClaims(
+            @Valid @RequestBody ClaimTransitionRequest request) {
+        log.info("Request received to transition claims to status: {}", request.getTargetStatus());
+        
+        ClaimTransitionResult result = claimTransitionService.transition(request);
+        return ResponseEntity.ok(ApiResponse.success(result,
+                result.getTransitioned() + " claims transitioned to " + result.getTargetStatus()));
+    }
+    
+    /**
+     * Streams all matching claims as gzip-compressed CSV or Parquet. The body is written
+     * while the database cursor is read, so exports of any size use constant memory.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportClaims(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Claim.ClaimStatus status,
+            @RequestParam(required = false) Claim.ClaimType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        ClaimExportFilter filter = new ClaimExportFilter(status, type, from, to);
+        log.info("Request received to export claims as {}: {}", exportFormat, filter);
+        
+        // The gzip is part of the file, not a transfer encoding, hence no Content-Encoding header
+        String filename = "claims-" + LocalDate.now() + exportFormat.getFileExtension();
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> claimExportService.export(filter, exportFormat, out));
+    }
+    
+    /**
+     * Imports claims from a CSV body (gzip accepted with {@code Content-Encoding: gzip}).
+     * Re-posting the same file with the same {@code importId} resumes a failed import.
+     */
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResponse<ClaimImportJob>> importClaims(
+            @RequestParam(required = false) String importId,
+            @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+            HttpServletRequest request) throws IOException {
+        String id = importId != null ? importId : UUID.randomUUID().toString();
+        log.info("Request received to import claims, import id: {}", id);
+        
+        InputStream body = "gzip".equalsIgnoreCase(contentEncoding)
+                ? new GZIPInputStream(request.getInputStream(), 64 * 1024)
+                : request.getInputStream();
+        ClaimImportJob job = claimImportService.importClaims(id, body);
+        if (job.getStatus() == ClaimImportJob.ImportStatus.FAILED) {
+            ApiResponse<ClaimImportJob> response = ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR,
+                    "Import failed after row " + job.getCheckpointRow() + ", post the same file again to resume");
+            response.setData(job);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+        return ResponseEntity.ok(ApiResponse.success(job,
+                job.getRowsImported() + " claims imported, " + job.getRowsRejected() + " rejected"));
+    }
+    
+    @GetMapping("/import/{importId}")
+    public ResponseEntity<ApiResponse<ClaimImportJob>> getImport(@PathVariable String importId) {
+        log.info("Request received to get import progress: {}", importId);
+        
+        return claimImportService.getJob(importId)
+                .map(job -> ResponseEntity.ok(ApiResponse.success(job, "Import " + job.getStatus())))
+                .orElseThrow(() -> new ResourceNotFoundException("Import not found with id: " + importId));
+    }
+    
     @GetMapping("/policy-details/{policyNumber}")
     public ResponseEntity<ApiResponse<PolicySummary>> getPolicyDetails(
             @PathVariable String policyNumber,
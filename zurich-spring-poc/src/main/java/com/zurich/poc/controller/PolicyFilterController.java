@@ -0,0 +1,35 @@
+package com.zurich.poc.controller;
+
+import com.zurich.poc.exception.ApiResponse;
+import com.zurich.poc.service.PolicyNumberFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/policy-filter")
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyFilterController {
+
+    private final PolicyNumberFilter policyNumberFilter;
+
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<PolicyNumberFilter.Stats>> getStats() {
+        log.info("Request received to get policy number filter statistics");
+
+        return ResponseEntity.ok(ApiResponse.success(policyNumberFilter.getStats(), "Policy filter statistics retrieved successfully"));
+    }
+
+    @PostMapping("/rebuild")
+    public ResponseEntity<ApiResponse<PolicyNumberFilter.Stats>> rebuild() {
+        log.info("Request received to rebuild policy number filter");
+
+        policyNumberFilter.syncFromPolicyService();
+        return ResponseEntity.ok(ApiResponse.success(policyNumberFilter.getStats(), "Policy filter rebuilt successfully"));
+    }
+}
@@ -0,0 +1,40 @@
+package com.zurich.poc.controller;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.zurich.poc.config.SparseFieldsetFilters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * Applies the {@code fields} request parameter to claim and policy responses.
+ * The ApiResponse envelope is always written in full; only Claim and
+ * PolicySummary properties inside {@code data} are restricted.
+ */
+@ControllerAdvice(assignableTypes = ClaimController.class)
+@RequiredArgsConstructor
+public class SparseFieldsetResponseAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    public static final String FIELDS_PARAMETER = "fields";
+
+    private final SparseFieldsetFilters sparseFieldsetFilters;
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            FilterProvider filters = sparseFieldsetFilters.forFields(
+                    servletRequest.getServletRequest().getParameter(FIELDS_PARAMETER));
+            if (filters != null) {
+                bodyContainer.setFilters(filters);
+            }
+        }
+    }
+}
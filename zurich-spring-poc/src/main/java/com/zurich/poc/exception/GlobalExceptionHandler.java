@@ -53,6 +53,13 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
     }
     
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgumentException(
+            IllegalArgumentException ex, WebRequest request) {
+        ApiResponse<Void> response = ApiResponse.error(HttpStatus.BAD_REQUEST, ex.getMessage());
+        return new ResponseEntity<>(response, HttpStatus.BAD_REQUEST);
+    }
+    
     @ExceptionHandler(HttpClientErrorException.class)
     public ResponseEntity<ApiResponse<Void>> handleHttpClientErrorException(
             HttpClientErrorException ex, WebRequest request) {
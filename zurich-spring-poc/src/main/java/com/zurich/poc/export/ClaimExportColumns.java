@@ -0,0 +1,24 @@
+package com.zurich.poc.export;
+
+import java.util.List;
+
+/**
+ * Columns of {@code insurance_claims} written by the exporters, in output order.
+ */
+public final class ClaimExportColumns {
+
+    public static final List<String> NAMES = List.of(
+            "id", "claim_number", "policy_number", "incident_date", "description", "estimated_amount",
+            "type", "status", "claimant_name", "claimant_email", "claimant_phone", "additional_details",
+            "assigned_adjuster", "created_at", "updated_at");
+
+    // 1-based JDBC column indexes of the typed columns
+    static final int INCIDENT_DATE = 4;
+    static final int ESTIMATED_AMOUNT = 6;
+    static final int CREATED_AT = 14;
+    static final int UPDATED_AT = 15;
+
+    private ClaimExportColumns() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+}
@@ -0,0 +1,16 @@
+package com.zurich.poc.export;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Writes claim rows from a forward-only result set positioned on the current row.
+ * {@link #close()} finishes the format (gzip trailer, Parquet footer) but leaves the
+ * underlying stream open.
+ */
+public interface ClaimRowWriter extends Closeable {
+
+    void write(ResultSet row) throws SQLException, IOException;
+}
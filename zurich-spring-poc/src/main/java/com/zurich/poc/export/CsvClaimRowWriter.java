@@ -0,0 +1,63 @@
+package com.zurich.poc.export;
+
+import com.zurich.poc.util.CsvFields;
+
+import java.io.BufferedWriter;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * RFC 4180 CSV, gzip-compressed as it is written.
+ */
+public class CsvClaimRowWriter implements ClaimRowWriter {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Writer writer;
+
+    public CsvClaimRowWriter(OutputStream out) throws IOException {
+        GZIPOutputStream gzip = new GZIPOutputStream(nonClosing(out), BUFFER_SIZE);
+        this.writer = new BufferedWriter(new OutputStreamWriter(gzip, StandardCharsets.UTF_8), BUFFER_SIZE);
+        writer.write(String.join(",", ClaimExportColumns.NAMES));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(ResultSet row) throws SQLException, IOException {
+        int columns = ClaimExportColumns.NAMES.size();
+        for (int column = 1; column <= columns; column++) {
+            if (column > 1) {
+                writer.write(',');
+            }
+            CsvFields.write(writer, row.getString(column));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flushes the text buffer and writes the gzip trailer
+        writer.close();
+    }
+
+    private static OutputStream nonClosing(OutputStream out) {
+        return new FilterOutputStream(out) {
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                out.write(bytes, offset, length);
+            }
+
+            @Override
+            public void close() throws IOException {
+                flush();
+            }
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.zurich.poc.export;
+
+import java.util.Locale;
+
+/**
+ * Output formats supported by the claim export endpoint.
+ */
+public enum ExportFormat {
+
+    CSV("text/csv", ".csv.gz"),
+    PARQUET("application/vnd.apache.parquet", ".parquet");
+
+    private final String mediaType;
+    private final String fileExtension;
+
+    ExportFormat(String mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    public static ExportFormat fromParameter(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + value + " (expected csv or parquet)");
+        }
+    }
+}
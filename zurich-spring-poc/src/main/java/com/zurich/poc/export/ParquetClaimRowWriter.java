@@ -0,0 +1,182 @@
+package com.zurich.poc.export;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.io.OutputFile;
+import org.apache.parquet.io.PositionOutputStream;
+import org.apache.parquet.schema.LogicalTypeAnnotation;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Types;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+import java.util.List;
+
+/**
+ * Snappy-compressed Parquet written straight to the response stream.
+ *
+ * Only the current row group is held in memory; its size is bounded by
+ * {@code claims.export.parquet-row-group-bytes}. Dates, amounts and timestamps keep
+ * their logical types so analytics tools do not have to parse strings. Columns that are
+ * nullable in {@code insurance_claims} are optional, and a null value is left unset.
+ */
+public class ParquetClaimRowWriter implements ClaimRowWriter {
+
+    static final MessageType SCHEMA = Types.buildMessage()
+            .required(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("id")
+            .required(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("claim_number")
+            .required(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("policy_number")
+            .required(PrimitiveTypeName.INT32).as(LogicalTypeAnnotation.dateType()).named("incident_date")
+            .required(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("description")
+            .optional(PrimitiveTypeName.INT64).as(LogicalTypeAnnotation.decimalType(2, 10)).named("estimated_amount")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("type")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("status")
+            .required(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("claimant_name")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("claimant_email")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("claimant_phone")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("additional_details")
+            .optional(PrimitiveTypeName.BINARY).as(LogicalTypeAnnotation.stringType()).named("assigned_adjuster")
+            .optional(PrimitiveTypeName.INT64)
+                .as(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MILLIS)).named("created_at")
+            .optional(PrimitiveTypeName.INT64)
+                .as(LogicalTypeAnnotation.timestampType(false, LogicalTypeAnnotation.TimeUnit.MILLIS)).named("updated_at")
+            .named("insurance_claim");
+
+    private static final List<String> FIELDS = ClaimExportColumns.NAMES;
+
+    private final SimpleGroupFactory groups = new SimpleGroupFactory(SCHEMA);
+    private final ParquetWriter<Group> writer;
+
+    public ParquetClaimRowWriter(OutputStream out, long rowGroupBytes) throws IOException {
+        this.writer = ExampleParquetWriter.builder(new StreamOutputFile(out))
+                .withConf(new Configuration(false))
+                .withType(SCHEMA)
+                .withCompressionCodec(CompressionCodecName.SNAPPY)
+                .withRowGroupSize(rowGroupBytes)
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .build();
+    }
+
+    @Override
+    public void write(ResultSet row) throws SQLException, IOException {
+        Group group = groups.newGroup();
+        for (int column = 1; column <= FIELDS.size(); column++) {
+            String field = FIELDS.get(column - 1);
+            switch (column) {
+                case ClaimExportColumns.INCIDENT_DATE -> {
+                    Date date = row.getDate(column);
+                    group.add(field, (int) date.toLocalDate().toEpochDay());
+                }
+                case ClaimExportColumns.ESTIMATED_AMOUNT -> {
+                    BigDecimal amount = row.getBigDecimal(column);
+                    if (amount != null) {
+                        group.add(field, amount.setScale(2).unscaledValue().longValueExact());
+                    }
+                }
+                case ClaimExportColumns.CREATED_AT, ClaimExportColumns.UPDATED_AT -> {
+                    Timestamp timestamp = row.getTimestamp(column);
+                    if (timestamp != null) {
+                        // Local timestamp: the wall-clock value as if it were UTC
+                        group.add(field, timestamp.toLocalDateTime()
+                                .toInstant(ZoneOffset.UTC).toEpochMilli());
+                    }
+                }
+                default -> {
+                    String value = row.getString(column);
+                    if (value != null) {
+                        group.add(field, value);
+                    }
+                }
+            }
+        }
+        writer.write(group);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Flushes the last row group and writes the footer
+        writer.close();
+    }
+
+    /**
+     * Parquet only needs a position and sequential writes, so any OutputStream will do.
+     */
+    private static final class StreamOutputFile implements OutputFile {
+
+        private final OutputStream out;
+
+        StreamOutputFile(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public PositionOutputStream create(long blockSizeHint) {
+            return new CountingPositionOutputStream(out);
+        }
+
+        @Override
+        public PositionOutputStream createOrOverwrite(long blockSizeHint) {
+            return create(blockSizeHint);
+        }
+
+        @Override
+        public boolean supportsBlockSize() {
+            return false;
+        }
+
+        @Override
+        public long defaultBlockSize() {
+            return 0;
+        }
+    }
+
+    private static final class CountingPositionOutputStream extends PositionOutputStream {
+
+        private final OutputStream out;
+        private long position;
+
+        CountingPositionOutputStream(OutputStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public long getPos() {
+            return position;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            out.write(b);
+            position++;
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            out.write(bytes, offset, length);
+            position += length;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            out.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            // The servlet container owns the response stream
+            flush();
+        }
+    }
+}
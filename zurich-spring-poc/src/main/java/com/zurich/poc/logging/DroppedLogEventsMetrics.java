@@ -0,0 +1,38 @@
+package com.zurich.poc.logging;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Publishes the events dropped by {@link RateLimitingTurboFilter} as the
+ * {@code logging.events.dropped} counter. The filters are looked up on every read, so
+ * the counter follows a logging configuration that is reloaded.
+ */
+public class DroppedLogEventsMetrics implements MeterBinder {
+
+    private final LoggerContext loggerContext;
+
+    public DroppedLogEventsMetrics(LoggerContext loggerContext) {
+        this.loggerContext = loggerContext;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("logging.events.dropped", loggerContext, DroppedLogEventsMetrics::droppedEvents)
+                .description("INFO and lower log events dropped by the per-logger rate limit")
+                .register(registry);
+    }
+
+    private static double droppedEvents(LoggerContext loggerContext) {
+        long dropped = 0;
+        for (TurboFilter filter : loggerContext.getTurboFilterList()) {
+            if (filter instanceof RateLimitingTurboFilter rateLimit) {
+                dropped += rateLimit.getDroppedEvents();
+            }
+        }
+        return dropped;
+    }
+}
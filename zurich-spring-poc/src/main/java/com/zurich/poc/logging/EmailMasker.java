@@ -0,0 +1,25 @@
+package com.zurich.poc.logging;
+
+import java.util.regex.Pattern;
+
+/**
+ * Masks email addresses in log output, keeping the first character of the
+ * local part and the domain: {@code john.doe@example.com -> j***@example.com}.
+ */
+public final class EmailMasker {
+
+    private static final Pattern EMAIL = Pattern.compile(
+            "([A-Za-z0-9._%+-])[A-Za-z0-9._%+-]*@([A-Za-z0-9.-]+\\.[A-Za-z]{2,})");
+
+    private EmailMasker() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    public static String mask(String message) {
+        // Most messages contain no '@'; skip the regex entirely for them
+        if (message == null || message.indexOf('@') < 0) {
+            return message;
+        }
+        return EMAIL.matcher(message).replaceAll("$1***@$2");
+    }
+}
@@ -0,0 +1,115 @@
+package com.zurich.poc.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-logger rate limiting with sampling for high-volume loggers.
+ *
+ * For loggers under one of the configured prefixes, up to {@code maxEventsPerSecond}
+ * INFO-or-lower events per logger are passed each second; beyond that only one in
+ * {@code sampleRate} is kept. WARN and ERROR are never dropped. Turbo filters run
+ * before the message is formatted, so dropped events cost no formatting or allocation.
+ * The dropped count is published by {@link DroppedLogEventsMetrics}.
+ */
+public class RateLimitingTurboFilter extends TurboFilter {
+
+    private final List<String> loggerPrefixes = new ArrayList<>();
+    private final ConcurrentMap<Logger, Window> windows = new ConcurrentHashMap<>();
+    private final AtomicLong droppedEvents = new AtomicLong();
+
+    private int maxEventsPerSecond = 100;
+    private int sampleRate = 10;
+
+    public void addLoggerPrefix(String loggerPrefix) {
+        loggerPrefixes.add(loggerPrefix.trim());
+    }
+
+    public void setMaxEventsPerSecond(int maxEventsPerSecond) {
+        this.maxEventsPerSecond = maxEventsPerSecond;
+    }
+
+    public void setSampleRate(int sampleRate) {
+        this.sampleRate = Math.max(1, sampleRate);
+    }
+
+    public long getDroppedEvents() {
+        return droppedEvents.get();
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // isXxxEnabled() checks arrive with a null format; never count or deny those
+        if (format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        // Disabled levels are rejected later by the logger itself; don't count them here
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Window window = windows.get(logger);
+        if (window == null) {
+            // Unlimited loggers are remembered too, so the prefix scan runs once per logger
+            window = windows.computeIfAbsent(logger,
+                    key -> isLimited(key.getName()) ? new Window() : Window.UNLIMITED);
+        }
+        if (window.unlimited) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long count = window.next(System.currentTimeMillis());
+        if (count <= maxEventsPerSecond || (count - maxEventsPerSecond) % sampleRate == 0) {
+            return FilterReply.NEUTRAL;
+        }
+
+        droppedEvents.incrementAndGet();
+        return FilterReply.DENY;
+    }
+
+    private boolean isLimited(String loggerName) {
+        for (String prefix : loggerPrefixes) {
+            if (loggerName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * One-second counting window for a single logger.
+     */
+    private static final class Window {
+
+        static final Window UNLIMITED = new Window(true);
+
+        final boolean unlimited;
+        private final AtomicLong windowStart = new AtomicLong();
+        private final AtomicLong count = new AtomicLong();
+
+        Window() {
+            this(false);
+        }
+
+        private Window(boolean unlimited) {
+            this.unlimited = unlimited;
+        }
+
+        long next(long now) {
+            long start = windowStart.get();
+            if (now - start >= 1000 && windowStart.compareAndSet(start, now)) {
+                count.set(0);
+            }
+            return count.incrementAndGet();
+        }
+    }
+}
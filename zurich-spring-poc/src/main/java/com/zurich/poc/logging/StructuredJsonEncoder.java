@@ -0,0 +1,123 @@
+package com.zurich.poc.logging;
+
+import ch.qos.logback.classic.pattern.ThrowableProxyConverter;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Logback encoder writing one JSON object per line:
+ * {@code {"timestamp":..,"level":..,"thread":..,"logger":..,"message":..,"mdc":{..},"exception":..}}.
+ *
+ * Email addresses in the message and exception text are masked. The encoder runs
+ * on the async appender's worker thread, so formatting stays off request threads.
+ */
+public class StructuredJsonEncoder extends EncoderBase<ILoggingEvent> {
+
+    private final ThrowableProxyConverter throwableConverter = new ThrowableProxyConverter();
+
+    private boolean maskEmails = true;
+
+    public void setMaskEmails(boolean maskEmails) {
+        this.maskEmails = maskEmails;
+    }
+
+    @Override
+    public void start() {
+        throwableConverter.setContext(getContext());
+        throwableConverter.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        throwableConverter.stop();
+        super.stop();
+    }
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        StringBuilder json = new StringBuilder(256);
+        json.append("{\"timestamp\":\"").append(Instant.ofEpochMilli(event.getTimeStamp())).append('"');
+        json.append(",\"level\":\"").append(event.getLevel()).append('"');
+        appendField(json, "thread", event.getThreadName());
+        appendField(json, "logger", event.getLoggerName());
+        appendField(json, "message", mask(event.getFormattedMessage()));
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            json.append(",\"mdc\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                first = false;
+                json.append('"');
+                escape(json, entry.getKey());
+                json.append("\":\"");
+                escape(json, mask(entry.getValue()));
+                json.append('"');
+            }
+            json.append('}');
+        }
+
+        if (event.getThrowableProxy() != null) {
+            appendField(json, "exception", mask(throwableConverter.convert(event)));
+        }
+
+        json.append("}\n");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String mask(String value) {
+        return maskEmails ? EmailMasker.mask(value) : value;
+    }
+
+    private static void appendField(StringBuilder json, String name, String value) {
+        json.append(",\"").append(name).append("\":");
+        if (value == null) {
+            json.append("null");
+            return;
+        }
+        json.append('"');
+        escape(json, value);
+        json.append('"');
+    }
+
+    private static void escape(StringBuilder json, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+    }
+}
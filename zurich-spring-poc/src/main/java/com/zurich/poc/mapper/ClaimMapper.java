@@ -0,0 +1,53 @@
+package com.zurich.poc.mapper;
+
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.ClaimDTO;
+
+/**
+ * Hand-written ClaimDTO to Claim mapping.
+ *
+ * Replaces {@code BeanUtils.copyProperties} on the claim intake path, which
+ * introspects both classes and invokes accessors reflectively on every call.
+ * The copied properties are exactly those BeanUtils would copy (matching names
+ * on both classes), including copying nulls over existing values.
+ */
+public final class ClaimMapper {
+
+    private ClaimMapper() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    /**
+     * Create a new Claim from a DTO, equivalent to {@code BeanUtils.copyProperties(dto, new Claim())}.
+     */
+    public static Claim toEntity(ClaimDTO dto) {
+        Claim claim = new Claim();
+        claim.setId(dto.getId());
+        copyUpdatableFields(dto, claim);
+        return claim;
+    }
+
+    /**
+     * Apply a DTO to an existing Claim, equivalent to
+     * {@code BeanUtils.copyProperties(dto, claim, "id", "createdAt")}.
+     */
+    public static Claim updateEntity(ClaimDTO dto, Claim claim) {
+        copyUpdatableFields(dto, claim);
+        return claim;
+    }
+
+    private static void copyUpdatableFields(ClaimDTO dto, Claim claim) {
+        claim.setClaimNumber(dto.getClaimNumber());
+        claim.setPolicyNumber(dto.getPolicyNumber());
+        claim.setIncidentDate(dto.getIncidentDate());
+        claim.setDescription(dto.getDescription());
+        claim.setEstimatedAmount(dto.getEstimatedAmount());
+        claim.setType(dto.getType());
+        claim.setStatus(dto.getStatus());
+        claim.setClaimantName(dto.getClaimantName());
+        claim.setClaimantEmail(dto.getClaimantEmail());
+        claim.setClaimantPhone(dto.getClaimantPhone());
+        claim.setAdditionalDetails(dto.getAdditionalDetails());
+        claim.setAssignedAdjuster(dto.getAssignedAdjuster());
+    }
+}
@@ -13,7 +13,10 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "insurance_claims")
+@Table(name = "insurance_claims", indexes = {
+        @Index(name = "idx_claims_policy_status", columnList = "policyNumber, status"),
+        @Index(name = "idx_claims_claim_number", columnList = "claimNumber")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
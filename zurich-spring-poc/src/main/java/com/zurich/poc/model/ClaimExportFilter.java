@@ -0,0 +1,27 @@
+package com.zurich.poc.model;
+
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.Claim.ClaimType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Optional restrictions for a claim export; absent fields match everything.
+ * {@code from} and {@code to} bound the incident date, both inclusive.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimExportFilter {
+
+    private ClaimStatus status;
+
+    private ClaimType type;
+
+    private LocalDate from;
+
+    private LocalDate to;
+}
@@ -0,0 +1,61 @@
+package com.zurich.poc.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress and checkpoint of a CSV claim import.
+ *
+ * Every data row up to and including {@code checkpointRow} has been committed or
+ * written to the error report, so an import that failed can be resumed by posting the
+ * same file again with the same import id.
+ */
+@Entity
+@Table(name = "claim_import_jobs")
+@Data
+@NoArgsConstructor
+public class ClaimImportJob {
+
+    public static final int FAILURE_MESSAGE_LENGTH = 2000;
+
+    @Id
+    private String id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ImportStatus status;
+
+    private long rowsRead;
+
+    private long rowsImported;
+
+    private long rowsRejected;
+
+    private long checkpointRow;
+
+    private String errorReport;
+
+    @Column(length = FAILURE_MESSAGE_LENGTH)
+    private String failureMessage;
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    public ClaimImportJob(String id) {
+        this.id = id;
+    }
+
+    public enum ImportStatus {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+}
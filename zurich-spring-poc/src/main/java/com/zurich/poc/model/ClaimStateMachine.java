@@ -0,0 +1,73 @@
+package com.zurich.poc.model;
+
+import com.zurich.poc.model.Claim.ClaimStatus;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Allowed claim status transitions.
+ *
+ * <pre>
+ * SUBMITTED         -> UNDER_REVIEW, PENDING_DOCUMENTS, REJECTED, CLOSED
+ * UNDER_REVIEW      -> PENDING_DOCUMENTS, APPROVED, PARTIAL_APPROVED, REJECTED, CLOSED
+ * PENDING_DOCUMENTS -> UNDER_REVIEW, REJECTED, CLOSED
+ * APPROVED          -> CLOSED
+ * PARTIAL_APPROVED  -> APPEALED, CLOSED
+ * REJECTED          -> APPEALED, CLOSED
+ * APPEALED          -> UNDER_REVIEW, APPROVED, PARTIAL_APPROVED, REJECTED
+ * CLOSED            -> (terminal)
+ * </pre>
+ */
+public final class ClaimStateMachine {
+
+    private static final Map<ClaimStatus, Set<ClaimStatus>> TRANSITIONS = new EnumMap<>(ClaimStatus.class);
+    private static final Map<ClaimStatus, Set<ClaimStatus>> SOURCES = new EnumMap<>(ClaimStatus.class);
+
+    static {
+        allow(ClaimStatus.SUBMITTED, ClaimStatus.UNDER_REVIEW, ClaimStatus.PENDING_DOCUMENTS,
+                ClaimStatus.REJECTED, ClaimStatus.CLOSED);
+        allow(ClaimStatus.UNDER_REVIEW, ClaimStatus.PENDING_DOCUMENTS, ClaimStatus.APPROVED,
+                ClaimStatus.PARTIAL_APPROVED, ClaimStatus.REJECTED, ClaimStatus.CLOSED);
+        allow(ClaimStatus.PENDING_DOCUMENTS, ClaimStatus.UNDER_REVIEW, ClaimStatus.REJECTED, ClaimStatus.CLOSED);
+        allow(ClaimStatus.APPROVED, ClaimStatus.CLOSED);
+        allow(ClaimStatus.PARTIAL_APPROVED, ClaimStatus.APPEALED, ClaimStatus.CLOSED);
+        allow(ClaimStatus.REJECTED, ClaimStatus.APPEALED, ClaimStatus.CLOSED);
+        allow(ClaimStatus.APPEALED, ClaimStatus.UNDER_REVIEW, ClaimStatus.APPROVED,
+                ClaimStatus.PARTIAL_APPROVED, ClaimStatus.REJECTED);
+        TRANSITIONS.putIfAbsent(ClaimStatus.CLOSED, EnumSet.noneOf(ClaimStatus.class));
+    }
+
+    private ClaimStateMachine() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    private static void allow(ClaimStatus from, ClaimStatus first, ClaimStatus... rest) {
+        Set<ClaimStatus> targets = EnumSet.of(first, rest);
+        TRANSITIONS.put(from, targets);
+        for (ClaimStatus target : targets) {
+            SOURCES.computeIfAbsent(target, key -> EnumSet.noneOf(ClaimStatus.class)).add(from);
+        }
+    }
+
+    public static boolean canTransition(ClaimStatus from, ClaimStatus to) {
+        return from != null && to != null && TRANSITIONS.get(from).contains(to);
+    }
+
+    /**
+     * @return statuses a claim may move to from {@code from}
+     */
+    public static Set<ClaimStatus> allowedTargets(ClaimStatus from) {
+        return Collections.unmodifiableSet(TRANSITIONS.getOrDefault(from, EnumSet.noneOf(ClaimStatus.class)));
+    }
+
+    /**
+     * @return statuses from which a claim may move to {@code to}; empty if nothing can reach it
+     */
+    public static Set<ClaimStatus> allowedSources(ClaimStatus to) {
+        return Collections.unmodifiableSet(SOURCES.getOrDefault(to, EnumSet.noneOf(ClaimStatus.class)));
+    }
+}
@@ -0,0 +1,55 @@
+package com.zurich.poc.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.Claim.ClaimType;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Bulk status change: either an explicit list of claim ids or a filter, never both.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClaimTransitionRequest {
+
+    @NotNull(message = "Target status is required")
+    private ClaimStatus targetStatus;
+
+    @Size(max = 100000, message = "At most 100000 claim ids per request")
+    private List<UUID> claimIds;
+
+    @Valid
+    private Filter filter;
+
+    @JsonIgnore
+    @AssertTrue(message = "Exactly one of claimIds or filter is required")
+    public boolean isSelectionValid() {
+        return (claimIds != null) != (filter != null);
+    }
+
+    /**
+     * Selects claims by attribute; absent fields match everything.
+     * Only claims in a status that may move to the target status are selected.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+
+        private ClaimStatus fromStatus;
+
+        private String policyNumber;
+
+        private ClaimType type;
+    }
+}
@@ -0,0 +1,60 @@
+package com.zurich.poc.model;
+
+import com.zurich.poc.model.Claim.ClaimStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of a bulk status transition, with totals and one entry per claim.
+ */
+@Data
+@NoArgsConstructor
+public class ClaimTransitionResult {
+
+    private ClaimStatus targetStatus;
+    private int transitioned;
+    private int skipped;
+    private int notFound;
+    private long durationMs;
+    private List<Outcome> outcomes = new ArrayList<>();
+
+    public ClaimTransitionResult(ClaimStatus targetStatus) {
+        this.targetStatus = targetStatus;
+    }
+
+    public void recordTransitioned(UUID claimId, ClaimStatus previousStatus) {
+        transitioned++;
+        outcomes.add(new Outcome(claimId, previousStatus, OutcomeType.TRANSITIONED));
+    }
+
+    public void recordSkipped(UUID claimId, ClaimStatus currentStatus) {
+        skipped++;
+        outcomes.add(new Outcome(claimId, currentStatus, OutcomeType.SKIPPED_INELIGIBLE));
+    }
+
+    public void recordNotFound(UUID claimId) {
+        notFound++;
+        outcomes.add(new Outcome(claimId, null, OutcomeType.NOT_FOUND));
+    }
+
+    public enum OutcomeType {
+        TRANSITIONED,
+        SKIPPED_INELIGIBLE,
+        NOT_FOUND
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Outcome {
+        private UUID claimId;
+        /** Status before the transition, or the current status of a skipped claim */
+        private ClaimStatus previousStatus;
+        private OutcomeType outcome;
+    }
+}
@@ -0,0 +1,55 @@
+package com.zurich.poc.model;
+
+import com.zurich.poc.model.Claim.ClaimStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Claim aggregates for one policy: counts per status, estimated totals and the
+ * most recent incident date. Open claims are those with a status other than CLOSED
+ * or REJECTED; claims without a status count toward the totals only.
+ */
+@Data
+@NoArgsConstructor
+public class PolicyClaimSummary {
+
+    private String policyNumber;
+    private long totalClaims;
+    private long openClaims;
+    private Map<ClaimStatus, Long> claimsByStatus = new EnumMap<>(ClaimStatus.class);
+    private BigDecimal totalEstimatedAmount = BigDecimal.ZERO;
+    private BigDecimal openEstimatedAmount = BigDecimal.ZERO;
+    private LocalDate latestIncidentDate;
+
+    public PolicyClaimSummary(String policyNumber) {
+        this.policyNumber = policyNumber;
+    }
+
+    public static boolean isOpen(ClaimStatus status) {
+        return status != null && status != ClaimStatus.CLOSED && status != ClaimStatus.REJECTED;
+    }
+
+    /**
+     * Folds one (policy, status) group from the grouped aggregate query into this summary.
+     */
+    public void add(ClaimStatus status, long count, BigDecimal estimatedAmount, LocalDate latestIncident) {
+        BigDecimal amount = estimatedAmount != null ? estimatedAmount : BigDecimal.ZERO;
+        totalClaims += count;
+        totalEstimatedAmount = totalEstimatedAmount.add(amount);
+        if (status != null) {
+            claimsByStatus.merge(status, count, Long::sum);
+        }
+        if (isOpen(status)) {
+            openClaims += count;
+            openEstimatedAmount = openEstimatedAmount.add(amount);
+        }
+        if (latestIncident != null && (latestIncidentDate == null || latestIncident.isAfter(latestIncidentDate))) {
+            latestIncidentDate = latestIncident;
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package com.zurich.poc.repository;
+
+import com.zurich.poc.model.ClaimImportJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ClaimImportJobRepository extends JpaRepository<ClaimImportJob, String> {
+}
@@ -1,11 +1,19 @@
 package com.zurich.poc.repository;
 
 import com.zurich.poc.model.Claim;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -25,6 +33,59 @@ public interface ClaimRepository extends JpaRepository<Claim, UUID> {
     
     List<Claim> findByType(Claim.ClaimType type);
     
+    @Query("SELECT DISTINCT c.policyNumber FROM Claim c")
+    List<String> findDistinctPolicyNumbers();
+    
+    // One row per (policy, status); served by the policy_number/status index
+    @Query("SELECT c.policyNumber AS policyNumber, c.status AS status, COUNT(c) AS claimCount, "
+            + "SUM(c.estimatedAmount) AS estimatedAmount, MAX(c.incidentDate) AS latestIncidentDate "
+            + "FROM Claim c WHERE c.policyNumber IN :policyNumbers "
+            + "GROUP BY c.policyNumber, c.status")
+    List<PolicyStatusAggregate> aggregateByPolicyNumbers(@Param("policyNumbers") Collection<String> policyNumbers);
+    
+    @Query("SELECT c.id AS id, c.status AS status FROM Claim c WHERE c.id IN :ids")
+    List<ClaimStatusView> findStatusesByIdIn(@Param("ids") Collection<UUID> ids);
+    
+    // Keyset page of transition candidates; ids already moved out of :statuses drop out of later pages
+    @Query("SELECT c.id AS id, c.status AS status FROM Claim c "
+            + "WHERE c.status IN :statuses "
+            + "AND (:policyNumber IS NULL OR c.policyNumber = :policyNumber) "
+            + "AND (:type IS NULL OR c.type = :type) "
+            + "AND c.id > :afterId "
+            + "ORDER BY c.id")
+    List<ClaimStatusView> findTransitionCandidates(@Param("statuses") Collection<Claim.ClaimStatus> statuses,
+                                                   @Param("policyNumber") String policyNumber,
+                                                   @Param("type") Claim.ClaimType type,
+                                                   @Param("afterId") UUID afterId,
+                                                   Limit limit);
+    
+    // Bulk update bypasses @UpdateTimestamp, so updatedAt is set explicitly
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Claim c SET c.status = :target, c.updatedAt = :updatedAt "
+            + "WHERE c.id IN :ids AND c.status IN :sources")
+    int transitionStatus(@Param("ids") Collection<UUID> ids,
+                         @Param("sources") Collection<Claim.ClaimStatus> sources,
+                         @Param("target") Claim.ClaimStatus target,
+                         @Param("updatedAt") LocalDateTime updatedAt);
+    
+    interface ClaimStatusView {
+        UUID getId();
+        
+        Claim.ClaimStatus getStatus();
+    }
+    
+    interface PolicyStatusAggregate {
+        String getPolicyNumber();
+        
+        Claim.ClaimStatus getStatus();
+        
+        Long getClaimCount();
+        
+        BigDecimal getEstimatedAmount();
+        
+        LocalDate getLatestIncidentDate();
+    }
+    
     // Jira integration will be added later
     // Optional<Claim> findByJiraIssueKey(String jiraIssueKey);
 }
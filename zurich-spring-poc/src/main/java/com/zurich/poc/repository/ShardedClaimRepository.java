@@ -0,0 +1,312 @@
+package com.zurich.poc.repository;
+
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.sharding.ShardContext;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Shard-aware access to claims on top of {@link ClaimRepository}.
+ *
+ * Lookups by policy number and claim number go to a single shard; lookups by id,
+ * status or type fan out to every shard in parallel and merge the results. Each shard
+ * call runs in its own transaction opened after the shard is bound, so the routing
+ * DataSource hands out a connection to the right database. This relies on no
+ * EntityManager being bound to the thread beforehand, hence
+ * {@code spring.jpa.open-in-view: false}.
+ *
+ * With a single shard every call goes straight to {@link ClaimRepository} on the
+ * caller's thread and transaction, exactly as before sharding.
+ */
+@Repository
+@Slf4j
+public class ShardedClaimRepository {
+
+    private static final Sort DEFAULT_PAGE_SORT = Sort.by("id");
+
+    private final ClaimRepository claimRepository;
+    private final ClaimShardRouter router;
+    private final TransactionTemplate defaultTransaction;
+    private final TransactionTemplate writeTransaction;
+    private final TransactionTemplate readTransaction;
+    private final ExecutorService fanOutExecutor;
+
+    public ShardedClaimRepository(ClaimRepository claimRepository, ClaimShardRouter router,
+                                  PlatformTransactionManager transactionManager) {
+        this.claimRepository = claimRepository;
+        this.router = router;
+        this.defaultTransaction = new TransactionTemplate(transactionManager);
+        // REQUIRES_NEW: a caller's transaction is already bound to another shard's connection
+        this.writeTransaction = new TransactionTemplate(transactionManager);
+        this.writeTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction = new TransactionTemplate(transactionManager);
+        this.readTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTransaction.setReadOnly(true);
+        this.fanOutExecutor = router.isSharded()
+                ? Executors.newFixedThreadPool(router.getShardCount(), runnable -> {
+                    Thread thread = new Thread(runnable, "claim-shard-fanout");
+                    thread.setDaemon(true);
+                    return thread;
+                })
+                : null;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (fanOutExecutor != null) {
+            fanOutExecutor.shutdownNow();
+        }
+    }
+
+    public int getShardCount() {
+        return router.getShardCount();
+    }
+
+    /**
+     * Saves the claim on its policy's shard, tagging the claim number with that shard.
+     * A claim cannot move between shards by changing its policy number.
+     */
+    public Claim save(Claim claim) {
+        if (!router.isSharded()) {
+            return claimRepository.save(claim);
+        }
+        int shard = router.shardForPolicy(claim.getPolicyNumber());
+        if (claim.getId() != null) {
+            int existingShard = fanOut(repository -> repository.existsById(claim.getId())).indexOf(Boolean.TRUE);
+            if (existingShard >= 0 && existingShard != shard) {
+                throw new IllegalArgumentException("Changing the policy number of claim " + claim.getId()
+                        + " would move it to another shard, which is not supported");
+            }
+        }
+        claim.setClaimNumber(router.tagClaimNumber(claim.getClaimNumber(), shard));
+        return onShard(shard, writeTransaction, repository -> repository.save(claim));
+    }
+
+    public Optional<Claim> findById(UUID id) {
+        if (!router.isSharded()) {
+            return claimRepository.findById(id);
+        }
+        return fanOut(repository -> repository.findById(id)).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    public Optional<Claim> findByClaimNumber(String claimNumber) {
+        if (!router.isSharded()) {
+            return claimRepository.findByClaimNumber(claimNumber);
+        }
+        OptionalInt shard = router.shardOfClaimNumber(claimNumber);
+        if (shard.isPresent()) {
+            return onShard(shard.getAsInt(), readTransaction, repository -> repository.findByClaimNumber(claimNumber));
+        }
+        // Untagged claim number: it may have been created before sharding, so ask every shard
+        return fanOut(repository -> repository.findByClaimNumber(claimNumber)).stream()
+                .flatMap(Optional::stream)
+                .findFirst();
+    }
+
+    public List<Claim> findByPolicyNumber(String policyNumber) {
+        if (!router.isSharded()) {
+            return claimRepository.findByPolicyNumber(policyNumber);
+        }
+        return onShard(router.shardForPolicy(policyNumber), readTransaction,
+                repository -> repository.findByPolicyNumber(policyNumber));
+    }
+
+    public Page<Claim> findByPolicyNumber(String policyNumber, Pageable pageable) {
+        if (!router.isSharded()) {
+            return claimRepository.findByPolicyNumber(policyNumber, pageable);
+        }
+        return onShard(router.shardForPolicy(policyNumber), readTransaction,
+                repository -> repository.findByPolicyNumber(policyNumber, pageable));
+    }
+
+    public List<Claim> findAll() {
+        if (!router.isSharded()) {
+            return claimRepository.findAll();
+        }
+        return concat(fanOut(ClaimRepository::findAll));
+    }
+
+    /**
+     * Each shard returns its first {@code offset + size} rows in page order; the merged
+     * stream is sorted once more and the requested window cut out. Unsorted requests are
+     * ordered by id so pages are stable.
+     */
+    public Page<Claim> findAll(Pageable pageable) {
+        if (!router.isSharded()) {
+            return claimRepository.findAll(pageable);
+        }
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(findAll());
+        }
+
+        Sort sort = pageable.getSort().isSorted() ? pageable.getSort() : DEFAULT_PAGE_SORT;
+        long window = pageable.getOffset() + pageable.getPageSize();
+        if (window > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Page " + pageable.getPageNumber() + " is too deep to merge across shards");
+        }
+        Pageable shardPage = PageRequest.of(0, (int) window, sort);
+
+        List<Page<Claim>> pages = fanOut(repository -> repository.findAll(shardPage));
+        long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+        List<Claim> content = pages.stream()
+                .flatMap(page -> page.getContent().stream())
+                .sorted(comparatorFor(sort))
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort), total);
+    }
+
+    public List<Claim> findByStatus(Claim.ClaimStatus status) {
+        if (!router.isSharded()) {
+            return claimRepository.findByStatus(status);
+        }
+        return concat(fanOut(repository -> repository.findByStatus(status)));
+    }
+
+    public List<Claim> findByType(Claim.ClaimType type) {
+        if (!router.isSharded()) {
+            return claimRepository.findByType(type);
+        }
+        return concat(fanOut(repository -> repository.findByType(type)));
+    }
+
+    public void deleteById(UUID id) {
+        if (!router.isSharded()) {
+            claimRepository.deleteById(id);
+            return;
+        }
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            onShard(shard, writeTransaction, repository -> {
+                repository.deleteById(id);
+                return null;
+            });
+        }
+    }
+
+    public long count() {
+        if (!router.isSharded()) {
+            return claimRepository.count();
+        }
+        return fanOut(ClaimRepository::count).stream().mapToLong(Long::longValue).sum();
+    }
+
+    public List<String> findDistinctPolicyNumbers() {
+        if (!router.isSharded()) {
+            return claimRepository.findDistinctPolicyNumbers();
+        }
+        // A policy lives on exactly one shard, so the per-shard lists do not overlap
+        return concat(fanOut(ClaimRepository::findDistinctPolicyNumbers));
+    }
+
+    /**
+     * Claim aggregates for the given policies, queried on each policy's shard.
+     */
+    public List<ClaimRepository.PolicyStatusAggregate> aggregateByPolicyNumbers(Collection<String> policyNumbers) {
+        if (!router.isSharded()) {
+            return claimRepository.aggregateByPolicyNumbers(policyNumbers);
+        }
+        Map<Integer, List<String>> byShard = new TreeMap<>();
+        for (String policyNumber : policyNumbers) {
+            byShard.computeIfAbsent(router.shardForPolicy(policyNumber), shard -> new ArrayList<>()).add(policyNumber);
+        }
+        List<ClaimRepository.PolicyStatusAggregate> rows = new ArrayList<>();
+        byShard.forEach((shard, numbers) -> rows.addAll(
+                onShard(shard, readTransaction, repository -> repository.aggregateByPolicyNumbers(numbers))));
+        return rows;
+    }
+
+    /**
+     * Runs a read/write unit of work against one shard in a single transaction. Unsharded,
+     * this joins the caller's transaction like a plain {@code TransactionTemplate} would.
+     */
+    public <T> T inTransaction(int shard, Function<ClaimRepository, T> action) {
+        if (!router.isSharded()) {
+            return defaultTransaction.execute(status -> action.apply(claimRepository));
+        }
+        return onShard(shard, writeTransaction, action);
+    }
+
+    /**
+     * Runs the action against one shard in a new transaction on the calling thread.
+     */
+    public <T> T onShard(int shard, TransactionTemplate transaction, Function<ClaimRepository, T> action) {
+        return ShardContext.callOn(shard, () -> transaction.execute(status -> action.apply(claimRepository)));
+    }
+
+    /**
+     * Runs the action against every shard in parallel, each in its own read-only
+     * transaction, and returns the results in shard order.
+     */
+    public <T> List<T> fanOut(Function<ClaimRepository, T> action) {
+        List<CompletableFuture<T>> futures = new ArrayList<>(router.getShardCount());
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            int target = shard;
+            futures.add(CompletableFuture.supplyAsync(
+                    () -> onShard(target, readTransaction, action), fanOutExecutor));
+        }
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    private static <T> List<T> concat(List<List<T>> perShard) {
+        List<T> merged = new ArrayList<>(perShard.stream().mapToInt(List::size).sum());
+        perShard.forEach(merged::addAll);
+        return merged;
+    }
+
+    private static Comparator<Claim> comparatorFor(Sort sort) {
+        Comparator<Claim> comparator = null;
+        for (Sort.Order order : sort) {
+            Comparator<Object> values = order.getNullHandling() == Sort.NullHandling.NULLS_FIRST
+                    ? Comparator.nullsFirst(ShardedClaimRepository::compareValues)
+                    : Comparator.nullsLast(ShardedClaimRepository::compareValues);
+            Comparator<Claim> byProperty = Comparator.comparing(
+                    claim -> new BeanWrapperImpl(claim).getPropertyValue(order.getProperty()), values);
+            if (order.isDescending()) {
+                byProperty = byProperty.reversed();
+            }
+            comparator = comparator == null ? byProperty : comparator.thenComparing(byProperty);
+        }
+        return Objects.requireNonNull(comparator);
+    }
+
+    /**
+     * Natural order, except UUIDs: databases compare them as unsigned bytes, UUID.compareTo as signed longs.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object left, Object right) {
+        if (left instanceof UUID a && right instanceof UUID b) {
+            int high = Long.compareUnsigned(a.getMostSignificantBits(), b.getMostSignificantBits());
+            return high != 0 ? high : Long.compareUnsigned(a.getLeastSignificantBits(), b.getLeastSignificantBits());
+        }
+        return ((Comparable) left).compareTo(right);
+    }
+}
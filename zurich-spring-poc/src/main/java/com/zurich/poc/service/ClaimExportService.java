@@ -0,0 +1,130 @@
+package com.zurich.poc.service;
+
+import com.zurich.poc.export.ClaimExportColumns;
+import com.zurich.poc.export.ClaimRowWriter;
+import com.zurich.poc.export.CsvClaimRowWriter;
+import com.zurich.poc.export.ExportFormat;
+import com.zurich.poc.export.ParquetClaimRowWriter;
+import com.zurich.poc.model.ClaimExportFilter;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.sharding.ShardContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams claims from the database straight into a CSV or Parquet writer.
+ *
+ * Rows are read through a forward-only, read-only cursor with a bounded fetch size
+ * and written one at a time, so memory use does not grow with the number of claims.
+ * Each shard is read in its own read-only transaction. A failed write to the client
+ * (disconnect) aborts the query and releases the connection.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimExportService {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ClaimShardRouter claimShardRouter;
+
+    @Value("${claims.export.fetch-size:1000}")
+    private int fetchSize;
+
+    @Value("${claims.export.parquet-row-group-bytes:8388608}")
+    private long parquetRowGroupBytes;
+
+    /**
+     * @return the number of claims written
+     */
+    public long export(ClaimExportFilter filter, ExportFormat format, OutputStream out) throws IOException {
+        long start = System.nanoTime();
+        long[] rows = {0};
+        try (ClaimRowWriter writer = newWriter(format, out)) {
+            RowCallbackHandler handler = resultSet -> {
+                try {
+                    writer.write(resultSet);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                if (++rows[0] % fetchSize == 0 && Thread.currentThread().isInterrupted()) {
+                    throw new UncheckedIOException(new InterruptedIOException("Claim export interrupted"));
+                }
+            };
+            // A new connection per shard; open-in-view is off so no EntityManager holds shard 0's connection
+            for (int shard = 0; shard < claimShardRouter.getShardCount(); shard++) {
+                ShardContext.runOn(shard, () -> readOnly().executeWithoutResult(status -> query(filter, handler)));
+            }
+        } catch (UncheckedIOException e) {
+            log.warn("Claim export aborted after {} rows: {}", rows[0], e.getCause().getMessage());
+            throw e.getCause();
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - start) / 1_000_000);
+        log.info("Exported {} claims as {} in {} ms ({} rows/s)",
+                rows[0], format, elapsedMs, rows[0] * 1000 / elapsedMs);
+        return rows[0];
+    }
+
+    private ClaimRowWriter newWriter(ExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvClaimRowWriter(out);
+            case PARQUET -> new ParquetClaimRowWriter(out, parquetRowGroupBytes);
+        };
+    }
+
+    private TransactionTemplate readOnly() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private void query(ClaimExportFilter filter, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder("SELECT ")
+                .append(String.join(", ", ClaimExportColumns.NAMES))
+                .append(" FROM insurance_claims WHERE 1 = 1");
+        List<Object> args = new ArrayList<>();
+        if (filter.getStatus() != null) {
+            sql.append(" AND status = ?");
+            args.add(filter.getStatus().name());
+        }
+        if (filter.getType() != null) {
+            sql.append(" AND type = ?");
+            args.add(filter.getType().name());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(" AND incident_date >= ?");
+            args.add(Date.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append(" AND incident_date <= ?");
+            args.add(Date.valueOf(filter.getTo()));
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.size(); i++) {
+                statement.setObject(i + 1, args.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+}
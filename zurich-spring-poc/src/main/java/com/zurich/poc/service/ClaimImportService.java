@@ -0,0 +1,653 @@
+package com.zurich.poc.service;
+
+import com.zurich.poc.export.ClaimExportColumns;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.Claim.ClaimType;
+import com.zurich.poc.model.ClaimDTO;
+import com.zurich.poc.model.ClaimImportJob;
+import com.zurich.poc.model.ClaimImportJob.ImportStatus;
+import com.zurich.poc.repository.ClaimImportJobRepository;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.sharding.ShardContext;
+import com.zurich.poc.util.CsvFields;
+import com.zurich.poc.util.CsvRecordReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Bulk CSV import of claims.
+ *
+ * The request thread parses the CSV one record at a time and validates each row with
+ * the {@link ClaimDTO} constraints. Valid rows are grouped per shard into batches that
+ * worker threads write with JDBC batch inserts, one transaction per batch. At most
+ * {@code 2 * workers} batches are in flight, so memory stays bounded whatever the file size.
+ *
+ * Rejected rows go to an error report next to their row number and reasons; a row whose
+ * claim number is already stored, or is used by an earlier row of the file, is rejected as
+ * a duplicate. Progress, including a checkpoint below which every row is done, is saved on
+ * a {@link ClaimImportJob}.
+ *
+ * Each row is stored under an id derived from the import id and its row number. Posting the
+ * same file with the same import id after a failure skips rows up to the checkpoint, and
+ * after it skips the rows whose id shows they were committed by the failed attempt, so a
+ * resumed import stores the same rows as one that never failed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimImportService {
+
+    private static final Pattern IMPORT_ID = Pattern.compile("[A-Za-z0-9._-]{1,64}");
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(
+            "claim_number", "policy_number", "incident_date", "description", "type", "claimant_name");
+
+    private static final String INSERT_UNLESS_DUPLICATE_SQL = "INSERT INTO insurance_claims ("
+            + String.join(", ", ClaimExportColumns.NAMES) + ") SELECT "
+            + String.join(", ", ClaimExportColumns.NAMES.stream().map(column -> "?").toList())
+            + " WHERE NOT EXISTS (SELECT 1 FROM insurance_claims WHERE claim_number = ?)";
+
+    private static final String DUPLICATE_CLAIM_NUMBER = "claimNumber: claim number already exists";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager transactionManager;
+    private final ClaimShardRouter claimShardRouter;
+    private final ClaimImportJobRepository claimImportJobRepository;
+    private final Validator validator;
+
+    private final Set<String> activeImports = ConcurrentHashMap.newKeySet();
+
+    private TransactionTemplate batchTransaction;
+
+    @Value("${claims.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${claims.import.workers:4}")
+    private int workers;
+
+    @Value("${claims.import.error-dir:target/imports}")
+    private String errorDir;
+
+    @Value("${claims.import.progress-interval-ms:2000}")
+    private long progressIntervalMs;
+
+    @PostConstruct
+    void init() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public Optional<ClaimImportJob> getJob(String importId) {
+        return claimImportJobRepository.findById(importId);
+    }
+
+    /**
+     * Imports the CSV body, resuming from the saved checkpoint if the import id belongs
+     * to a previous attempt that did not complete.
+     *
+     * @return the job as it stands when the import has completed or failed
+     */
+    public ClaimImportJob importClaims(String importId, InputStream body) throws IOException {
+        if (!IMPORT_ID.matcher(importId).matches()) {
+            throw new IllegalArgumentException("Import id must be 1-64 letters, digits, '.', '_' or '-': " + importId);
+        }
+        if (!activeImports.add(importId)) {
+            throw new IllegalArgumentException("Import " + importId + " is already running");
+        }
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            return run(importId, reader);
+        } finally {
+            activeImports.remove(importId);
+        }
+    }
+
+    private ClaimImportJob run(String importId, CsvRecordReader reader) throws IOException {
+        List<String> header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV body is empty");
+        }
+        Map<String, Integer> columns = columnIndexes(header);
+
+        ClaimImportJob job = claimImportJobRepository.findById(importId).orElse(null);
+        if (job != null && job.getStatus() == ImportStatus.COMPLETED) {
+            throw new IllegalArgumentException("Import " + importId + " has already completed");
+        }
+        boolean resuming = job != null;
+        if (!resuming) {
+            job = new ClaimImportJob(importId);
+        }
+        long skipThrough = job.getCheckpointRow();
+
+        Path errorReport = Path.of(errorDir, importId + "-errors.csv");
+        long rejectedBefore = prepareErrorReport(errorReport, header, skipThrough);
+
+        job.setStatus(ImportStatus.RUNNING);
+        job.setErrorReport(errorReport.toString());
+        job.setRowsRejected(rejectedBefore);
+        job.setFailureMessage(null);
+        job.setStartedAt(LocalDateTime.now());
+        job.setFinishedAt(null);
+        job = claimImportJobRepository.save(job);
+        if (resuming) {
+            log.info("Resuming import {} after row {}", importId, skipThrough);
+        }
+
+        ImportRun run = new ImportRun(job, errorReport, resuming);
+        try {
+            read(reader, columns, skipThrough, run);
+        } catch (IOException | RuntimeException e) {
+            run.fail(e);
+        } finally {
+            run.finish();
+        }
+
+        job.setCheckpointRow(run.checkpoint());
+        run.updateCounters(job);
+        job.setFinishedAt(LocalDateTime.now());
+        Throwable failure = run.failure.get();
+        if (failure == null) {
+            job.setStatus(ImportStatus.COMPLETED);
+        } else {
+            job.setStatus(ImportStatus.FAILED);
+            // Truncated to the column, or saving the failure would fail and leave the job RUNNING
+            String message = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+            job.setFailureMessage(message.length() > ClaimImportJob.FAILURE_MESSAGE_LENGTH
+                    ? message.substring(0, ClaimImportJob.FAILURE_MESSAGE_LENGTH)
+                    : message);
+            log.error("Import {} failed at checkpoint row {}", importId, job.getCheckpointRow(), failure);
+        }
+        job = claimImportJobRepository.save(job);
+
+        log.info("Import {} {}: {} rows read, {} imported, {} rejected in {} ms",
+                importId, job.getStatus(), job.getRowsRead(), job.getRowsImported(), job.getRowsRejected(),
+                run.elapsedMs());
+        return job;
+    }
+
+    private void read(CsvRecordReader reader, Map<String, Integer> columns, long skipThrough, ImportRun run)
+            throws IOException {
+        Batch[] open = new Batch[claimShardRouter.getShardCount()];
+        long nextProgress = System.currentTimeMillis() + progressIntervalMs;
+        List<String> record;
+
+        while ((record = reader.next()) != null && run.failure.get() == null) {
+            long row = reader.getRecordNumber();
+            if (row <= skipThrough) {
+                continue;
+            }
+            run.lastRead = row;
+
+            List<String> errors = new ArrayList<>();
+            ClaimDTO claim = toClaim(record, columns, errors);
+            if (errors.isEmpty()) {
+                for (ConstraintViolation<ClaimDTO> violation : validator.validate(claim)) {
+                    errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+                }
+            }
+            if (!errors.isEmpty()) {
+                run.reject(row, String.join("; ", errors), record);
+                continue;
+            }
+
+            int shard = claimShardRouter.shardForPolicy(claim.getPolicyNumber());
+            Object[] parameters = toParameters(run.job.getId(), row, claim, shard);
+            String claimNumber = (String) parameters[1];
+            // Duplicates of committed rows are caught by the insert; this catches rows still in flight
+            Long earlierRow = run.claimNumbersInFlight.putIfAbsent(claimNumber, row);
+            if (earlierRow != null) {
+                run.reject(row, DUPLICATE_CLAIM_NUMBER + " in row " + earlierRow, record);
+                continue;
+            }
+            if (open[shard] == null) {
+                open[shard] = new Batch(shard, row);
+                run.pending.add(row);
+            }
+            open[shard].add(row, record, parameters);
+            if (open[shard].size() >= batchSize) {
+                run.submit(open[shard]);
+                open[shard] = null;
+            }
+
+            if (System.currentTimeMillis() >= nextProgress) {
+                run.saveProgress();
+                nextProgress = System.currentTimeMillis() + progressIntervalMs;
+            }
+        }
+
+        for (Batch batch : open) {
+            if (batch != null && run.failure.get() == null) {
+                run.submit(batch);
+            }
+        }
+    }
+
+    /**
+     * Maps header names to column indexes. Names are matched ignoring case and underscores,
+     * so both the export's {@code claim_number} and {@code claimNumber} are accepted.
+     */
+    private Map<String, Integer> columnIndexes(List<String> header) {
+        Map<String, Integer> byKey = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            byKey.putIfAbsent(columnKey(header.get(i)), i);
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (String name : ClaimExportColumns.NAMES) {
+            Integer index = byKey.get(columnKey(name));
+            if (index != null) {
+                columns.put(name, index);
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV header is missing required columns: " + missing);
+        }
+        return columns;
+    }
+
+    private static String columnKey(String name) {
+        return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+    private ClaimDTO toClaim(List<String> record, Map<String, Integer> columns, List<String> errors) {
+        ClaimDTO claim = new ClaimDTO();
+        claim.setClaimNumber(value(record, columns, "claim_number"));
+        claim.setPolicyNumber(value(record, columns, "policy_number"));
+        claim.setDescription(value(record, columns, "description"));
+        claim.setClaimantName(value(record, columns, "claimant_name"));
+        claim.setClaimantEmail(value(record, columns, "claimant_email"));
+        claim.setClaimantPhone(value(record, columns, "claimant_phone"));
+        claim.setAdditionalDetails(value(record, columns, "additional_details"));
+        claim.setAssignedAdjuster(value(record, columns, "assigned_adjuster"));
+
+        String incidentDate = value(record, columns, "incident_date");
+        String amount = value(record, columns, "estimated_amount");
+        String type = value(record, columns, "type");
+        String status = value(record, columns, "status");
+        try {
+            claim.setIncidentDate(incidentDate != null ? LocalDate.parse(incidentDate) : null);
+        } catch (RuntimeException e) {
+            errors.add("incidentDate: not an ISO date: " + incidentDate);
+        }
+        try {
+            claim.setEstimatedAmount(amount != null ? new BigDecimal(amount) : null);
+        } catch (NumberFormatException e) {
+            errors.add("estimatedAmount: not a number: " + amount);
+        }
+        try {
+            claim.setType(type != null ? ClaimType.valueOf(type.toUpperCase(Locale.ROOT)) : null);
+        } catch (IllegalArgumentException e) {
+            errors.add("type: unknown claim type: " + type);
+        }
+        try {
+            if (status != null) {
+                claim.setStatus(ClaimStatus.valueOf(status.toUpperCase(Locale.ROOT)));
+            }
+        } catch (IllegalArgumentException e) {
+            errors.add("status: unknown claim status: " + status);
+        }
+        return claim;
+    }
+
+    /**
+     * @return the trimmed value, or null if the column is absent or the field is blank
+     */
+    private static String value(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Insert parameters in {@link ClaimExportColumns#NAMES} order.
+     */
+    private Object[] toParameters(String importId, long row, ClaimDTO claim, int shard) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return new Object[]{
+                rowId(importId, row),
+                claimShardRouter.tagClaimNumber(claim.getClaimNumber(), shard),
+                claim.getPolicyNumber(),
+                Date.valueOf(claim.getIncidentDate()),
+                claim.getDescription(),
+                claim.getEstimatedAmount(),
+                claim.getType().name(),
+                claim.getStatus() != null ? claim.getStatus().name() : ClaimStatus.SUBMITTED.name(),
+                claim.getClaimantName(),
+                claim.getClaimantEmail(),
+                claim.getClaimantPhone(),
+                claim.getAdditionalDetails(),
+                claim.getAssignedAdjuster(),
+                now,
+                now
+        };
+    }
+
+    /**
+     * Id of the claim stored for a row: the same on every attempt of an import, and
+     * different for every other import
+     */
+    static UUID rowId(String importId, long row) {
+        return UUID.nameUUIDFromBytes((importId + "/" + row).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Starts a new error report, or on resume keeps only the rows up to the checkpoint,
+     * since the rows after it are about to be read again.
+     *
+     * @return the number of rejected rows kept
+     */
+    private long prepareErrorReport(Path errorReport, List<String> header, long keepThrough) throws IOException {
+        Files.createDirectories(errorReport.toAbsolutePath().getParent());
+        Path rewritten = errorReport.resolveSibling(errorReport.getFileName() + ".tmp");
+        long kept = 0;
+        try (Writer writer = Files.newBufferedWriter(rewritten, StandardCharsets.UTF_8)) {
+            writeRecord(writer, List.of("row", "errors"), header);
+            if (keepThrough > 0 && Files.exists(errorReport)) {
+                try (CsvRecordReader previous = new CsvRecordReader(
+                        Files.newBufferedReader(errorReport, StandardCharsets.UTF_8))) {
+                    previous.next();
+                    List<String> record;
+                    while ((record = previous.next()) != null) {
+                        if (Long.parseLong(record.get(0)) <= keepThrough) {
+                            writeRecord(writer, record, List.of());
+                            kept++;
+                        }
+                    }
+                }
+            }
+        }
+        Files.move(rewritten, errorReport, StandardCopyOption.REPLACE_EXISTING);
+        return kept;
+    }
+
+    private static void writeRecord(Writer writer, List<String> first, List<String> rest) throws IOException {
+        boolean separator = false;
+        for (List<String> fields : List.of(first, rest)) {
+            for (String field : fields) {
+                if (separator) {
+                    writer.write(',');
+                }
+                CsvFields.write(writer, field);
+                separator = true;
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * Valid rows bound for one shard, keyed by the row number of their first record.
+     */
+    private static final class Batch {
+
+        private final int shard;
+        private final long firstRow;
+        private final List<Long> rows = new ArrayList<>();
+        private final List<List<String>> records = new ArrayList<>();
+        private final List<Object[]> parameters = new ArrayList<>();
+
+        Batch(int shard, long firstRow) {
+            this.shard = shard;
+            this.firstRow = firstRow;
+        }
+
+        void add(long row, List<String> record, Object[] values) {
+            rows.add(row);
+            records.add(record);
+            parameters.add(values);
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        UUID id(int index) {
+            return (UUID) parameters.get(index)[0];
+        }
+
+        String claimNumber(int index) {
+            return (String) parameters.get(index)[1];
+        }
+
+        /**
+         * Parameters of {@link #INSERT_UNLESS_DUPLICATE_SQL}: the row, then its claim number again
+         */
+        Object[] guardedParameters(int index) {
+            Object[] values = parameters.get(index);
+            Object[] guarded = Arrays.copyOf(values, values.length + 1);
+            guarded[values.length] = values[1];
+            return guarded;
+        }
+    }
+
+    private record InsertOutcome(int inserted, List<Integer> duplicates) {
+    }
+
+    /**
+     * State of one import attempt, shared between the reading thread and the workers.
+     */
+    private final class ImportRun {
+
+        private final ClaimImportJob job;
+        private final boolean resuming;
+        private final Writer errors;
+        private final ExecutorService executor;
+        private final Semaphore inFlight;
+        private final long startNanos = System.nanoTime();
+        private final long importedBefore;
+        private final AtomicLong imported = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        /** First row of every batch that is being filled or has not committed yet. */
+        private final ConcurrentSkipListSet<Long> pending = new ConcurrentSkipListSet<>();
+        /** Claim numbers of the rows in those batches, with their row. */
+        private final Map<String, Long> claimNumbersInFlight = new ConcurrentHashMap<>();
+        private volatile long lastRead;
+
+        ImportRun(ClaimImportJob job, Path errorReport, boolean resuming) throws IOException {
+            this.job = job;
+            this.resuming = resuming;
+            this.importedBefore = job.getRowsImported();
+            this.rejected.set(job.getRowsRejected());
+            this.lastRead = job.getCheckpointRow();
+            this.errors = Files.newBufferedWriter(errorReport, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+            AtomicInteger threads = new AtomicInteger();
+            this.executor = Executors.newFixedThreadPool(workers, runnable -> {
+                Thread thread = new Thread(runnable, "claim-import-" + threads.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            this.inFlight = new Semaphore(2 * workers);
+        }
+
+        void submit(Batch batch) {
+            inFlight.acquireUninterruptibly();
+            executor.execute(() -> {
+                try {
+                    if (failure.get() == null) {
+                        write(batch);
+                        pending.remove(batch.firstRow);
+                    }
+                } catch (RuntimeException e) {
+                    fail(e);
+                } finally {
+                    // Stored or rejected: later rows with these claim numbers are checked by the insert
+                    for (int i = 0; i < batch.size(); i++) {
+                        claimNumbersInFlight.remove(batch.claimNumber(i), batch.rows.get(i));
+                    }
+                    inFlight.release();
+                }
+            });
+        }
+
+        private void write(Batch batch) {
+            try {
+                insert(batch, IntStream.range(0, batch.size()).boxed().toList());
+            } catch (DataIntegrityViolationException e) {
+                // Isolate the offending rows; the rest of the batch is still imported
+                for (int i = 0; i < batch.size(); i++) {
+                    try {
+                        insert(batch, List.of(i));
+                    } catch (DataIntegrityViolationException rowFailure) {
+                        reject(batch.rows.get(i), "database: " + rowFailure.getMostSpecificCause().getMessage(),
+                                batch.records.get(i));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Inserts the rows of the batch at the given indexes in one transaction and rejects
+         * those whose claim number was already stored. On resume, rows the failed attempt
+         * committed are skipped; they were counted as imported by that attempt.
+         */
+        private void insert(Batch batch, List<Integer> indexes) {
+            InsertOutcome outcome = ShardContext.callOn(batch.shard, () -> batchTransaction.execute(status -> {
+                List<Integer> toInsert = indexes;
+                if (resuming) {
+                    Set<UUID> committed = storedIds(batch, indexes);
+                    toInsert = indexes.stream().filter(i -> !committed.contains(batch.id(i))).toList();
+                }
+                if (toInsert.isEmpty()) {
+                    return new InsertOutcome(0, List.of());
+                }
+                jdbcTemplate.batchUpdate(INSERT_UNLESS_DUPLICATE_SQL,
+                        toInsert.stream().map(batch::guardedParameters).toList());
+                // Drivers may report SUCCESS_NO_INFO for batched statements, so look the rows up instead
+                Set<UUID> inserted = storedIds(batch, toInsert);
+                return new InsertOutcome(inserted.size(),
+                        toInsert.stream().filter(i -> !inserted.contains(batch.id(i))).toList());
+            }));
+            imported.addAndGet(outcome.inserted());
+            for (int i : outcome.duplicates()) {
+                reject(batch.rows.get(i), DUPLICATE_CLAIM_NUMBER, batch.records.get(i));
+            }
+        }
+
+        private Set<UUID> storedIds(Batch batch, List<Integer> indexes) {
+            String sql = "SELECT id FROM insurance_claims WHERE id IN ("
+                    + String.join(", ", Collections.nCopies(indexes.size(), "?")) + ")";
+            return new HashSet<>(jdbcTemplate.queryForList(sql, UUID.class,
+                    indexes.stream().map(batch::id).toArray()));
+        }
+
+        synchronized void reject(long row, String reason, List<String> record) {
+            try {
+                writeRecord(errors, List.of(Long.toString(row), reason), record);
+                rejected.incrementAndGet();
+            } catch (IOException e) {
+                fail(e);
+            }
+        }
+
+        void fail(Throwable e) {
+            failure.compareAndSet(null, e);
+        }
+
+        /**
+         * @return the highest row such that it and every row before it are done
+         */
+        long checkpoint() {
+            Long firstPending = pending.isEmpty() ? null : pending.first();
+            return firstPending != null ? Math.min(firstPending - 1, lastRead) : lastRead;
+        }
+
+        void updateCounters(ClaimImportJob target) {
+            target.setRowsRead(lastRead);
+            target.setRowsImported(importedBefore + imported.get());
+            target.setRowsRejected(rejected.get());
+        }
+
+        void saveProgress() {
+            synchronized (this) {
+                try {
+                    errors.flush();
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+            job.setCheckpointRow(checkpoint());
+            updateCounters(job);
+            claimImportJobRepository.save(job);
+            log.info("Import {}: {} rows read, {} imported, {} rejected, checkpoint row {} ({} rows/s)",
+                    job.getId(), job.getRowsRead(), job.getRowsImported(), job.getRowsRejected(),
+                    job.getCheckpointRow(), imported.get() * 1000 / elapsedMs());
+        }
+
+        /**
+         * Waits for the submitted batches and closes the error report.
+         */
+        void finish() {
+            executor.shutdown();
+            try {
+                while (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                    log.info("Import {}: waiting for {} batches to be written", job.getId(),
+                            2 * workers - inFlight.availablePermits());
+                }
+            } catch (InterruptedException e) {
+                executor.shutdownNow();
+                Thread.currentThread().interrupt();
+                fail(e);
+            }
+            synchronized (this) {
+                try {
+                    errors.close();
+                } catch (IOException e) {
+                    fail(e);
+                }
+            }
+        }
+
+        long elapsedMs() {
+            return Math.max(1, (System.nanoTime() - startNanos) / 1_000_000);
+        }
+    }
+}
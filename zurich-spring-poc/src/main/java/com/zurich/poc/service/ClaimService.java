@@ -2,10 +2,12 @@ package com.zurich.poc.service;
 
 import com.zurich.poc.model.Claim;
 import com.zurich.poc.model.ClaimDTO;
+import com.zurich.poc.model.PolicyClaimSummary;
 import com.zurich.poc.model.PolicySummary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -34,6 +36,12 @@ public interface ClaimService {
     
     List<Claim> getClaimsByType(Claim.ClaimType type);
     
+    PolicyClaimSummary getPolicyClaimSummary(String policyNumber);
+    
+    // One summary per requested policy number, in request order (repeated numbers repeat their summary);
+    // policies without claims get an empty summary
+    List<PolicyClaimSummary> getPolicyClaimSummaries(Collection<String> policyNumbers);
+    
     // Method to validate policy exists by calling the MuleSoft service
     boolean validatePolicy(String policyNumber, String email);
     
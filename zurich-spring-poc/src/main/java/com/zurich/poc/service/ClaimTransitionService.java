@@ -0,0 +1,167 @@
+package com.zurich.poc.service;
+
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.ClaimStateMachine;
+import com.zurich.poc.model.ClaimTransitionRequest;
+import com.zurich.poc.model.ClaimTransitionResult;
+import com.zurich.poc.repository.ClaimRepository;
+import com.zurich.poc.repository.ClaimRepository.ClaimStatusView;
+import com.zurich.poc.repository.ShardedClaimRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Applies a status transition to many claims at once.
+ *
+ * Claims are processed in chunks, each in its own transaction per shard: one SELECT for
+ * the current statuses and one set-based UPDATE restricted to statuses allowed by
+ * {@link ClaimStateMachine}. Claims that are not eligible are skipped and reported.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ClaimTransitionService {
+
+    private static final UUID LOWEST_ID = new UUID(0L, 0L);
+
+    private final ShardedClaimRepository shardedClaimRepository;
+
+    @Value("${claims.transitions.chunk-size:1000}")
+    private int chunkSize;
+
+    public ClaimTransitionResult transition(ClaimTransitionRequest request) {
+        long start = System.currentTimeMillis();
+        ClaimStatus target = request.getTargetStatus();
+        Set<ClaimStatus> sources = ClaimStateMachine.allowedSources(target);
+        if (sources.isEmpty()) {
+            throw new IllegalArgumentException("No claim status can transition to " + target);
+        }
+
+        ClaimTransitionResult result = new ClaimTransitionResult(target);
+        if (request.getClaimIds() != null) {
+            transitionByIds(request.getClaimIds(), sources, target, result);
+        } else {
+            transitionByFilter(request.getFilter(), sources, target, result);
+        }
+        result.setDurationMs(System.currentTimeMillis() - start);
+
+        log.info("Transitioned {} claims to {} ({} skipped, {} not found) in {} ms",
+                result.getTransitioned(), target, result.getSkipped(), result.getNotFound(), result.getDurationMs());
+        return result;
+    }
+
+    private void transitionByIds(List<UUID> claimIds, Set<ClaimStatus> sources, ClaimStatus target,
+                                 ClaimTransitionResult result) {
+        List<UUID> ids = new ArrayList<>(new LinkedHashSet<>(claimIds));
+        for (int from = 0; from < ids.size(); from += chunkSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + chunkSize, ids.size()));
+            // Ids carry no shard, so every shard is asked; each applies the chunk to the claims it holds
+            Set<UUID> found = new HashSet<>();
+            for (int shard = 0; shard < shardedClaimRepository.getShardCount(); shard++) {
+                shardedClaimRepository.inTransaction(shard, repository -> {
+                    Map<UUID, ClaimStatus> current = toStatusMap(repository.findStatusesByIdIn(chunk));
+                    found.addAll(current.keySet());
+                    applyChunk(repository, chunk, current, sources, target, result);
+                    return null;
+                });
+            }
+            for (UUID id : chunk) {
+                if (!found.contains(id)) {
+                    result.recordNotFound(id);
+                }
+            }
+        }
+    }
+
+    private void transitionByFilter(ClaimTransitionRequest.Filter filter, Set<ClaimStatus> sources,
+                                    ClaimStatus target, ClaimTransitionResult result) {
+        Set<ClaimStatus> eligible = sources;
+        if (filter.getFromStatus() != null) {
+            if (!sources.contains(filter.getFromStatus())) {
+                throw new IllegalArgumentException(
+                        "Claims in status " + filter.getFromStatus() + " cannot transition to " + target);
+            }
+            eligible = EnumSet.of(filter.getFromStatus());
+        }
+
+        Set<ClaimStatus> candidateStatuses = eligible;
+        for (int shard = 0; shard < shardedClaimRepository.getShardCount(); shard++) {
+            UUID afterId = LOWEST_ID;
+            while (afterId != null) {
+                UUID pageStart = afterId;
+                afterId = shardedClaimRepository.inTransaction(shard, repository -> {
+                    List<ClaimStatusView> candidates = repository.findTransitionCandidates(candidateStatuses,
+                            filter.getPolicyNumber(), filter.getType(), pageStart, Limit.of(chunkSize));
+                    if (candidates.isEmpty()) {
+                        return null;
+                    }
+                    List<UUID> chunk = candidates.stream().map(ClaimStatusView::getId).toList();
+                    applyChunk(repository, chunk, toStatusMap(candidates), candidateStatuses, target, result);
+                    return chunk.get(chunk.size() - 1);
+                });
+            }
+        }
+    }
+
+    /**
+     * Transitions the eligible claims among {@code current}; ids of {@code chunk} missing
+     * from {@code current} are left to the caller.
+     */
+    private void applyChunk(ClaimRepository repository, List<UUID> chunk, Map<UUID, ClaimStatus> current,
+                            Set<ClaimStatus> sources, ClaimStatus target, ClaimTransitionResult result) {
+        List<UUID> eligible = new ArrayList<>(chunk.size());
+        for (UUID id : chunk) {
+            if (!current.containsKey(id)) {
+                continue;
+            } else if (!sources.contains(current.get(id))) {
+                result.recordSkipped(id, current.get(id));
+            } else {
+                eligible.add(id);
+            }
+        }
+        if (eligible.isEmpty()) {
+            return;
+        }
+
+        int updated = repository.transitionStatus(eligible, sources, target, LocalDateTime.now());
+        if (updated == eligible.size()) {
+            eligible.forEach(id -> result.recordTransitioned(id, current.get(id)));
+            return;
+        }
+
+        // Another writer changed some of these claims between the read and the update; re-read to report them
+        Map<UUID, ClaimStatus> after = toStatusMap(repository.findStatusesByIdIn(eligible));
+        for (UUID id : eligible) {
+            ClaimStatus now = after.get(id);
+            if (now == null) {
+                result.recordNotFound(id);
+            } else if (now == target) {
+                result.recordTransitioned(id, current.get(id));
+            } else {
+                result.recordSkipped(id, now);
+            }
+        }
+    }
+
+    private static Map<UUID, ClaimStatus> toStatusMap(List<ClaimStatusView> views) {
+        Map<UUID, ClaimStatus> statuses = new HashMap<>(views.size() * 2);
+        for (ClaimStatusView view : views) {
+            statuses.put(view.getId(), view.getStatus());
+        }
+        return statuses;
+    }
+}
@@ -0,0 +1,222 @@
+package com.zurich.poc.service;
+
+import com.zurich.poc.repository.ShardedClaimRepository;
+import com.zurich.poc.util.PolicyListScanner;
+import com.zurich.poc.util.StringBloomFilter;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-memory membership filter of known policy numbers.
+ *
+ * Lets {@code validatePolicy} reject policy numbers that cannot exist without a
+ * MuleSoft round trip. The filter is rebuilt by paging through the MuleSoft policy
+ * list and topped up whenever a MuleSoft lookup confirms a policy. Until the first
+ * successful sync (or when disabled) every policy number is passed through to MuleSoft.
+ *
+ * A policy created after the last rebuild is a false negative until the next one: it
+ * is rejected without reaching MuleSoft, so the filter never learns about it from a
+ * lookup. That window is the sync interval. Once the filter is older than
+ * {@code policy-filter.max-age-ms}, because syncs keep failing, it is bypassed and
+ * every policy number goes to MuleSoft again.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PolicyNumberFilter {
+
+    private final RestTemplate restTemplate;
+    private final ShardedClaimRepository shardedClaimRepository;
+
+    @Value("${policy-service.url}")
+    private String policyServiceUrl;
+
+    @Value("${policy-service.username}")
+    private String policyServiceUsername;
+
+    @Value("${policy-service.password}")
+    private String policyServicePassword;
+
+    @Value("${policy-filter.enabled:false}")
+    private boolean enabled;
+
+    @Value("${policy-filter.sync-page-size:1000}")
+    private int syncPageSize;
+
+    @Value("${policy-filter.max-age-ms:1800000}")
+    private long maxAgeMs;
+
+    @Value("${policy-filter.expected-policies:1000000}")
+    private long expectedPolicies;
+
+    @Value("${policy-filter.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile StringBloomFilter filter;
+    private volatile long lastRebuildDurationMs;
+    private volatile LocalDateTime lastRebuiltAt;
+    private volatile long lastRebuiltNanos;
+    private volatile int lastSyncSize;
+
+    private final LongAdder rejectedLookups = new LongAdder();
+    private final LongAdder passedLookups = new LongAdder();
+
+    /**
+     * @return false only when the policy number is definitely unknown
+     */
+    public boolean mightContain(String policyNumber) {
+        StringBloomFilter current = filter;
+        if (!enabled || current == null || policyNumber == null || isExpired()) {
+            return true;
+        }
+
+        boolean result = current.mightContain(policyNumber);
+        if (result) {
+            passedLookups.increment();
+        } else {
+            rejectedLookups.increment();
+        }
+        return result;
+    }
+
+    /**
+     * Record a policy number confirmed by MuleSoft so it survives until the next rebuild.
+     */
+    public void recordKnown(String policyNumber) {
+        StringBloomFilter current = filter;
+        if (current != null && policyNumber != null) {
+            current.put(policyNumber);
+        }
+    }
+
+    @Scheduled(initialDelayString = "${policy-filter.initial-delay-ms:0}",
+            fixedDelayString = "${policy-filter.sync-interval-ms:900000}")
+    public void scheduledSync() {
+        if (!enabled) {
+            return;
+        }
+
+        try {
+            syncFromPolicyService();
+        } catch (Exception e) {
+            // Keep serving the previous filter until max-age; it rejects policies created since its rebuild
+            log.error("Policy number filter sync failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Page through the MuleSoft policy list and rebuild the filter. A short page ends the list;
+     * any failed page fails the whole sync, so a partial list never replaces the filter.
+     */
+    public void syncFromPolicyService() {
+        HttpHeaders headers = new HttpHeaders();
+        String auth = policyServiceUsername + ":" + policyServicePassword;
+        String encodedAuth = java.util.Base64.getEncoder().encodeToString(auth.getBytes());
+        headers.set("Authorization", "Basic " + encodedAuth);
+
+        List<String> policyNumbers = new ArrayList<>();
+        for (int pageNo = 1; ; pageNo++) {
+            String url = policyServiceUrl + "/policy/list?pageNo=" + pageNo + "&pageSize=" + syncPageSize;
+            Integer entries = restTemplate.execute(
+                    url,
+                    HttpMethod.GET,
+                    request -> request.getHeaders().putAll(headers),
+                    response -> PolicyListScanner.readPolicyNumbers(response.getBody(), policyNumbers::add));
+            if (entries == null || entries < syncPageSize) {
+                break;
+            }
+        }
+
+        // Policies with existing claims were validated on intake, so they are known good as well
+        policyNumbers.addAll(shardedClaimRepository.findDistinctPolicyNumbers());
+        rebuild(policyNumbers);
+    }
+
+    /**
+     * Build a fresh filter from the given policy numbers and swap it in atomically.
+     */
+    public synchronized void rebuild(Collection<String> policyNumbers) {
+        long start = System.nanoTime();
+
+        StringBloomFilter next = new StringBloomFilter(
+                Math.max(expectedPolicies, policyNumbers.size()), falsePositiveRate);
+        for (String policyNumber : policyNumbers) {
+            if (policyNumber != null) {
+                next.put(policyNumber);
+            }
+        }
+
+        filter = next;
+        lastRebuildDurationMs = (System.nanoTime() - start) / 1_000_000;
+        lastRebuiltAt = LocalDateTime.now();
+        lastRebuiltNanos = System.nanoTime();
+        lastSyncSize = policyNumbers.size();
+
+        log.info("Rebuilt policy number filter with {} entries in {} ms ({} KB)",
+                lastSyncSize, lastRebuildDurationMs, next.getMemoryBytes() / 1024);
+    }
+
+    private boolean isExpired() {
+        return System.nanoTime() - lastRebuiltNanos > maxAgeMs * 1_000_000;
+    }
+
+    public Stats getStats() {
+        StringBloomFilter current = filter;
+        Stats.StatsBuilder stats = Stats.builder()
+                .enabled(enabled)
+                .ready(current != null && !isExpired())
+                .configuredFalsePositiveRate(falsePositiveRate)
+                .lastRebuildDurationMs(lastRebuildDurationMs)
+                .lastRebuiltAt(lastRebuiltAt)
+                .lastSyncSize(lastSyncSize)
+                .rejectedLookups(rejectedLookups.sum())
+                .passedLookups(passedLookups.sum());
+
+        if (current != null) {
+            stats.expectedInsertions(current.getExpectedInsertions())
+                    .approximateElementCount(current.approximateElementCount())
+                    .bitSize(current.getBitSize())
+                    .hashFunctions(current.getHashFunctions())
+                    .memoryBytes(current.getMemoryBytes())
+                    .estimatedFalsePositiveRate(current.estimatedFalsePositiveRate());
+        }
+        return stats.build();
+    }
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Stats {
+        private boolean enabled;
+        private boolean ready;
+        private long expectedInsertions;
+        private long approximateElementCount;
+        private long bitSize;
+        private int hashFunctions;
+        private long memoryBytes;
+        private double configuredFalsePositiveRate;
+        private double estimatedFalsePositiveRate;
+        private long lastRebuildDurationMs;
+        private LocalDateTime lastRebuiltAt;
+        private int lastSyncSize;
+        private long rejectedLookups;
+        private long passedLookups;
+    }
+}
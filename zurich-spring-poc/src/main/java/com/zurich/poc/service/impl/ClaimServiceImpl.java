@@ -1,14 +1,22 @@
 package com.zurich.poc.service.impl;
 
 import com.zurich.poc.exception.ResourceNotFoundException;
+import com.zurich.poc.mapper.ClaimMapper;
 import com.zurich.poc.model.Claim;
 import com.zurich.poc.model.ClaimDTO;
+import com.zurich.poc.model.PolicyClaimSummary;
 import com.zurich.poc.model.PolicySummary;
 import com.zurich.poc.repository.ClaimRepository;
+import com.zurich.poc.repository.ShardedClaimRepository;
 import com.zurich.poc.service.ClaimService;
+import com.zurich.poc.service.PolicyNumberFilter;
+import com.zurich.poc.util.PolicyListScanner;
+import com.zurich.poc.warmup.HotKeyTracker;
+import com.zurich.poc.warmup.WarmupRequests;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -19,7 +27,11 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,8 +40,14 @@ import java.util.UUID;
 @Slf4j
 public class ClaimServiceImpl implements ClaimService {
 
-    private final ClaimRepository claimRepository;
+    private static final int SUMMARY_CHUNK_SIZE = 1000;
+    private static final int MAX_SUMMARY_POLICIES = 5000;
+
+    private final ShardedClaimRepository shardedClaimRepository;
     private final RestTemplate restTemplate;
+    private final PolicyNumberFilter policyNumberFilter;
+    private final ObservationRegistry observationRegistry;
+    private final HotKeyTracker hotKeyTracker;
 
     @Value("${policy-service.url}")
     private String policyServiceUrl;
@@ -44,82 +62,121 @@ public class ClaimServiceImpl implements ClaimService {
     public Claim createClaim(ClaimDTO claimDTO) {
         log.info("Creating new claim with policy number: {}", claimDTO.getPolicyNumber());
         
-        Claim claim = new Claim();
-        BeanUtils.copyProperties(claimDTO, claim);
+        Claim claim = ClaimMapper.toEntity(claimDTO);
         
         // Set default status if not provided
         if (claim.getStatus() == null) {
             claim.setStatus(Claim.ClaimStatus.SUBMITTED);
         }
         
-        return claimRepository.save(claim);
+        return Observation.createNotStarted("claims.persistence", observationRegistry)
+                .contextualName("persist claim")
+                .lowCardinalityKeyValue("operation", "create")
+                .observe(() -> shardedClaimRepository.save(claim));
     }
 
     @Override
     public Claim updateClaim(UUID id, ClaimDTO claimDTO) {
         log.info("Updating claim with ID: {}", id);
         
-        Claim existingClaim = claimRepository.findById(id)
+        Claim existingClaim = shardedClaimRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Claim not found with id: " + id));
         
-        // Update fields from DTO
-        BeanUtils.copyProperties(claimDTO, existingClaim, "id", "createdAt");
+        // Update fields from DTO, keeping id and createdAt
+        ClaimMapper.updateEntity(claimDTO, existingClaim);
         
-        return claimRepository.save(existingClaim);
+        return shardedClaimRepository.save(existingClaim);
     }
 
     @Override
     public Optional<Claim> getClaimById(UUID id) {
         log.debug("Fetching claim with ID: {}", id);
-        return claimRepository.findById(id);
+        if (!WarmupRequests.isWarmup()) {
+            hotKeyTracker.recordClaim(id);
+        }
+        return shardedClaimRepository.findById(id);
     }
 
     @Override
     public Optional<Claim> getClaimByClaimNumber(String claimNumber) {
         log.debug("Fetching claim with number: {}", claimNumber);
-        return claimRepository.findByClaimNumber(claimNumber);
+        return shardedClaimRepository.findByClaimNumber(claimNumber);
     }
 
     @Override
     public List<Claim> getClaimsByPolicyNumber(String policyNumber) {
         log.debug("Fetching claims for policy number: {}", policyNumber);
-        return claimRepository.findByPolicyNumber(policyNumber);
+        return shardedClaimRepository.findByPolicyNumber(policyNumber);
     }
 
     @Override
     public Page<Claim> getClaimsByPolicyNumber(String policyNumber, Pageable pageable) {
         log.debug("Fetching paginated claims for policy number: {}", policyNumber);
-        return claimRepository.findByPolicyNumber(policyNumber, pageable);
+        return shardedClaimRepository.findByPolicyNumber(policyNumber, pageable);
     }
 
     @Override
     public void deleteClaim(UUID id) {
         log.info("Deleting claim with ID: {}", id);
-        claimRepository.deleteById(id);
+        shardedClaimRepository.deleteById(id);
     }
 
     @Override
     public List<Claim> getAllClaims() {
         log.debug("Fetching all claims");
-        return claimRepository.findAll();
+        return shardedClaimRepository.findAll();
     }
 
     @Override
     public Page<Claim> getAllClaims(Pageable pageable) {
         log.debug("Fetching all claims with pagination");
-        return claimRepository.findAll(pageable);
+        return shardedClaimRepository.findAll(pageable);
     }
 
     @Override
     public List<Claim> getClaimsByStatus(Claim.ClaimStatus status) {
         log.debug("Fetching claims with status: {}", status);
-        return claimRepository.findByStatus(status);
+        return shardedClaimRepository.findByStatus(status);
     }
 
     @Override
     public List<Claim> getClaimsByType(Claim.ClaimType type) {
         log.debug("Fetching claims of type: {}", type);
-        return claimRepository.findByType(type);
+        return shardedClaimRepository.findByType(type);
+    }
+
+    @Override
+    public PolicyClaimSummary getPolicyClaimSummary(String policyNumber) {
+        log.debug("Fetching claim summary for policy number: {}", policyNumber);
+        return getPolicyClaimSummaries(List.of(policyNumber)).get(0);
+    }
+
+    @Override
+    public List<PolicyClaimSummary> getPolicyClaimSummaries(Collection<String> policyNumbers) {
+        if (policyNumbers == null || policyNumbers.isEmpty()) {
+            throw new IllegalArgumentException("At least one policy number is required");
+        }
+        if (policyNumbers.size() > MAX_SUMMARY_POLICIES) {
+            throw new IllegalArgumentException("At most " + MAX_SUMMARY_POLICIES + " policy numbers per request");
+        }
+        log.debug("Fetching claim summaries for {} policy numbers", policyNumbers.size());
+        
+        Map<String, PolicyClaimSummary> summaries = new LinkedHashMap<>();
+        for (String policyNumber : policyNumbers) {
+            summaries.putIfAbsent(policyNumber, new PolicyClaimSummary(policyNumber));
+        }
+        
+        // Grouped query per chunk of policy numbers keeps IN lists bounded
+        List<String> distinct = new ArrayList<>(summaries.keySet());
+        for (int from = 0; from < distinct.size(); from += SUMMARY_CHUNK_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + SUMMARY_CHUNK_SIZE, distinct.size()));
+            for (ClaimRepository.PolicyStatusAggregate row : shardedClaimRepository.aggregateByPolicyNumbers(chunk)) {
+                summaries.get(row.getPolicyNumber()).add(
+                        row.getStatus(), row.getClaimCount(), row.getEstimatedAmount(), row.getLatestIncidentDate());
+            }
+        }
+        // A policy number requested twice is aggregated once and returned at each position
+        return policyNumbers.stream().map(summaries::get).toList();
     }
 
     // Jira integration will be added later
@@ -127,36 +184,49 @@ public class ClaimServiceImpl implements ClaimService {
     @Override
     public Optional<Claim> getClaimByJiraIssueKey(String jiraIssueKey) {
         log.debug("Fetching claim by Jira issue key: {}", jiraIssueKey);
-        return claimRepository.findByJiraIssueKey(jiraIssueKey);
+        return shardedClaimRepository.findByJiraIssueKey(jiraIssueKey);
     }
     */
 
     @Override
     public boolean validatePolicy(String policyNumber, String email) {
         log.info("Validating policy number: {} for email: {}", policyNumber, email);
+        if (!WarmupRequests.isWarmup()) {
+            hotKeyTracker.recordPolicy(policyNumber, email);
+        }
+        
+        // The RestTemplate client span for the MuleSoft call nests under this one
+        Boolean valid = Observation.createNotStarted("claims.policy.validation", observationRegistry)
+                .contextualName("validate policy")
+                .observe(() -> doValidatePolicy(policyNumber, email));
+        return Boolean.TRUE.equals(valid);
+    }
+
+    private boolean doValidatePolicy(String policyNumber, String email) {
+        // Reject policy numbers that cannot exist without a MuleSoft round trip
+        if (!policyNumberFilter.mightContain(policyNumber)) {
+            log.info("Policy number {} rejected by policy number filter", policyNumber);
+            return false;
+        }
         
         try {
             // Call MuleSoft service to validate policy
             String url = policyServiceUrl + "/policy/list?emailId=" + email;
             
-            HttpHeaders headers = new HttpHeaders();
             String auth = policyServiceUsername + ":" + policyServicePassword;
             String encodedAuth = java.util.Base64.getEncoder().encodeToString(auth.getBytes());
-            headers.set("Authorization", "Basic " + encodedAuth);
             
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            // Scan the response stream for the policy number instead of binding every PolicySummary;
+            // reading stops at the first match
+            Boolean found = restTemplate.execute(
+                    url,
+                    HttpMethod.GET,
+                    request -> request.getHeaders().set("Authorization", "Basic " + encodedAuth),
+                    response -> PolicyListScanner.containsPolicyNumber(response.getBody(), policyNumber));
             
-            ResponseEntity<PolicyListResponse> response = restTemplate.exchange(
-                    url, 
-                    HttpMethod.GET, 
-                    entity, 
-                    PolicyListResponse.class);
-            
-            PolicyListResponse body = response.getBody();
-            if (body != null && body.getPolicies() != null) {
-                // Check if the policy number exists in the list
-                return body.getPolicies().stream()
-                        .anyMatch(policy -> policyNumber.equals(policy.getPolicyNumber()));
+            if (Boolean.TRUE.equals(found)) {
+                policyNumberFilter.recordKnown(policyNumber);
+                return true;
             }
             
             return false;
@@ -169,6 +239,9 @@ public class ClaimServiceImpl implements ClaimService {
     @Override
     public Optional<PolicySummary> getPolicyDetails(String policyNumber, String email) {
         log.info("Fetching policy details for policy number: {} and email: {}", policyNumber, email);
+        if (!WarmupRequests.isWarmup()) {
+            hotKeyTracker.recordPolicy(policyNumber, email);
+        }
         
         try {
             // Call MuleSoft service to get policy details
@@ -208,11 +281,11 @@ public class ClaimServiceImpl implements ClaimService {
     public Claim linkClaimToJiraIssue(UUID claimId, String jiraIssueKey) {
         log.info("Linking claim ID: {} to Jira issue key: {}", claimId, jiraIssueKey);
         
-        Claim claim = claimRepository.findById(claimId)
+        Claim claim = shardedClaimRepository.findById(claimId)
                 .orElseThrow(() -> new ResourceNotFoundException("Claim not found with id: " + claimId));
         
         claim.setJiraIssueKey(jiraIssueKey);
-        return claimRepository.save(claim);
+        return shardedClaimRepository.save(claim);
     }
     */
     
@@ -0,0 +1,74 @@
+package com.zurich.poc.sharding;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.OptionalInt;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Maps claims to shards: a claim lives on the shard chosen by a hash of its policy number,
+ * and its claim number carries that shard as a {@code -S<n>} suffix so lookups by claim
+ * number go to one shard. With sharding disabled there is a single shard and claim
+ * numbers are left untouched.
+ *
+ * Changing the shard count re-maps policies; existing data must be migrated.
+ */
+@Component
+public class ClaimShardRouter {
+
+    private static final Pattern SHARD_SUFFIX = Pattern.compile("-S(\\d{1,4})$");
+
+    private final int shardCount;
+
+    public ClaimShardRouter(@Value("${claims.sharding.enabled:false}") boolean enabled,
+                            @Value("${claims.sharding.shard-count:1}") int shardCount) {
+        if (enabled && shardCount < 1) {
+            throw new IllegalArgumentException("claims.sharding.shard-count must be at least 1");
+        }
+        this.shardCount = enabled ? shardCount : 1;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    public boolean isSharded() {
+        return shardCount > 1;
+    }
+
+    public int shardForPolicy(String policyNumber) {
+        if (!isSharded() || policyNumber == null) {
+            return 0;
+        }
+        // String.hashCode is specified, so placement is stable across JVMs; mix it to spread similar numbers
+        int hash = policyNumber.hashCode() * 0x9E3779B9;
+        return Math.floorMod(hash ^ (hash >>> 16), shardCount);
+    }
+
+    /**
+     * @return the claim number carrying the given shard suffix, replacing any existing suffix
+     */
+    public String tagClaimNumber(String claimNumber, int shard) {
+        if (!isSharded() || claimNumber == null) {
+            return claimNumber;
+        }
+        return SHARD_SUFFIX.matcher(claimNumber).replaceFirst("") + "-S" + shard;
+    }
+
+    /**
+     * @return the shard encoded in the claim number, if it carries a valid suffix
+     */
+    public OptionalInt shardOfClaimNumber(String claimNumber) {
+        if (!isSharded() || claimNumber == null) {
+            return isSharded() ? OptionalInt.empty() : OptionalInt.of(0);
+        }
+        Matcher matcher = SHARD_SUFFIX.matcher(claimNumber);
+        if (!matcher.find()) {
+            return OptionalInt.empty();
+        }
+        int shard = Integer.parseInt(matcher.group(1));
+        return shard < shardCount ? OptionalInt.of(shard) : OptionalInt.empty();
+    }
+}
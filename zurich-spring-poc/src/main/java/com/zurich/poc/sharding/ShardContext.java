@@ -0,0 +1,45 @@
+package com.zurich.poc.sharding;
+
+import java.util.function.Supplier;
+
+/**
+ * Shard bound to the current thread, read by {@link ShardRoutingDataSource} when a
+ * connection is opened. Bind the shard before the transaction starts: a transaction
+ * keeps the connection it opened, whatever the context says afterwards.
+ */
+public final class ShardContext {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private ShardContext() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    /**
+     * @return the bound shard, or null when none is bound (the default shard is used)
+     */
+    public static Integer current() {
+        return CURRENT.get();
+    }
+
+    public static <T> T callOn(int shard, Supplier<T> action) {
+        Integer previous = CURRENT.get();
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    public static void runOn(int shard, Runnable action) {
+        callOn(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
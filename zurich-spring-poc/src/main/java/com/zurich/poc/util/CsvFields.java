@@ -0,0 +1,42 @@
+package com.zurich.poc.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * RFC 4180 field output, shared by the CSV writers.
+ */
+public final class CsvFields {
+
+    private CsvFields() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    /**
+     * Writes the value, quoting it only if it contains a separator, quote or line break.
+     * A null value is written as an empty field.
+     */
+    public static void write(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+}
@@ -0,0 +1,153 @@
+package com.zurich.poc.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streaming scanner for the MuleSoft policy list response
+ * ({@code {"totalNumberofPolicies": n, "policies": [ {...}, ... ]}}).
+ *
+ * Looks for a policy with a given {@code policyNumber} without binding any
+ * {@code PolicySummary} objects and stops reading as soon as it finds one, or
+ * collects the policy numbers of a whole page for the policy number filter.
+ * Nested blocks (coverages, nominee and address data) are skipped token by token.
+ */
+public final class PolicyListScanner {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private PolicyListScanner() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    /**
+     * @return true if any entry of the top-level {@code policies} array has the given policy number
+     */
+    public static boolean containsPolicyNumber(InputStream body, String policyNumber) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return containsPolicyNumber(parser, policyNumber);
+        }
+    }
+
+    /**
+     * Byte array variant, mainly for benchmarks and tests.
+     */
+    public static boolean containsPolicyNumber(byte[] body, String policyNumber) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return containsPolicyNumber(parser, policyNumber);
+        }
+    }
+
+    /**
+     * Passes the top-level {@code policyNumber} of every entry of the {@code policies} array to the consumer.
+     * @return number of entries in the array, with or without a policy number
+     */
+    public static int readPolicyNumbers(InputStream body, Consumer<String> policyNumbers) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return readPolicyNumbers(parser, policyNumbers);
+        }
+    }
+
+    /**
+     * Byte array variant, mainly for benchmarks and tests.
+     */
+    public static int readPolicyNumbers(byte[] body, Consumer<String> policyNumbers) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            return readPolicyNumbers(parser, policyNumbers);
+        }
+    }
+
+    private static int readPolicyNumbers(JsonParser parser, Consumer<String> policyNumbers) throws IOException {
+        if (!moveToPolicies(parser)) {
+            return 0;
+        }
+
+        int entries = 0;
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            entries++;
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isPolicyNumber = "policyNumber".equals(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (isPolicyNumber && value == JsonToken.VALUE_STRING) {
+                    policyNumbers.accept(parser.getText());
+                }
+                parser.skipChildren();
+            }
+        }
+        return entries;
+    }
+
+    private static boolean containsPolicyNumber(JsonParser parser, String policyNumber) throws IOException {
+        return moveToPolicies(parser) && scanPolicies(parser, policyNumber);
+    }
+
+    /**
+     * Advance to the start of the top-level {@code policies} array.
+     * @return false if the response has none
+     */
+    private static boolean moveToPolicies(JsonParser parser) throws IOException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            return false;
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("policies".equals(field) && value == JsonToken.START_ARRAY) {
+                return true;
+            }
+            parser.skipChildren();
+        }
+        return false;
+    }
+
+    private static boolean scanPolicies(JsonParser parser, String policyNumber) throws IOException {
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                boolean isPolicyNumber = "policyNumber".equals(parser.currentName());
+                JsonToken value = parser.nextToken();
+                if (isPolicyNumber && value == JsonToken.VALUE_STRING && textEquals(parser, policyNumber)) {
+                    return true;
+                }
+                parser.skipChildren();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Compare the current string token with the target without materialising a String.
+     */
+    private static boolean textEquals(JsonParser parser, String target) throws IOException {
+        int length = parser.getTextLength();
+        if (length != target.length()) {
+            return false;
+        }
+
+        char[] buffer = parser.getTextCharacters();
+        int offset = parser.getTextOffset();
+        for (int i = 0; i < length; i++) {
+            if (buffer[offset + i] != target.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
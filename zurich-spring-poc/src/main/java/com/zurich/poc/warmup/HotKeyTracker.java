@@ -0,0 +1,128 @@
+package com.zurich.poc.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Remembers which claims and policies were requested most recently, so the next
+ * startup can warm them up first. The key list is saved to
+ * {@code claims.warmup.hot-keys-file} when the application context closes.
+ *
+ * Recording is a map write with a logical clock; the maps are trimmed back to their
+ * capacity by whichever caller first sees them at twice that size.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HotKeyTracker {
+
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, Long> claims = new ConcurrentHashMap<>();
+    private final Map<HotKeys.PolicyKey, Long> policies = new ConcurrentHashMap<>();
+    private final AtomicLong clock = new AtomicLong();
+    private final ReentrantLock trimLock = new ReentrantLock();
+
+    @Value("${claims.warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${claims.warmup.hot-keys-file:target/warmup/hot-keys.json}")
+    private String hotKeysFile;
+
+    @Value("${claims.warmup.max-claims:200}")
+    private int maxClaims;
+
+    @Value("${claims.warmup.max-policies:50}")
+    private int maxPolicies;
+
+    public void recordClaim(UUID claimId) {
+        if (enabled && claimId != null) {
+            record(claims, claimId, maxClaims);
+        }
+    }
+
+    public void recordPolicy(String policyNumber, String email) {
+        if (enabled && policyNumber != null && email != null) {
+            record(policies, new HotKeys.PolicyKey(policyNumber, email), maxPolicies);
+        }
+    }
+
+    public HotKeys snapshot() {
+        return new HotKeys(LocalDateTime.now(), mostRecent(claims, maxClaims), mostRecent(policies, maxPolicies));
+    }
+
+    /**
+     * @return the keys saved at the last shutdown, if there is a readable file
+     */
+    public Optional<HotKeys> load() {
+        Path path = Path.of(hotKeysFile);
+        if (!Files.isReadable(path)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(path.toFile(), HotKeys.class));
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable hot key file {}: {}", path, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void save() {
+        if (!enabled || (claims.isEmpty() && policies.isEmpty())) {
+            return;
+        }
+        HotKeys hotKeys = snapshot();
+        Path path = Path.of(hotKeysFile);
+        try {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+            objectMapper.writeValue(path.toFile(), hotKeys);
+            log.info("Saved {} hot claims and {} hot policies to {}",
+                    hotKeys.getClaimIds().size(), hotKeys.getPolicies().size(), path);
+        } catch (IOException e) {
+            log.warn("Could not save hot keys to {}: {}", path, e.getMessage());
+        }
+    }
+
+    private <K> void record(Map<K, Long> keys, K key, int capacity) {
+        keys.put(key, clock.incrementAndGet());
+        if (keys.size() > 2 * capacity && trimLock.tryLock()) {
+            try {
+                List<K> oldest = keys.entrySet().stream()
+                        .sorted(Map.Entry.comparingByValue())
+                        .limit(Math.max(0, keys.size() - capacity))
+                        .map(Map.Entry::getKey)
+                        .toList();
+                oldest.forEach(keys::remove);
+            } finally {
+                trimLock.unlock();
+            }
+        }
+    }
+
+    private static <K> List<K> mostRecent(Map<K, Long> keys, int limit) {
+        return keys.entrySet().stream()
+                .sorted(Map.Entry.<K, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+}
@@ -0,0 +1,32 @@
+package com.zurich.poc.warmup;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Most recently used claim ids and policy lookups, most recent first. Written at
+ * shutdown and read by the next startup's warm-up.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotKeys {
+
+    private LocalDateTime capturedAt;
+    private List<UUID> claimIds = new ArrayList<>();
+    private List<PolicyKey> policies = new ArrayList<>();
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PolicyKey {
+        private String policyNumber;
+        private String email;
+    }
+}
@@ -0,0 +1,303 @@
+package com.zurich.poc.warmup;
+
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.repository.ShardedClaimRepository;
+import com.zurich.poc.service.ClaimService;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.sharding.ShardContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.actuate.info.Info;
+import org.springframework.boot.actuate.info.InfoContributor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+
+/**
+ * Warms the application up after startup and before readiness.
+ *
+ * Runs as the last ApplicationRunner, and Boot only reports the readiness state
+ * ACCEPTING_TRAFFIC once all runners have returned. In order, within one time budget:
+ * <ol>
+ *   <li>opens pooled database connections on every shard,</li>
+ *   <li>loads the hot claims, taken from the key list saved at the last shutdown or
+ *       else the most recently updated claims,</li>
+ *   <li>fetches the hot policies from MuleSoft, which also opens keep-alive connections,</li>
+ *   <li>calls the main ClaimController GET paths, and one rejected POST, over loopback
+ *       HTTP so the JIT compiles the request path.</li>
+ * </ol>
+ * Failures are counted and never stop startup. When the budget runs out the
+ * remaining steps are skipped. Warm-up work is marked through {@link WarmupRequests},
+ * so it is neither recorded as hot keys nor traced.
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class StartupWarmup implements ApplicationRunner, InfoContributor {
+
+    private static final String INVALID_CLAIM = "{\"policyNumber\":\"WARMUP\",\"description\":\"warm-up\"}";
+
+    private final HotKeyTracker hotKeyTracker;
+    private final ShardedClaimRepository shardedClaimRepository;
+    private final ClaimService claimService;
+    private final ClaimShardRouter claimShardRouter;
+    private final DataSource dataSource;
+    private final Environment environment;
+
+    @Value("${claims.warmup.enabled:false}")
+    private boolean enabled;
+
+    @Value("${claims.warmup.budget:30s}")
+    private Duration budget;
+
+    @Value("${claims.warmup.max-claims:200}")
+    private int maxClaims;
+
+    @Value("${claims.warmup.max-policies:50}")
+    private int maxPolicies;
+
+    @Value("${claims.warmup.connections:4}")
+    private int connections;
+
+    @Value("${claims.warmup.concurrency:4}")
+    private int concurrency;
+
+    @Value("${claims.warmup.loopback-iterations:20}")
+    private int loopbackIterations;
+
+    private volatile WarmupReport report;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + budget.toNanos();
+        WarmupReport result = new WarmupReport();
+        log.info("Warming up for at most {} ms before accepting traffic", budget.toMillis());
+
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(WarmupRequests.markThread(runnable), "startup-warmup");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            result.setConnectionsOpened(openConnections(deadline));
+
+            HotKeys hotKeys = hotKeyTracker.load().orElse(null);
+            result.setKeySource(hotKeys != null ? "hot-keys-file" : "recent-claims");
+            List<Claim> claims = loadClaims(hotKeys, deadline);
+            result.setClaimsLoaded(claims.size());
+
+            List<HotKeys.PolicyKey> policies = hotPolicies(hotKeys, claims);
+            runUntil(executor, deadline, policies.size(), i -> {
+                HotKeys.PolicyKey policy = policies.get(i);
+                boolean found = claimService.getPolicyDetails(policy.getPolicyNumber(), policy.getEmail()).isPresent();
+                (found ? result.getPoliciesLoaded() : result.getPolicyFailures()).incrementAndGet();
+            });
+
+            exerciseControllers(executor, deadline, claims, result);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        result.setBudgetExhausted(System.nanoTime() >= deadline);
+        result.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        report = result;
+        log.info("Warm-up finished in {} ms{}: {} connections, {} claims ({}), {} policies ({} failed), "
+                        + "{} loopback requests ({} failed)",
+                result.getDurationMs(), result.isBudgetExhausted() ? " (budget exhausted)" : "",
+                result.getConnectionsOpened(), result.getClaimsLoaded(), result.getKeySource(),
+                result.getPoliciesLoaded(), result.getPolicyFailures(),
+                result.getLoopbackRequests(), result.getLoopbackFailures());
+    }
+
+    @Override
+    public void contribute(Info.Builder builder) {
+        if (report != null) {
+            builder.withDetail("warmup", report);
+        }
+    }
+
+    /**
+     * Holds several connections per shard at once, so the pool has to open them.
+     */
+    private int openConnections(long deadline) {
+        int opened = 0;
+        for (int shard = 0; shard < claimShardRouter.getShardCount() && System.nanoTime() < deadline; shard++) {
+            List<Connection> held = new ArrayList<>();
+            try {
+                opened += ShardContext.callOn(shard, () -> {
+                    for (int i = 0; i < connections; i++) {
+                        try {
+                            Connection connection = dataSource.getConnection();
+                            held.add(connection);
+                            connection.isValid(1);
+                        } catch (SQLException e) {
+                            log.warn("Warm-up could not open a database connection: {}", e.getMessage());
+                            break;
+                        }
+                    }
+                    return held.size();
+                });
+            } finally {
+                held.forEach(StartupWarmup::closeQuietly);
+            }
+        }
+        return opened;
+    }
+
+    private List<Claim> loadClaims(HotKeys hotKeys, long deadline) {
+        List<Claim> claims = new ArrayList<>();
+        try {
+            if (hotKeys != null) {
+                for (UUID id : hotKeys.getClaimIds()) {
+                    if (System.nanoTime() >= deadline || claims.size() >= maxClaims) {
+                        break;
+                    }
+                    shardedClaimRepository.findById(id).ifPresent(claims::add);
+                }
+            }
+            if (claims.isEmpty() && System.nanoTime() < deadline) {
+                claims.addAll(shardedClaimRepository.findAll(
+                        PageRequest.of(0, maxClaims, Sort.by(Sort.Direction.DESC, "updatedAt"))).getContent());
+            }
+        } catch (RuntimeException e) {
+            log.warn("Warm-up could not load claims: {}", e.getMessage());
+        }
+        return claims;
+    }
+
+    /**
+     * Policies saved at shutdown, or else the policies of the recent claims with their claimant emails.
+     */
+    private List<HotKeys.PolicyKey> hotPolicies(HotKeys hotKeys, List<Claim> claims) {
+        Set<HotKeys.PolicyKey> policies = new LinkedHashSet<>();
+        if (hotKeys != null) {
+            policies.addAll(hotKeys.getPolicies());
+        }
+        for (Claim claim : claims) {
+            if (policies.size() >= maxPolicies) {
+                break;
+            }
+            if (claim.getClaimantEmail() != null) {
+                policies.add(new HotKeys.PolicyKey(claim.getPolicyNumber(), claim.getClaimantEmail()));
+            }
+        }
+        return policies.stream().limit(maxPolicies).toList();
+    }
+
+    private void exerciseControllers(ExecutorService executor, long deadline, List<Claim> claims, WarmupReport result) {
+        String port = environment.getProperty("local.server.port");
+        if (port == null || claims.isEmpty()) {
+            // No embedded server (e.g. a mock web environment) or nothing to request
+            return;
+        }
+        String baseUrl = "http://localhost:" + port
+                + environment.getProperty("server.servlet.context-path", "") + "/claims";
+        HttpClient httpClient = HttpClient.newHttpClient();
+
+        List<HttpRequest> requests = new ArrayList<>();
+        for (Claim claim : claims.subList(0, Math.min(claims.size(), 10))) {
+            requests.add(get(baseUrl + "/" + claim.getId()));
+            requests.add(get(baseUrl + "/policy/" + claim.getPolicyNumber()));
+            requests.add(get(baseUrl + "/policy/" + claim.getPolicyNumber() + "/summary"));
+        }
+        requests.add(get(baseUrl + "?page=0&size=20"));
+        // Fails validation, so it exercises JSON binding and bean validation without creating a claim
+        requests.add(HttpRequest.newBuilder(URI.create(baseUrl))
+                .header("Content-Type", "application/json")
+                .header(WarmupRequests.HEADER, "true")
+                .POST(HttpRequest.BodyPublishers.ofString(INVALID_CLAIM))
+                .build());
+
+        runUntil(executor, deadline, loopbackIterations * requests.size(), i -> {
+            try {
+                int status = httpClient.send(requests.get(i % requests.size()), HttpResponse.BodyHandlers.discarding())
+                        .statusCode();
+                result.getLoopbackRequests().incrementAndGet();
+                if (status >= 500) {
+                    result.getLoopbackFailures().incrementAndGet();
+                }
+            } catch (Exception e) {
+                result.getLoopbackFailures().incrementAndGet();
+                if (e instanceof InterruptedException) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+    }
+
+    private static HttpRequest get(String url) {
+        return HttpRequest.newBuilder(URI.create(url)).header(WarmupRequests.HEADER, "true").GET().build();
+    }
+
+    /**
+     * Runs {@code count} tasks on the executor, stopping at the deadline.
+     */
+    private void runUntil(ExecutorService executor, long deadline, int count, IntConsumer task) {
+        AtomicInteger next = new AtomicInteger();
+        List<Future<?>> workers = new ArrayList<>();
+        for (int worker = 0; worker < concurrency; worker++) {
+            workers.add(executor.submit(() -> {
+                int i;
+                while ((i = next.getAndIncrement()) < count && System.nanoTime() < deadline
+                        && !Thread.currentThread().isInterrupted()) {
+                    try {
+                        task.accept(i);
+                    } catch (RuntimeException e) {
+                        log.debug("Warm-up task failed: {}", e.getMessage());
+                    }
+                }
+            }));
+        }
+        for (Future<?> worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            try {
+                worker.get(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                // Timed out or failed: the deadline check in the loop stops the rest
+                worker.cancel(true);
+            }
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Could not close warm-up connection: {}", e.getMessage());
+        }
+    }
+}
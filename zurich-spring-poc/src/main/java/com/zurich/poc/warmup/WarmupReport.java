@@ -0,0 +1,25 @@
+package com.zurich.poc.warmup;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * What the startup warm-up did, as logged and shown under {@code warmup} in /actuator/info.
+ */
+@Data
+@NoArgsConstructor
+public class WarmupReport {
+
+    /** "hot-keys-file" when the saved key list was used, "recent-claims" otherwise. */
+    private String keySource;
+    private int connectionsOpened;
+    private int claimsLoaded;
+    private final AtomicInteger policiesLoaded = new AtomicInteger();
+    private final AtomicInteger policyFailures = new AtomicInteger();
+    private final AtomicInteger loopbackRequests = new AtomicInteger();
+    private final AtomicInteger loopbackFailures = new AtomicInteger();
+    private boolean budgetExhausted;
+    private long durationMs;
+}
@@ -0,0 +1,48 @@
+package com.zurich.poc.warmup;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Marks the work done by the startup warm-up, so it is not mistaken for traffic.
+ *
+ * Loopback requests carry the {@link #HEADER} header; direct service calls run on
+ * threads created by {@link #markThread(Runnable)}. Warm-up work is not recorded as
+ * hot keys and is not traced.
+ */
+public final class WarmupRequests {
+
+    public static final String HEADER = "X-Claims-Warmup";
+
+    private static final ThreadLocal<Boolean> WARMUP_THREAD = ThreadLocal.withInitial(() -> false);
+
+    private WarmupRequests() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    /**
+     * @return true on a warm-up thread or while handling a warm-up loopback request
+     */
+    public static boolean isWarmup() {
+        if (WARMUP_THREAD.get()) {
+            return true;
+        }
+        return RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes
+                && isWarmup(attributes.getRequest());
+    }
+
+    public static boolean isWarmup(HttpServletRequest request) {
+        return request.getHeader(HEADER) != null;
+    }
+
+    /**
+     * Wraps a warm-up thread's task so that everything it calls sees {@link #isWarmup()}.
+     */
+    static Runnable markThread(Runnable task) {
+        return () -> {
+            WARMUP_THREAD.set(true);
+            task.run();
+        };
+    }
+}
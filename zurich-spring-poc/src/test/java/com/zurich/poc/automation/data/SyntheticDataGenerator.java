@@ -0,0 +1,381 @@
+package com.zurich.poc.automation.data;
+
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.Claim.ClaimType;
+import com.zurich.poc.model.PolicySummary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Seeded, deterministic generator of synthetic policies and their claims for performance tests.
+ *
+ * Policies are split into fixed-size partitions. Each partition draws from its own random
+ * stream, seeded from the run seed and the partition number, so partitions can be generated
+ * in parallel and in any order: the same seed, policy count, partition size and reference
+ * date always give the same rows.
+ *
+ * Distributions are skewed the way production data is:
+ * <ul>
+ *   <li>policies per email follow a power law (most customers hold one policy, a few hold dozens)</li>
+ *   <li>policy and claim types, cities and adjusters are weighted, with claim types depending on the policy type</li>
+ *   <li>premiums and claim amounts are log-normal, so a few claims are very large</li>
+ *   <li>most policies have no claims, a few have many; policy status follows the policy dates</li>
+ * </ul>
+ * Policy numbers look like {@code PERF-P00012-0000345} and claim numbers like
+ * {@code PERF-C00012-00000678}, so one partition's rows form a contiguous key range.
+ */
+public final class SyntheticDataGenerator {
+
+    public static final String POLICY_PREFIX = "PERF-P";
+    public static final String CLAIM_PREFIX = "PERF-C";
+    public static final int MAX_PARTITION_SIZE = 10_000_000;
+
+    static final int MAX_POLICIES_PER_EMAIL = 50;
+    static final int MAX_CLAIMS_PER_POLICY = 25;
+
+    /** Exponent of the policies-per-email power law, P(k) ~ k^-2.5 */
+    private static final double POLICIES_PER_EMAIL_ALPHA = 2.5;
+    private static final double SHARE_OF_POLICIES_WITH_CLAIMS = 0.3;
+    private static final BigDecimal MAX_CLAIM_AMOUNT = new BigDecimal("99999999.99");
+
+    private static final String[] FIRST_NAMES = {
+            "Oliver", "Amelia", "George", "Isla", "Harry", "Ava", "Noah", "Mia", "Jack", "Ivy",
+            "Leo", "Lily", "Arthur", "Isabella", "Muhammad", "Rosie", "Oscar", "Sophia", "Charlie", "Grace"};
+    private static final String[] LAST_NAMES = {
+            "Smith", "Jones", "Taylor", "Brown", "Williams", "Wilson", "Johnson", "Davies", "Patel", "Robinson",
+            "Wright", "Thompson", "Evans", "Walker", "White", "Roberts", "Green", "Hall", "Wood", "Khan"};
+
+    private static final Weighted<String> POLICY_TYPES = Weighted.of(
+            "AUTO", 40, "HOME", 30, "HEALTH", 15, "LIFE", 10, "TRAVEL", 5);
+    private static final Weighted<String> GENDERS = Weighted.of(
+            "Male", 49, "Female", 49, "Non-binary", 2);
+    private static final Weighted<String> RELATIONSHIPS = Weighted.of(
+            "Spouse", 50, "Child", 25, "Parent", 15, "Sibling", 7, "Other", 3);
+    private static final Weighted<String> ADDRESS_TYPES = Weighted.of(
+            "Residential", 85, "Mailing", 10, "Business", 5);
+    private static final Weighted<String> CITIES = Weighted.zipf(1.1,
+            "London", "Birmingham", "Manchester", "Glasgow", "Leeds", "Liverpool", "Bristol", "Sheffield",
+            "Edinburgh", "Cardiff", "Leicester", "Nottingham", "Southampton", "Brighton", "Newcastle", "Belfast",
+            "Aberdeen", "York", "Exeter", "Inverness");
+    private static final Weighted<String> ADJUSTERS = Weighted.zipf(0.8,
+            "A. Fletcher", "B. Okafor", "C. Nguyen", "D. Kowalski", "E. Murphy", "F. Haddad", "G. Lindqvist",
+            "H. Sato", "I. Moreau", "J. Ferreira", "K. Brennan", "L. Osei");
+    private static final Weighted<ClaimStatus> CLAIM_STATUSES = Weighted.of(
+            ClaimStatus.SUBMITTED, 10, ClaimStatus.UNDER_REVIEW, 15, ClaimStatus.PENDING_DOCUMENTS, 8,
+            ClaimStatus.APPROVED, 30, ClaimStatus.PARTIAL_APPROVED, 7, ClaimStatus.REJECTED, 10,
+            ClaimStatus.CLOSED, 18, ClaimStatus.APPEALED, 2);
+
+    private static final Map<String, Weighted<ClaimType>> CLAIM_TYPES_BY_POLICY_TYPE = Map.of(
+            "AUTO", Weighted.of(ClaimType.AUTO, 80, ClaimType.LIABILITY, 15, ClaimType.OTHER, 5),
+            "HOME", Weighted.of(ClaimType.HOME, 60, ClaimType.PROPERTY, 30, ClaimType.LIABILITY, 8, ClaimType.OTHER, 2),
+            "HEALTH", Weighted.of(ClaimType.HEALTH, 95, ClaimType.OTHER, 5),
+            "LIFE", Weighted.of(ClaimType.LIFE, 97, ClaimType.OTHER, 3),
+            "TRAVEL", Weighted.of(ClaimType.TRAVEL, 85, ClaimType.HEALTH, 10, ClaimType.PROPERTY, 5));
+
+    /** Median claim amount per claim type; amounts are log-normal around it */
+    private static final Map<ClaimType, Double> MEDIAN_CLAIM_AMOUNTS = new EnumMap<>(Map.of(
+            ClaimType.AUTO, 3_500.0, ClaimType.HOME, 8_000.0, ClaimType.HEALTH, 2_500.0,
+            ClaimType.LIFE, 60_000.0, ClaimType.TRAVEL, 900.0, ClaimType.LIABILITY, 15_000.0,
+            ClaimType.BUSINESS, 20_000.0, ClaimType.PROPERTY, 12_000.0, ClaimType.OTHER, 1_500.0));
+
+    /** Median yearly premium per policy type */
+    private static final Map<String, Double> MEDIAN_PREMIUMS = Map.of(
+            "AUTO", 650.0, "HOME", 320.0, "HEALTH", 1_400.0, "LIFE", 480.0, "TRAVEL", 90.0);
+
+    /**
+     * Receives generated rows; called from the generating thread only
+     */
+    public interface RowSink {
+
+        void policy(PolicySummary policy);
+
+        void claim(Claim claim);
+    }
+
+    private final long seed;
+    private final long policyCount;
+    private final int partitionSize;
+    private final LocalDate referenceDate;
+
+    public SyntheticDataGenerator(long seed, long policyCount, int partitionSize, LocalDate referenceDate) {
+        if (policyCount < 0) {
+            throw new IllegalArgumentException("Policy count must not be negative: " + policyCount);
+        }
+        if (partitionSize < 1 || partitionSize > MAX_PARTITION_SIZE) {
+            throw new IllegalArgumentException("Partition size must be between 1 and " + MAX_PARTITION_SIZE
+                    + ": " + partitionSize);
+        }
+        if ((policyCount + partitionSize - 1) / partitionSize > 99_999) {
+            throw new IllegalArgumentException("At most 99999 partitions, use a larger partition size");
+        }
+        this.seed = seed;
+        this.policyCount = policyCount;
+        this.partitionSize = partitionSize;
+        this.referenceDate = referenceDate;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getPolicyCount() {
+        return policyCount;
+    }
+
+    public int getPartitionCount() {
+        return (int) ((policyCount + partitionSize - 1) / partitionSize);
+    }
+
+    public int policiesIn(int partition) {
+        return (int) Math.min(partitionSize, policyCount - (long) partition * partitionSize);
+    }
+
+    /**
+     * First key of a partition's policy or claim number range; every key of the partition
+     * starts with it, and {@link #partitionKeyEnd} is above all of them
+     */
+    public static String partitionKeyStart(String prefix, int partition) {
+        return String.format("%s%05d-", prefix, partition);
+    }
+
+    public static String partitionKeyEnd(String prefix, int partition) {
+        // '.' sorts right after '-'
+        return String.format("%s%05d.", prefix, partition);
+    }
+
+    /**
+     * Generates one partition: each policy, followed by its claims
+     */
+    public void generate(int partition, RowSink sink) {
+        if (partition < 0 || partition >= getPartitionCount()) {
+            throw new IllegalArgumentException("No partition " + partition + " of " + getPartitionCount());
+        }
+        SplittableRandom random = new SplittableRandom(seed * 0x9E3779B97F4A7C15L + partition);
+        String policyPrefix = partitionKeyStart(POLICY_PREFIX, partition);
+        String claimPrefix = partitionKeyStart(CLAIM_PREFIX, partition);
+        int policies = policiesIn(partition);
+
+        int policyIndex = 0;
+        int claimIndex = 0;
+        int customer = 0;
+        while (policyIndex < policies) {
+            Customer holder = newCustomer(random, partition, customer++);
+            int held = Math.min(policiesPerEmail(random), policies - policyIndex);
+            for (int i = 0; i < held; i++) {
+                PolicySummary policy = newPolicy(random, padded(policyPrefix, policyIndex++, 7), holder);
+                sink.policy(policy);
+
+                int claims = claimsPerPolicy(random);
+                for (int c = 0; c < claims; c++) {
+                    sink.claim(newClaim(random, padded(claimPrefix, claimIndex++, 8), policy));
+                }
+            }
+        }
+    }
+
+    private record Customer(String name, String email, String gender, LocalDate dateOfBirth,
+                            String street, String city, String postalCode, String addressType, String phone) {
+    }
+
+    private Customer newCustomer(SplittableRandom random, int partition, int number) {
+        String first = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+        String last = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+        String email = (first + "." + last).toLowerCase() + "." + partition + "-" + number + "@perf.example.com";
+        LocalDate dateOfBirth = referenceDate.minusDays(random.nextInt(18 * 365, 85 * 365));
+        String street = (1 + random.nextInt(250)) + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)] + " Road";
+        String postalCode = new StringBuilder(8)
+                .append(letter(random)).append(letter(random)).append(1 + random.nextInt(20)).append(' ')
+                .append(random.nextInt(10)).append(letter(random)).append(letter(random)).toString();
+        String phone = phoneNumber(random);
+        return new Customer(first + " " + last, email, GENDERS.pick(random), dateOfBirth,
+                street, CITIES.pick(random), postalCode, ADDRESS_TYPES.pick(random), phone);
+    }
+
+    private PolicySummary newPolicy(SplittableRandom random, String policyNumber, Customer holder) {
+        String type = POLICY_TYPES.pick(random);
+        // Mostly current policies, about a third already expired
+        LocalDate start = referenceDate.minusDays(random.nextInt(545));
+        LocalDate end = start.plusYears(1);
+        double premium = logNormal(random, MEDIAN_PREMIUMS.get(type), 0.5);
+
+        PolicySummary policy = new PolicySummary();
+        policy.setPolicyNumber(policyNumber);
+        policy.setPolicyHolderName(holder.name());
+        policy.setEmail(holder.email());
+        policy.setGender(holder.gender());
+        policy.setDateOfBirth(holder.dateOfBirth());
+        policy.setPolicyType(type);
+        policy.setStartDate(start);
+        policy.setEndDate(end);
+        policy.setStatus(policyStatus(random, start, end));
+        policy.setPremiumAmount(Math.round(premium * 100) / 100.0);
+        policy.setCoverageAmount(Math.round(premium * (50 + random.nextInt(450))) * 1.0);
+        policy.setNomineeName(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + holder.name().substring(holder.name().indexOf(' ') + 1));
+        policy.setNomineeRelationship(RELATIONSHIPS.pick(random));
+        policy.setStreetAddress(holder.street());
+        policy.setCity(holder.city());
+        policy.setState("England");
+        policy.setPostalCode(holder.postalCode());
+        policy.setCountry("United Kingdom");
+        policy.setAddressType(holder.addressType());
+        return policy;
+    }
+
+    private String policyStatus(SplittableRandom random, LocalDate start, LocalDate end) {
+        int roll = random.nextInt(100);
+        if (end.isBefore(referenceDate)) {
+            return roll < 90 ? "EXPIRED" : "CANCELLED";
+        }
+        if (start.isAfter(referenceDate.minusDays(14)) && roll < 10) {
+            return "PENDING";
+        }
+        return roll < 96 ? "ACTIVE" : "CANCELLED";
+    }
+
+    private Claim newClaim(SplittableRandom random, String claimNumber, PolicySummary policy) {
+        ClaimType type = CLAIM_TYPES_BY_POLICY_TYPE.get(policy.getPolicyType()).pick(random);
+        LocalDate lastDay = policy.getEndDate().isBefore(referenceDate) ? policy.getEndDate() : referenceDate;
+        long days = Math.max(1, ChronoUnit.DAYS.between(policy.getStartDate(), lastDay));
+        LocalDate incident = policy.getStartDate().plusDays(random.nextLong(days));
+        LocalDateTime reported = incident.atStartOfDay().plusHours(random.nextInt(24 * 30));
+
+        BigDecimal amount = BigDecimal.valueOf(logNormal(random, MEDIAN_CLAIM_AMOUNTS.get(type), 1.0))
+                .setScale(2, RoundingMode.HALF_UP)
+                .min(MAX_CLAIM_AMOUNT);
+
+        Claim claim = new Claim();
+        claim.setId(randomUuid(random));
+        claim.setClaimNumber(claimNumber);
+        claim.setPolicyNumber(policy.getPolicyNumber());
+        claim.setIncidentDate(incident);
+        claim.setDescription(type.name().charAt(0) + type.name().substring(1).toLowerCase() + " claim reported on "
+                + policy.getPolicyType().toLowerCase() + " policy");
+        claim.setEstimatedAmount(amount);
+        claim.setType(type);
+        claim.setStatus(CLAIM_STATUSES.pick(random));
+        claim.setClaimantName(policy.getPolicyHolderName());
+        claim.setClaimantEmail(policy.getEmail());
+        claim.setClaimantPhone(phoneNumber(random));
+        claim.setAssignedAdjuster(ADJUSTERS.pick(random));
+        claim.setCreatedAt(reported);
+        claim.setUpdatedAt(reported.plusHours(random.nextInt(24 * 60)));
+        return claim;
+    }
+
+    /**
+     * Discrete power law: P(k) ~ k^-alpha, drawn by inverting the Pareto distribution
+     */
+    private static int policiesPerEmail(SplittableRandom random) {
+        double u = 1.0 - random.nextDouble();
+        int policies = (int) Math.pow(u, -1.0 / (POLICIES_PER_EMAIL_ALPHA - 1));
+        return Math.min(policies, MAX_POLICIES_PER_EMAIL);
+    }
+
+    /**
+     * No claims for most policies; otherwise 1 + geometric, so a few policies have many claims
+     */
+    private static int claimsPerPolicy(SplittableRandom random) {
+        if (random.nextDouble() >= SHARE_OF_POLICIES_WITH_CLAIMS) {
+            return 0;
+        }
+        double u = 1.0 - random.nextDouble();
+        int claims = 1 + (int) (Math.log(u) / Math.log(0.45));
+        return Math.min(claims, MAX_CLAIMS_PER_POLICY);
+    }
+
+    /**
+     * prefix followed by the number, zero-padded to the given width; String.format is too slow per row
+     */
+    private static String padded(String prefix, int number, int width) {
+        String digits = Integer.toString(number);
+        StringBuilder key = new StringBuilder(prefix.length() + Math.max(width, digits.length())).append(prefix);
+        for (int i = digits.length(); i < width; i++) {
+            key.append('0');
+        }
+        return key.append(digits).toString();
+    }
+
+    private static String phoneNumber(SplittableRandom random) {
+        return padded("07", random.nextInt(1_000_000_000), 9);
+    }
+
+    private static char letter(SplittableRandom random) {
+        return (char) ('A' + random.nextInt(26));
+    }
+
+    private static double logNormal(SplittableRandom random, double median, double sigma) {
+        return median * Math.exp(sigma * random.nextGaussian());
+    }
+
+    private static UUID randomUuid(SplittableRandom random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & ~(0x3L << 62)) | (0x2L << 62);
+        return new UUID(most, least);
+    }
+
+    /**
+     * Values picked with fixed relative weights
+     */
+    static final class Weighted<T> {
+
+        private final Object[] values;
+        private final double[] cumulative;
+
+        private Weighted(Object[] values, double[] weights) {
+            this.values = values;
+            this.cumulative = new double[weights.length];
+            double total = 0;
+            for (int i = 0; i < weights.length; i++) {
+                total += weights[i];
+                cumulative[i] = total;
+            }
+            for (int i = 0; i < cumulative.length; i++) {
+                cumulative[i] /= total;
+            }
+        }
+
+        /**
+         * Alternating value, weight pairs
+         */
+        static <T> Weighted<T> of(Object... valuesAndWeights) {
+            int count = valuesAndWeights.length / 2;
+            Object[] values = new Object[count];
+            double[] weights = new double[count];
+            for (int i = 0; i < count; i++) {
+                values[i] = valuesAndWeights[2 * i];
+                weights[i] = ((Number) valuesAndWeights[2 * i + 1]).doubleValue();
+            }
+            return new Weighted<>(values, weights);
+        }
+
+        /**
+         * Zipf weights: the value of rank r is picked in proportion to 1 / r^exponent
+         */
+        @SafeVarargs
+        static <T> Weighted<T> zipf(double exponent, T... values) {
+            double[] weights = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                weights[i] = 1.0 / Math.pow(i + 1, exponent);
+            }
+            return new Weighted<>(values, weights);
+        }
+
+        @SuppressWarnings("unchecked")
+        T pick(SplittableRandom random) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble());
+            int slot = index >= 0 ? index + 1 : -index - 1;
+            return (T) values[Math.min(slot, values.length - 1)];
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.zurich.poc.automation.data;
+
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.Claim.ClaimType;
+import com.zurich.poc.model.PolicySummary;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for SyntheticDataGenerator
+ */
+@DisplayName("SyntheticDataGenerator Tests")
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+
+    @Test
+    @DisplayName("Should generate the same rows for the same seed, whatever the partition order")
+    void shouldBeDeterministicPerSeed() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7, 2_500, 1_000, REFERENCE_DATE);
+
+        Rows forward = new Rows();
+        for (int partition = 0; partition < generator.getPartitionCount(); partition++) {
+            generator.generate(partition, forward);
+        }
+        Rows backward = new Rows();
+        for (int partition = generator.getPartitionCount() - 1; partition >= 0; partition--) {
+            generator.generate(partition, backward);
+        }
+        Rows otherSeed = new Rows();
+        new SyntheticDataGenerator(8, 2_500, 1_000, REFERENCE_DATE).generate(0, otherSeed);
+
+        assertThat(generator.getPartitionCount()).isEqualTo(3);
+        assertThat(generator.policiesIn(2)).isEqualTo(500);
+        assertThat(forward.policies).hasSize(2_500);
+        assertThat(backward.policies).containsExactlyInAnyOrderElementsOf(forward.policies);
+        assertThat(backward.claims).containsExactlyInAnyOrderElementsOf(forward.claims);
+        assertThat(otherSeed.policies.get(0)).isNotEqualTo(forward.policies.get(0));
+    }
+
+    @Test
+    @DisplayName("Should keep each partition's keys inside its range")
+    void shouldKeepKeysInPartitionRange() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1, 300, 100, REFERENCE_DATE);
+        Rows rows = new Rows();
+        generator.generate(1, rows);
+
+        String policyStart = SyntheticDataGenerator.partitionKeyStart(SyntheticDataGenerator.POLICY_PREFIX, 1);
+        String policyEnd = SyntheticDataGenerator.partitionKeyEnd(SyntheticDataGenerator.POLICY_PREFIX, 1);
+        String claimStart = SyntheticDataGenerator.partitionKeyStart(SyntheticDataGenerator.CLAIM_PREFIX, 1);
+        String claimEnd = SyntheticDataGenerator.partitionKeyEnd(SyntheticDataGenerator.CLAIM_PREFIX, 1);
+        for (PolicySummary policy : rows.policies) {
+            assertThat(policy.getPolicyNumber()).isGreaterThanOrEqualTo(policyStart).isLessThan(policyEnd);
+        }
+        for (Claim claim : rows.claims) {
+            // Shard suffixes are appended to claim numbers and must stay in range
+            assertThat(claim.getClaimNumber() + "-S3").isGreaterThanOrEqualTo(claimStart).isLessThan(claimEnd);
+            assertThat(claim.getPolicyNumber()).startsWith(policyStart);
+        }
+    }
+
+    @Test
+    @DisplayName("Should skew policies per email, claims per policy and claim amounts")
+    void shouldProduceSkewedDistributions() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(42, 50_000, 10_000, REFERENCE_DATE);
+        Map<String, Integer> policiesPerEmail = new HashMap<>();
+        Map<String, Integer> claimsPerPolicy = new HashMap<>();
+        Map<ClaimType, Integer> claimTypes = new EnumMap<>(ClaimType.class);
+        List<BigDecimal> amounts = new ArrayList<>();
+
+        for (int partition = 0; partition < generator.getPartitionCount(); partition++) {
+            generator.generate(partition, new SyntheticDataGenerator.RowSink() {
+                @Override
+                public void policy(PolicySummary policy) {
+                    policiesPerEmail.merge(policy.getEmail(), 1, Integer::sum);
+                }
+
+                @Override
+                public void claim(Claim claim) {
+                    claimsPerPolicy.merge(claim.getPolicyNumber(), 1, Integer::sum);
+                    claimTypes.merge(claim.getType(), 1, Integer::sum);
+                    amounts.add(claim.getEstimatedAmount());
+                }
+            });
+        }
+
+        long singlePolicyEmails = policiesPerEmail.values().stream().filter(count -> count == 1).count();
+        assertThat((double) singlePolicyEmails / policiesPerEmail.size()).isGreaterThan(0.6);
+        assertThat(policiesPerEmail.values().stream().mapToInt(Integer::intValue).max().orElse(0))
+                .isGreaterThanOrEqualTo(10);
+
+        assertThat((double) claimsPerPolicy.size() / 50_000).isBetween(0.25, 0.35);
+        assertThat(claimsPerPolicy.values().stream().mapToInt(Integer::intValue).max().orElse(0))
+                .isGreaterThanOrEqualTo(5);
+
+        assertThat(claimTypes.get(ClaimType.AUTO)).isGreaterThan(claimTypes.get(ClaimType.TRAVEL) * 3);
+        amounts.sort(null);
+        BigDecimal median = amounts.get(amounts.size() / 2);
+        BigDecimal p99 = amounts.get(amounts.size() * 99 / 100);
+        assertThat(p99).isGreaterThan(median.multiply(BigDecimal.TEN));
+        assertThat(amounts).allSatisfy(amount -> assertThat(amount.scale()).isEqualTo(2));
+    }
+
+    @Test
+    @DisplayName("Should reject partitions and sizes outside the generator's range")
+    void shouldRejectInvalidArguments() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(1, 10, 10, REFERENCE_DATE);
+
+        assertThatThrownBy(() -> generator.generate(1, new Rows()))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SyntheticDataGenerator(1, 10, 0, REFERENCE_DATE))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static final class Rows implements SyntheticDataGenerator.RowSink {
+
+        private final List<PolicySummary> policies = new ArrayList<>();
+        private final List<Claim> claims = new ArrayList<>();
+
+        @Override
+        public void policy(PolicySummary policy) {
+            policies.add(policy);
+        }
+
+        @Override
+        public void claim(Claim claim) {
+            claims.add(claim);
+        }
+    }
+}
@@ -1,25 +1,50 @@
 package com.zurich.poc.automation.data;
 
+import com.zurich.poc.export.ClaimExportColumns;
+import com.zurich.poc.model.Claim;
 import com.zurich.poc.model.PolicySummary;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.sharding.ShardContext;
 import com.zurich.poc.util.TestDataBuilder;
+import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import javax.sql.DataSource;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntConsumer;
 
 /**
  * Test Data Manager for Automation Testing
  * 
  * Provides comprehensive test data setup and cleanup for automated testing scenarios.
  * Supports different test data sets for various test categories.
+ *
+ * PolicySummary has no table of its own, so policies are written to {@code test_policy_summaries},
+ * created on first use; performance claims go to {@code insurance_claims} on the shard of their
+ * policy, like imported claims.
  */
 @Component
 @Profile({"test", "automation-test", "regression-test"})
@@ -27,13 +52,95 @@ public class TestDataManager {
 
     private static final Logger log = LoggerFactory.getLogger(TestDataManager.class);
 
+    private static final String POLICY_TABLE = "test_policy_summaries";
+    private static final List<String> POLICY_COLUMNS = List.of(
+            "policy_number", "policy_holder_name", "email", "gender", "date_of_birth", "policy_type",
+            "start_date", "end_date", "status", "premium_amount", "coverage_amount", "nominee_name",
+            "nominee_relationship", "nominee_contact_info", "nominee_identification", "street_address",
+            "city", "state", "postal_code", "country", "address_type");
+    // No primary key: the regression policies use fixed numbers and may be set up more than once
+    private static final String CREATE_POLICY_TABLE_SQL = "CREATE TABLE IF NOT EXISTS " + POLICY_TABLE + " ("
+            + "policy_number VARCHAR(64) NOT NULL, policy_holder_name VARCHAR(255), email VARCHAR(255), "
+            + "gender VARCHAR(32), date_of_birth DATE, policy_type VARCHAR(32), start_date DATE, end_date DATE, "
+            + "status VARCHAR(32), premium_amount DOUBLE PRECISION, coverage_amount DOUBLE PRECISION, "
+            + "nominee_name VARCHAR(255), nominee_relationship VARCHAR(64), nominee_contact_info VARCHAR(255), "
+            + "nominee_identification VARCHAR(64), street_address VARCHAR(255), city VARCHAR(128), "
+            + "state VARCHAR(128), postal_code VARCHAR(32), country VARCHAR(128), address_type VARCHAR(32))";
+    private static final String[] CREATE_POLICY_INDEX_SQL = {
+            "CREATE INDEX IF NOT EXISTS idx_test_policy_number ON " + POLICY_TABLE + " (policy_number)",
+            "CREATE INDEX IF NOT EXISTS idx_test_policy_email ON " + POLICY_TABLE + " (email)"};
+    private static final String INSERT_POLICY_SQL = "INSERT INTO " + POLICY_TABLE + " ("
+            + String.join(", ", POLICY_COLUMNS) + ") VALUES ("
+            + String.join(", ", POLICY_COLUMNS.stream().map(column -> "?").toList()) + ")";
+    private static final String DELETE_POLICY_SQL = "DELETE FROM " + POLICY_TABLE + " WHERE policy_number = ?";
+    private static final String DELETE_POLICY_CLAIMS_SQL = "DELETE FROM insurance_claims WHERE policy_number = ?";
+    private static final String DELETE_POLICY_RANGE_SQL = "DELETE FROM " + POLICY_TABLE
+            + " WHERE policy_number >= ? AND policy_number < ?";
+    private static final String DELETE_CLAIM_RANGE_SQL = "DELETE FROM insurance_claims"
+            + " WHERE claim_number >= ? AND claim_number < ?";
+
+    private static final String INSERT_CLAIM_SQL = "INSERT INTO insurance_claims ("
+            + String.join(", ", ClaimExportColumns.NAMES) + ") VALUES ("
+            + String.join(", ", ClaimExportColumns.NAMES.stream().map(column -> "?").toList()) + ")";
+
+    /** Policies per generator partition; a partition is the unit of parallel work and of range deletes */
+    private static final int PERFORMANCE_PARTITION_SIZE = 10_000;
+    /** Fixed so that a seed gives the same dates and statuses whenever the data is generated */
+    private static final LocalDate PERFORMANCE_REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+
     @Autowired
     private JdbcTemplate jdbcTemplate;
     
     @Autowired
     private DataSource dataSource;
+
+    @Autowired
+    private ClaimShardRouter claimShardRouter;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${test.data.performance.policies:100000}")
+    private long performancePolicies;
+
+    @Value("${test.data.performance.seed:42}")
+    private long performanceSeed;
+
+    @Value("${test.data.performance.batch-size:1000}")
+    private int batchSize;
+
+    /** Generator and writer threads; 0 uses the available processors, at most 8 */
+    @Value("${test.data.performance.parallelism:0}")
+    private int parallelism;
+
+    private TransactionTemplate batchTransaction;
+
+    private volatile boolean policyTableReady;
+
+    /** Partitions written by the performance data setup, removed again by cleanupPerformanceTestData */
+    private final AtomicInteger performancePartitions = new AtomicInteger();
     
     private List<String> createdPolicyIds = new ArrayList<>();
+
+    /**
+     * Rows written or deleted by a performance data run
+     */
+    public record PerformanceDataStats(long policies, long claims, Duration elapsed) {
+
+        public long rows() {
+            return policies + claims;
+        }
+
+        public double rowsPerSecond() {
+            return rows() / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        }
+    }
+
+    @PostConstruct
+    void init() {
+        batchTransaction = new TransactionTemplate(transactionManager);
+        batchTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
     
     /**
      * Setup test data for unit tests
@@ -81,18 +188,184 @@ public class TestDataManager {
     }
     
     /**
-     * Setup test data for performance tests
+     * Setup test data for performance tests, sized by test.data.performance.policies and seeded
+     * by test.data.performance.seed
      */
-    public void setupPerformanceTestData() {
-        log.info("Setting up performance test data...");
-        
-        // Create large data set for performance testing
-        List<PolicySummary> performancePolicies = createPerformanceTestPolicies(1000);
-        persistTestPoliciesInBatches(performancePolicies, 100);
-        
-        log.info("Performance test data setup completed. Created {} policies", performancePolicies.size());
+    public PerformanceDataStats setupPerformanceTestData() {
+        return setupPerformanceTestData(performancePolicies, performanceSeed);
     }
-    
+
+    /**
+     * Generates policies and their claims with {@link SyntheticDataGenerator} and writes them with
+     * JDBC batch inserts, one partition per task on a fork-join pool. The same seed and policy count
+     * always give the same rows. Data from an earlier run of this manager is removed first.
+     */
+    public PerformanceDataStats setupPerformanceTestData(long policies, long seed) {
+        log.info("Setting up performance test data: {} policies, seed {}...", policies, seed);
+        ensurePolicyTable();
+        if (performancePartitions.get() > 0) {
+            cleanupPerformanceTestData();
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(
+                seed, policies, PERFORMANCE_PARTITION_SIZE, PERFORMANCE_REFERENCE_DATE);
+        // Recorded up front so a failed run is still cleaned up
+        performancePartitions.set(generator.getPartitionCount());
+
+        LongAdder policyRows = new LongAdder();
+        LongAdder claimRows = new LongAdder();
+        PerformanceDataStats stats = runPartitions("Inserted", generator.getPartitionCount(), policyRows, claimRows,
+                partition -> writePartition(generator, partition, policyRows, claimRows));
+
+        log.info("Performance test data setup completed. Created {} policies and {} claims in {} ms ({} rows/s)",
+                stats.policies(), stats.claims(), stats.elapsed().toMillis(), Math.round(stats.rowsPerSecond()));
+        return stats;
+    }
+
+    /**
+     * Removes the performance data with one indexed range delete per partition and table, on every
+     * claim shard, run in parallel like the inserts
+     */
+    public PerformanceDataStats cleanupPerformanceTestData() {
+        int partitions = performancePartitions.getAndSet(0);
+        if (partitions == 0) {
+            return new PerformanceDataStats(0, 0, Duration.ZERO);
+        }
+        log.info("Cleaning up performance test data in {} partitions...", partitions);
+
+        LongAdder policyRows = new LongAdder();
+        LongAdder claimRows = new LongAdder();
+        PerformanceDataStats stats = runPartitions("Deleted", partitions, policyRows, claimRows, partition -> {
+            String claimStart = SyntheticDataGenerator.partitionKeyStart(SyntheticDataGenerator.CLAIM_PREFIX, partition);
+            String claimEnd = SyntheticDataGenerator.partitionKeyEnd(SyntheticDataGenerator.CLAIM_PREFIX, partition);
+            for (int shard = 0; shard < claimShardRouter.getShardCount(); shard++) {
+                claimRows.add(ShardContext.callOn(shard, () -> batchTransaction.execute(
+                        status -> jdbcTemplate.update(DELETE_CLAIM_RANGE_SQL, claimStart, claimEnd))));
+            }
+            policyRows.add(batchTransaction.execute(status -> jdbcTemplate.update(DELETE_POLICY_RANGE_SQL,
+                    SyntheticDataGenerator.partitionKeyStart(SyntheticDataGenerator.POLICY_PREFIX, partition),
+                    SyntheticDataGenerator.partitionKeyEnd(SyntheticDataGenerator.POLICY_PREFIX, partition))));
+        });
+
+        log.info("Performance test data cleanup completed. Deleted {} policies and {} claims in {} ms ({} rows/s)",
+                stats.policies(), stats.claims(), stats.elapsed().toMillis(), Math.round(stats.rowsPerSecond()));
+        return stats;
+    }
+
+    /**
+     * Runs the work for every partition on a fork-join pool, splitting the partition range in halves,
+     * and logs the rows/s of the counters while it runs
+     */
+    private PerformanceDataStats runPartitions(String action, int partitions, LongAdder policyRows,
+                                               LongAdder claimRows, IntConsumer work) {
+        int threads = parallelism > 0 ? parallelism : Math.min(Runtime.getRuntime().availableProcessors(), 8);
+        AtomicInteger threadNumber = new AtomicInteger();
+        ForkJoinPool pool = new ForkJoinPool(threads, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("test-data-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+        ScheduledExecutorService progress = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "test-data-progress");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long start = System.nanoTime();
+        long[] lastRows = {0};
+        progress.scheduleAtFixedRate(() -> {
+            long rows = policyRows.sum() + claimRows.sum();
+            log.info("{} {} rows so far ({} rows/s)", action, rows, (rows - lastRows[0]) / 5);
+            lastRows[0] = rows;
+        }, 5, 5, TimeUnit.SECONDS);
+        try {
+            pool.invoke(new PartitionTask(0, partitions, work));
+        } finally {
+            progress.shutdownNow();
+            pool.shutdownNow();
+        }
+        return new PerformanceDataStats(policyRows.sum(), claimRows.sum(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private static final class PartitionTask extends RecursiveAction {
+
+        private final int from;
+        private final int to;
+        private final IntConsumer work;
+
+        PartitionTask(int from, int to, IntConsumer work) {
+            this.from = from;
+            this.to = to;
+            this.work = work;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from == 1) {
+                work.accept(from);
+            } else if (to > from) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(from, middle, work), new PartitionTask(middle, to, work));
+            }
+        }
+    }
+
+    /**
+     * Generates one partition and writes it in batches: policies to the default data source,
+     * claims grouped by the shard of their policy
+     */
+    private void writePartition(SyntheticDataGenerator generator, int partition,
+                                LongAdder policyRows, LongAdder claimRows) {
+        List<Object[]> policyBatch = new ArrayList<>(batchSize);
+        List<List<Object[]>> claimBatches = new ArrayList<>();
+        for (int shard = 0; shard < claimShardRouter.getShardCount(); shard++) {
+            claimBatches.add(new ArrayList<>(batchSize));
+        }
+
+        generator.generate(partition, new SyntheticDataGenerator.RowSink() {
+            @Override
+            public void policy(PolicySummary policy) {
+                policyBatch.add(policyParameters(policy));
+                if (policyBatch.size() >= batchSize) {
+                    policyRows.add(insertPolicies(policyBatch));
+                    policyBatch.clear();
+                }
+            }
+
+            @Override
+            public void claim(Claim claim) {
+                int shard = claimShardRouter.shardForPolicy(claim.getPolicyNumber());
+                List<Object[]> batch = claimBatches.get(shard);
+                batch.add(claimParameters(claim, shard));
+                if (batch.size() >= batchSize) {
+                    claimRows.add(insertClaims(shard, batch));
+                    batch.clear();
+                }
+            }
+        });
+
+        if (!policyBatch.isEmpty()) {
+            policyRows.add(insertPolicies(policyBatch));
+        }
+        for (int shard = 0; shard < claimBatches.size(); shard++) {
+            if (!claimBatches.get(shard).isEmpty()) {
+                claimRows.add(insertClaims(shard, claimBatches.get(shard)));
+            }
+        }
+    }
+
+    private int insertPolicies(List<Object[]> parameters) {
+        batchTransaction.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_POLICY_SQL, parameters));
+        return parameters.size();
+    }
+
+    private int insertClaims(int shard, List<Object[]> parameters) {
+        ShardContext.runOn(shard, () -> batchTransaction.executeWithoutResult(
+                status -> jdbcTemplate.batchUpdate(INSERT_CLAIM_SQL, parameters)));
+        return parameters.size();
+    }
+
     /**
      * Create basic test policies for unit tests
      */
@@ -189,33 +462,6 @@ public class TestDataManager {
         return policies;
     }
     
-    /**
-     * Create large number of policies for performance tests
-     */
-    private List<PolicySummary> createPerformanceTestPolicies(int count) {
-        List<PolicySummary> policies = new ArrayList<>();
-        
-        for (int i = 0; i < count; i++) {
-            PolicySummary policy = TestDataBuilder.policy()
-                    .withPolicyNumber(generateTestPolicyNumber())
-                    .withPolicyHolderName("Performance Test Policy " + i)
-                    .withGender(i % 2 == 0 ? "Male" : "Female")
-                    .withNomineeName("Nominee " + i)
-                    .withNomineeRelationship(getNomineeRelationship(i))
-                    .withStreetAddress(i + " Performance Street")
-                    .withCity("Performance City " + (i % 10))
-                    .withState("Performance State " + (i % 5))
-                    .withPostalCode(String.format("%05d", i))
-                    .withCountry("Performance Country")
-                    .withAddressType(getAddressType(i))
-                    .build();
-            
-            policies.add(policy);
-        }
-        
-        return policies;
-    }
-    
     /**
      * Create edge case policy for testing boundary conditions
      */
@@ -322,35 +568,88 @@ public class TestDataManager {
      * Persist test policies to database
      */
     private void persistTestPolicies(List<PolicySummary> policies) {
-        for (PolicySummary policy : policies) {
-            persistPolicy(policy);
-            createdPolicyIds.add(policy.getPolicyNumber());
+        ensurePolicyTable();
+        for (int i = 0; i < policies.size(); i += batchSize) {
+            List<PolicySummary> batch = policies.subList(i, Math.min(i + batchSize, policies.size()));
+            jdbcTemplate.batchUpdate(INSERT_POLICY_SQL, batch.stream().map(this::policyParameters).toList());
+            batch.forEach(policy -> createdPolicyIds.add(policy.getPolicyNumber()));
         }
     }
-    
+
     /**
-     * Persist test policies in batches for performance
+     * Creates the policy table and its indexes if they do not exist yet
      */
-    private void persistTestPoliciesInBatches(List<PolicySummary> policies, int batchSize) {
-        for (int i = 0; i < policies.size(); i += batchSize) {
-            List<PolicySummary> batch = policies.subList(i, Math.min(i + batchSize, policies.size()));
-            persistTestPolicies(batch);
-            
-            if (i % (batchSize * 10) == 0) {
-                log.debug("Persisted {} policies...", i);
+    private void ensurePolicyTable() {
+        if (policyTableReady) {
+            return;
+        }
+        synchronized (this) {
+            if (!policyTableReady) {
+                jdbcTemplate.execute(CREATE_POLICY_TABLE_SQL);
+                for (String sql : CREATE_POLICY_INDEX_SQL) {
+                    jdbcTemplate.execute(sql);
+                }
+                policyTableReady = true;
             }
         }
     }
-    
+
     /**
-     * Persist individual policy
+     * Insert parameters in {@link #POLICY_COLUMNS} order
      */
-    private void persistPolicy(PolicySummary policy) {
-        // Implementation depends on your repository layer
-        // This is a placeholder for the actual persistence logic
-        log.trace("Persisting test policy: {}", policy.getPolicyNumber());
+    private Object[] policyParameters(PolicySummary policy) {
+        return new Object[]{
+                policy.getPolicyNumber(),
+                policy.getPolicyHolderName(),
+                policy.getEmail(),
+                policy.getGender(),
+                sqlDate(policy.getDateOfBirth()),
+                policy.getPolicyType(),
+                sqlDate(policy.getStartDate()),
+                sqlDate(policy.getEndDate()),
+                policy.getStatus(),
+                policy.getPremiumAmount(),
+                policy.getCoverageAmount(),
+                policy.getNomineeName(),
+                policy.getNomineeRelationship(),
+                policy.getNomineeContactInfo(),
+                policy.getNomineeIdentification(),
+                policy.getStreetAddress(),
+                policy.getCity(),
+                policy.getState(),
+                policy.getPostalCode(),
+                policy.getCountry(),
+                policy.getAddressType()
+        };
     }
-    
+
+    /**
+     * Insert parameters in {@link ClaimExportColumns#NAMES} order, with the claim number tagged for its shard
+     */
+    private Object[] claimParameters(Claim claim, int shard) {
+        return new Object[]{
+                claim.getId(),
+                claimShardRouter.tagClaimNumber(claim.getClaimNumber(), shard),
+                claim.getPolicyNumber(),
+                Date.valueOf(claim.getIncidentDate()),
+                claim.getDescription(),
+                claim.getEstimatedAmount(),
+                claim.getType().name(),
+                claim.getStatus().name(),
+                claim.getClaimantName(),
+                claim.getClaimantEmail(),
+                claim.getClaimantPhone(),
+                claim.getAdditionalDetails(),
+                claim.getAssignedAdjuster(),
+                Timestamp.valueOf(claim.getCreatedAt()),
+                Timestamp.valueOf(claim.getUpdatedAt())
+        };
+    }
+
+    private static Date sqlDate(LocalDate date) {
+        return date != null ? Date.valueOf(date) : null;
+    }
+
     /**
      * Setup additional test data relationships
      */
@@ -374,13 +673,15 @@ public class TestDataManager {
         log.info("Cleaning up test data...");
         
         try {
-            // Clean up policies by policy numbers
-            for (String policyNumber : createdPolicyIds) {
-                cleanupPolicy(policyNumber);
-            }
-            
-            // Clean up related data
+            // Clean up policies by policy numbers, with their claims
             cleanupRelatedTestData();
+            if (!createdPolicyIds.isEmpty()) {
+                ensurePolicyTable();
+                jdbcTemplate.batchUpdate(DELETE_POLICY_SQL, policyNumberParameters());
+            }
+
+            // Clean up generated performance data
+            cleanupPerformanceTestData();
             
             // Reset sequences if needed
             resetDatabaseSequences();
@@ -394,20 +695,22 @@ public class TestDataManager {
         }
     }
     
-    /**
-     * Clean up individual policy
-     */
-    private void cleanupPolicy(String policyNumber) {
-        log.trace("Cleaning up policy: {}", policyNumber);
-        // Implementation for policy cleanup
-    }
-    
     /**
      * Clean up related test data
      */
     private void cleanupRelatedTestData() {
         log.debug("Cleaning up related test data...");
-        // Clean up claims, endorsements, and other related entities
+        if (createdPolicyIds.isEmpty()) {
+            return;
+        }
+        List<Object[]> policyNumbers = policyNumberParameters();
+        for (int shard = 0; shard < claimShardRouter.getShardCount(); shard++) {
+            ShardContext.runOn(shard, () -> jdbcTemplate.batchUpdate(DELETE_POLICY_CLAIMS_SQL, policyNumbers));
+        }
+    }
+
+    private List<Object[]> policyNumberParameters() {
+        return createdPolicyIds.stream().map(policyNumber -> new Object[]{policyNumber}).toList();
     }
     
     /**
@@ -424,20 +727,4 @@ public class TestDataManager {
     private String generateTestPolicyNumber() {
         return "TEST-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
     }
-    
-    /**
-     * Get nominee relationship for performance test data
-     */
-    private String getNomineeRelationship(int index) {
-        String[] relationships = {"Spouse", "Child", "Parent", "Sibling", "Other"};
-        return relationships[index % relationships.length];
-    }
-    
-    /**
-     * Get address type for performance test data
-     */
-    private String getAddressType(int index) {
-        String[] types = {"Residential", "Business", "Mailing"};
-        return types[index % types.length];
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,217 @@
+package com.zurich.poc.automation.data;
+
+import com.zurich.poc.automation.data.TestDataManager.PerformanceDataStats;
+import com.zurich.poc.config.TestConfig;
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.PolicySummary;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.sharding.ShardContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for the performance data setup and cleanup of TestDataManager against four H2 claim
+ * shards, with three generator partitions of which the last one is partly filled
+ */
+@SpringBootTest(properties = {
+        "claims.sharding.enabled=true",
+        "claims.sharding.shard-count=4",
+        "claims.sharding.url-template=jdbc:h2:mem:test_data_manager_{shard};"
+                + "MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+        "test.data.performance.batch-size=500",
+        "test.data.performance.parallelism=2"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("TestDataManager Tests")
+class TestDataManagerTest {
+
+    private static final long POLICIES = 20_500;
+    private static final long SEED = 11;
+    private static final int PARTITION_SIZE = 10_000;
+    private static final LocalDate REFERENCE_DATE = LocalDate.of(2025, 1, 1);
+
+    @Autowired
+    private TestDataManager testDataManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ClaimShardRouter router;
+
+    @AfterEach
+    void tearDown() {
+        testDataManager.cleanupPerformanceTestData();
+    }
+
+    @Test
+    @DisplayName("Should write policies and sharded claims in column order and remove them all again")
+    void shouldSetUpAndCleanUpPerformanceData() {
+        // Given the rows the generator produces for this seed
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(SEED, POLICIES, PARTITION_SIZE, REFERENCE_DATE);
+        List<PolicySummary> policies = new ArrayList<>();
+        List<List<Claim>> claimsByShard = new ArrayList<>();
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            claimsByShard.add(new ArrayList<>());
+        }
+        for (int partition = 0; partition < generator.getPartitionCount(); partition++) {
+            generator.generate(partition, new SyntheticDataGenerator.RowSink() {
+                @Override
+                public void policy(PolicySummary policy) {
+                    policies.add(policy);
+                }
+
+                @Override
+                public void claim(Claim claim) {
+                    claimsByShard.get(router.shardForPolicy(claim.getPolicyNumber())).add(claim);
+                }
+            });
+        }
+        long expectedClaims = claimsByShard.stream().mapToLong(List::size).sum();
+        assertThat(policyTableExists()).isFalse();
+
+        // When
+        PerformanceDataStats created = testDataManager.setupPerformanceTestData(POLICIES, SEED);
+
+        // Then the policy table is created with every policy, one key range per partition
+        assertThat(policyTableExists()).isTrue();
+        assertThat(created.policies()).isEqualTo(POLICIES);
+        assertThat(created.claims()).isEqualTo(expectedClaims);
+        assertThat(policyCount()).isEqualTo(POLICIES);
+        assertThat(generator.getPartitionCount()).isEqualTo(3);
+        for (int partition = 0; partition < generator.getPartitionCount(); partition++) {
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM test_policy_summaries WHERE policy_number >= ? AND policy_number < ?",
+                    Long.class,
+                    SyntheticDataGenerator.partitionKeyStart(SyntheticDataGenerator.POLICY_PREFIX, partition),
+                    SyntheticDataGenerator.partitionKeyEnd(SyntheticDataGenerator.POLICY_PREFIX, partition)))
+                    .as("partition %d", partition).isEqualTo(generator.policiesIn(partition));
+        }
+        assertStoredPolicy(policies.get(0));
+        assertStoredPolicy(policies.get(policies.size() - 1));
+
+        // And every claim is on the shard of its policy, tagged with that shard
+        assertThat(claimsByShard).filteredOn(claims -> !claims.isEmpty()).hasSizeGreaterThan(1);
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            List<Claim> expected = claimsByShard.get(shard);
+            assertThat(claimCount(shard)).as("shard %d", shard).isEqualTo(expected.size());
+            int onShard = shard;
+            List<Map<String, Object>> stored = ShardContext.callOn(shard, () ->
+                    jdbcTemplate.queryForList("SELECT claim_number, policy_number FROM insurance_claims"));
+            assertThat(stored).allSatisfy(row -> {
+                assertThat((String) row.get("claim_number")).endsWith("-S" + onShard);
+                assertThat(router.shardForPolicy((String) row.get("policy_number"))).isEqualTo(onShard);
+            });
+            if (!expected.isEmpty()) {
+                assertStoredClaim(shard, expected.get(0));
+                assertStoredClaim(shard, expected.get(expected.size() - 1));
+            }
+        }
+
+        // When
+        PerformanceDataStats deleted = testDataManager.cleanupPerformanceTestData();
+
+        // Then
+        assertThat(deleted.policies()).isEqualTo(POLICIES);
+        assertThat(deleted.claims()).isEqualTo(expectedClaims);
+        assertThat(policyCount()).isZero();
+        for (int shard = 0; shard < router.getShardCount(); shard++) {
+            assertThat(claimCount(shard)).as("shard %d", shard).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Should delete nothing when no performance data was set up")
+    void shouldCleanUpNothingWithoutSetup() {
+        // When
+        PerformanceDataStats deleted = testDataManager.cleanupPerformanceTestData();
+
+        // Then
+        assertThat(deleted.rows()).isZero();
+    }
+
+    /**
+     * Compares the stored columns with the generated policy, so a column order mismatch fails
+     */
+    private void assertStoredPolicy(PolicySummary policy) {
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT * FROM test_policy_summaries WHERE policy_number = ?", policy.getPolicyNumber());
+        assertThat(row.get("policy_holder_name")).isEqualTo(policy.getPolicyHolderName());
+        assertThat(row.get("email")).isEqualTo(policy.getEmail());
+        assertThat(row.get("gender")).isEqualTo(policy.getGender());
+        assertThat(localDate(row.get("date_of_birth"))).isEqualTo(policy.getDateOfBirth());
+        assertThat(row.get("policy_type")).isEqualTo(policy.getPolicyType());
+        assertThat(localDate(row.get("start_date"))).isEqualTo(policy.getStartDate());
+        assertThat(localDate(row.get("end_date"))).isEqualTo(policy.getEndDate());
+        assertThat(row.get("status")).isEqualTo(policy.getStatus());
+        assertThat(((Number) row.get("premium_amount")).doubleValue()).isEqualTo(policy.getPremiumAmount());
+        assertThat(((Number) row.get("coverage_amount")).doubleValue()).isEqualTo(policy.getCoverageAmount());
+        assertThat(row.get("nominee_name")).isEqualTo(policy.getNomineeName());
+        assertThat(row.get("nominee_relationship")).isEqualTo(policy.getNomineeRelationship());
+        assertThat(row.get("nominee_contact_info")).isEqualTo(policy.getNomineeContactInfo());
+        assertThat(row.get("nominee_identification")).isEqualTo(policy.getNomineeIdentification());
+        assertThat(row.get("street_address")).isEqualTo(policy.getStreetAddress());
+        assertThat(row.get("city")).isEqualTo(policy.getCity());
+        assertThat(row.get("state")).isEqualTo(policy.getState());
+        assertThat(row.get("postal_code")).isEqualTo(policy.getPostalCode());
+        assertThat(row.get("country")).isEqualTo(policy.getCountry());
+        assertThat(row.get("address_type")).isEqualTo(policy.getAddressType());
+    }
+
+    /**
+     * Compares the stored columns with the generated claim, so a column order mismatch fails
+     */
+    private void assertStoredClaim(int shard, Claim claim) {
+        Map<String, Object> row = ShardContext.callOn(shard, () ->
+                jdbcTemplate.queryForMap("SELECT * FROM insurance_claims WHERE id = ?", claim.getId()));
+        assertThat(row.get("claim_number")).isEqualTo(router.tagClaimNumber(claim.getClaimNumber(), shard));
+        assertThat(row.get("policy_number")).isEqualTo(claim.getPolicyNumber());
+        assertThat(localDate(row.get("incident_date"))).isEqualTo(claim.getIncidentDate());
+        assertThat(row.get("description")).isEqualTo(claim.getDescription());
+        assertThat((BigDecimal) row.get("estimated_amount")).isEqualByComparingTo(claim.getEstimatedAmount());
+        assertThat(row.get("type")).isEqualTo(claim.getType().name());
+        assertThat(row.get("status")).isEqualTo(claim.getStatus().name());
+        assertThat(row.get("claimant_name")).isEqualTo(claim.getClaimantName());
+        assertThat(row.get("claimant_email")).isEqualTo(claim.getClaimantEmail());
+        assertThat(row.get("claimant_phone")).isEqualTo(claim.getClaimantPhone());
+        assertThat(row.get("additional_details")).isEqualTo(claim.getAdditionalDetails());
+        assertThat(row.get("assigned_adjuster")).isEqualTo(claim.getAssignedAdjuster());
+        assertThat(((Timestamp) row.get("created_at")).toLocalDateTime()).isEqualTo(claim.getCreatedAt());
+        assertThat(((Timestamp) row.get("updated_at")).toLocalDateTime()).isEqualTo(claim.getUpdatedAt());
+    }
+
+    private boolean policyTableExists() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.tables "
+                + "WHERE LOWER(table_name) = 'test_policy_summaries'", Long.class) > 0;
+    }
+
+    private long policyCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM test_policy_summaries", Long.class);
+    }
+
+    private long claimCount(int shard) {
+        return ShardContext.callOn(shard, () ->
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM insurance_claims", Long.class));
+    }
+
+    private static LocalDate localDate(Object value) {
+        return value != null ? ((Date) value).toLocalDate() : null;
+    }
+}
@@ -0,0 +1,128 @@
+package com.zurich.poc.export;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zurich.poc.util.CsvRecordReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the gzip CSV claim writer, reading rows from an H2 result set
+ */
+@DisplayName("CsvClaimRowWriter Tests")
+class CsvClaimRowWriterTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = ExportTestClaims.newDatabase("csv_writer_test");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should write a header and quote fields with separators and quotes")
+    void shouldWriteHeaderAndQuotedFields() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 2);
+
+        // When
+        List<List<String>> records = read(export());
+
+        // Then
+        assertThat(records).hasSize(3);
+        assertThat(records.get(0)).containsExactlyElementsOf(ClaimExportColumns.NAMES);
+        List<String> first = records.get(1);
+        assertThat(first).hasSize(ClaimExportColumns.NAMES.size());
+        assertThat(first.get(1)).isEqualTo("CLM-1");
+        assertThat(first.get(3)).isEqualTo("2025-01-02");
+        assertThat(first.get(4)).isEqualTo("Claim 1, \"windscreen\"");
+        assertThat(first.get(5)).isEqualTo("1.50");
+        assertThat(first.get(6)).isEqualTo("AUTO");
+        assertThat(first.get(7)).isEqualTo("SUBMITTED");
+        assertThat(records.get(2).get(1)).isEqualTo("CLM-2");
+    }
+
+    @Test
+    @DisplayName("Should write null columns as empty fields")
+    void shouldWriteNullsAsEmptyFields() throws Exception {
+        // Given
+        ExportTestClaims.insertWithNulls(jdbcTemplate, "CLM-NULL");
+
+        // When
+        List<List<String>> records = read(export());
+
+        // Then
+        List<String> row = records.get(1);
+        assertThat(row).hasSize(ClaimExportColumns.NAMES.size());
+        assertThat(row.get(1)).isEqualTo("CLM-NULL");
+        assertThat(row.subList(5, 8)).containsOnly("");
+        assertThat(row.subList(9, 15)).containsOnly("");
+    }
+
+    @Test
+    @DisplayName("Should finish the gzip stream on close without closing the response stream")
+    void shouldLeaveUnderlyingStreamOpen() throws Exception {
+        // Given
+        boolean[] closed = {false};
+        ByteArrayOutputStream out = new ByteArrayOutputStream() {
+            @Override
+            public void close() {
+                closed[0] = true;
+            }
+        };
+
+        // When
+        new CsvClaimRowWriter(out).close();
+
+        // Then
+        assertThat(closed[0]).isFalse();
+        assertThat(read(out.toByteArray())).hasSize(1);
+    }
+
+    private byte[] export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT " + String.join(", ", ClaimExportColumns.NAMES)
+                     + " FROM insurance_claims ORDER BY claim_number");
+             CsvClaimRowWriter writer = new CsvClaimRowWriter(out)) {
+            while (rows.next()) {
+                writer.write(rows);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<List<String>> read(byte[] gzip) throws Exception {
+        List<List<String>> records = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(gzip)), StandardCharsets.UTF_8))) {
+            for (List<String> record = reader.next(); record != null; record = reader.next()) {
+                records.add(record);
+            }
+        }
+        return records;
+    }
+}
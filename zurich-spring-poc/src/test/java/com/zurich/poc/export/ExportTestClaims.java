@@ -0,0 +1,109 @@
+package com.zurich.poc.export;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * In-memory H2 claims table for the export tests, as nullable as the Claim entity.
+ *
+ * Claim {@code i} is numbered {@code CLM-i}, has incident date 2025-01-01 plus {@code i}
+ * days, amount {@code i.50}, type HOME for even and AUTO for odd {@code i}, and status
+ * APPROVED when {@code i} is a multiple of 3, SUBMITTED otherwise.
+ */
+public final class ExportTestClaims {
+
+    public static final LocalDate FIRST_INCIDENT = LocalDate.of(2025, 1, 1);
+    public static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 2, 10, 0);
+
+    private static final String CREATE_TABLE_SQL = """
+            CREATE TABLE insurance_claims (
+                id UUID PRIMARY KEY,
+                claim_number VARCHAR(255) NOT NULL,
+                policy_number VARCHAR(255) NOT NULL,
+                incident_date DATE NOT NULL,
+                description VARCHAR(255) NOT NULL,
+                estimated_amount NUMERIC(10, 2),
+                type VARCHAR(255),
+                status VARCHAR(255),
+                claimant_name VARCHAR(255) NOT NULL,
+                claimant_email VARCHAR(255),
+                claimant_phone VARCHAR(255),
+                additional_details VARCHAR(5000),
+                assigned_adjuster VARCHAR(255),
+                created_at TIMESTAMP,
+                updated_at TIMESTAMP)""";
+
+    private static final String INSERT_SQL = "INSERT INTO insurance_claims ("
+            + String.join(", ", ClaimExportColumns.NAMES) + ") VALUES ("
+            + String.join(", ", ClaimExportColumns.NAMES.stream().map(column -> "?").toList()) + ")";
+
+    private ExportTestClaims() {
+        throw new UnsupportedOperationException("Utility class - cannot be instantiated");
+    }
+
+    /**
+     * A pooled data source on a new, empty database with the claims table
+     */
+    public static HikariDataSource newDatabase(String name) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(2);
+        HikariDataSource dataSource = new HikariDataSource(config);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP TABLE IF EXISTS insurance_claims");
+        jdbcTemplate.execute(CREATE_TABLE_SQL);
+        return dataSource;
+    }
+
+    /**
+     * Inserts claims 1 to count
+     */
+    public static void insert(JdbcTemplate jdbcTemplate, int count) {
+        List<Object[]> rows = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            rows.add(new Object[]{
+                    new UUID(0, i),
+                    "CLM-" + i,
+                    "POL-" + i % 5,
+                    Date.valueOf(FIRST_INCIDENT.plusDays(i)),
+                    "Claim " + i + ", \"windscreen\"",
+                    new BigDecimal(i + ".50"),
+                    i % 2 == 0 ? "HOME" : "AUTO",
+                    i % 3 == 0 ? "APPROVED" : "SUBMITTED",
+                    "Claimant " + i,
+                    "claimant" + i + "@example.com",
+                    "+441234567890",
+                    null,
+                    "Adjuster",
+                    Timestamp.valueOf(CREATED_AT),
+                    Timestamp.valueOf(CREATED_AT)});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    /**
+     * Inserts a claim with every nullable column left null
+     */
+    public static void insertWithNulls(JdbcTemplate jdbcTemplate, String claimNumber) {
+        jdbcTemplate.update(INSERT_SQL,
+                UUID.randomUUID(),
+                claimNumber,
+                "POL-NULL",
+                Date.valueOf(FIRST_INCIDENT),
+                "Claim without details",
+                null, null, null,
+                "Claimant",
+                null, null, null, null, null, null);
+    }
+}
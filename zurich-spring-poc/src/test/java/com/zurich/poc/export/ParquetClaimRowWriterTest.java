@@ -0,0 +1,170 @@
+package com.zurich.poc.export;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.io.SeekableInputStream;
+import org.apache.parquet.schema.MessageType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the Parquet claim writer, reading the file back with the example Group API
+ */
+@DisplayName("ParquetClaimRowWriter Tests")
+class ParquetClaimRowWriterTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = ExportTestClaims.newDatabase("parquet_writer_test");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should keep dates, amounts and timestamps as logical types")
+    void shouldWriteTypedColumns() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 3);
+
+        // When
+        List<Group> rows = read(export());
+
+        // Then
+        assertThat(rows).hasSize(3);
+        Group first = rows.get(0);
+        assertThat(first.getString("claim_number", 0)).isEqualTo("CLM-1");
+        assertThat(first.getInteger("incident_date", 0))
+                .isEqualTo((int) LocalDate.of(2025, 1, 2).toEpochDay());
+        assertThat(first.getLong("estimated_amount", 0)).isEqualTo(150L);
+        assertThat(first.getString("type", 0)).isEqualTo("AUTO");
+        assertThat(first.getLong("created_at", 0))
+                .isEqualTo(ExportTestClaims.CREATED_AT.toInstant(ZoneOffset.UTC).toEpochMilli());
+        assertThat(first.getFieldRepetitionCount("additional_details")).isZero();
+        assertThat(rows.get(2).getString("status", 0)).isEqualTo("APPROVED");
+    }
+
+    @Test
+    @DisplayName("Should leave every nullable column unset when it is null")
+    void shouldWriteNullableColumnsAsNull() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 1);
+        ExportTestClaims.insertWithNulls(jdbcTemplate, "CLM-NULL");
+
+        // When
+        List<Group> rows = read(export());
+
+        // Then
+        assertThat(rows).hasSize(2);
+        Group nulls = rows.get(1);
+        assertThat(nulls.getString("claim_number", 0)).isEqualTo("CLM-NULL");
+        for (String field : List.of("estimated_amount", "type", "status", "claimant_email", "claimant_phone",
+                "additional_details", "assigned_adjuster", "created_at", "updated_at")) {
+            assertThat(nulls.getFieldRepetitionCount(field)).as(field).isZero();
+        }
+        assertThat(rows.get(0).getFieldRepetitionCount("estimated_amount")).isEqualTo(1);
+    }
+
+    private byte[] export() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT " + String.join(", ", ClaimExportColumns.NAMES)
+                     + " FROM insurance_claims ORDER BY claim_number");
+             ParquetClaimRowWriter writer = new ParquetClaimRowWriter(out, 1024 * 1024)) {
+            while (rows.next()) {
+                writer.write(rows);
+            }
+        }
+        return out.toByteArray();
+    }
+
+    private static List<Group> read(byte[] parquet) throws Exception {
+        List<Group> rows = new ArrayList<>();
+        try (ParquetFileReader reader = ParquetFileReader.open(new BytesInputFile(parquet))) {
+            MessageType schema = reader.getFooter().getFileMetaData().getSchema();
+            PageReadStore rowGroup;
+            while ((rowGroup = reader.readNextRowGroup()) != null) {
+                RecordReader<Group> records = new ColumnIOFactory().getColumnIO(schema)
+                        .getRecordReader(rowGroup, new GroupRecordConverter(schema));
+                for (long i = 0; i < rowGroup.getRowCount(); i++) {
+                    rows.add(records.read());
+                }
+            }
+        }
+        return rows;
+    }
+
+    private static final class BytesInputFile implements InputFile {
+
+        private final byte[] bytes;
+
+        BytesInputFile(byte[] bytes) {
+            this.bytes = bytes;
+        }
+
+        @Override
+        public long getLength() {
+            return bytes.length;
+        }
+
+        @Override
+        public SeekableInputStream newStream() {
+            SeekableBytes in = new SeekableBytes(bytes);
+            return new DelegatingSeekableInputStream(in) {
+                @Override
+                public long getPos() {
+                    return in.position();
+                }
+
+                @Override
+                public void seek(long position) {
+                    in.seek(position);
+                }
+            };
+        }
+    }
+
+    private static final class SeekableBytes extends ByteArrayInputStream {
+
+        SeekableBytes(byte[] bytes) {
+            super(bytes);
+        }
+
+        long position() {
+            return pos;
+        }
+
+        void seek(long position) {
+            pos = (int) position;
+        }
+    }
+}
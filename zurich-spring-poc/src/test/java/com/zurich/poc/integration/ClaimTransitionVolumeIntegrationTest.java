@@ -0,0 +1,106 @@
+package com.zurich.poc.integration;
+
+import com.zurich.poc.config.TestConfig;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.ClaimTransitionRequest;
+import com.zurich.poc.model.ClaimTransitionRequest.Filter;
+import com.zurich.poc.model.ClaimTransitionResult;
+import com.zurich.poc.service.ClaimTransitionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Timed bulk transitions of 100,000 claims on H2 with the default chunk size, by id list
+ * (the largest request allowed) and by filter
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Claim Transition Volume Integration Tests")
+class ClaimTransitionVolumeIntegrationTest {
+
+    private static final int CLAIMS = 100_000;
+    private static final Duration BUDGET = Duration.ofSeconds(30);
+
+    private static final String INSERT_SQL = "INSERT INTO insurance_claims (id, claim_number, policy_number, "
+            + "incident_date, description, type, status, claimant_name) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ClaimTransitionService claimTransitionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<UUID> ids = new ArrayList<>(CLAIMS);
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM insurance_claims");
+        ids.clear();
+        List<Object[]> rows = new ArrayList<>(10_000);
+        for (int i = 0; i < CLAIMS; i++) {
+            UUID id = UUID.randomUUID();
+            ids.add(id);
+            rows.add(new Object[]{id, "CLM-" + i, "POL-" + i % 1_000, Date.valueOf(LocalDate.of(2025, 1, 1)),
+                    "Volume test claim", "AUTO", ClaimStatus.SUBMITTED.name(), "Claimant"});
+            if (rows.size() == 10_000) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+                rows.clear();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("Should transition 100,000 claims by id within the time budget")
+    void shouldTransitionByIdWithinBudget() {
+        // When
+        ClaimTransitionResult result = claimTransitionService.transition(
+                new ClaimTransitionRequest(ClaimStatus.UNDER_REVIEW, ids, null));
+
+        // Then
+        report("id list", result);
+        assertThat(result.getTransitioned()).isEqualTo(CLAIMS);
+        assertThat(result.getOutcomes()).hasSize(CLAIMS);
+        assertThat(countInStatus(ClaimStatus.UNDER_REVIEW)).isEqualTo(CLAIMS);
+        assertThat(Duration.ofMillis(result.getDurationMs())).isLessThan(BUDGET);
+    }
+
+    @Test
+    @DisplayName("Should transition 100,000 claims by filter within the time budget")
+    void shouldTransitionByFilterWithinBudget() {
+        // When
+        ClaimTransitionResult result = claimTransitionService.transition(new ClaimTransitionRequest(
+                ClaimStatus.CLOSED, null, new Filter(ClaimStatus.SUBMITTED, null, null)));
+
+        // Then
+        report("filter", result);
+        assertThat(result.getTransitioned()).isEqualTo(CLAIMS);
+        assertThat(countInStatus(ClaimStatus.CLOSED)).isEqualTo(CLAIMS);
+        assertThat(Duration.ofMillis(result.getDurationMs())).isLessThan(BUDGET);
+    }
+
+    private long countInStatus(ClaimStatus status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM insurance_claims WHERE status = ?",
+                Long.class, status.name());
+    }
+
+    private static void report(String selection, ClaimTransitionResult result) {
+        System.out.printf("Transitioned %d claims by %s in %d ms (%d claims/s)%n", result.getTransitioned(),
+                selection, result.getDurationMs(), result.getTransitioned() * 1000L / Math.max(1, result.getDurationMs()));
+    }
+}
@@ -0,0 +1,200 @@
+package com.zurich.poc.integration;
+
+import com.zurich.poc.config.TestConfig;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.PolicyClaimSummary;
+import com.zurich.poc.service.ClaimService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for policy claim summaries through ClaimService and the claims endpoints on H2
+ *
+ * POL-A has two SUBMITTED, one APPROVED, one CLOSED, one REJECTED and one claim without a
+ * status; POL-B has no claims.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Policy Claim Summary Integration Tests")
+class PolicyClaimSummaryIntegrationTest {
+
+    private static final String INSERT_SQL = "INSERT INTO insurance_claims (id, claim_number, policy_number, "
+            + "incident_date, description, estimated_amount, type, status, claimant_name) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private ClaimService claimService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM insurance_claims");
+        insert("POL-A", ClaimStatus.SUBMITTED, "100.00", LocalDate.of(2025, 1, 10));
+        insert("POL-A", ClaimStatus.SUBMITTED, "50.00", LocalDate.of(2025, 3, 1));
+        insert("POL-A", ClaimStatus.APPROVED, "200.00", LocalDate.of(2025, 2, 1));
+        insert("POL-A", ClaimStatus.CLOSED, "300.00", LocalDate.of(2025, 4, 1));
+        insert("POL-A", ClaimStatus.REJECTED, null, LocalDate.of(2024, 12, 1));
+        insert("POL-A", null, "40.00", LocalDate.of(2025, 1, 5));
+    }
+
+    @Test
+    @DisplayName("Should count claims by status and leave claims without a status out of the open totals")
+    void shouldSummariseClaimsByStatus() {
+        // When
+        PolicyClaimSummary summary = claimService.getPolicyClaimSummary("POL-A");
+
+        // Then
+        assertThat(summary.getPolicyNumber()).isEqualTo("POL-A");
+        assertThat(summary.getTotalClaims()).isEqualTo(6);
+        assertThat(summary.getOpenClaims()).isEqualTo(3);
+        assertThat(summary.getClaimsByStatus()).containsExactlyInAnyOrderEntriesOf(Map.of(
+                ClaimStatus.SUBMITTED, 2L,
+                ClaimStatus.APPROVED, 1L,
+                ClaimStatus.CLOSED, 1L,
+                ClaimStatus.REJECTED, 1L));
+        assertThat(summary.getTotalEstimatedAmount()).isEqualByComparingTo("690.00");
+        assertThat(summary.getOpenEstimatedAmount()).isEqualByComparingTo("350.00");
+        assertThat(summary.getLatestIncidentDate()).isEqualTo(LocalDate.of(2025, 4, 1));
+    }
+
+    @Test
+    @DisplayName("Should return one summary per requested policy number in request order")
+    void shouldReturnOneSummaryPerRequestedNumber() {
+        // When
+        List<PolicyClaimSummary> summaries = claimService.getPolicyClaimSummaries(List.of("POL-B", "POL-A", "POL-B"));
+
+        // Then
+        assertThat(summaries).extracting(PolicyClaimSummary::getPolicyNumber)
+                .containsExactly("POL-B", "POL-A", "POL-B");
+        assertThat(summaries.get(0).getTotalClaims()).isZero();
+        assertThat(summaries.get(0).getLatestIncidentDate()).isNull();
+        assertThat(summaries.get(1).getTotalClaims()).isEqualTo(6);
+        assertThat(summaries.get(2)).isEqualTo(summaries.get(0));
+    }
+
+    @Test
+    @DisplayName("Should aggregate policies beyond one IN-list chunk")
+    void shouldAggregateAcrossChunks() {
+        // Given one claim for each of 2,500 policies, three chunks of policy numbers
+        List<Object[]> rows = new ArrayList<>();
+        List<String> policyNumbers = IntStream.range(0, 2_500).mapToObj(i -> "POL-C" + i).toList();
+        for (String policyNumber : policyNumbers) {
+            rows.add(row(policyNumber, ClaimStatus.SUBMITTED, "10.00", LocalDate.of(2025, 1, 1)));
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+
+        // When
+        List<PolicyClaimSummary> summaries = claimService.getPolicyClaimSummaries(policyNumbers);
+
+        // Then
+        assertThat(summaries).hasSize(2_500);
+        assertThat(summaries).extracting(PolicyClaimSummary::getPolicyNumber).containsExactlyElementsOf(policyNumbers);
+        assertThat(summaries).allSatisfy(summary -> {
+            assertThat(summary.getTotalClaims()).isEqualTo(1);
+            assertThat(summary.getOpenEstimatedAmount()).isEqualByComparingTo("10.00");
+        });
+    }
+
+    @Test
+    @DisplayName("Should reject more than 5000 policy numbers")
+    void shouldRejectTooManyPolicyNumbers() {
+        // Given
+        List<String> policyNumbers = Collections.nCopies(5_001, "POL-A");
+
+        // When / Then
+        assertThatThrownBy(() -> claimService.getPolicyClaimSummaries(policyNumbers))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("5000");
+        assertThat(claimService.getPolicyClaimSummaries(Collections.nCopies(5_000, "POL-A"))).hasSize(5_000);
+    }
+
+    @Test
+    @DisplayName("Should serve summaries for a list of policy numbers")
+    void shouldServeSummariesEndpoint() throws Exception {
+        mockMvc.perform(post("/claims/policy/summaries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[\"POL-A\", \"POL-B\", \"POL-A\"]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(3))
+                .andExpect(jsonPath("$.data[0].policyNumber").value("POL-A"))
+                .andExpect(jsonPath("$.data[0].openClaims").value(3))
+                .andExpect(jsonPath("$.data[0].claimsByStatus.SUBMITTED").value(2))
+                .andExpect(jsonPath("$.data[0].openEstimatedAmount").value(350.0))
+                .andExpect(jsonPath("$.data[0].latestIncidentDate").value("2025-04-01"))
+                .andExpect(jsonPath("$.data[1].policyNumber").value("POL-B"))
+                .andExpect(jsonPath("$.data[1].totalClaims").value(0))
+                .andExpect(jsonPath("$.data[2].policyNumber").value("POL-A"));
+    }
+
+    @Test
+    @DisplayName("Should serve the summary of one policy")
+    void shouldServeSingleSummaryEndpoint() throws Exception {
+        mockMvc.perform(get("/claims/policy/POL-A/summary"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalClaims").value(6))
+                .andExpect(jsonPath("$.data.openClaims").value(3));
+    }
+
+    @Test
+    @DisplayName("Should answer 400 Bad Request for more than 5000 policy numbers")
+    void shouldRejectTooManyPolicyNumbersOverHttp() throws Exception {
+        String body = "[" + String.join(",", Collections.nCopies(5_001, "\"POL-A\"")) + "]";
+
+        mockMvc.perform(post("/claims/policy/summaries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isBadRequest());
+    }
+
+    private void insert(String policyNumber, ClaimStatus status, String amount, LocalDate incidentDate) {
+        jdbcTemplate.update(INSERT_SQL, row(policyNumber, status, amount, incidentDate));
+    }
+
+    private static Object[] row(String policyNumber, ClaimStatus status, String amount, LocalDate incidentDate) {
+        UUID id = UUID.randomUUID();
+        return new Object[]{
+                id,
+                "CLM-" + id,
+                policyNumber,
+                Date.valueOf(incidentDate),
+                "Summary test claim",
+                amount != null ? new BigDecimal(amount) : null,
+                "HOME",
+                status != null ? status.name() : null,
+                "Claimant"
+        };
+    }
+}
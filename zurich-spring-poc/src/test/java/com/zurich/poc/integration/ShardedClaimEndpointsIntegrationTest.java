@@ -0,0 +1,179 @@
+package com.zurich.poc.integration;
+
+import com.zurich.poc.config.TestConfig;
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.repository.ShardedClaimRepository;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.util.CsvRecordReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the claim endpoints that touch every shard in turn on the request
+ * or async export thread, across four in-memory H2 databases. Going through MockMvc keeps the web
+ * interceptors in play, so a connection held for the whole request would show up as
+ * claims missing on shards 1 to 3.
+ *
+ * Claim {@code i} is on policy POL-EP-(i % 20), so each policy has two claims.
+ */
+@SpringBootTest(properties = {
+        "claims.sharding.enabled=true",
+        "claims.sharding.shard-count=4",
+        "claims.sharding.url-template=jdbc:h2:mem:claims_endpoint_shard_{shard};DB_CLOSE_DELAY=-1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("Sharded Claim Endpoints Integration Tests")
+class ShardedClaimEndpointsIntegrationTest {
+
+    private static final int CLAIMS = 40;
+    private static final int POLICIES = 20;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ShardedClaimRepository shardedClaimRepository;
+
+    @Autowired
+    private ClaimShardRouter router;
+
+    private final List<Claim> saved = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int shard = 0; shard < shardedClaimRepository.getShardCount(); shard++) {
+            shardedClaimRepository.inTransaction(shard, repository -> {
+                repository.deleteAllInBatch();
+                return null;
+            });
+        }
+        saved.clear();
+        for (int i = 0; i < CLAIMS; i++) {
+            Claim claim = new Claim();
+            claim.setClaimNumber(String.format("CLM-EP-%03d", i));
+            claim.setPolicyNumber(policyNumber(i % POLICIES));
+            claim.setIncidentDate(LocalDate.of(2025, 1, 1).plusDays(i));
+            claim.setDescription("Sharded endpoint test claim " + i);
+            claim.setEstimatedAmount(new BigDecimal("100.00"));
+            claim.setType(Claim.ClaimType.AUTO);
+            claim.setStatus(ClaimStatus.SUBMITTED);
+            claim.setClaimantName("Claimant " + i);
+            saved.add(shardedClaimRepository.save(claim));
+        }
+        assertThat(shardedClaimRepository.fanOut(repository -> repository.count()))
+                .as("claims per shard").allMatch(count -> count > 0);
+    }
+
+    @Test
+    @DisplayName("Should transition claims by id on every shard")
+    void shouldTransitionByIdOnEveryShard() throws Exception {
+        String ids = saved.stream().map(claim -> "\"" + claim.getId() + "\"").collect(Collectors.joining(","));
+
+        mockMvc.perform(post("/claims/transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetStatus\":\"UNDER_REVIEW\",\"claimIds\":[" + ids + "]}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.transitioned").value(CLAIMS))
+                .andExpect(jsonPath("$.data.notFound").value(0));
+
+        assertThat(shardedClaimRepository.fanOut(
+                repository -> (long) repository.findByStatus(ClaimStatus.UNDER_REVIEW).size()))
+                .isEqualTo(shardedClaimRepository.fanOut(repository -> repository.count()));
+        assertThat(shardedClaimRepository.findByStatus(ClaimStatus.UNDER_REVIEW)).hasSize(CLAIMS);
+    }
+
+    @Test
+    @DisplayName("Should transition claims by filter on every shard")
+    void shouldTransitionByFilterOnEveryShard() throws Exception {
+        mockMvc.perform(post("/claims/transitions")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetStatus\":\"CLOSED\",\"filter\":{\"fromStatus\":\"SUBMITTED\"}}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.transitioned").value(CLAIMS));
+
+        assertThat(shardedClaimRepository.findByStatus(ClaimStatus.CLOSED)).hasSize(CLAIMS);
+        assertThat(shardedClaimRepository.findByStatus(ClaimStatus.SUBMITTED)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should summarise the claims of policies on every shard")
+    void shouldSummarisePoliciesOnEveryShard() throws Exception {
+        List<String> policyNumbers = new ArrayList<>();
+        for (int i = 0; i < POLICIES; i++) {
+            policyNumbers.add(policyNumber(i));
+        }
+        assertThat(policyNumbers.stream().map(router::shardForPolicy).distinct()).hasSize(router.getShardCount());
+        String body = policyNumbers.stream()
+                .map(number -> "\"" + number + "\"")
+                .collect(Collectors.joining(",", "[", "]"));
+
+        ResultActions result = mockMvc.perform(post("/claims/policy/summaries")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(body))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(POLICIES));
+        for (int i = 0; i < POLICIES; i++) {
+            result.andExpect(jsonPath("$.data[" + i + "].policyNumber").value(policyNumber(i)))
+                    .andExpect(jsonPath("$.data[" + i + "].totalClaims").value(2))
+                    .andExpect(jsonPath("$.data[" + i + "].openClaims").value(2))
+                    .andExpect(jsonPath("$.data[" + i + "].claimsByStatus.SUBMITTED").value(2));
+        }
+    }
+
+    @Test
+    @DisplayName("Should export the claims of every shard once")
+    void shouldExportEveryShardOnce() throws Exception {
+        MvcResult started = mockMvc.perform(get("/claims/export").param("format", "csv"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        byte[] gzip = mockMvc.perform(asyncDispatch(started))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<String> exported = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(gzip)), StandardCharsets.UTF_8))) {
+            reader.next();
+            for (List<String> record = reader.next(); record != null; record = reader.next()) {
+                exported.add(record.get(1));
+            }
+        }
+        assertThat(exported).containsExactlyInAnyOrderElementsOf(
+                saved.stream().map(Claim::getClaimNumber).toList());
+    }
+
+    private static String policyNumber(int index) {
+        return String.format("POL-EP-%03d", index);
+    }
+}
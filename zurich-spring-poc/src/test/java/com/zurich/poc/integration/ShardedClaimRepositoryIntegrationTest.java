@@ -0,0 +1,142 @@
+package com.zurich.poc.integration;
+
+import com.zurich.poc.config.TestConfig;
+import com.zurich.poc.model.Claim;
+import com.zurich.poc.repository.ShardedClaimRepository;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for hash-sharded claim storage across four in-memory H2 databases
+ */
+@SpringBootTest(properties = {
+        "claims.sharding.enabled=true",
+        "claims.sharding.shard-count=4",
+        "claims.sharding.url-template=jdbc:h2:mem:claims_shard_test_{shard};DB_CLOSE_DELAY=-1"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("ShardedClaimRepository Integration Tests")
+class ShardedClaimRepositoryIntegrationTest {
+
+    @Autowired
+    private ShardedClaimRepository shardedClaimRepository;
+
+    @Autowired
+    private ClaimShardRouter router;
+
+    @BeforeEach
+    void setUp() {
+        for (int shard = 0; shard < shardedClaimRepository.getShardCount(); shard++) {
+            shardedClaimRepository.inTransaction(shard, repository -> {
+                repository.deleteAllInBatch();
+                return null;
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Should store each claim on its policy's shard and tag the claim number")
+    void shouldRouteClaimsByPolicyNumber() {
+        // Given
+        List<Claim> saved = saveClaims(40);
+
+        // Then
+        for (Claim claim : saved) {
+            int shard = router.shardForPolicy(claim.getPolicyNumber());
+            assertThat(claim.getClaimNumber()).endsWith("-S" + shard);
+            List<Long> perShard = shardedClaimRepository.fanOut(repository ->
+                    repository.findByPolicyNumber(claim.getPolicyNumber()).stream().count());
+            assertThat(perShard.get(shard)).isPositive();
+            assertThat(perShard.stream().mapToLong(Long::longValue).sum()).isEqualTo(perShard.get(shard));
+        }
+        assertThat(shardedClaimRepository.fanOut(repository -> repository.count()))
+                .filteredOn(count -> count > 0)
+                .hasSizeGreaterThan(1);
+    }
+
+    @Test
+    @DisplayName("Should find claims by policy number and by claim number on a single shard")
+    void shouldFindOnSingleShard() {
+        // Given
+        List<Claim> saved = saveClaims(20);
+        Claim target = saved.get(7);
+
+        // Then
+        assertThat(shardedClaimRepository.findByClaimNumber(target.getClaimNumber()))
+                .get().extracting(Claim::getId).isEqualTo(target.getId());
+        assertThat(shardedClaimRepository.findByPolicyNumber(target.getPolicyNumber()))
+                .extracting(Claim::getPolicyNumber)
+                .containsOnly(target.getPolicyNumber());
+        assertThat(shardedClaimRepository.findById(target.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("Should merge fan-out pages in sort order with the correct total")
+    void shouldPageAcrossShards() {
+        // Given
+        saveClaims(50);
+        List<String> expected = shardedClaimRepository.findAll().stream()
+                .map(Claim::getClaimNumber)
+                .sorted(Comparator.reverseOrder())
+                .toList();
+
+        // When
+        List<String> paged = new ArrayList<>();
+        Page<Claim> page;
+        int pageNumber = 0;
+        do {
+            page = shardedClaimRepository.findAll(PageRequest.of(pageNumber++, 7, Sort.by("claimNumber").descending()));
+            page.getContent().forEach(claim -> paged.add(claim.getClaimNumber()));
+        } while (page.hasNext());
+
+        // Then
+        assertThat(page.getTotalElements()).isEqualTo(50);
+        assertThat(paged).isEqualTo(expected);
+    }
+
+    @Test
+    @DisplayName("Should fan out status queries to every shard")
+    void shouldFindByStatusAcrossShards() {
+        // Given
+        saveClaims(30);
+
+        // Then
+        assertThat(shardedClaimRepository.findByStatus(Claim.ClaimStatus.UNDER_REVIEW)).hasSize(15);
+        assertThat(shardedClaimRepository.count()).isEqualTo(30);
+    }
+
+    private List<Claim> saveClaims(int count) {
+        List<Claim> saved = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Claim claim = new Claim();
+            claim.setClaimNumber(String.format("CLM-SHARD-%03d", i));
+            claim.setPolicyNumber(String.format("POL-SHARD-%03d", i % 10));
+            claim.setIncidentDate(LocalDate.now().minusDays(i));
+            claim.setDescription("Sharded storage test claim " + i);
+            claim.setEstimatedAmount(new BigDecimal("1000.00"));
+            claim.setType(Claim.ClaimType.AUTO);
+            claim.setStatus(i % 2 == 0 ? Claim.ClaimStatus.SUBMITTED : Claim.ClaimStatus.UNDER_REVIEW);
+            claim.setClaimantName("Claimant " + i);
+            saved.add(shardedClaimRepository.save(claim));
+        }
+        return saved;
+    }
+}
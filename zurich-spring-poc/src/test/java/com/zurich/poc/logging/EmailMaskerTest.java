@@ -0,0 +1,49 @@
+package com.zurich.poc.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for EmailMasker
+ */
+@DisplayName("EmailMasker Tests")
+class EmailMaskerTest {
+
+    @Test
+    @DisplayName("Should keep the first character of the local part and the domain")
+    void shouldMaskEmail() {
+        assertThat(EmailMasker.mask("john.doe@example.com")).isEqualTo("j***@example.com");
+    }
+
+    @Test
+    @DisplayName("Should mask every email in a message")
+    void shouldMaskMultipleEmails() {
+        // When
+        String masked = EmailMasker.mask("Policy shared by anna+claims@zurich.co.uk with b.smith@example.com");
+
+        // Then
+        assertThat(masked).isEqualTo("Policy shared by a***@zurich.co.uk with b***@example.com");
+    }
+
+    @Test
+    @DisplayName("Should mask emails embedded in surrounding text and punctuation")
+    void shouldMaskEmbeddedEmails() {
+        // When
+        String masked = EmailMasker.mask("emailId=jane@example.com&page=1, contact:<x.y@mail.example.org>.");
+
+        // Then
+        assertThat(masked).isEqualTo("emailId=j***@example.com&page=1, contact:<x***@mail.example.org>.");
+    }
+
+    @Test
+    @DisplayName("Should return messages without an email unchanged")
+    void shouldLeaveOtherMessagesUnchanged() {
+        String message = "Claim CLM-1 created for policy POL-001";
+
+        assertThat(EmailMasker.mask(message)).isSameAs(message);
+        assertThat(EmailMasker.mask("Price @ 100")).isEqualTo("Price @ 100");
+        assertThat(EmailMasker.mask(null)).isNull();
+    }
+}
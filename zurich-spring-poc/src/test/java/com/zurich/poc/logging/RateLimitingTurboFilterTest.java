@@ -0,0 +1,111 @@
+package com.zurich.poc.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for RateLimitingTurboFilter and the dropped events counter, with a limit of
+ * 10 events per second and one in 5 kept beyond it
+ */
+@DisplayName("RateLimitingTurboFilter Tests")
+class RateLimitingTurboFilterTest {
+
+    private LoggerContext loggerContext;
+    private RateLimitingTurboFilter filter;
+    private Logger limited;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        filter = new RateLimitingTurboFilter();
+        filter.addLoggerPrefix("com.zurich.poc.service");
+        filter.setMaxEventsPerSecond(10);
+        filter.setSampleRate(5);
+        filter.setContext(loggerContext);
+        filter.start();
+        loggerContext.addTurboFilter(filter);
+        limited = loggerContext.getLogger("com.zurich.poc.service.ClaimImportService");
+        limited.setLevel(Level.DEBUG);
+    }
+
+    @Test
+    @DisplayName("Should pass the limit, then sample one event in sampleRate")
+    void shouldRateLimitAndSample() {
+        // When
+        int passed = passed(limited, Level.INFO, 100);
+
+        // Then 10 within the limit plus every 5th of the other 90
+        assertThat(passed).isEqualTo(10 + 18);
+        assertThat(filter.getDroppedEvents()).isEqualTo(72);
+    }
+
+    @Test
+    @DisplayName("Should never drop WARN or ERROR events, even above the limit")
+    void shouldNeverDropWarnOrError() {
+        // Given
+        passed(limited, Level.INFO, 100);
+
+        // When / Then
+        assertThat(passed(limited, Level.WARN, 100)).isEqualTo(100);
+        assertThat(passed(limited, Level.ERROR, 100)).isEqualTo(100);
+        assertThat(filter.getDroppedEvents()).isEqualTo(72);
+    }
+
+    @Test
+    @DisplayName("Should not limit loggers outside the configured prefixes")
+    void shouldNotLimitOtherLoggers() {
+        Logger other = loggerContext.getLogger("com.zurich.poc.repository.ShardedClaimRepository");
+
+        assertThat(passed(other, Level.INFO, 1_000)).isEqualTo(1_000);
+        assertThat(filter.getDroppedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should not count level checks or events below the logger's level")
+    void shouldIgnoreLevelChecksAndDisabledLevels() {
+        // Given
+        limited.setLevel(Level.INFO);
+
+        // When
+        for (int i = 0; i < 100; i++) {
+            filter.decide(null, limited, Level.INFO, null, null, null);
+            filter.decide(null, limited, Level.DEBUG, "Row {}", new Object[]{i}, null);
+        }
+
+        // Then
+        assertThat(passed(limited, Level.INFO, 10)).isEqualTo(10);
+        assertThat(filter.getDroppedEvents()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should publish dropped events as the logging.events.dropped counter")
+    void shouldPublishDroppedEventsCounter() {
+        // Given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new DroppedLogEventsMetrics(loggerContext).bindTo(registry);
+
+        // When
+        passed(limited, Level.INFO, 100);
+
+        // Then
+        assertThat(registry.get("logging.events.dropped").functionCounter().count()).isEqualTo(72.0);
+    }
+
+    private int passed(Logger logger, Level level, int events) {
+        int passed = 0;
+        for (int i = 0; i < events; i++) {
+            if (filter.decide(null, logger, level, "Row {}", new Object[]{i}, null) != FilterReply.DENY) {
+                passed++;
+            }
+        }
+        return passed;
+    }
+}
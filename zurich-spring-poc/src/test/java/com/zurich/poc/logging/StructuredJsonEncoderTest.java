@@ -0,0 +1,141 @@
+package com.zurich.poc.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for StructuredJsonEncoder, parsing its output back with Jackson
+ */
+@DisplayName("StructuredJsonEncoder Tests")
+class StructuredJsonEncoderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private LoggerContext loggerContext;
+    private Logger logger;
+    private StructuredJsonEncoder encoder;
+
+    @BeforeEach
+    void setUp() {
+        loggerContext = new LoggerContext();
+        logger = loggerContext.getLogger("com.zurich.poc.service.ClaimService");
+        encoder = new StructuredJsonEncoder();
+        encoder.setContext(loggerContext);
+        encoder.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        encoder.stop();
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line with the event fields")
+    void shouldWriteEventFields() throws Exception {
+        // Given
+        LoggingEvent event = event("Claim {} created", new Object[]{"CLM-1"}, null,
+                Map.of("traceId", "4bf92f3577b34da6"));
+        event.setTimeStamp(Instant.parse("2025-01-02T10:00:00Z").toEpochMilli());
+        event.setThreadName("http-nio-8080-exec-1");
+
+        // When
+        String line = encode(event);
+
+        // Then
+        assertThat(line).endsWith("}\n").doesNotContain("\n{");
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("timestamp").asText()).isEqualTo("2025-01-02T10:00:00Z");
+        assertThat(json.get("level").asText()).isEqualTo("INFO");
+        assertThat(json.get("thread").asText()).isEqualTo("http-nio-8080-exec-1");
+        assertThat(json.get("logger").asText()).isEqualTo("com.zurich.poc.service.ClaimService");
+        assertThat(json.get("message").asText()).isEqualTo("Claim CLM-1 created");
+        assertThat(json.get("mdc").get("traceId").asText()).isEqualTo("4bf92f3577b34da6");
+        assertThat(json.has("exception")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should escape quotes, backslashes, line breaks and control characters")
+    void shouldEscapeSpecialCharacters() throws Exception {
+        // Given
+        String message = "Path \"C:\\claims\"\r\n\tline two \u0001 end";
+        LoggingEvent event = event(message, null, null, Map.of("key \"q\"", "value\\with\nbreak"));
+
+        // When
+        String line = encode(event);
+
+        // Then
+        assertThat(line).contains("\\\"C:\\\\claims\\\"\\r\\n\\tline two \\u0001 end");
+        assertThat(line.indexOf('\n')).isEqualTo(line.length() - 1);
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("message").asText()).isEqualTo(message);
+        assertThat(json.get("mdc").get("key \"q\"").asText()).isEqualTo("value\\with\nbreak");
+    }
+
+    @Test
+    @DisplayName("Should mask emails in the message, MDC and exception")
+    void shouldMaskEmails() throws Exception {
+        // Given
+        LoggingEvent event = event("Validating policy for {}", new Object[]{"john.doe@example.com"},
+                new IllegalStateException("No policy for jane@example.com"), Map.of("user", "anna@example.com"));
+
+        // When
+        JsonNode json = objectMapper.readTree(encode(event));
+
+        // Then
+        assertThat(json.get("message").asText()).isEqualTo("Validating policy for j***@example.com");
+        assertThat(json.get("mdc").get("user").asText()).isEqualTo("a***@example.com");
+        assertThat(json.get("exception").asText())
+                .contains("java.lang.IllegalStateException: No policy for j***@example.com")
+                .doesNotContain("jane@example.com");
+    }
+
+    @Test
+    @DisplayName("Should leave emails unmasked when masking is disabled")
+    void shouldNotMaskWhenDisabled() throws Exception {
+        // Given
+        encoder.setMaskEmails(false);
+
+        // When
+        String line = encode(event("Sent to {}", new Object[]{"john@example.com"}, null, Map.of()));
+
+        // Then
+        assertThat(objectMapper.readTree(line).get("message").asText()).isEqualTo("Sent to john@example.com");
+    }
+
+    @Test
+    @DisplayName("Should write a null message as JSON null and leave out an empty MDC")
+    void shouldWriteNullMessage() throws Exception {
+        // When
+        String line = encode(event(null, null, null, Map.of()));
+
+        // Then
+        assertThat(line).contains("\"message\":null");
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("message").isNull()).isTrue();
+        assertThat(json.has("mdc")).isFalse();
+    }
+
+    private LoggingEvent event(String message, Object[] arguments, Throwable throwable, Map<String, String> mdc) {
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.INFO, message, throwable, arguments);
+        event.setMDCPropertyMap(mdc);
+        return event;
+    }
+
+    private String encode(LoggingEvent event) {
+        return new String(encoder.encode(event), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,52 @@
+package com.zurich.poc.model;
+
+import com.zurich.poc.model.Claim.ClaimStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ClaimStateMachine
+ */
+@DisplayName("ClaimStateMachine Tests")
+class ClaimStateMachineTest {
+
+    @Test
+    @DisplayName("Should allow closing a claim under review")
+    void shouldAllowUnderReviewToClosed() {
+        assertThat(ClaimStateMachine.canTransition(ClaimStatus.UNDER_REVIEW, ClaimStatus.CLOSED)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should not allow any transition out of CLOSED")
+    void shouldTreatClosedAsTerminal() {
+        assertThat(ClaimStateMachine.allowedTargets(ClaimStatus.CLOSED)).isEmpty();
+        assertThat(ClaimStateMachine.canTransition(ClaimStatus.CLOSED, ClaimStatus.UNDER_REVIEW)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should not allow approving a claim that was never reviewed")
+    void shouldRejectSubmittedToApproved() {
+        assertThat(ClaimStateMachine.canTransition(ClaimStatus.SUBMITTED, ClaimStatus.APPROVED)).isFalse();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ClaimStatus.class)
+    @DisplayName("Should keep allowed sources consistent with allowed targets")
+    void shouldKeepSourcesAndTargetsConsistent(ClaimStatus target) {
+        for (ClaimStatus from : ClaimStatus.values()) {
+            assertThat(ClaimStateMachine.allowedSources(target).contains(from))
+                    .isEqualTo(ClaimStateMachine.canTransition(from, target));
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ClaimStatus.class)
+    @DisplayName("Should never allow a status to transition to itself")
+    void shouldNotAllowSelfTransitions(ClaimStatus status) {
+        assertThat(ClaimStateMachine.canTransition(status, status)).isFalse();
+    }
+}
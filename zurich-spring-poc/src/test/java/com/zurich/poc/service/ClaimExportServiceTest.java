@@ -0,0 +1,166 @@
+package com.zurich.poc.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zurich.poc.export.ExportFormat;
+import com.zurich.poc.export.ExportTestClaims;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.Claim.ClaimType;
+import com.zurich.poc.model.ClaimExportFilter;
+import com.zurich.poc.sharding.ClaimShardRouter;
+import com.zurich.poc.util.CsvRecordReader;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for ClaimExportService against an in-memory H2 database
+ */
+@DisplayName("ClaimExportService Tests")
+class ClaimExportServiceTest {
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private ClaimExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = ExportTestClaims.newDatabase("claim_export_service_test");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        exportService = new ClaimExportService(jdbcTemplate, new DataSourceTransactionManager(dataSource),
+                new ClaimShardRouter(false, 1));
+        ReflectionTestUtils.setField(exportService, "fetchSize", 100);
+        ReflectionTestUtils.setField(exportService, "parquetRowGroupBytes", 1024L * 1024);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Should export every claim when the filter is empty")
+    void shouldExportAllClaims() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 12);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exportService.export(new ClaimExportFilter(), ExportFormat.CSV, out);
+
+        // Then
+        assertThat(exported).isEqualTo(12);
+        assertThat(claimNumbers(out.toByteArray())).hasSize(12);
+    }
+
+    @Test
+    @DisplayName("Should apply status and type filters together")
+    void shouldFilterByStatusAndType() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 12);
+        ClaimExportFilter filter = new ClaimExportFilter(ClaimStatus.APPROVED, ClaimType.HOME, null, null);
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exportService.export(filter, ExportFormat.CSV, out);
+
+        // Then
+        assertThat(exported).isEqualTo(2);
+        assertThat(claimNumbers(out.toByteArray())).containsExactlyInAnyOrder("CLM-6", "CLM-12");
+    }
+
+    @Test
+    @DisplayName("Should include both ends of the incident date range")
+    void shouldFilterByInclusiveDateRange() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 12);
+        ClaimExportFilter filter = new ClaimExportFilter(null, null,
+                ExportTestClaims.FIRST_INCIDENT.plusDays(3), ExportTestClaims.FIRST_INCIDENT.plusDays(5));
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.export(filter, ExportFormat.CSV, out);
+
+        // Then
+        assertThat(claimNumbers(out.toByteArray())).containsExactlyInAnyOrder("CLM-3", "CLM-4", "CLM-5");
+    }
+
+    @Test
+    @DisplayName("Should export claims with null amount, type, status and contact details as Parquet")
+    void shouldExportNullColumnsAsParquet() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 5);
+        ExportTestClaims.insertWithNulls(jdbcTemplate, "CLM-NULL");
+
+        // When
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long exported = exportService.export(new ClaimExportFilter(), ExportFormat.PARQUET, out);
+
+        // Then
+        byte[] parquet = out.toByteArray();
+        assertThat(exported).isEqualTo(6);
+        assertThat(new String(parquet, 0, 4, StandardCharsets.US_ASCII)).isEqualTo("PAR1");
+        assertThat(new String(parquet, parquet.length - 4, 4, StandardCharsets.US_ASCII)).isEqualTo("PAR1");
+    }
+
+    @Test
+    @DisplayName("Should abort the query and release the connection when the client disconnects")
+    void shouldAbortOnClientDisconnect() throws Exception {
+        // Given
+        ExportTestClaims.insert(jdbcTemplate, 20_000);
+        OutputStream disconnecting = new OutputStream() {
+            private long written;
+
+            @Override
+            public void write(int b) throws IOException {
+                write(new byte[]{(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                // The gzip header goes out first; the client is gone by the first block of rows
+                if (written > 0) {
+                    throw new IOException("Broken pipe");
+                }
+                written += length;
+            }
+        };
+
+        // When / Then
+        assertThatThrownBy(() -> exportService.export(new ClaimExportFilter(), ExportFormat.CSV, disconnecting))
+                .isInstanceOf(IOException.class)
+                .hasMessage("Broken pipe");
+        assertThat(dataSource.getHikariPoolMXBean().getActiveConnections()).isZero();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        assertThat(exportService.export(new ClaimExportFilter(), ExportFormat.CSV, out)).isEqualTo(20_000);
+    }
+
+    private static List<String> claimNumbers(byte[] gzip) throws IOException {
+        List<String> claimNumbers = new ArrayList<>();
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(
+                new GZIPInputStream(new ByteArrayInputStream(gzip)), StandardCharsets.UTF_8))) {
+            reader.next();
+            for (List<String> record = reader.next(); record != null; record = reader.next()) {
+                claimNumbers.add(record.get(1));
+            }
+        }
+        return claimNumbers;
+    }
+}
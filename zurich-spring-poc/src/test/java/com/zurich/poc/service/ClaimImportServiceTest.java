@@ -0,0 +1,284 @@
+package com.zurich.poc.service;
+
+import com.zurich.poc.config.TestConfig;
+import com.zurich.poc.model.ClaimImportJob;
+import com.zurich.poc.model.ClaimImportJob.ImportStatus;
+import com.zurich.poc.repository.ClaimImportJobRepository;
+import com.zurich.poc.util.CsvRecordReader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for ClaimImportService against the H2 test database, with small batches so that
+ * every file spans several batches and workers
+ */
+@SpringBootTest(properties = {
+        "claims.import.batch-size=50",
+        "claims.import.progress-interval-ms=0",
+        "claims.import.error-dir=target/import-test"
+})
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("ClaimImportService Tests")
+class ClaimImportServiceTest {
+
+    private static final String HEADER =
+            "claim_number,policy_number,incident_date,description,estimated_amount,type,claimant_name\r\n";
+
+    @Autowired
+    private ClaimImportService claimImportService;
+
+    @Autowired
+    private ClaimImportJobRepository claimImportJobRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM insurance_claims");
+        claimImportJobRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Should import valid rows and report rows that fail validation")
+    void shouldRejectInvalidRows() throws Exception {
+        // Given
+        String csv = csv(120, row -> switch (row) {
+            case 7 -> "CLM-7,POL-1,not-a-date,Burst pipe in kitchen,100.00,HOME,Claimant 7\r\n";
+            case 30 -> "CLM-30,POL-1,2025-01-01,Too short,100.00,HOME,Claimant 30\r\n";
+            case 64 -> "CLM-64,POL-1,2025-01-01,Burst pipe in kitchen,100.00,BOAT,Claimant 64\r\n";
+            case 99 -> "CLM-99,POL-1,2025-01-01,Burst pipe in kitchen,-5,HOME,\r\n";
+            default -> validRow(row);
+        });
+
+        // When
+        ClaimImportJob job = claimImportService.importClaims("validation", body(csv));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getRowsRead()).isEqualTo(120);
+        assertThat(job.getRowsImported()).isEqualTo(116);
+        assertThat(job.getRowsRejected()).isEqualTo(4);
+        assertThat(claimCount()).isEqualTo(116);
+
+        Map<Long, String> errors = errorReport(job);
+        assertThat(errors).containsOnlyKeys(7L, 30L, 64L, 99L);
+        assertThat(errors.get(7L)).contains("incidentDate: not an ISO date");
+        assertThat(errors.get(30L)).startsWith("description:");
+        assertThat(errors.get(64L)).contains("type: unknown claim type: BOAT");
+        assertThat(errors.get(99L)).contains("estimatedAmount:").contains("claimantName:");
+    }
+
+    @Test
+    @DisplayName("Should insert the rest of a batch row by row when the database rejects one row")
+    void shouldIsolateRowsRejectedByTheDatabase() throws Exception {
+        // Given a description that passes validation but not the 255 character column
+        String csv = csv(100, row -> row == 60
+                ? "CLM-60,POL-1,2025-01-01," + "x".repeat(300) + ",100.00,HOME,Claimant 60\r\n"
+                : validRow(row));
+
+        // When
+        ClaimImportJob job = claimImportService.importClaims("database-rejects", body(csv));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getRowsImported()).isEqualTo(99);
+        assertThat(job.getRowsRejected()).isEqualTo(1);
+        assertThat(claimCount()).isEqualTo(99);
+        assertThat(errorReport(job)).containsOnlyKeys(60L);
+        assertThat(errorReport(job).get(60L)).startsWith("database: ");
+    }
+
+    @Test
+    @DisplayName("Should report claim numbers that are already stored or repeated in the file")
+    void shouldRejectDuplicateClaimNumbers() throws Exception {
+        // Given
+        claimImportService.importClaims("existing", body(csv(1, this::validRow)));
+        String csv = csv(200, row -> switch (row) {
+            case 80 -> validRow(1);
+            case 150 -> validRow(20);
+            default -> validRow(row);
+        });
+
+        // When
+        ClaimImportJob job = claimImportService.importClaims("duplicates", body(csv));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getRowsImported()).isEqualTo(197);
+        assertThat(job.getRowsRejected()).isEqualTo(3);
+        assertThat(claimCount()).isEqualTo(198);
+        assertThat(distinctClaimNumbers()).isEqualTo(198);
+        Map<Long, String> errors = errorReport(job);
+        assertThat(errors).containsOnlyKeys(1L, 80L, 150L);
+        assertThat(errors.values()).allMatch(reason -> reason.startsWith("claimNumber: claim number already exists"));
+    }
+
+    @Test
+    @DisplayName("Should save a checkpoint below which every row is imported or reported when the upload fails")
+    void shouldSaveCheckpointWhenTheUploadFails() throws Exception {
+        // Given
+        String csv = csv(2000, row -> row % 250 == 0
+                ? "CLM-" + row + ",POL-1,not-a-date,Burst pipe in kitchen,100.00,HOME,Claimant\r\n"
+                : validRow(row));
+
+        // When
+        ClaimImportJob job = claimImportService.importClaims("checkpoint", failingAfter(csv, csv.length() / 2));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(job.getFailureMessage()).contains("Connection reset");
+        long checkpoint = job.getCheckpointRow();
+        assertThat(checkpoint).isPositive().isLessThan(2000);
+        assertThat(claimImportJobRepository.findById("checkpoint"))
+                .hasValueSatisfying(saved -> assertThat(saved.getCheckpointRow()).isEqualTo(checkpoint));
+
+        Map<Long, String> errors = errorReport(job);
+        for (long row = 1; row <= checkpoint; row++) {
+            boolean stored = claimCount("CLM-" + row) == 1;
+            assertThat(stored || errors.containsKey(row)).as("row %d", row).isTrue();
+        }
+        assertThat(job.getRowsImported()).isEqualTo(claimCount());
+    }
+
+    @Test
+    @DisplayName("Should save a failure whose message is longer than its column")
+    void shouldTruncateALongFailureMessage() throws Exception {
+        // Given
+        String csv = csv(200, this::validRow);
+        String reason = "Connection reset " + "x".repeat(ClaimImportJob.FAILURE_MESSAGE_LENGTH * 2);
+
+        // When
+        ClaimImportJob job = claimImportService.importClaims("long-failure",
+                failingAfter(csv, csv.length() / 2, reason));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.FAILED);
+        assertThat(job.getFailureMessage())
+                .contains("Connection reset")
+                .hasSize(ClaimImportJob.FAILURE_MESSAGE_LENGTH);
+        assertThat(claimImportJobRepository.findById("long-failure"))
+                .hasValueSatisfying(saved -> assertThat(saved.getStatus()).isEqualTo(ImportStatus.FAILED));
+    }
+
+    @Test
+    @DisplayName("Should store the same rows after a resume as an import that never failed")
+    void shouldResumeAfterAFailure() throws Exception {
+        // Given
+        claimImportService.importClaims("existing", body(csv(1, row -> validRow(1500))));
+        String csv = csv(2000, row -> switch (row) {
+            case 300, 1700 -> "CLM-" + row + ",POL-1,2025-01-01,Too short,100.00,HOME,Claimant\r\n";
+            case 1200 -> validRow(40);
+            default -> validRow(row);
+        });
+        ClaimImportJob failed = claimImportService.importClaims("resume", failingAfter(csv, csv.length() / 2));
+        assertThat(failed.getStatus()).isEqualTo(ImportStatus.FAILED);
+
+        // When
+        ClaimImportJob job = claimImportService.importClaims("resume", body(csv));
+
+        // Then
+        assertThat(job.getStatus()).isEqualTo(ImportStatus.COMPLETED);
+        assertThat(job.getRowsRead()).isEqualTo(2000);
+        assertThat(job.getRowsImported()).isEqualTo(1996);
+        assertThat(job.getRowsRejected()).isEqualTo(4);
+        assertThat(claimCount()).isEqualTo(1997);
+        assertThat(distinctClaimNumbers()).isEqualTo(1997);
+
+        Map<Long, String> errors = errorReport(job);
+        assertThat(errors).containsOnlyKeys(300L, 1200L, 1500L, 1700L);
+        assertThat(errors.get(1200L)).startsWith("claimNumber: claim number already exists");
+        assertThat(errors.get(1500L)).startsWith("claimNumber: claim number already exists");
+    }
+
+    private String validRow(int row) {
+        LocalDate incidentDate = LocalDate.of(2025, 1, 1).plusDays(row % 300);
+        return "CLM-" + row + ",POL-" + row % 7 + "," + incidentDate + ",Burst pipe in kitchen " + row
+                + "," + row + ".25," + (row % 2 == 0 ? "HOME" : "AUTO") + ",Claimant " + row + "\r\n";
+    }
+
+    private static String csv(int rows, IntFunction<String> row) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 1; i <= rows; i++) {
+            csv.append(row.apply(i));
+        }
+        return csv.toString();
+    }
+
+    private static InputStream body(String csv) {
+        return new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * The body of an upload whose connection drops after the given number of bytes
+     */
+    private static InputStream failingAfter(String csv, int bytes) {
+        return failingAfter(csv, bytes, "Connection reset");
+    }
+
+    private static InputStream failingAfter(String csv, int bytes, String reason) {
+        return new FilterInputStream(body(csv)) {
+            private int remaining = bytes;
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) throws IOException {
+                if (remaining <= 0) {
+                    throw new IOException(reason);
+                }
+                int read = super.read(buffer, offset, Math.min(length, remaining));
+                remaining -= Math.max(read, 0);
+                return read;
+            }
+        };
+    }
+
+    private long claimCount() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM insurance_claims", Long.class);
+    }
+
+    private long claimCount(String claimNumber) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM insurance_claims WHERE claim_number = ?",
+                Long.class, claimNumber);
+    }
+
+    private long distinctClaimNumbers() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(DISTINCT claim_number) FROM insurance_claims", Long.class);
+    }
+
+    /**
+     * Reasons by row number; fails if a row is reported twice
+     */
+    private static Map<Long, String> errorReport(ClaimImportJob job) throws IOException {
+        Map<Long, String> errors = new HashMap<>();
+        try (CsvRecordReader reader = new CsvRecordReader(
+                Files.newBufferedReader(Path.of(job.getErrorReport()), StandardCharsets.UTF_8))) {
+            reader.next();
+            for (List<String> record = reader.next(); record != null; record = reader.next()) {
+                assertThat(errors.put(Long.parseLong(record.get(0)), record.get(1))).as("row " + record.get(0)).isNull();
+            }
+        }
+        return errors;
+    }
+}
@@ -0,0 +1,186 @@
+package com.zurich.poc.service;
+
+import com.zurich.poc.config.TestConfig;
+import com.zurich.poc.model.Claim.ClaimStatus;
+import com.zurich.poc.model.Claim.ClaimType;
+import com.zurich.poc.model.ClaimTransitionRequest;
+import com.zurich.poc.model.ClaimTransitionRequest.Filter;
+import com.zurich.poc.model.ClaimTransitionResult;
+import com.zurich.poc.model.ClaimTransitionResult.Outcome;
+import com.zurich.poc.model.ClaimTransitionResult.OutcomeType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Tests for ClaimTransitionService against the H2 test database, with chunks of 50 claims
+ * so that every selection spans several chunks.
+ *
+ * Claim {@code i} is on policy POL-(i % 2), of type HOME for even and AUTO for odd {@code i},
+ * and in status SUBMITTED, APPROVED or UNDER_REVIEW for {@code i % 3} = 0, 1 or 2.
+ */
+@SpringBootTest(properties = "claims.transitions.chunk-size=50")
+@ActiveProfiles("test")
+@Import(TestConfig.class)
+@DisplayName("ClaimTransitionService Tests")
+class ClaimTransitionServiceTest {
+
+    private static final String INSERT_SQL = "INSERT INTO insurance_claims (id, claim_number, policy_number, "
+            + "incident_date, description, type, status, claimant_name, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final ClaimStatus[] STATUSES = {
+            ClaimStatus.SUBMITTED, ClaimStatus.APPROVED, ClaimStatus.UNDER_REVIEW};
+
+    private static final LocalDateTime SEEDED_AT = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    @Autowired
+    private ClaimTransitionService claimTransitionService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /** Seeded claims in row order, with their status */
+    private final Map<UUID, ClaimStatus> seeded = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM insurance_claims");
+        seeded.clear();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < 130; i++) {
+            UUID id = UUID.randomUUID();
+            ClaimStatus status = STATUSES[i % 3];
+            seeded.put(id, status);
+            rows.add(new Object[]{id, "CLM-" + i, "POL-" + i % 2, Date.valueOf(LocalDate.of(2025, 1, 1)),
+                    "Transition test claim", (i % 2 == 0 ? ClaimType.HOME : ClaimType.AUTO).name(), status.name(),
+                    "Claimant", SEEDED_AT});
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, rows);
+    }
+
+    @Test
+    @DisplayName("Should transition eligible claims from an id list and report every claim")
+    void shouldTransitionClaimsById() {
+        // Given all claims in three chunks, plus a repeated id and two unknown ids
+        List<UUID> ids = new ArrayList<>(seeded.keySet());
+        ids.add(ids.get(0));
+        UUID unknown1 = UUID.randomUUID();
+        UUID unknown2 = UUID.randomUUID();
+        ids.add(60, unknown1);
+        ids.add(unknown2);
+
+        // When
+        ClaimTransitionResult result = claimTransitionService.transition(
+                new ClaimTransitionRequest(ClaimStatus.REJECTED, ids, null));
+
+        // Then SUBMITTED and UNDER_REVIEW may move to REJECTED, APPROVED may not
+        int approved = approvedCount();
+        assertThat(result.getTransitioned()).isEqualTo(130 - approved);
+        assertThat(result.getSkipped()).isEqualTo(approved);
+        assertThat(result.getNotFound()).isEqualTo(2);
+        assertThat(result.getOutcomes()).hasSize(132);
+
+        Map<UUID, Outcome> outcomes = result.getOutcomes().stream()
+                .collect(Collectors.toMap(Outcome::getClaimId, outcome -> outcome));
+        seeded.forEach((id, status) -> {
+            Outcome outcome = outcomes.get(id);
+            assertThat(outcome.getPreviousStatus()).as("claim %s", id).isEqualTo(status);
+            assertThat(outcome.getOutcome()).as("claim %s", id).isEqualTo(status == ClaimStatus.APPROVED
+                    ? OutcomeType.SKIPPED_INELIGIBLE : OutcomeType.TRANSITIONED);
+        });
+        assertThat(outcomes.get(unknown1).getOutcome()).isEqualTo(OutcomeType.NOT_FOUND);
+        assertThat(outcomes.get(unknown2).getOutcome()).isEqualTo(OutcomeType.NOT_FOUND);
+
+        assertThat(countByStatus()).containsOnly(
+                Map.entry(ClaimStatus.REJECTED, 130L - approved),
+                Map.entry(ClaimStatus.APPROVED, (long) approved));
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM insurance_claims WHERE status = 'REJECTED' AND updated_at > ?",
+                Long.class, SEEDED_AT)).isEqualTo(130L - approved);
+    }
+
+    @Test
+    @DisplayName("Should transition only the eligible claims matching the filter")
+    void shouldTransitionClaimsByFilter() {
+        // Given HOME claims on POL-0, of which the APPROVED ones cannot move to PENDING_DOCUMENTS
+        Filter filter = new Filter(null, "POL-0", ClaimType.HOME);
+
+        // When
+        ClaimTransitionResult result = claimTransitionService.transition(
+                new ClaimTransitionRequest(ClaimStatus.PENDING_DOCUMENTS, null, filter));
+
+        // Then
+        List<UUID> expected = new ArrayList<>();
+        int index = 0;
+        for (Map.Entry<UUID, ClaimStatus> claim : seeded.entrySet()) {
+            if (index++ % 2 == 0 && claim.getValue() != ClaimStatus.APPROVED) {
+                expected.add(claim.getKey());
+            }
+        }
+        assertThat(result.getTransitioned()).isEqualTo(expected.size());
+        assertThat(result.getSkipped()).isZero();
+        assertThat(result.getNotFound()).isZero();
+        assertThat(result.getOutcomes()).extracting(Outcome::getClaimId).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT id FROM insurance_claims WHERE status = 'PENDING_DOCUMENTS'", UUID.class))
+                .containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    @Test
+    @DisplayName("Should restrict a filter to its from status")
+    void shouldTransitionClaimsByFromStatus() {
+        // When
+        ClaimTransitionResult result = claimTransitionService.transition(new ClaimTransitionRequest(
+                ClaimStatus.CLOSED, null, new Filter(ClaimStatus.APPROVED, null, null)));
+
+        // Then
+        int approved = approvedCount();
+        assertThat(result.getTransitioned()).isEqualTo(approved);
+        assertThat(result.getOutcomes()).allMatch(outcome -> outcome.getPreviousStatus() == ClaimStatus.APPROVED);
+        assertThat(countByStatus()).containsEntry(ClaimStatus.CLOSED, (long) approved)
+                .doesNotContainKey(ClaimStatus.APPROVED);
+    }
+
+    @Test
+    @DisplayName("Should reject a filter whose from status cannot reach the target")
+    void shouldRejectIneligibleFromStatus() {
+        ClaimTransitionRequest request = new ClaimTransitionRequest(
+                ClaimStatus.APPROVED, null, new Filter(ClaimStatus.SUBMITTED, null, null));
+
+        assertThatThrownBy(() -> claimTransitionService.transition(request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("SUBMITTED");
+        assertThat(countByStatus()).containsOnlyKeys(STATUSES);
+    }
+
+    private int approvedCount() {
+        return (int) seeded.values().stream().filter(status -> status == ClaimStatus.APPROVED).count();
+    }
+
+    private Map<ClaimStatus, Long> countByStatus() {
+        Map<ClaimStatus, Long> counts = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT status, COUNT(*) FROM insurance_claims GROUP BY status", row -> {
+            counts.put(ClaimStatus.valueOf(row.getString(1)), row.getLong(2));
+        });
+        return counts;
+    }
+}
@@ -0,0 +1,66 @@
+package com.zurich.poc.sharding;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.OptionalInt;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ClaimShardRouter
+ */
+@DisplayName("ClaimShardRouter Tests")
+class ClaimShardRouterTest {
+
+    @Test
+    @DisplayName("Should place every policy on shard 0 and keep claim numbers when sharding is disabled")
+    void shouldBehaveAsSingleShardWhenDisabled() {
+        ClaimShardRouter router = new ClaimShardRouter(false, 8);
+
+        assertThat(router.getShardCount()).isEqualTo(1);
+        assertThat(router.shardForPolicy("POL-123")).isZero();
+        assertThat(router.tagClaimNumber("CLM-1", 0)).isEqualTo("CLM-1");
+        assertThat(router.shardOfClaimNumber("CLM-1")).isEqualTo(OptionalInt.of(0));
+    }
+
+    @Test
+    @DisplayName("Should spread policy numbers over all shards deterministically")
+    void shouldSpreadPoliciesAcrossShards() {
+        ClaimShardRouter router = new ClaimShardRouter(true, 4);
+        Set<Integer> used = new HashSet<>();
+
+        for (int i = 0; i < 1000; i++) {
+            String policyNumber = String.format("POL-%06d", i);
+            int shard = router.shardForPolicy(policyNumber);
+            assertThat(shard).isBetween(0, 3);
+            assertThat(router.shardForPolicy(policyNumber)).isEqualTo(shard);
+            used.add(shard);
+        }
+
+        assertThat(used).containsExactlyInAnyOrder(0, 1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("Should encode the shard in the claim number and read it back")
+    void shouldRoundTripShardThroughClaimNumber() {
+        ClaimShardRouter router = new ClaimShardRouter(true, 4);
+
+        String tagged = router.tagClaimNumber("CLM-2024-001", 3);
+
+        assertThat(tagged).isEqualTo("CLM-2024-001-S3");
+        assertThat(router.shardOfClaimNumber(tagged)).isEqualTo(OptionalInt.of(3));
+        assertThat(router.tagClaimNumber(tagged, 1)).isEqualTo("CLM-2024-001-S1");
+    }
+
+    @Test
+    @DisplayName("Should not trust untagged or out-of-range claim numbers")
+    void shouldRejectUnknownShardSuffix() {
+        ClaimShardRouter router = new ClaimShardRouter(true, 4);
+
+        assertThat(router.shardOfClaimNumber("CLM-2024-001")).isEmpty();
+        assertThat(router.shardOfClaimNumber("CLM-2024-001-S7")).isEmpty();
+    }
+}
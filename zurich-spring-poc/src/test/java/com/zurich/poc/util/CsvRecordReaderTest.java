@@ -0,0 +1,85 @@
+package com.zurich.poc.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the streaming CSV record reader
+ */
+@DisplayName("CsvRecordReader Tests")
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Should read plain and quoted fields with CRLF and LF line endings")
+    void shouldReadPlainAndQuotedFields() throws Exception {
+        // Given
+        String csv = "claim_number,description\r\nCLM-1,\"Hail, roof \"\"damaged\"\"\"\nCLM-2,\"two\nlines\"\n";
+
+        // When
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+
+        // Then
+        assertThat(reader.next()).containsExactly("claim_number", "description");
+        assertThat(reader.next()).containsExactly("CLM-1", "Hail, roof \"damaged\"");
+        assertThat(reader.next()).containsExactly("CLM-2", "two\nlines");
+        assertThat(reader.getRecordNumber()).isEqualTo(3);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should keep empty fields, skip blank lines and ignore a byte order mark")
+    void shouldKeepEmptyFieldsAndSkipBlankLines() throws Exception {
+        // Given
+        String csv = "\uFEFFa,b,c\n\n,,\r\nx,\"\",z";
+
+        // When
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+
+        // Then
+        assertThat(reader.next()).containsExactly("a", "b", "c");
+        assertThat(reader.next()).containsExactly("", "", "");
+        assertThat(reader.next()).containsExactly("x", "", "z");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should fail on a quoted field that is never closed")
+    void shouldFailOnUnterminatedQuote() throws Exception {
+        // Given
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a\n\"open,b\n"));
+        reader.next();
+
+        // When / Then
+        assertThatThrownBy(reader::next)
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("record 2");
+    }
+
+    @Test
+    @DisplayName("Should read back what CsvFields writes")
+    void shouldRoundTripCsvFields() throws Exception {
+        // Given
+        List<String> values = List.of("plain", "comma, inside", "quote \" inside", "line\r\nbreak");
+        StringWriter out = new StringWriter();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            CsvFields.write(out, values.get(i));
+        }
+
+        // When
+        List<String> record = new CsvRecordReader(new StringReader(out.toString())).next();
+
+        // Then
+        assertThat(record).isEqualTo(values);
+    }
+}
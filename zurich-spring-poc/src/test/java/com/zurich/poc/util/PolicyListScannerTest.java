@@ -0,0 +1,78 @@
+package com.zurich.poc.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for the streaming policy list scanner
+ */
+@DisplayName("PolicyListScanner Tests")
+class PolicyListScannerTest {
+
+    private static final String RESPONSE = """
+            {
+              "totalNumberofPolicies": 2,
+              "policies": [
+                {
+                  "policyNumber": "POL-001",
+                  "coverages": [{"type": "FIRE", "amount": 1000.0, "policyNumber": "POL-NESTED"}],
+                  "status": "ACTIVE"
+                },
+                {
+                  "nomineeName": "Jane",
+                  "policyNumber": "POL-002"
+                }
+              ]
+            }
+            """;
+
+    @Test
+    @DisplayName("Should find policy numbers at the top level of each policy")
+    void shouldFindTopLevelPolicyNumbers() throws Exception {
+        byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(PolicyListScanner.containsPolicyNumber(body, "POL-001")).isTrue();
+        assertThat(PolicyListScanner.containsPolicyNumber(body, "POL-002")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should ignore unknown and nested policy numbers")
+    void shouldIgnoreUnknownAndNestedPolicyNumbers() throws Exception {
+        byte[] body = RESPONSE.getBytes(StandardCharsets.UTF_8);
+
+        assertThat(PolicyListScanner.containsPolicyNumber(body, "POL-003")).isFalse();
+        assertThat(PolicyListScanner.containsPolicyNumber(body, "POL-NESTED")).isFalse();
+        assertThat(PolicyListScanner.containsPolicyNumber(body, "POL-00")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should handle responses without a policies array")
+    void shouldHandleMissingPolicies() throws Exception {
+        assertThat(PolicyListScanner.containsPolicyNumber(
+                "{\"totalNumberofPolicies\": 0}".getBytes(StandardCharsets.UTF_8), "POL-001")).isFalse();
+        assertThat(PolicyListScanner.containsPolicyNumber(
+                "[]".getBytes(StandardCharsets.UTF_8), "POL-001")).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should read the top-level policy number of every policy and count the entries")
+    void shouldReadPolicyNumbers() throws Exception {
+        List<String> policyNumbers = new ArrayList<>();
+        String page = "{\"totalNumberofPolicies\": 3, \"policies\": [{\"policyNumber\": \"POL-001\"},"
+                + " {\"status\": \"ACTIVE\"}, {\"coverages\": [{\"policyNumber\": \"POL-NESTED\"}],"
+                + " \"policyNumber\": \"POL-002\"}]}";
+
+        int entries = PolicyListScanner.readPolicyNumbers(page.getBytes(StandardCharsets.UTF_8), policyNumbers::add);
+
+        assertThat(entries).isEqualTo(3);
+        assertThat(policyNumbers).containsExactly("POL-001", "POL-002");
+        assertThat(PolicyListScanner.readPolicyNumbers(
+                "{\"totalNumberofPolicies\": 0}".getBytes(StandardCharsets.UTF_8), policyNumbers::add)).isZero();
+    }
+}
@@ -0,0 +1,74 @@
+package com.zurich.poc.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Unit tests for the policy number Bloom filter
+ */
+@DisplayName("StringBloomFilter Tests")
+class StringBloomFilterTest {
+
+    @Test
+    @DisplayName("Should always report added keys as present")
+    void shouldHaveNoFalseNegatives() {
+        // Given
+        StringBloomFilter filter = new StringBloomFilter(10_000, 0.01);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("POL-" + i);
+        }
+
+        // Then
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("POL-" + i)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("Should keep observed false positive rate close to configured rate")
+    void shouldRespectConfiguredFalsePositiveRate() {
+        // Given
+        StringBloomFilter filter = new StringBloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put("POL-" + i);
+        }
+
+        // When
+        int falsePositives = 0;
+        for (int i = 0; i < 100_000; i++) {
+            if (filter.mightContain("UNKNOWN-" + i)) {
+                falsePositives++;
+            }
+        }
+
+        // Then
+        assertThat(falsePositives / 100_000.0).isLessThan(0.02);
+        assertThat(filter.estimatedFalsePositiveRate()).isLessThan(0.02);
+        assertThat(filter.approximateElementCount()).isBetween(9_500L, 10_500L);
+    }
+
+    @Test
+    @DisplayName("Should report memory footprint from bit size")
+    void shouldReportMemoryFootprint() {
+        // When
+        StringBloomFilter filter = new StringBloomFilter(1_000_000, 0.01);
+
+        // Then - roughly 9.6 bits per element at 1% false positives
+        assertThat(filter.getMemoryBytes()).isBetween(1_150_000L, 1_250_000L);
+        assertThat(filter.getHashFunctions()).isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("Should reject invalid sizing parameters")
+    void shouldRejectInvalidSizing() {
+        assertThatThrownBy(() -> new StringBloomFilter(0, 0.01))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new StringBloomFilter(100, 1.5))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,95 @@
+package com.zurich.poc.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for HotKeyTracker
+ */
+@DisplayName("HotKeyTracker Tests")
+class HotKeyTrackerTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    @TempDir
+    Path tempDir;
+
+    private HotKeyTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        tracker = new HotKeyTracker(objectMapper);
+        ReflectionTestUtils.setField(tracker, "enabled", true);
+        ReflectionTestUtils.setField(tracker, "hotKeysFile", tempDir.resolve("hot-keys.json").toString());
+        ReflectionTestUtils.setField(tracker, "maxClaims", 3);
+        ReflectionTestUtils.setField(tracker, "maxPolicies", 2);
+    }
+
+    @Test
+    @DisplayName("Should return the most recently used keys first, up to the configured limits")
+    void shouldKeepMostRecentKeys() {
+        // Given
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        tracker.recordClaim(first);
+        tracker.recordClaim(second);
+        for (int i = 0; i < 10; i++) {
+            tracker.recordClaim(UUID.randomUUID());
+        }
+        tracker.recordClaim(first);
+        tracker.recordPolicy("POL-1", "a@example.com");
+        tracker.recordPolicy("POL-2", "b@example.com");
+        tracker.recordPolicy("POL-1", "a@example.com");
+
+        // When
+        HotKeys hotKeys = tracker.snapshot();
+
+        // Then
+        assertThat(hotKeys.getClaimIds()).hasSize(3).startsWith(first).doesNotContain(second);
+        assertThat(hotKeys.getPolicies()).extracting(HotKeys.PolicyKey::getPolicyNumber)
+                .containsExactly("POL-1", "POL-2");
+    }
+
+    @Test
+    @DisplayName("Should load the keys saved at shutdown")
+    void shouldRoundTripThroughFile() {
+        // Given
+        UUID claimId = UUID.randomUUID();
+        tracker.recordClaim(claimId);
+        tracker.recordPolicy("POL-1", "a@example.com");
+
+        // When
+        tracker.save();
+
+        // Then
+        HotKeys loaded = tracker.load().orElseThrow();
+        assertThat(loaded.getClaimIds()).containsExactly(claimId);
+        assertThat(loaded.getPolicies()).containsExactly(new HotKeys.PolicyKey("POL-1", "a@example.com"));
+    }
+
+    @Test
+    @DisplayName("Should record nothing when the warm-up is disabled")
+    void shouldIgnoreKeysWhenDisabled() {
+        // Given
+        ReflectionTestUtils.setField(tracker, "enabled", false);
+
+        // When
+        tracker.recordClaim(UUID.randomUUID());
+        tracker.recordPolicy("POL-1", "a@example.com");
+
+        // Then
+        assertThat(tracker.snapshot().getClaimIds()).isEmpty();
+        assertThat(tracker.snapshot().getPolicies()).isEmpty();
+        assertThat(tracker.load()).isEmpty();
+    }
+}
@@ -0,0 +1,67 @@
+package com.zurich.poc.warmup;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for WarmupRequests
+ */
+@DisplayName("WarmupRequests Tests")
+class WarmupRequestsTest {
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("Should recognise a request by the warm-up header")
+    void shouldRecogniseWarmupHeader() {
+        // Given
+        MockHttpServletRequest warmup = new MockHttpServletRequest("GET", "/claims");
+        warmup.addHeader(WarmupRequests.HEADER, "true");
+
+        // Then
+        assertThat(WarmupRequests.isWarmup(warmup)).isTrue();
+        assertThat(WarmupRequests.isWarmup(new MockHttpServletRequest("GET", "/claims"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should recognise the warm-up request bound to the current thread")
+    void shouldRecogniseBoundWarmupRequest() {
+        // Given
+        assertThat(WarmupRequests.isWarmup()).isFalse();
+        MockHttpServletRequest warmup = new MockHttpServletRequest("GET", "/claims");
+        warmup.addHeader(WarmupRequests.HEADER, "true");
+
+        // When
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(warmup));
+
+        // Then
+        assertThat(WarmupRequests.isWarmup()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Should recognise work on a marked warm-up thread only")
+    void shouldRecogniseMarkedThread() throws InterruptedException {
+        // Given
+        AtomicBoolean seen = new AtomicBoolean();
+        Thread thread = new Thread(WarmupRequests.markThread(() -> seen.set(WarmupRequests.isWarmup())));
+
+        // When
+        thread.start();
+        thread.join();
+
+        // Then
+        assertThat(seen).isTrue();
+        assertThat(WarmupRequests.isWarmup()).isFalse();
+    }
+}